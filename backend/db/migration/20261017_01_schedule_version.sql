@@ -0,0 +1,6 @@
+-- schedule.version 추가 (낙관적 락 전략)
+-- spring.jpa.hibernate.ddl-auto 가 update 가 아닌 환경(validate / none)에서는 배포 전에 직접 실행한다.
+-- MySQL 은 NOT NULL DEFAULT 컬럼 추가 시 기존 행을 기본값(0)으로 채운다.
+
+ALTER TABLE schedule
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,24 @@
+-- ranking_snapshot 상태 / 체크포인트 컬럼 추가 (구간 단위 스냅샷 저장)
+-- spring.jpa.hibernate.ddl-auto 가 update 가 아닌 환경(validate / none)에서는 배포 전에 직접 실행한다.
+-- 기존 스냅샷은 한 트랜잭션으로 저장이 끝난 행이므로 COMPLETED 로 채우고, 체크포인트는 저장된 항목으로 채운다.
+
+ALTER TABLE ranking_snapshot
+    ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'COMPLETED',
+    ADD COLUMN processed_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN last_rank INT NOT NULL DEFAULT 0,
+    ADD COLUMN last_score INT NULL;
+
+UPDATE ranking_snapshot s
+    JOIN (
+        SELECT i.snapshot_id, COUNT(*) AS item_count, MAX(i.rank_position) AS max_rank, MIN(i.score) AS min_score
+        FROM ranking_snapshot_item i
+        GROUP BY i.snapshot_id
+    ) items ON items.snapshot_id = s.id
+SET s.processed_count = items.item_count,
+    s.last_rank = items.max_rank,
+    s.last_score = items.min_score;
+
+-- 같은 기간을 중복 저장한 행이 있으면 실패하므로, 먼저 아래 조회가 비어 있는지 확인한다.
+-- SELECT period, period_key, COUNT(*) FROM ranking_snapshot GROUP BY period, period_key HAVING COUNT(*) > 1;
+ALTER TABLE ranking_snapshot
+    ADD CONSTRAINT uk_ranking_snapshot_period_key UNIQUE (period, period_key);
@@ -0,0 +1,27 @@
+-- outbox_event 테이블 생성 (Kafka 발행 outbox)
+-- spring.jpa.hibernate.ddl-auto 가 update 가 아닌 환경(validate / none)에서는 배포 전에 직접 실행한다.
+-- uk_outbox_event_event_key 가 있어야 같은 이벤트를 두 번 저장할 때 DuplicateKeyException 으로 걸러진다.
+
+CREATE TABLE outbox_event (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    topic VARCHAR(100) NOT NULL,
+    message_key VARCHAR(255) NULL,
+    event_key VARCHAR(150) NOT NULL,
+    key_hash INT NOT NULL,
+    payload_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    claim_token VARCHAR(36) NULL,
+    claimed_at DATETIME(6) NULL,
+    last_error VARCHAR(500) NULL,
+    published_at DATETIME(6) NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_outbox_event_event_key UNIQUE (event_key)
+);
+
+CREATE INDEX idx_outbox_event_topic_status_next_attempt ON outbox_event (topic, status, next_attempt_at);
+CREATE INDEX idx_outbox_event_claim_token ON outbox_event (claim_token);
@@ -0,0 +1,27 @@
+-- reservation_email_outbox 테이블 생성 (예약 확정 메일 outbox)
+-- spring.jpa.hibernate.ddl-auto 가 update 가 아닌 환경(validate / none)에서는 배포 전에 직접 실행한다.
+
+CREATE TABLE reservation_email_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    recipient_email VARCHAR(255) NOT NULL,
+    owner_email VARCHAR(255) NOT NULL,
+    participant_emails TEXT NULL,
+    room_type VARCHAR(20) NOT NULL,
+    room_number VARCHAR(20) NOT NULL,
+    schedule_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    claim_token VARCHAR(36) NULL,
+    claimed_at DATETIME(6) NULL,
+    last_error VARCHAR(500) NULL,
+    sent_at DATETIME(6) NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_reservation_email_outbox_status_next_attempt ON reservation_email_outbox (status, next_attempt_at);
+CREATE INDEX idx_reservation_email_outbox_claim_token ON reservation_email_outbox (claim_token);
@@ -0,0 +1,7 @@
+-- ranking_snapshot_item 조회 인덱스 추가 (스냅샷 Top N / 회원별 순위 이력)
+-- spring.jpa.hibernate.ddl-auto 가 update 가 아닌 환경(validate / none)에서는 배포 전에 직접 실행한다.
+-- idx_ranking_snapshot_item_snapshot_rank: WHERE snapshot_id = ? ORDER BY rank_position LIMIT ?
+-- idx_ranking_snapshot_item_member_snapshot: WHERE member_id = ? ORDER BY snapshot_id DESC
+
+CREATE INDEX idx_ranking_snapshot_item_snapshot_rank ON ranking_snapshot_item (snapshot_id, rank_position);
+CREATE INDEX idx_ranking_snapshot_item_member_snapshot ON ranking_snapshot_item (member_id, snapshot_id);
@@ -0,0 +1,5 @@
+-- notification 조회 인덱스 추가 (안 읽은 알림 수 / 안 읽은 알림 키셋 페이지)
+-- spring.jpa.hibernate.ddl-auto 가 update 가 아닌 환경(validate / none)에서는 배포 전에 직접 실행한다.
+-- WHERE member_id = ? AND is_read = false [AND (created_at, id) < (?, ?)] ORDER BY created_at DESC, id DESC
+
+CREATE INDEX idx_notification_member_read_created ON notification (member_id, is_read, created_at);
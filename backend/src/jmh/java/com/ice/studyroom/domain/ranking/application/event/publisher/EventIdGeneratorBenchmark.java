@@ -0,0 +1,40 @@
+package com.ice.studyroom.domain.ranking.application.event.publisher;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Snowflake 이벤트 ID 발급 처리량. 여러 스레드가 한 생성기를 공유하는 경우(CAS 경합)도 함께 측정합니다.
+ * 밀리초당 4096 개를 넘기면 다음 밀리초의 순번을 미리 쓰므로 처리량이 그 이상이어도 ID 는 겹치지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventIdGeneratorBenchmark {
+
+	private final EventIdGenerator generator = new EventIdGenerator(Clock.systemUTC(), 1);
+
+	@Benchmark
+	public long nextId() {
+		return generator.nextId();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public long nextIdContended() {
+		return generator.nextId();
+	}
+
+	@Benchmark
+	public String generate() {
+		return generator.generate("weekly-2026-02-27");
+	}
+}
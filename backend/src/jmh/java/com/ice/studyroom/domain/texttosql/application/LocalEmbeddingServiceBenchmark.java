@@ -0,0 +1,60 @@
+package com.ice.studyroom.domain.texttosql.application;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 4개 스레드가 동시에 임베딩을 요청할 때 predictor 풀 크기별 처리량.
+ * 매 호출마다 다른 텍스트를 넣어 캐시에 적중하지 않고 항상 모델 추론을 거치게 합니다.
+ * 처음 실행할 때 all-MiniLM-L6-v2 모델을 내려받으므로 네트워크가 필요합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class LocalEmbeddingServiceBenchmark {
+
+	private static final List<String> QUESTIONS = List.of(
+		"이번 주 가장 많이 예약한 학생은 누구야",
+		"오늘 취소된 예약 수",
+		"지난 달 노쇼가 많은 스터디룸",
+		"내일 오후에 비어 있는 방 목록"
+	);
+
+	@Param({"1", "4"})
+	private int poolSize;
+
+	private final AtomicLong sequence = new AtomicLong();
+	private LocalEmbeddingService embeddingService;
+
+	@Setup
+	public void setUp() {
+		embeddingService = new LocalEmbeddingService(new EmbeddingCache(Clock.systemUTC(), 3600000L, 10000),
+			poolSize, 60000L);
+		embeddingService.initialize();
+	}
+
+	@TearDown
+	public void tearDown() {
+		embeddingService.cleanup();
+	}
+
+	@Benchmark
+	public float[] embed() {
+		long next = sequence.getAndIncrement();
+		return embeddingService.embed(QUESTIONS.get((int)(next % QUESTIONS.size())) + " " + next);
+	}
+}
@@ -0,0 +1,95 @@
+package com.ice.studyroom.domain.texttosql.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.studyroom.domain.texttosql.domain.entity.TableMetadata;
+import com.ice.studyroom.domain.texttosql.infrastructure.redis.EmbeddingCodec;
+import com.ice.studyroom.domain.texttosql.infrastructure.redis.RedisVectorRepository;
+
+/**
+ * 적재가 끝난 인덱스의 검색 지연. 384차원 임베딩 기준이며 Redis 왕복은 포함하지 않습니다.
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 검색 한 번의 할당량을 함께 확인합니다.
+ * 테이블 수를 늘려도 할당량이 그대로면 테이블마다 객체를 만들지 않는다는 뜻입니다. (결과 목록과 topK 개의 결과만 할당)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TableVectorIndexBenchmark {
+
+	private static final int DIMENSION = 384;
+
+	@Param({"20", "1000"})
+	private int tables;
+
+	@Param({"3"})
+	private int topK;
+
+	private TableVectorIndex index;
+	private float[] query;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		List<TableMetadata> metadata = new ArrayList<>(tables);
+		for (int i = 0; i < tables; i++) {
+			metadata.add(TableMetadata.builder()
+				.tableName("table_" + i)
+				.embedding(randomVector(random))
+				.relatedTables(List.of())
+				.build());
+		}
+		query = randomVector(random);
+
+		// 버전 확인 주기를 최대로 두어 측정 중에는 재적재하지 않는다
+		index = new TableVectorIndex(new FixedVectorRepository(metadata), Long.MAX_VALUE);
+		index.search(query, topK);
+	}
+
+	@Benchmark
+	public List<TableVectorIndex.TableMatch> search() {
+		return index.search(query, topK);
+	}
+
+	private static float[] randomVector(Random random) {
+		float[] vector = new float[DIMENSION];
+		for (int i = 0; i < DIMENSION; i++) {
+			vector[i] = (float)random.nextGaussian();
+		}
+		return vector;
+	}
+
+	// Redis 없이 고정된 메타데이터를 돌려주는 저장소
+	private static final class FixedVectorRepository extends RedisVectorRepository {
+
+		private final List<TableMetadata> metadata;
+
+		private FixedVectorRepository(List<TableMetadata> metadata) {
+			super(new RedisTemplate<>(), new RedisTemplate<>(), new ObjectMapper(), EmbeddingCodec.Format.FLOAT32);
+			this.metadata = metadata;
+		}
+
+		@Override
+		public List<TableMetadata> findAll() {
+			return metadata;
+		}
+
+		@Override
+		public long getVersion() {
+			return 1L;
+		}
+	}
+}
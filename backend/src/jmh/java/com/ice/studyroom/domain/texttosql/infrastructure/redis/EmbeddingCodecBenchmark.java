@@ -0,0 +1,62 @@
+package com.ice.studyroom.domain.texttosql.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 384차원 임베딩의 형식별 복원 속도. LEGACY 는 이전 형식(쉼표로 구분한 10진수 문자열)입니다.
+ * 형식별 저장 크기는 setup 에서 "[EMBEDDING-CODEC]" 로 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmbeddingCodecBenchmark {
+
+	private static final int DIMENSION = 384;
+
+	@Param({"LEGACY", "FLOAT32", "INT8"})
+	private String format;
+
+	private float[] embedding;
+	private byte[] encoded;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		embedding = new float[DIMENSION];
+		for (int i = 0; i < DIMENSION; i++) {
+			embedding[i] = (float)random.nextGaussian() * 0.05f;
+		}
+
+		encoded = encode();
+		System.out.printf("[EMBEDDING-CODEC] format: %s, encoded bytes: %d%n", format, encoded.length);
+	}
+
+	@Benchmark
+	public byte[] encode() {
+		if ("LEGACY".equals(format)) {
+			StringJoiner joiner = new StringJoiner(",");
+			for (float value : embedding) {
+				joiner.add(Float.toString(value));
+			}
+			return joiner.toString().getBytes(StandardCharsets.UTF_8);
+		}
+		return EmbeddingCodec.encode(embedding, EmbeddingCodec.Format.valueOf(format));
+	}
+
+	@Benchmark
+	public float[] decode() {
+		return EmbeddingCodec.decode(encoded);
+	}
+}
@@ -24,15 +24,56 @@ public class AsyncConfig {
 		return executor;
 	}
 
-	@Bean("vacancyNotificationExecutor")
-	public TaskExecutor vacancyNotificationExecutor() {
+	// outbox 릴레이의 토픽 / 레인별 발행 작업
+	@Bean("outboxRelayExecutor")
+	public TaskExecutor outboxRelayExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-		executor.setCorePoolSize(2);
-		executor.setMaxPoolSize(5);
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(8);
 		executor.setQueueCapacity(100);
-		executor.setThreadNamePrefix("VacancyNotification-");
+		executor.setThreadNamePrefix("OutboxRelay-");
 		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
 		executor.initialize();
 		return executor;
 	}
+
+	// 회전된 랭킹 보관 키의 스냅샷 저장 (기간 전환마다 한 건씩 순서대로 처리)
+	@Bean("rankingSnapshotExecutor")
+	public TaskExecutor rankingSnapshotExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(20);
+		executor.setThreadNamePrefix("RankingSnapshot-");
+		executor.initialize();
+		return executor;
+	}
+
+	// 알림 묶음 저장 (버퍼에 batch-size 만큼 쌓였을 때)
+	@Bean("notificationWriteExecutor")
+	public TaskExecutor notificationWriteExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(10);
+		executor.setThreadNamePrefix("NotificationWrite-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	// SSE 연결별 전송 큐 비우기. 연결마다 작업은 하나씩만 등록되므로 순서는 연결 단위로 보장되고,
+	// 느린 연결이 스레드 하나를 붙잡아도 나머지 연결은 다른 스레드에서 전송된다.
+	// 큐가 가득 차면 호출 스레드에서 실행하지 않고 거절한다. (이벤트는 연결별 큐에 남아 다음 이벤트 때 재시도)
+	@Bean("scheduleSlotStreamExecutor")
+	public TaskExecutor scheduleSlotStreamExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(10000);
+		executor.setThreadNamePrefix("ScheduleSlotStream-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
 }
@@ -8,6 +8,8 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -58,4 +60,26 @@ public class RedisConfig {
 
 		return redisTemplate;
 	}
+
+	// 값을 바이트 그대로 읽고 쓰는 템플릿 (임베딩 등 바이너리 값)
+	@Bean
+	public RedisTemplate<String, byte[]> byteArrayRedisTemplate() {
+		RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(redisConnectionFactory());
+
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+
+		return redisTemplate;
+	}
+
+	// Redis pub/sub 구독 (채널별 리스너는 각 도메인에서 등록)
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer() {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory());
+		return container;
+	}
 }
@@ -1,5 +1,7 @@
 package com.ice.studyroom.config;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -47,6 +49,9 @@ public class SecurityConfig {
 			)
 			.authorizeHttpRequests(authorize -> authorize
 
+				// SSE 연결 종료/타임아웃 시의 비동기 디스패치 (최초 요청에서 이미 인증됨)
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
 				// ADMIN 역할만 접근 가능
 				.requestMatchers("/api/admin/**").hasRole("ADMIN")
 				.requestMatchers("/api/query/**").hasRole("ADMIN")
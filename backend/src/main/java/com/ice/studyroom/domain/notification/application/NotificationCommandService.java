@@ -1,27 +1,25 @@
 package com.ice.studyroom.domain.notification.application;
 
 import com.ice.studyroom.domain.notification.domain.entity.Notification;
-import com.ice.studyroom.domain.notification.infrastructure.NotificationRepository;
+import com.ice.studyroom.domain.notification.domain.event.NotificationCreatedEvent;
 import com.ice.studyroom.domain.notification.type.NotificationEventType;
 import com.ice.studyroom.domain.ranking.application.event.dto.RankingUserChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationCommandService {
 
-	private final NotificationRepository notificationRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
-	@Transactional
+	/**
+	 * 랭킹 이벤트 알림을 만듭니다. 알림은 체크인 트랜잭션이 커밋된 뒤 NotificationWriteBuffer 가 묶음으로 저장하며,
+	 * 같은 eventId 는 uk_notification_event_id 로 저장 시 건너뛰므로 따로 조회하지 않습니다.
+	 */
 	public void saveFromRankingEvent(RankingUserChangedEvent event) {
 
-		// 중복 방지
-		if (notificationRepository.existsByEventId(event.eventId())) {
-			return;
-		}
-
 		NotificationEventType type =
 			NotificationEventType.valueOf(event.eventType().name());
 
@@ -35,6 +33,6 @@ public class NotificationCommandService {
 			event.eventId()
 		);
 
-		notificationRepository.save(notification);
+		eventPublisher.publishEvent(new NotificationCreatedEvent(notification));
 	}
 }
@@ -5,15 +5,21 @@ import com.ice.studyroom.domain.membership.domain.vo.Email;
 import com.ice.studyroom.domain.membership.infrastructure.persistence.MemberRepository;
 import com.ice.studyroom.domain.notification.domain.exception.NotificationNotFoundException;
 import com.ice.studyroom.domain.notification.domain.entity.Notification;
+import com.ice.studyroom.domain.notification.domain.event.NotificationsReadEvent;
 import com.ice.studyroom.domain.notification.infrastructure.NotificationRepository;
+import com.ice.studyroom.domain.notification.infrastructure.redis.UnreadNotificationCounter;
+import com.ice.studyroom.domain.notification.presentation.dto.response.NotificationPageResponse;
 import com.ice.studyroom.domain.notification.presentation.dto.response.NotificationResponse;
 import com.ice.studyroom.global.exception.BusinessException;
 import com.ice.studyroom.global.security.service.TokenService;
 import com.ice.studyroom.global.type.StatusCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -21,9 +27,13 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class NotificationQueryService {
 
+	static final int MAX_PAGE_SIZE = 50;
+
 	private final NotificationRepository notificationRepository;
 	private final MemberRepository memberRepository;
 	private final TokenService tokenService;
+	private final UnreadNotificationCounter unreadNotificationCounter;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public List<NotificationResponse> getUnreadNotifications(String authorizationHeader) {
 
@@ -40,6 +50,56 @@ public class NotificationQueryService {
 			.toList();
 	}
 
+	/**
+	 * 안 읽은 알림을 최신순으로 size 개씩 조회합니다. (createdAt, id) 커서 이후부터 읽으므로 OFFSET 없이 인덱스 범위만 읽습니다.
+	 */
+	public NotificationPageResponse getUnreadNotificationPage(String authorizationHeader, int size,
+		LocalDateTime cursorCreatedAt, Long cursorId) {
+
+		if (size < 1 || size > MAX_PAGE_SIZE) {
+			throw new BusinessException(StatusCode.INVALID_INPUT, "size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+		}
+		if ((cursorCreatedAt == null) != (cursorId == null)) {
+			throw new BusinessException(StatusCode.INVALID_INPUT, "cursorCreatedAt 과 cursorId 는 함께 보내야 합니다.");
+		}
+
+		Long memberId = getMemberId(authorizationHeader);
+
+		// 다음 페이지 여부를 알기 위해 하나 더 읽는다
+		PageRequest limit = PageRequest.of(0, size + 1);
+		List<Notification> notifications = cursorId == null
+			? notificationRepository.findUnreadFirstPage(memberId, limit)
+			: notificationRepository.findUnreadPageAfter(memberId, cursorCreatedAt, cursorId, limit);
+
+		boolean hasNext = notifications.size() > size;
+		List<Notification> page = hasNext ? notifications.subList(0, size) : notifications;
+		Notification last = hasNext ? page.get(page.size() - 1) : null;
+
+		return new NotificationPageResponse(
+			page.stream().map(NotificationResponse::from).toList(),
+			hasNext,
+			last == null ? null : last.getCreatedAt(),
+			last == null ? null : last.getId()
+		);
+	}
+
+	/**
+	 * 안 읽은 알림 수. Redis 에 캐시된 값이 없을 때만 DB 에서 센다.
+	 */
+	public long getUnreadCount(String authorizationHeader) {
+
+		Long memberId = getMemberId(authorizationHeader);
+
+		Long cached = unreadNotificationCounter.get(memberId);
+		if (cached != null) {
+			return cached;
+		}
+
+		long count = notificationRepository.countUnread(memberId);
+		unreadNotificationCounter.initialize(memberId, count);
+		return count;
+	}
+
 	@Transactional
 	public String readNotification(Long notificationId, String authorizationHeader) {
 
@@ -56,7 +116,11 @@ public class NotificationQueryService {
 				new NotificationNotFoundException(notificationId)
 			);
 
-		notification.markAsRead();
+		if (!notification.isRead()) {
+			notification.markAsRead();
+			// 롤백되면 캐시를 줄이지 않도록 커밋 이후에 반영
+			eventPublisher.publishEvent(new NotificationsReadEvent(member.getId(), false));
+		}
 
 		return "알림 읽음 처리 성공";
 	}
@@ -72,8 +136,19 @@ public class NotificationQueryService {
 			);
 
 		int updatedCount = notificationRepository.markAllAsRead(member.getId());
+		eventPublisher.publishEvent(new NotificationsReadEvent(member.getId(), true));
 
 		return updatedCount + "개의 알림이 읽음 처리되었습니다.";
 	}
 
+	private Long getMemberId(String authorizationHeader) {
+
+		String email = tokenService.extractEmailFromAccessToken(authorizationHeader);
+
+		return memberRepository.findByEmail(Email.of(email))
+			.orElseThrow(() ->
+				new BusinessException(StatusCode.NOT_FOUND, "존재하지 않는 사용자입니다.")
+			)
+			.getId();
+	}
 }
@@ -0,0 +1,245 @@
+package com.ice.studyroom.domain.notification.application;
+
+import com.ice.studyroom.domain.notification.domain.entity.Notification;
+import com.ice.studyroom.domain.notification.domain.event.NotificationCreatedEvent;
+import com.ice.studyroom.domain.notification.infrastructure.NotificationJdbcRepository;
+import com.ice.studyroom.domain.notification.infrastructure.redis.UnreadNotificationCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 알림 저장 요청을 모아 묶음으로 저장하는 버퍼입니다.
+ * <p>
+ * 버퍼에 batch-size 만큼 쌓이면 notificationWriteExecutor 에서 바로 저장하고,
+ * 그보다 적으면 스케줄러가 notification.write.flush-interval-ms 주기로 저장합니다.
+ * 버퍼가 가득 차면 저장 스레드에 비우기를 요청하고 full-wait-ms 동안 자리가 나기를 기다립니다.
+ * (커밋 직후 리스너에서는 끝난 트랜잭션의 커넥션이 묶여 있어 호출 스레드에서 저장하지 않습니다)
+ * 그래도 자리가 없으면 알림을 버리고 notification.write.dropped 로 기록합니다.
+ * 묶음 저장이 실패하면 retry-backoff-ms 부터 두 배씩 늘려 max-attempts 번까지 다시 시도하고,
+ * 그래도 실패하면 한 건씩 저장해 문제 있는 알림만 제외합니다.
+ * DB 에 연결할 수 없어 저장하지 못한 알림은 실패로 버리지 않고 버퍼에 되돌려 다음 flush 주기에 다시 저장하므로,
+ * 장애가 길어져도 버퍼에 자리가 있는 한 알림을 잃지 않습니다. (되돌릴 자리가 없으면 notification.write.dropped)
+ * 저장한 만큼 사용자별 안 읽은 알림 수(UnreadNotificationCounter)를 올립니다.
+ * 버퍼는 메모리에만 있으므로 서버가 비정상 종료되면 아직 저장하지 않은 알림은 유실됩니다. (정상 종료 시에는 모두 저장)
+ */
+@Slf4j
+@Component
+public class NotificationWriteBuffer {
+
+	private final NotificationJdbcRepository notificationJdbcRepository;
+	private final UnreadNotificationCounter unreadNotificationCounter;
+	private final Executor notificationWriteExecutor;
+	private final MeterRegistry meterRegistry;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final long retryBackoffMillis;
+	private final long fullWaitMillis;
+
+	private final BlockingQueue<Notification> buffer;
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	public NotificationWriteBuffer(NotificationJdbcRepository notificationJdbcRepository,
+		UnreadNotificationCounter unreadNotificationCounter,
+		@Qualifier("notificationWriteExecutor") Executor notificationWriteExecutor, MeterRegistry meterRegistry,
+		@Value("${notification.write.batch-size:500}") int batchSize,
+		@Value("${notification.write.buffer-capacity:10000}") int bufferCapacity,
+		@Value("${notification.write.max-attempts:3}") int maxAttempts,
+		@Value("${notification.write.retry-backoff-ms:200}") long retryBackoffMillis,
+		@Value("${notification.write.full-wait-ms:1000}") long fullWaitMillis) {
+		this.notificationJdbcRepository = notificationJdbcRepository;
+		this.unreadNotificationCounter = unreadNotificationCounter;
+		this.notificationWriteExecutor = notificationWriteExecutor;
+		this.meterRegistry = meterRegistry;
+		this.batchSize = batchSize;
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.retryBackoffMillis = retryBackoffMillis;
+		this.fullWaitMillis = fullWaitMillis;
+		this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+
+		Gauge.builder("notification.write.buffer.size", buffer, BlockingQueue::size)
+			.description("저장 대기 중인 알림 수").register(meterRegistry);
+	}
+
+	// 롤백된 체크인의 알림은 저장하지 않도록 커밋 이후에 버퍼에 넣는다
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onNotificationCreated(NotificationCreatedEvent event) {
+		add(event.notification());
+	}
+
+	public void add(Notification notification) {
+
+		if (buffer.offer(notification)) {
+			if (buffer.size() >= batchSize) {
+				requestFlush();
+			}
+			return;
+		}
+
+		log.warn("[NOTIFICATION] 저장 버퍼 가득 참 - 저장 스레드에 비우기 요청");
+		requestFlush();
+		if (!offerWaiting(notification)) {
+			meterRegistry.counter("notification.write.dropped").increment();
+			log.error("[NOTIFICATION] ❌ 저장 버퍼 가득 참 - 알림 버림, memberId: {}, eventId: {}",
+				notification.getMemberId(), notification.getEventId());
+		}
+	}
+
+	/**
+	 * 버퍼에 쌓인 알림을 batch-size 단위로 모두 저장합니다. 다른 스레드가 저장 중이면 그 스레드에 맡깁니다.
+	 */
+	public void flush() {
+		if (!flushLock.tryLock()) {
+			return;
+		}
+		try {
+			drain();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flushLock.lock();
+		try {
+			drain();
+			if (!buffer.isEmpty()) {
+				log.error("[NOTIFICATION] ❌ 종료 중 DB 연결 실패 - 저장하지 못한 알림 {}건 유실", buffer.size());
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	public int size() {
+		return buffer.size();
+	}
+
+	private void drain() {
+		List<Notification> batch = new ArrayList<>(batchSize);
+		while (buffer.drainTo(batch, batchSize) > 0) {
+			boolean completed = write(batch);
+			batch.clear();
+			if (!completed) {
+				// DB 에 연결할 수 없으면 되돌린 알림을 바로 다시 꺼내지 않고 다음 flush 까지 기다린다
+				return;
+			}
+		}
+	}
+
+	private void requestFlush() {
+		if (flushRequested.compareAndSet(false, true)) {
+			notificationWriteExecutor.execute(() -> {
+				flushRequested.set(false);
+				flush();
+			});
+		}
+	}
+
+	private boolean offerWaiting(Notification notification) {
+		try {
+			return buffer.offer(notification, fullWaitMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	// DB 연결 실패로 버퍼에 되돌린 알림이 있으면 false
+	private boolean write(List<Notification> batch) {
+		for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+			try {
+				recordWritten(batch, notificationJdbcRepository.insertAllIgnoringDuplicates(batch), 0);
+				return true;
+			} catch (Exception e) {
+				log.warn("[NOTIFICATION] 알림 묶음 저장 실패 ({}/{}) - count: {}", attempt, maxAttempts, batch.size(), e);
+				if (attempt < maxAttempts && !sleep(retryBackoffMillis << (attempt - 1))) {
+					break;
+				}
+			}
+		}
+
+		// 묶음 안의 특정 행 때문에 실패했을 수 있으므로 한 건씩 저장
+		try {
+			NotificationJdbcRepository.InsertResult result = notificationJdbcRepository.insertEach(batch);
+			List<Notification> unwritten = result.unwritten();
+			List<Notification> attempted = batch.subList(0, batch.size() - unwritten.size());
+			if (!attempted.isEmpty()) {
+				recordWritten(attempted, result.inserted(), result.failed());
+			}
+			requeue(unwritten);
+			return unwritten.isEmpty();
+		} catch (Exception e) {
+			meterRegistry.counter("notification.write.failed").increment(batch.size());
+			log.error("[NOTIFICATION] ❌ 알림 묶음 저장 실패 - count: {}", batch.size(), e);
+			return true;
+		}
+	}
+
+	private void requeue(List<Notification> notifications) {
+		if (notifications.isEmpty()) {
+			return;
+		}
+		int requeued = 0;
+		for (Notification notification : notifications) {
+			if (buffer.offer(notification)) {
+				requeued++;
+			} else {
+				meterRegistry.counter("notification.write.dropped").increment();
+				log.error("[NOTIFICATION] ❌ 저장 버퍼 가득 참 - 되돌리지 못한 알림 버림, memberId: {}, eventId: {}",
+					notification.getMemberId(), notification.getEventId());
+			}
+		}
+		meterRegistry.counter("notification.write.requeued").increment(requeued);
+		log.warn("[NOTIFICATION] DB 연결 실패 - 알림 {}건을 버퍼에 되돌려 다음 주기에 저장", requeued);
+	}
+
+	private void recordWritten(List<Notification> batch, int inserted, int failed) {
+		updateUnreadCounts(batch, inserted);
+		meterRegistry.counter("notification.write.inserted").increment(inserted);
+		meterRegistry.counter("notification.write.duplicated").increment(batch.size() - inserted - failed);
+		meterRegistry.counter("notification.write.failed").increment(failed);
+	}
+
+	private static boolean sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	// 중복으로 건너뛰거나 실패한 알림이 있으면 어떤 행이 저장됐는지 알 수 없으므로 해당 사용자 캐시를 지운다
+	private void updateUnreadCounts(List<Notification> batch, int inserted) {
+		Map<Long, Integer> countsByMember = new HashMap<>();
+		for (Notification notification : batch) {
+			countsByMember.merge(notification.getMemberId(), 1, Integer::sum);
+		}
+
+		if (inserted == batch.size()) {
+			unreadNotificationCounter.increase(countsByMember);
+		} else {
+			unreadNotificationCounter.evict(countsByMember.keySet());
+		}
+	}
+}
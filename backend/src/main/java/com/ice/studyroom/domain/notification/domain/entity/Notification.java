@@ -8,7 +8,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "notification")
+@Table(
+	name = "notification",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_notification_event_id",
+		columnNames = "event_id"
+	),
+	indexes = @Index(
+		name = "idx_notification_member_read_created",
+		columnList = "member_id, is_read, created_at"
+	)
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification extends BaseTimeEntity {
@@ -39,7 +49,7 @@ public class Notification extends BaseTimeEntity {
 	@Column(name = "gap_with_upper")
 	private Integer gapWithUpper;
 
-	@Column(name = "event_id", nullable = false, unique = true)
+	@Column(name = "event_id", nullable = false)
 	private String eventId;
 
 
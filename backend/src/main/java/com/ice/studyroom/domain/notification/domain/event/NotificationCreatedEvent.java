@@ -0,0 +1,10 @@
+package com.ice.studyroom.domain.notification.domain.event;
+
+import com.ice.studyroom.domain.notification.domain.entity.Notification;
+
+/**
+ * 저장할 알림이 만들어졌음을 알리는 이벤트.
+ * 알림을 만든 트랜잭션이 커밋된 뒤에 저장 버퍼에 들어간다.
+ */
+public record NotificationCreatedEvent(Notification notification) {
+}
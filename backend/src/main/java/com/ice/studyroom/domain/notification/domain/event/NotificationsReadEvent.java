@@ -0,0 +1,8 @@
+package com.ice.studyroom.domain.notification.domain.event;
+
+/**
+ * 알림을 읽음 처리했음을 알리는 이벤트.
+ * 읽음 처리 트랜잭션이 커밋된 뒤에 안 읽은 알림 수 캐시에 반영된다. (all 이면 전체 읽음)
+ */
+public record NotificationsReadEvent(Long memberId, boolean all) {
+}
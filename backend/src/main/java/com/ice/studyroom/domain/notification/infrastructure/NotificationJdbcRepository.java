@@ -0,0 +1,173 @@
+package com.ice.studyroom.domain.notification.infrastructure;
+
+import com.ice.studyroom.domain.notification.domain.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림을 다중 행 INSERT 로 저장하고, 같은 event_id 가 이미 있으면 건너뜁니다. (uk_notification_event_id)
+ * 묶음당 한 문장으로 저장하다가 중복 키로 실패한 문장만 행 단위로 다시 저장해 중복 행을 건너뜁니다.
+ * (중복은 Kafka 재전달 등에서만 생기므로 대부분의 묶음은 한 문장으로 끝납니다)
+ * INSERT IGNORE 는 중복 외의 오류(길이 초과, NOT NULL, 외래 키)까지 경고로 바꿔 잘못된 행을 저장하므로 사용하지 않고,
+ * 영향 행 수도 드라이버의 CLIENT_FOUND_ROWS 설정과 관계없이 새로 저장된 행 수와 같습니다.
+ * 묶음 저장이 실패하면 insertEach 로 행마다 저장해 문제 있는 행만 제외할 수 있습니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+	// 한 문장의 최대 행 수 (행당 10개 파라미터)
+	private static final int ROWS_PER_STATEMENT = 500;
+
+	private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private volatile Boolean mysql;
+
+	/**
+	 * @return 새로 저장된 알림 수 (중복으로 건너뛴 알림 제외)
+	 */
+	public int insertAllIgnoringDuplicates(List<Notification> notifications) {
+		if (notifications.isEmpty()) {
+			return 0;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		String rankColumn = rankColumn();
+		int inserted = 0;
+
+		for (int from = 0; from < notifications.size(); from += ROWS_PER_STATEMENT) {
+			List<Notification> rows =
+				notifications.subList(from, Math.min(from + ROWS_PER_STATEMENT, notifications.size()));
+
+			StringBuilder sql = new StringBuilder("INSERT" + insertColumns(rankColumn));
+			List<Object> args = new ArrayList<>(rows.size() * 10);
+			for (int i = 0; i < rows.size(); i++) {
+				sql.append(i == 0 ? ROW_PLACEHOLDER : ", " + ROW_PLACEHOLDER);
+				addArgs(args, rows.get(i), now);
+			}
+
+			try {
+				inserted += jdbcTemplate.update(sql.toString(), args.toArray());
+			} catch (DuplicateKeyException e) {
+				// 문장 단위로 실패하므로 저장된 행은 없다
+				inserted += insertEachIgnoringDuplicates(rows, now);
+			}
+		}
+		return inserted;
+	}
+
+	/**
+	 * 알림을 한 행씩 저장합니다. 중복은 건너뛰고, 저장에 실패한 행은 기록만 하고 나머지 행을 계속 저장합니다.
+	 * DB 에 연결할 수 없으면 행의 문제가 아니므로 실패로 세지 않고, 그 행부터 남은 알림을 unwritten 으로 돌려줍니다.
+	 */
+	public InsertResult insertEach(List<Notification> notifications) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		String sql = singleRowInsert();
+		int inserted = 0;
+		int failed = 0;
+
+		for (int i = 0; i < notifications.size(); i++) {
+			Notification notification = notifications.get(i);
+			try {
+				inserted += insertRow(sql, notification, now);
+			} catch (DuplicateKeyException e) {
+				// 이미 저장된 이벤트
+			} catch (DataAccessResourceFailureException e) {
+				// DB 에 연결할 수 없으면 나머지 행도 실패하므로 더 시도하지 않는다
+				log.warn("[NOTIFICATION] 알림 저장 중단 (DB 연결 실패) - 남은 알림: {}", notifications.size() - i, e);
+				return new InsertResult(inserted, failed, List.copyOf(notifications.subList(i, notifications.size())));
+			} catch (DataAccessException e) {
+				failed++;
+				log.error("[NOTIFICATION] ❌ 알림 저장 실패 - memberId: {}, eventId: {}",
+					notification.getMemberId(), notification.getEventId(), e);
+			}
+		}
+		return new InsertResult(inserted, failed);
+	}
+
+	private int insertEachIgnoringDuplicates(List<Notification> notifications, Timestamp now) {
+		String sql = singleRowInsert();
+		int inserted = 0;
+
+		for (Notification notification : notifications) {
+			try {
+				inserted += insertRow(sql, notification, now);
+			} catch (DuplicateKeyException e) {
+				// 이미 저장된 이벤트
+			}
+		}
+		return inserted;
+	}
+
+	private int insertRow(String sql, Notification notification, Timestamp now) {
+		List<Object> args = new ArrayList<>(10);
+		addArgs(args, notification, now);
+		return jdbcTemplate.update(sql, args.toArray());
+	}
+
+	private String singleRowInsert() {
+		return "INSERT" + insertColumns(rankColumn()) + ROW_PLACEHOLDER;
+	}
+
+	private String rankColumn() {
+		return isMysql() ? "`rank`" : "\"rank\"";
+	}
+
+	private static String insertColumns(String rankColumn) {
+		return " INTO notification (member_id, event_type, " + rankColumn + ", previous_rank, score, is_read, "
+			+ "gap_with_upper, event_id, created_at, updated_at) VALUES ";
+	}
+
+	private static void addArgs(List<Object> args, Notification notification, Timestamp now) {
+		args.add(notification.getMemberId());
+		args.add(notification.getEventType().name());
+		args.add(notification.getRank());
+		args.add(notification.getPreviousRank());
+		args.add(notification.getScore());
+		args.add(notification.isRead());
+		args.add(notification.getGapWithUpper());
+		args.add(notification.getEventId());
+		args.add(now);
+		args.add(now);
+	}
+
+	private boolean isMysql() {
+		if (mysql == null) {
+			try {
+				String productName = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+					DatabaseMetaData::getDatabaseProductName);
+				mysql = productName.toLowerCase().contains("mysql") || productName.toLowerCase().contains("mariadb");
+			} catch (Exception e) {
+				throw new IllegalStateException("DB 종류를 확인할 수 없습니다.", e);
+			}
+		}
+		return mysql;
+	}
+
+	/**
+	 * @param inserted 새로 저장된 알림 수 (중복 제외)
+	 * @param failed 행의 문제로 저장하지 못한 알림 수
+	 * @param unwritten DB 연결 실패로 시도하지 못한 알림 (입력 목록의 뒷부분)
+	 */
+	public record InsertResult(int inserted, int failed, List<Notification> unwritten) {
+
+		public InsertResult(int inserted, int failed) {
+			this(inserted, failed, List.of());
+		}
+	}
+}
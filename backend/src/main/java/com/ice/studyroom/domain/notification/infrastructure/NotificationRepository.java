@@ -1,11 +1,13 @@
 package com.ice.studyroom.domain.notification.infrastructure;
 
 import com.ice.studyroom.domain.notification.domain.entity.Notification;
-import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,41 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     """)
 	List<Notification> findUnreadByMemberId(Long memberId);
 
+	// 안 읽은 알림 첫 페이지 (idx_notification_member_read_created)
+	@Query("""
+		select n
+		from Notification n
+		where n.memberId = :memberId
+		  and n.isRead = false
+		order by n.createdAt desc, n.id desc
+	""")
+	List<Notification> findUnreadFirstPage(@Param("memberId") Long memberId, Pageable pageable);
+
+	// 커서 (createdAt, id) 다음 페이지
+	@Query("""
+		select n
+		from Notification n
+		where n.memberId = :memberId
+		  and n.isRead = false
+		  and (n.createdAt < :cursorCreatedAt
+		    or (n.createdAt = :cursorCreatedAt and n.id < :cursorId))
+		order by n.createdAt desc, n.id desc
+	""")
+	List<Notification> findUnreadPageAfter(
+		@Param("memberId") Long memberId,
+		@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+		@Param("cursorId") Long cursorId,
+		Pageable pageable
+	);
+
+	@Query("""
+		select count(n)
+		from Notification n
+		where n.memberId = :memberId
+		  and n.isRead = false
+	""")
+	long countUnread(@Param("memberId") Long memberId);
+
 	// 단건 알람 읽음처리를 위한 알림 하나 가져오기
 	@Query("""
 		select n
@@ -42,7 +79,5 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
           and n.isRead = false
     """)
 	int markAllAsRead(@Param("memberId") Long memberId);
-
-	boolean existsByEventId(String eventId);
 }
 
@@ -0,0 +1,137 @@
+package com.ice.studyroom.domain.notification.infrastructure.redis;
+
+import com.ice.studyroom.domain.notification.domain.event.NotificationsReadEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 안 읽은 알림 수를 Redis 에 캐시합니다.
+ * <p>
+ * 값이 없으면 조회 시 DB 에서 세어 채우고, 이후에는 알림 저장 / 읽음 처리에 맞춰 증감합니다.
+ * 증감은 키가 있을 때만 하므로 만료된 키를 잘못된 값으로 되살리지 않습니다.
+ * DB 에서 센 값을 채우는 사이에 저장된 알림은 반영되지 않을 수 있으며, 이 오차는 TTL 이 지나면 사라집니다.
+ * Redis 장애 시 조회는 DB 로 처리하고 증감은 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+	private static final String KEY_PREFIX = "notification:unread:";
+
+	// 키가 있는 사용자만 증가
+	private static final DefaultRedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>("""
+		for i = 1, #KEYS do
+			if redis.call('EXISTS', KEYS[i]) == 1 then
+				redis.call('INCRBY', KEYS[i], ARGV[i])
+			end
+		end
+		return 1
+		""", Long.class);
+
+	// 키가 있고 0 보다 클 때만 감소
+	private static final DefaultRedisScript<Long> DECREASE_SCRIPT = new DefaultRedisScript<>("""
+		local count = redis.call('GET', KEYS[1])
+		if count and tonumber(count) > 0 then
+			return redis.call('DECR', KEYS[1])
+		end
+		return -1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final Duration ttl;
+
+	public UnreadNotificationCounter(StringRedisTemplate redisTemplate,
+		@Value("${notification.unread-count.ttl-ms:600000}") long ttlMillis) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = Duration.ofMillis(ttlMillis);
+	}
+
+	/**
+	 * 캐시된 안 읽은 알림 수. 없거나 Redis 장애면 null
+	 */
+	public Long get(Long memberId) {
+		try {
+			String count = redisTemplate.opsForValue().get(key(memberId));
+			return count == null ? null : Long.valueOf(count);
+		} catch (Exception e) {
+			log.warn("[NOTIFICATION] 안 읽은 알림 수 조회 실패 - memberId: {}", memberId, e);
+			return null;
+		}
+	}
+
+	/**
+	 * DB 에서 센 값으로 채웁니다. 그 사이 다른 요청이 채웠으면 덮어쓰지 않습니다.
+	 */
+	public void initialize(Long memberId, long count) {
+		execute("초기화", () -> redisTemplate.opsForValue().setIfAbsent(key(memberId), String.valueOf(count), ttl));
+	}
+
+	// 롤백된 읽음 처리를 캐시에 반영하지 않도록 커밋 이후에 증감한다
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onNotificationsRead(NotificationsReadEvent event) {
+		if (event.all()) {
+			reset(event.memberId());
+		} else {
+			decrease(event.memberId());
+		}
+	}
+
+	/**
+	 * 전체 읽음 처리 후 0 으로 맞춥니다.
+	 */
+	public void reset(Long memberId) {
+		execute("초기화", () -> redisTemplate.opsForValue().set(key(memberId), "0", ttl));
+	}
+
+	public void increase(Map<Long, Integer> countsByMember) {
+		if (countsByMember.isEmpty()) {
+			return;
+		}
+
+		List<String> keys = new ArrayList<>(countsByMember.size());
+		Object[] counts = new Object[countsByMember.size()];
+		int i = 0;
+		for (Map.Entry<Long, Integer> entry : countsByMember.entrySet()) {
+			keys.add(key(entry.getKey()));
+			counts[i++] = String.valueOf(entry.getValue());
+		}
+
+		execute("증가", () -> redisTemplate.execute(INCREASE_SCRIPT, keys, counts));
+	}
+
+	public void decrease(Long memberId) {
+		execute("감소", () -> redisTemplate.execute(DECREASE_SCRIPT, List.of(key(memberId))));
+	}
+
+	/**
+	 * 정확한 증가분을 알 수 없을 때 캐시를 지워 다음 조회에서 다시 세게 합니다.
+	 */
+	public void evict(Collection<Long> memberIds) {
+		if (memberIds.isEmpty()) {
+			return;
+		}
+		execute("삭제", () -> redisTemplate.delete(memberIds.stream().map(UnreadNotificationCounter::key).toList()));
+	}
+
+	private void execute(String operation, Runnable command) {
+		try {
+			command.run();
+		} catch (Exception e) {
+			log.warn("[NOTIFICATION] 안 읽은 알림 수 {} 실패", operation, e);
+		}
+	}
+
+	private static String key(Long memberId) {
+		return KEY_PREFIX + memberId;
+	}
+}
@@ -1,12 +1,15 @@
 package com.ice.studyroom.domain.notification.presentation.controller;
 
 import com.ice.studyroom.domain.notification.application.NotificationQueryService;
+import com.ice.studyroom.domain.notification.presentation.dto.response.NotificationPageResponse;
 import com.ice.studyroom.domain.notification.presentation.dto.response.NotificationResponse;
 import com.ice.studyroom.global.dto.response.ResponseDto;
 import com.ice.studyroom.global.type.StatusCode;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -14,6 +17,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -43,6 +49,48 @@ public class NotificationController {
 			);
 	}
 
+	@Operation(
+		summary = "사용자 안 읽은 알림 페이지 조회",
+		description = "현재 로그인한 사용자의 안 읽은 알림을 최신순으로 size 개씩 조회합니다. 다음 페이지는 응답의 nextCursorCreatedAt / nextCursorId 를 그대로 보내 요청합니다."
+	)
+	@ApiResponse(responseCode = "200", description = "안 읽은 알림 조회 성공")
+	@ApiResponse(responseCode = "400", description = "잘못된 size / 커서 값 요청")
+	@ApiResponse(responseCode = "500", description = "안 읽은 알림 조회 실패")
+	@GetMapping("/unread")
+	public ResponseEntity<ResponseDto<NotificationPageResponse>> getUnreadNotificationPage(
+		@RequestHeader("Authorization") String authorizationHeader,
+
+		@Parameter(description = "페이지 크기 (최대 50)")
+		@RequestParam(defaultValue = "20") int size,
+
+		@Parameter(description = "이전 페이지 마지막 알림의 생성 시각")
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+
+		@Parameter(description = "이전 페이지 마지막 알림의 ID")
+		@RequestParam(required = false) Long cursorId
+	) {
+		return ResponseEntity
+			.status(StatusCode.OK.getStatus())
+			.body(ResponseDto.of(
+				notificationQueryService.getUnreadNotificationPage(authorizationHeader, size, cursorCreatedAt, cursorId)
+			));
+	}
+
+	@Operation(
+		summary = "사용자 안 읽은 알림 수 조회",
+		description = "현재 로그인한 사용자의 안 읽은 알림 수를 조회합니다. (알림 배지용)"
+	)
+	@ApiResponse(responseCode = "200", description = "안 읽은 알림 수 조회 성공")
+	@ApiResponse(responseCode = "404", description = "존재하지 않는 사용자")
+	@GetMapping("/unread-count")
+	public ResponseEntity<ResponseDto<Long>> getUnreadCount(
+		@RequestHeader("Authorization") String authorizationHeader
+	) {
+		return ResponseEntity
+			.status(StatusCode.OK.getStatus())
+			.body(ResponseDto.of(notificationQueryService.getUnreadCount(authorizationHeader)));
+	}
+
 	@Operation(
 		summary = "사용자 개별 알림 읽음 처리",
 		description = "현재 로그인한 사용자의 알림을 단건으로 읽음 처리합니다."
@@ -0,0 +1,15 @@
+package com.ice.studyroom.domain.notification.presentation.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 안 읽은 알림 한 페이지. 다음 페이지는 nextCursorCreatedAt / nextCursorId 로 요청합니다. (hasNext 가 false 면 null)
+ */
+public record NotificationPageResponse(
+
+	List<NotificationResponse> notifications,
+	boolean hasNext,
+	LocalDateTime nextCursorCreatedAt,
+	Long nextCursorId
+) {}
@@ -0,0 +1,23 @@
+package com.ice.studyroom.domain.notification.scheduler;
+
+import com.ice.studyroom.domain.notification.application.NotificationWriteBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * batch-size 만큼 쌓이지 않은 알림도 주기적으로 저장합니다.
+ */
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class NotificationWriteScheduler {
+
+	private final NotificationWriteBuffer notificationWriteBuffer;
+
+	@Scheduled(fixedDelayString = "${notification.write.flush-interval-ms:200}")
+	public void flush() {
+		notificationWriteBuffer.flush();
+	}
+}
@@ -0,0 +1,178 @@
+package com.ice.studyroom.domain.outbox.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.studyroom.domain.outbox.domain.entity.OutboxEvent;
+import com.ice.studyroom.domain.outbox.infrastructure.persistence.OutboxEventJdbcRepository;
+import com.ice.studyroom.domain.outbox.infrastructure.persistence.OutboxEventRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka 이벤트 outbox 의 적재 / 선점 / 결과 기록을 담당합니다.
+ */
+@Slf4j
+@Service
+public class OutboxEventService {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxEventJdbcRepository outboxEventJdbcRepository;
+	private final ObjectMapper objectMapper;
+	private final Clock clock;
+	private final int maxAttempts;
+	private final long baseBackoffMillis;
+	private final long maxBackoffMillis;
+	private final long outageBackoffMillis;
+	private final long claimTimeoutMillis;
+	private final long retentionMillis;
+
+	public OutboxEventService(OutboxEventRepository outboxEventRepository,
+		OutboxEventJdbcRepository outboxEventJdbcRepository, ObjectMapper objectMapper, Clock clock,
+		@Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+		@Value("${outbox.relay.base-backoff-ms:1000}") long baseBackoffMillis,
+		@Value("${outbox.relay.max-backoff-ms:300000}") long maxBackoffMillis,
+		@Value("${outbox.relay.outage-backoff-ms:10000}") long outageBackoffMillis,
+		@Value("${outbox.relay.claim-timeout-ms:60000}") long claimTimeoutMillis,
+		@Value("${outbox.relay.retention-ms:259200000}") long retentionMillis) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.outboxEventJdbcRepository = outboxEventJdbcRepository;
+		this.objectMapper = objectMapper;
+		this.clock = clock;
+		this.maxAttempts = maxAttempts;
+		this.baseBackoffMillis = baseBackoffMillis;
+		this.maxBackoffMillis = maxBackoffMillis;
+		this.outageBackoffMillis = outageBackoffMillis;
+		this.claimTimeoutMillis = claimTimeoutMillis;
+		this.retentionMillis = retentionMillis;
+	}
+
+	/**
+	 * 호출한 비즈니스 트랜잭션 안에서 이벤트를 저장합니다. 트랜잭션이 롤백되면 이벤트도 발행되지 않습니다.
+	 * 같은 eventKey 가 이미 저장되어 있으면 (동시에 저장한 경우 포함) 무시합니다.
+	 * <p>
+	 * 트랜잭션 프록시를 거치지 않으므로 직렬화 실패나 중복 키가 호출한 트랜잭션을 rollback-only 로 만들지 않습니다.
+	 * 직렬화할 수 없는 이벤트는 발행할 수 없으므로 기록만 남기고 버립니다.
+	 *
+	 * @return 저장했으면 true
+	 */
+	public boolean append(String topic, String messageKey, String eventKey, Object payload) {
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			log.error("[OUTBOX] 이벤트 직렬화 실패 - 저장하지 않음 - topic: {}, eventKey: {}", topic, eventKey, e);
+			return false;
+		}
+
+		boolean inserted = outboxEventJdbcRepository.insertIgnoringDuplicate(
+			OutboxEvent.of(topic, messageKey, eventKey, payload.getClass().getName(), json, LocalDateTime.now(clock)));
+		if (!inserted) {
+			log.debug("[OUTBOX] 중복 이벤트 무시 - topic: {}, eventKey: {}", topic, eventKey);
+		}
+		return inserted;
+	}
+
+	@Transactional(readOnly = true)
+	public List<String> findTopicsReadyToPublish() {
+		return outboxEventRepository.findTopicsReadyToPublish(LocalDateTime.now(clock));
+	}
+
+	/**
+	 * 토픽의 한 레인에서 발행 가능한 행을 최대 batchSize 만큼 선점합니다. 선점에 성공한 행만 저장 순서대로 반환됩니다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public List<OutboxEvent> claimBatch(String topic, int lanes, int lane, int batchSize) {
+		LocalDateTime now = LocalDateTime.now(clock);
+		List<Long> ids = outboxEventRepository.findIdsReadyToPublish(topic, lanes, lane, now,
+			PageRequest.of(0, batchSize));
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		String claimToken = UUID.randomUUID().toString();
+		if (outboxEventRepository.claim(ids, claimToken, now) == 0) {
+			return List.of();
+		}
+		return outboxEventRepository.findByClaimTokenOrderByIdAsc(claimToken);
+	}
+
+	/**
+	 * 발행 결과를 기록합니다. failures 에 없는 행은 발행 성공으로 처리합니다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void complete(List<OutboxEvent> events, Map<Long, String> failures) {
+		LocalDateTime now = LocalDateTime.now(clock);
+		for (OutboxEvent event : events) {
+			String error = failures.get(event.getId());
+			if (error == null) {
+				event.markPublished(now);
+			} else {
+				event.markFailed(error, now, backoffFor(event.getAttempts() + 1), maxAttempts);
+			}
+		}
+		outboxEventRepository.saveAll(events);
+	}
+
+	/**
+	 * 브로커 장애로 보내지 못한 묶음을 시도 횟수를 늘리지 않고 outage-backoff 이후 다시 대기시킵니다.
+	 * 장애가 길어져도 이벤트가 FAILED 로 넘어가지 않습니다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void defer(List<OutboxEvent> events, String error) {
+		LocalDateTime nextAttemptAt = LocalDateTime.now(clock).plus(Duration.ofMillis(outageBackoffMillis));
+		for (OutboxEvent event : events) {
+			event.defer(error, nextAttemptAt);
+		}
+		outboxEventRepository.saveAll(events);
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public int redriveFailed() {
+		return outboxEventRepository.redriveFailed(LocalDateTime.now(clock));
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public int releaseStaleClaims() {
+		return outboxEventRepository.releaseStaleClaims(
+			LocalDateTime.now(clock).minus(Duration.ofMillis(claimTimeoutMillis)));
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public int purgePublished() {
+		return outboxEventRepository.deletePublishedBefore(
+			LocalDateTime.now(clock).minus(Duration.ofMillis(retentionMillis)));
+	}
+
+	/**
+	 * 아직 발행되지 않은 이벤트 수와 가장 오래된 이벤트의 대기 시간(초)을 반환합니다.
+	 */
+	@Transactional(readOnly = true)
+	public Backlog getBacklog() {
+		long count = outboxEventRepository.countUnpublished();
+		LocalDateTime oldest = outboxEventRepository.findOldestUnpublishedCreatedAt();
+		long lagSeconds = oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now(clock)).toSeconds());
+		return new Backlog(count, lagSeconds);
+	}
+
+	// 지수 백오프 (base, 2*base, 4*base ... 최대 maxBackoff)
+	Duration backoffFor(int attempt) {
+		long multiplier = 1L << Math.min(attempt - 1, 20);
+		return Duration.ofMillis(Math.min(maxBackoffMillis, baseBackoffMillis * multiplier));
+	}
+
+	public record Backlog(long count, long lagSeconds) {
+	}
+}
@@ -0,0 +1,147 @@
+package com.ice.studyroom.domain.outbox.domain.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus;
+import com.ice.studyroom.global.entity.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Kafka 발행 대기 이벤트. 비즈니스 변경과 같은 트랜잭션에서 저장되고, 커밋된 행만 릴레이가 발행합니다.
+ * event_key 는 멱등 키로, 같은 이벤트가 두 번 저장되지 않으며 Kafka 헤더로도 전달되어 컨슈머 중복 제거에 쓰입니다.
+ */
+@Entity
+@Table(name = "outbox_event",
+	uniqueConstraints = @UniqueConstraint(name = "uk_outbox_event_event_key", columnNames = "event_key"),
+	indexes = {
+		@Index(name = "idx_outbox_event_topic_status_next_attempt", columnList = "topic, status, next_attempt_at"),
+		@Index(name = "idx_outbox_event_claim_token", columnList = "claim_token")
+	})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class OutboxEvent extends BaseTimeEntity {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "topic", nullable = false, length = 100)
+	private String topic;
+
+	// Kafka 메시지 키 (파티션 결정). 키가 없는 토픽은 null
+	@Column(name = "message_key")
+	private String messageKey;
+
+	@Column(name = "event_key", nullable = false, length = 150)
+	private String eventKey;
+
+	// 릴레이 레인 분배용 메시지 키 해시 (같은 키는 같은 레인에 배정되지만 재시도 때문에 발행 순서는 보장하지 않는다)
+	@Column(name = "key_hash", nullable = false)
+	private int keyHash;
+
+	@Column(name = "payload_type", nullable = false)
+	private String payloadType;
+
+	@Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false)
+	@Builder.Default
+	private OutboxEventStatus status = OutboxEventStatus.PENDING;
+
+	@Column(name = "attempts", nullable = false)
+	@Builder.Default
+	private int attempts = 0;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "claim_token", length = 36)
+	private String claimToken;
+
+	@Column(name = "claimed_at")
+	private LocalDateTime claimedAt;
+
+	@Column(name = "last_error", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Column(name = "published_at")
+	private LocalDateTime publishedAt;
+
+	public static OutboxEvent of(String topic, String messageKey, String eventKey, String payloadType,
+		String payload, LocalDateTime now) {
+		String partitionKey = messageKey != null ? messageKey : eventKey;
+		return OutboxEvent.builder()
+			.topic(topic)
+			.messageKey(messageKey)
+			.eventKey(eventKey)
+			.keyHash(partitionKey.hashCode() & Integer.MAX_VALUE)
+			.payloadType(payloadType)
+			.payload(payload)
+			.nextAttemptAt(now)
+			.build();
+	}
+
+	public void markPublished(LocalDateTime now) {
+		this.status = OutboxEventStatus.PUBLISHED;
+		this.attempts++;
+		this.publishedAt = now;
+		this.claimToken = null;
+		this.lastError = null;
+	}
+
+	/**
+	 * 발행 실패를 기록합니다. 최대 시도 횟수 전까지는 backoff 이후 다시 PENDING 으로 돌아갑니다.
+	 */
+	public void markFailed(String error, LocalDateTime now, Duration backoff, int maxAttempts) {
+		this.attempts++;
+		this.claimToken = null;
+		this.lastError = truncate(error);
+
+		if (this.attempts >= maxAttempts) {
+			this.status = OutboxEventStatus.FAILED;
+			return;
+		}
+		this.status = OutboxEventStatus.PENDING;
+		this.nextAttemptAt = now.plus(backoff);
+	}
+
+	/**
+	 * 브로커 장애로 보내지 못한 이벤트를 시도 횟수에 넣지 않고 다시 대기시킵니다.
+	 */
+	public void defer(String error, LocalDateTime nextAttemptAt) {
+		this.status = OutboxEventStatus.PENDING;
+		this.claimToken = null;
+		this.lastError = truncate(error);
+		this.nextAttemptAt = nextAttemptAt;
+	}
+
+	public boolean isFailed() {
+		return status == OutboxEventStatus.FAILED;
+	}
+
+	private static String truncate(String error) {
+		return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+	}
+}
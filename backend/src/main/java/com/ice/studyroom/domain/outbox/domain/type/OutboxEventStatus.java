@@ -0,0 +1,8 @@
+package com.ice.studyroom.domain.outbox.domain.type;
+
+public enum OutboxEventStatus {
+	PENDING,     // 발행 대기 (재시도 대기 포함)
+	PUBLISHING,  // 릴레이가 선점하여 발행 중
+	PUBLISHED,   // Kafka 전송 확인 완료
+	FAILED       // 최대 재시도 횟수 초과 (outbox.relay.redrive-interval-ms 마다 다시 PENDING 으로)
+}
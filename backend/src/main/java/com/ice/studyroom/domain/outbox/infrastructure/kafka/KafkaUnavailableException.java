@@ -0,0 +1,23 @@
+package com.ice.studyroom.domain.outbox.infrastructure.kafka;
+
+import java.util.Map;
+
+import org.springframework.kafka.KafkaException;
+
+import lombok.Getter;
+
+/**
+ * 프로듀서에 넘긴 레코드가 모두 전송에 실패한 경우 (브로커 장애 / 연결 끊김).
+ * 이벤트 자체의 문제가 아니므로 릴레이는 시도 횟수를 늘리지 않고 다시 대기시킵니다.
+ * recordFailures 는 레코드로 만들 수 없었던 이벤트(페이로드 복원 실패 등)로, 이 이벤트들만 시도 횟수에 포함됩니다.
+ */
+@Getter
+public class KafkaUnavailableException extends KafkaException {
+
+	private final Map<Long, String> recordFailures;
+
+	public KafkaUnavailableException(String message, Map<Long, String> recordFailures) {
+		super(message);
+		this.recordFailures = Map.copyOf(recordFailures);
+	}
+}
@@ -0,0 +1,107 @@
+package com.ice.studyroom.domain.outbox.infrastructure.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.studyroom.domain.outbox.domain.entity.OutboxEvent;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 묶음을 Kafka 로 전송합니다.
+ * 묶음 전체를 먼저 비동기로 보낸 뒤 결과를 한 번에 기다리므로 프로듀서가 레코드를 배치로 묶어 전송할 수 있습니다.
+ * 페이로드는 저장 당시 타입으로 복원해 보내므로 기존 직접 전송과 같은 JSON / 타입 헤더가 유지됩니다.
+ */
+@Slf4j
+@Component
+public class OutboxKafkaSender {
+
+	public static final String IDEMPOTENCY_KEY_HEADER = "idempotency-key";
+	public static final String KAFKA_PRODUCER_CIRCUIT = "kafka-producer";
+
+	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final ObjectMapper objectMapper;
+	private final long sendTimeoutMillis;
+
+	public OutboxKafkaSender(KafkaTemplate<String, Object> kafkaTemplate, ObjectMapper objectMapper,
+		@Value("${outbox.relay.send-timeout-ms:10000}") long sendTimeoutMillis) {
+		this.kafkaTemplate = kafkaTemplate;
+		this.objectMapper = objectMapper;
+		this.sendTimeoutMillis = sendTimeoutMillis;
+	}
+
+	/**
+	 * 묶음을 전송하고 실패한 이벤트 ID 와 원인을 반환합니다.
+	 * 프로듀서에 넘긴 레코드가 모두 실패하면 (브로커 장애) KafkaUnavailableException 을 던져 서킷 브레이커에 실패로 기록되게 합니다.
+	 */
+	@CircuitBreaker(name = KAFKA_PRODUCER_CIRCUIT)
+	public Map<Long, String> send(List<OutboxEvent> events) {
+		// 레코드로 만들 수 없는 이벤트 (이벤트 자체의 문제)
+		Map<Long, String> recordFailures = new LinkedHashMap<>();
+		// 전송 실패 (브로커 / 네트워크 문제일 수 있음)
+		Map<Long, String> sendFailures = new LinkedHashMap<>();
+		Map<Long, CompletableFuture<SendResult<String, Object>>> futures = new LinkedHashMap<>();
+
+		int sent = 0;
+		for (OutboxEvent event : events) {
+			ProducerRecord<String, Object> record;
+			try {
+				record = toRecord(event);
+			} catch (Exception e) {
+				recordFailures.put(event.getId(), String.valueOf(e.getMessage()));
+				continue;
+			}
+			sent++;
+			try {
+				futures.put(event.getId(), kafkaTemplate.send(record));
+			} catch (Exception e) {
+				sendFailures.put(event.getId(), String.valueOf(e.getMessage()));
+			}
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+		futures.forEach((eventId, future) -> {
+			try {
+				future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				sendFailures.put(eventId, "interrupted");
+			} catch (ExecutionException e) {
+				sendFailures.put(eventId, String.valueOf(e.getCause().getMessage()));
+			} catch (TimeoutException e) {
+				sendFailures.put(eventId, "전송 응답 시간 초과");
+			}
+		});
+
+		if (sent > 0 && sendFailures.size() == sent) {
+			throw new KafkaUnavailableException("outbox 묶음 전송 실패 - topic: " + events.get(0).getTopic()
+				+ ", 원인: " + sendFailures.values().iterator().next(), recordFailures);
+		}
+
+		Map<Long, String> failures = new LinkedHashMap<>(recordFailures);
+		failures.putAll(sendFailures);
+		return failures;
+	}
+
+	private ProducerRecord<String, Object> toRecord(OutboxEvent event) throws Exception {
+		Object payload = objectMapper.readValue(event.getPayload(), Class.forName(event.getPayloadType()));
+		ProducerRecord<String, Object> record = new ProducerRecord<>(event.getTopic(), event.getMessageKey(), payload);
+		record.headers().add(IDEMPOTENCY_KEY_HEADER, event.getEventKey().getBytes(StandardCharsets.UTF_8));
+		return record;
+	}
+}
@@ -0,0 +1,53 @@
+package com.ice.studyroom.domain.outbox.infrastructure.persistence;
+
+import java.sql.Timestamp;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.ice.studyroom.domain.outbox.domain.entity.OutboxEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox 이벤트를 JPA 를 거치지 않고 한 문장으로 저장합니다.
+ * <p>
+ * 이벤트는 비즈니스 트랜잭션 안에서 저장되므로, 같은 event_key 의 중복 저장(uk_outbox_event_event_key)이
+ * 영속성 컨텍스트를 오염시키거나 트랜잭션을 rollback-only 로 만들면 안 됩니다.
+ * JdbcTemplate 의 예외는 트랜잭션 상태를 바꾸지 않고, MySQL / H2 모두 실패한 문장만 취소하므로
+ * 중복 키 예외만 잡아 건너뛰면 호출한 트랜잭션은 그대로 커밋할 수 있습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventJdbcRepository {
+
+	private static final String INSERT_SQL = "INSERT INTO outbox_event (topic, message_key, event_key, key_hash, "
+		+ "payload_type, payload, status, attempts, next_attempt_at, created_at, updated_at) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @return 저장했으면 true, 같은 event_key 가 이미 있으면 false
+	 */
+	public boolean insertIgnoringDuplicate(OutboxEvent event) {
+		Timestamp now = Timestamp.valueOf(event.getNextAttemptAt());
+		try {
+			return jdbcTemplate.update(INSERT_SQL,
+				event.getTopic(),
+				event.getMessageKey(),
+				event.getEventKey(),
+				event.getKeyHash(),
+				event.getPayloadType(),
+				event.getPayload(),
+				event.getStatus().name(),
+				event.getAttempts(),
+				now,
+				now,
+				now) == 1;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+}
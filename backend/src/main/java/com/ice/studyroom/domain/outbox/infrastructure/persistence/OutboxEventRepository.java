@@ -0,0 +1,96 @@
+package com.ice.studyroom.domain.outbox.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.ice.studyroom.domain.outbox.domain.entity.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	@Query("""
+		SELECT DISTINCT o.topic FROM OutboxEvent o
+		WHERE o.status = com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.PENDING
+		AND o.nextAttemptAt <= :now
+		""")
+	List<String> findTopicsReadyToPublish(@Param("now") LocalDateTime now);
+
+	/**
+	 * 토픽의 한 레인(key_hash % lanes) 에서 발행 가능한 행을 저장 순서대로 조회합니다.
+	 */
+	@Query("""
+		SELECT o.id FROM OutboxEvent o
+		WHERE o.topic = :topic
+		AND o.status = com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.PENDING
+		AND o.nextAttemptAt <= :now
+		AND MOD(o.keyHash, :lanes) = :lane
+		ORDER BY o.id
+		""")
+	List<Long> findIdsReadyToPublish(@Param("topic") String topic, @Param("lanes") int lanes, @Param("lane") int lane,
+		@Param("now") LocalDateTime now, Pageable pageable);
+
+	/**
+	 * PENDING 상태인 행만 선점합니다. 여러 서버의 릴레이가 같은 행을 고르더라도 하나만 갱신에 성공합니다.
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		UPDATE OutboxEvent o
+		SET o.status = com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.PUBLISHING,
+			o.claimToken = :claimToken,
+			o.claimedAt = :now
+		WHERE o.id IN :ids
+		AND o.status = com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.PENDING
+		""")
+	int claim(@Param("ids") List<Long> ids, @Param("claimToken") String claimToken, @Param("now") LocalDateTime now);
+
+	List<OutboxEvent> findByClaimTokenOrderByIdAsc(String claimToken);
+
+	// 발행 도중 서버가 종료되어 PUBLISHING 으로 남은 행을 다시 대기 상태로 되돌린다
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		UPDATE OutboxEvent o
+		SET o.status = com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.PENDING,
+			o.claimToken = null
+		WHERE o.status = com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.PUBLISHING
+		AND o.claimedAt < :claimedBefore
+		""")
+	int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+	// 최대 시도 횟수를 넘겨 포기한 행을 처음부터 다시 시도한다
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		UPDATE OutboxEvent o
+		SET o.status = com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.PENDING,
+			o.attempts = 0,
+			o.nextAttemptAt = :now
+		WHERE o.status = com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.FAILED
+		""")
+	int redriveFailed(@Param("now") LocalDateTime now);
+
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		DELETE FROM OutboxEvent o
+		WHERE o.status = com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.PUBLISHED
+		AND o.publishedAt < :publishedBefore
+		""")
+	int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+
+	@Query("""
+		SELECT COUNT(o) FROM OutboxEvent o
+		WHERE o.status IN (com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.PENDING,
+			com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.PUBLISHING)
+		""")
+	long countUnpublished();
+
+	@Query("""
+		SELECT MIN(o.createdAt) FROM OutboxEvent o
+		WHERE o.status IN (com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.PENDING,
+			com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus.PUBLISHING)
+		""")
+	LocalDateTime findOldestUnpublishedCreatedAt();
+}
@@ -0,0 +1,229 @@
+package com.ice.studyroom.domain.outbox.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ice.studyroom.domain.outbox.application.OutboxEventService;
+import com.ice.studyroom.domain.outbox.domain.entity.OutboxEvent;
+import com.ice.studyroom.domain.outbox.infrastructure.kafka.KafkaUnavailableException;
+import com.ice.studyroom.domain.outbox.infrastructure.kafka.OutboxKafkaSender;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 이벤트를 주기적으로 읽어 Kafka 로 발행합니다.
+ * <p>
+ * 토픽마다 outbox.relay.parallelism 에 설정한 수만큼 레인으로 나누어 동시에 발행합니다.
+ * 레인은 메시지 키 해시로 정해지며, 레인 안에서는 저장 순서대로 선점해 묶음으로 보냅니다.
+ * 발행 순서는 보장하지 않습니다. 전송에 실패한 이벤트는 backoff 이후 다시 시도되고 그 사이 같은 키의 다음 이벤트가
+ * 먼저 발행될 수 있으며, 여러 서버가 같은 레인을 동시에 처리할 때도 마찬가지입니다.
+ * 컨슈머는 idempotency-key 헤더로 중복을 거르고 같은 키의 이벤트 순서에 의존하지 않아야 합니다.
+ * Kafka 가 내려가 있는 동안 이벤트는 outbox 에 남아 있다가 다시 발행됩니다.
+ * kafka-producer 서킷이 열려 있으면 선점하지 않고, 묶음 전체가 전송에 실패하면 시도 횟수를 늘리지 않고 되돌리므로
+ * 장애가 길어져도 이벤트가 FAILED 로 넘어가지 않습니다. 시도 횟수는 일부 레코드만 실패한 경우(이벤트 자체의 문제)에만 늘어나며,
+ * 최대 시도 횟수를 넘겨 FAILED 가 된 이벤트도 redrive-interval-ms 마다 다시 대기 상태로 돌아갑니다.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+public class OutboxRelay {
+
+	private final OutboxEventService outboxEventService;
+	private final OutboxKafkaSender outboxKafkaSender;
+	private final CircuitBreaker kafkaCircuitBreaker;
+	private final Executor outboxRelayExecutor;
+	private final MeterRegistry meterRegistry;
+	private final int batchSize;
+	private final int defaultParallelism;
+	private final Map<String, Integer> topicParallelism;
+
+	private final AtomicLong backlogSize = new AtomicLong();
+	private final AtomicLong backlogLagSeconds = new AtomicLong();
+
+	public OutboxRelay(OutboxEventService outboxEventService, OutboxKafkaSender outboxKafkaSender,
+		CircuitBreakerRegistry circuitBreakerRegistry,
+		@Qualifier("outboxRelayExecutor") Executor outboxRelayExecutor, MeterRegistry meterRegistry,
+		@Value("${outbox.relay.batch-size:100}") int batchSize,
+		@Value("${outbox.relay.default-parallelism:1}") int defaultParallelism,
+		@Value("${outbox.relay.parallelism:}") String parallelism) {
+		this.outboxEventService = outboxEventService;
+		this.outboxKafkaSender = outboxKafkaSender;
+		this.kafkaCircuitBreaker = circuitBreakerRegistry.circuitBreaker(OutboxKafkaSender.KAFKA_PRODUCER_CIRCUIT);
+		this.outboxRelayExecutor = outboxRelayExecutor;
+		this.meterRegistry = meterRegistry;
+		this.batchSize = batchSize;
+		this.defaultParallelism = Math.max(1, defaultParallelism);
+		this.topicParallelism = parseParallelism(parallelism);
+
+		Gauge.builder("outbox.backlog.size", backlogSize, AtomicLong::get)
+			.description("발행되지 않은 outbox 이벤트 수").register(meterRegistry);
+		Gauge.builder("outbox.backlog.lag.seconds", backlogLagSeconds, AtomicLong::get)
+			.description("가장 오래된 미발행 outbox 이벤트의 대기 시간").register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:1000}",
+		initialDelayString = "${outbox.relay.initial-delay-ms:1000}")
+	public void relay() {
+		if (!isKafkaAvailable()) {
+			// 선점하면 보내지 못한 채 되돌려야 하므로 서킷이 반열림으로 바뀔 때까지 건너뛴다
+			log.debug("[OUTBOX] kafka-producer 서킷 열림 - 이번 발행 건너뜀");
+			return;
+		}
+		try {
+			List<CompletableFuture<Void>> lanes = new ArrayList<>();
+			for (String topic : outboxEventService.findTopicsReadyToPublish()) {
+				int laneCount = parallelismOf(topic);
+				for (int lane = 0; lane < laneCount; lane++) {
+					int currentLane = lane;
+					lanes.add(CompletableFuture.runAsync(() -> drainLane(topic, laneCount, currentLane),
+						outboxRelayExecutor));
+				}
+			}
+			CompletableFuture.allOf(lanes.toArray(CompletableFuture[]::new)).join();
+		} catch (Exception e) {
+			log.error("[OUTBOX] 이벤트 발행 처리 실패", e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${outbox.relay.claim-timeout-ms:60000}")
+	public void releaseStaleClaims() {
+		int released = outboxEventService.releaseStaleClaims();
+		if (released > 0) {
+			log.warn("[OUTBOX] 발행 중 상태로 남은 이벤트 {}건을 재시도 대기로 전환", released);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${outbox.relay.redrive-interval-ms:1800000}",
+		initialDelayString = "${outbox.relay.redrive-interval-ms:1800000}")
+	public void redriveFailed() {
+		int redriven = outboxEventService.redriveFailed();
+		if (redriven > 0) {
+			meterRegistry.counter("outbox.events.redriven").increment(redriven);
+			log.warn("[OUTBOX] 발행을 포기했던 이벤트 {}건을 다시 시도", redriven);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${outbox.relay.purge-interval-ms:3600000}")
+	public void purgePublished() {
+		int deleted = outboxEventService.purgePublished();
+		if (deleted > 0) {
+			log.info("[OUTBOX] 보관 기간이 지난 발행 완료 이벤트 {}건 삭제", deleted);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${outbox.relay.metrics-interval-ms:15000}")
+	public void refreshBacklogMetrics() {
+		OutboxEventService.Backlog backlog = outboxEventService.getBacklog();
+		backlogSize.set(backlog.count());
+		backlogLagSeconds.set(backlog.lagSeconds());
+	}
+
+	private void drainLane(String topic, int laneCount, int lane) {
+		// 한 번의 실행에서 레인에 쌓인 묶음을 모두 비운다
+		while (relayBatch(topic, laneCount, lane) == batchSize) {
+			log.debug("[OUTBOX] 다음 묶음 처리 - topic: {}, lane: {}", topic, lane);
+		}
+	}
+
+	int relayBatch(String topic, int laneCount, int lane) {
+		List<OutboxEvent> events = outboxEventService.claimBatch(topic, laneCount, lane, batchSize);
+		if (events.isEmpty()) {
+			return 0;
+		}
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		Map<Long, String> failures;
+		try {
+			failures = outboxKafkaSender.send(events);
+		} catch (KafkaUnavailableException e) {
+			sample.stop(meterRegistry.timer("outbox.relay.batch", "topic", topic));
+			// 레코드로 만들 수 없었던 이벤트만 실패로 기록하고 나머지는 시도 횟수 없이 되돌린다
+			List<OutboxEvent> rejected = events.stream()
+				.filter(event -> e.getRecordFailures().containsKey(event.getId()))
+				.toList();
+			if (!rejected.isEmpty()) {
+				outboxEventService.complete(rejected, e.getRecordFailures());
+				recordResults(topic, rejected, e.getRecordFailures());
+			}
+			defer(topic, events.stream().filter(event -> !rejected.contains(event)).toList(), e);
+			return 0;
+		} catch (Exception e) {
+			// 서킷 열림(CallNotPermittedException) 등 묶음을 보내지 못한 경우
+			sample.stop(meterRegistry.timer("outbox.relay.batch", "topic", topic));
+			defer(topic, events, e);
+			return 0;
+		}
+		sample.stop(meterRegistry.timer("outbox.relay.batch", "topic", topic));
+
+		outboxEventService.complete(events, failures);
+		recordResults(topic, events, failures);
+		return events.size();
+	}
+
+	private void recordResults(String topic, List<OutboxEvent> events, Map<Long, String> failures) {
+		long failedCount = events.stream().filter(OutboxEvent::isFailed).count();
+		counter("outbox.events.published", topic).increment(events.size() - failures.size());
+		counter("outbox.events.retry", topic).increment(failures.size() - failedCount);
+		counter("outbox.events.failed", topic).increment(failedCount);
+		if (!failures.isEmpty()) {
+			log.warn("[OUTBOX] 이벤트 발행 실패 - topic: {}, 실패: {}건, 포기: {}건", topic, failures.size(), failedCount);
+		}
+	}
+
+	private void defer(String topic, List<OutboxEvent> events, Exception cause) {
+		if (events.isEmpty()) {
+			return;
+		}
+		outboxEventService.defer(events, String.valueOf(cause.getMessage()));
+		counter("outbox.events.deferred", topic).increment(events.size());
+		log.warn("[OUTBOX] Kafka 전송 불가 - 시도 횟수 없이 재대기 - topic: {}, {}건, 원인: {}",
+			topic, events.size(), cause.getMessage());
+	}
+
+	private boolean isKafkaAvailable() {
+		CircuitBreaker.State state = kafkaCircuitBreaker.getState();
+		return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+	}
+
+	int parallelismOf(String topic) {
+		return topicParallelism.getOrDefault(topic, defaultParallelism);
+	}
+
+	private Counter counter(String name, String topic) {
+		return meterRegistry.counter(name, "topic", topic);
+	}
+
+	// "토픽:레인수,토픽:레인수" 형식
+	private static Map<String, Integer> parseParallelism(String value) {
+		Map<String, Integer> parallelism = new HashMap<>();
+		if (value == null || value.isBlank()) {
+			return parallelism;
+		}
+		for (String entry : value.split(",")) {
+			int separator = entry.lastIndexOf(':');
+			if (separator <= 0) {
+				throw new IllegalArgumentException("outbox.relay.parallelism 형식 오류: " + entry);
+			}
+			parallelism.put(entry.substring(0, separator).trim(),
+				Math.max(1, Integer.parseInt(entry.substring(separator + 1).trim())));
+		}
+		return parallelism;
+	}
+}
@@ -1,9 +1,11 @@
 package com.ice.studyroom.domain.ranking.application.checkin;
 
 import com.ice.studyroom.domain.membership.domain.entity.Member;
+import com.ice.studyroom.domain.ranking.application.event.assembler.WeeklyRankingAssembler;
 import com.ice.studyroom.domain.ranking.application.event.trigger.RankingContext;
 import com.ice.studyroom.domain.ranking.application.event.trigger.RankingEventTriggerService;
 import com.ice.studyroom.domain.ranking.domain.service.RankingScoreCalculator;
+import com.ice.studyroom.domain.ranking.domain.service.RankingScoreChange;
 import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
 import com.ice.studyroom.domain.reservation.domain.entity.Reservation;
@@ -21,6 +23,7 @@ public class RankingCheckInApplicationService {
 	private final RankingScoreCalculator rankingScoreCalculator;
 	private final RankingStore rankingStore;
 	private final RankingEventTriggerService rankingEventTriggerService;
+	private final WeeklyRankingAssembler weeklyRankingAssembler;
 
 	public void handleCheckIn(Reservation reservation, ReservationStatus status) {
 
@@ -57,32 +60,23 @@ public class RankingCheckInApplicationService {
 			log.info("[RANKING] 점수 반영 시작 - memberId: {}, score: {}",
 					memberId, score);
 
-            // 점수 반영 전 rank
-            Integer previousRank = rankingStore.getRank(eventPeriod, memberId);
+            // 모든 기간 점수 반영 + 반영 전후 rank 를 한 번의 Redis 호출로 원자적으로 조회
+            RankingScoreChange change =
+                    rankingStore.increaseScoreForAllPeriods(memberId, score, eventPeriod);
 
-            // 기간별 전체 점수 반영
-            for (RankingPeriod period : RankingPeriod.values()) {
-                rankingStore.increaseScore(period, memberId, score);
-            }
+            // 점수가 바뀌었으므로 캐시된 Top 5 무효화
+            weeklyRankingAssembler.evictTopRankings();
 
-            // 점수 반영 후 rank
-            Integer currentRank = rankingStore.getRank(eventPeriod, memberId);
+            Integer previousRank = change.previousRank();
+            int currentRank = change.currentRank();
 
             // 이전 랭킹이 없던 사용자의 경우 이벤트 발행 X
-            if (previousRank == null || currentRank == null) {
+            if (previousRank == null) {
 				log.debug("[RANKING] 기존 랭킹 없음 - memberId: {}", memberId);
 
                 return;
             }
 
-            Integer gapWithUpper = null;
-            Integer upperScore = rankingStore.getUpperScore(eventPeriod, memberId);
-            Integer myScore = rankingStore.getScore(eventPeriod, memberId);
-
-            if (upperScore != null && myScore != null) {
-                gapWithUpper = upperScore - myScore;
-            }
-
             // Context 생성
             Member member = reservation.getMember();
 
@@ -92,7 +86,8 @@ public class RankingCheckInApplicationService {
                 member.getEmail().getValue(),
                 previousRank,
                 currentRank,
-                gapWithUpper
+                change.currentScore(),
+                change.gapWithUpper()
             );
 
             // 이벤트 트리거
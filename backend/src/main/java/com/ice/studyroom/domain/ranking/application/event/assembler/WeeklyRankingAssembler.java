@@ -2,37 +2,101 @@ package com.ice.studyroom.domain.ranking.application.event.assembler;
 
 import com.ice.studyroom.domain.membership.domain.entity.Member;
 import com.ice.studyroom.domain.membership.infrastructure.persistence.MemberRepository;
+import com.ice.studyroom.domain.ranking.application.event.dto.TopRankingsEvictedEvent;
 import com.ice.studyroom.domain.ranking.application.event.dto.WeeklyRankingDto;
 import com.ice.studyroom.domain.ranking.domain.service.RankingEntry;
+import com.ice.studyroom.domain.ranking.domain.service.RankingNameMasker;
 import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+/**
+ * 기간별 Top 5 랭킹 (이름 마스킹 포함) 을 만듭니다.
+ * 결과는 짧은 TTL 로 메모리에 캐시되어 REST 조회와 랭킹 이벤트 발행이 매번 Redis / 회원 조회를 하지 않습니다.
+ * 점수가 바뀌면 evictTopRankings 로 세대(generation) 를 올려 이전 캐시를 즉시 무효화하고,
+ * 무효화 이벤트는 Redis pub/sub (RankingTopCacheChannel) 으로 다른 서버에도 전달되어 같은 방식으로 무효화됩니다.
+ */
 @Component
-@RequiredArgsConstructor
 public class WeeklyRankingAssembler {
 
+	private static final int TOP_SIZE = 5;
+	// 점수 내림차순, 동점자는 RankingStore 와 같이 memberId 문자열 내림차순
+	private static final Comparator<RankingEntry> TOP_ORDER = Comparator.comparingInt(RankingEntry::score).reversed()
+		.thenComparing(entry -> entry.memberId().toString(), Comparator.reverseOrder());
+
 	private final RankingStore rankingStore;
 	private final MemberRepository memberRepository;
+	private final Clock clock;
+	private final ApplicationEventPublisher eventPublisher;
+	private final long cacheTtlMillis;
+
+	private final Map<RankingPeriod, CachedTopRankings> cache = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+
+	public WeeklyRankingAssembler(RankingStore rankingStore, MemberRepository memberRepository, Clock clock,
+		ApplicationEventPublisher eventPublisher,
+		@Value("${ranking.top.cache-ttl-ms:5000}") long cacheTtlMillis) {
+		this.rankingStore = rankingStore;
+		this.memberRepository = memberRepository;
+		this.clock = clock;
+		this.eventPublisher = eventPublisher;
+		this.cacheTtlMillis = cacheTtlMillis;
+	}
 
 	public List<WeeklyRankingDto> buildTop5(RankingPeriod period) {
 
-		List<RankingEntry> entries = rankingStore.getAllRankings(period);
+		long now = clock.millis();
+		long currentGeneration = generation.get();
 
-		if (entries.isEmpty()) {
-			return List.of();
+		CachedTopRankings cached = cache.get(period);
+		if (cached != null && cached.generation() == currentGeneration && cached.expiresAt() > now) {
+			return cached.rankings();
 		}
 
-		List<RankingEntry> top5 = entries.stream()
-			.limit(5)
+		List<WeeklyRankingDto> rankings = loadTop5(period);
+		cache.put(period, new CachedTopRankings(rankings, currentGeneration, now + cacheTtlMillis));
+
+		return rankings;
+	}
+
+	/**
+	 * 점수 변경 / 기간 초기화 시 호출되어 캐시된 Top 5 를 모든 서버에서 무효화합니다.
+	 */
+	public void evictTopRankings() {
+		evictLocalTopRankings();
+		eventPublisher.publishEvent(new TopRankingsEvictedEvent());
+	}
+
+	/**
+	 * 이 서버의 캐시만 무효화합니다. 다른 서버의 무효화 메시지를 받았을 때 호출됩니다.
+	 */
+	public void evictLocalTopRankings() {
+		generation.incrementAndGet();
+	}
+
+	private List<WeeklyRankingDto> loadTop5(RankingPeriod period) {
+
+		// 저장소 구현과 무관하게 동점자가 많아도 정확히 5명, 항상 같은 순서
+		List<RankingEntry> top5 = rankingStore.getTopRankings(period, TOP_SIZE).stream()
+			.sorted(TOP_ORDER)
+			.limit(TOP_SIZE)
 			.toList();
 
+		if (top5.isEmpty()) {
+			return List.of();
+		}
+
 		List<Long> memberIds = top5.stream()
 			.map(RankingEntry::memberId)
 			.toList();
@@ -69,41 +133,15 @@ public class WeeklyRankingAssembler {
 			result.add(
 				new WeeklyRankingDto(
 					currentRank,
-					maskName(member.getName()), // 🔥 마스킹은 여기서
+					RankingNameMasker.mask(member.getName()), // 🔥 마스킹은 여기서
 					entry.score()
 				)
 			);
 		}
 
-		return result;
+		return List.copyOf(result);
 	}
 
-	private String maskName(String name) {
-
-		if (name == null || name.isBlank()) {
-			return "";
-		}
-
-		name = name.trim();
-		int length = name.length();
-
-		if (length == 1) {
-			return "*";
-		}
-
-		if (length == 2) {
-			return name.charAt(0) + "*";
-		}
-
-		StringBuilder masked = new StringBuilder();
-		masked.append(name.charAt(0));
-
-		for (int i = 0; i < length - 2; i++) {
-			masked.append("*");
-		}
-
-		masked.append(name.charAt(length - 1));
-
-		return masked.toString();
+	private record CachedTopRankings(List<WeeklyRankingDto> rankings, long generation, long expiresAt) {
 	}
 }
@@ -0,0 +1,12 @@
+package com.ice.studyroom.domain.ranking.application.event.dto;
+
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+
+/**
+ * 순위 변화로 랭킹 리스트 갱신이 필요함을 알립니다. 트랜잭션이 커밋된 뒤에만 발행 요청으로 기록됩니다.
+ */
+public record RankingListUpdateRequestedEvent(
+	RankingPeriod period,
+	String periodKey
+) {
+}
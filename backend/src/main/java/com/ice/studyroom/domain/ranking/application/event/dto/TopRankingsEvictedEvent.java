@@ -0,0 +1,7 @@
+package com.ice.studyroom.domain.ranking.application.event.dto;
+
+/**
+ * 이 서버에서 Top 5 캐시를 무효화했음을 알립니다. 다른 서버로 전파하는 데 사용합니다.
+ */
+public record TopRankingsEvictedEvent() {
+}
@@ -1,18 +1,113 @@
 package com.ice.studyroom.domain.ranking.application.event.publisher;
 
+import com.ice.studyroom.domain.ranking.infrastructure.redis.EventIdNodeLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
-import java.util.UUID;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 랭킹 / 알림 이벤트 ID 생성기입니다. (Snowflake 방식 64bit ID)
+ * <p>
+ * [41bit 기준 시각 이후 밀리초][10bit 노드 ID][12bit 밀리초 내 순번] 으로 구성되어
+ * 노드 ID 가 서로 다르면 서버 간에도 충돌하지 않고, 생성 시각 순으로 정렬됩니다.
+ * 한 노드에서 밀리초당 4096 개를 넘기면 다음 밀리초의 순번을 미리 사용하고,
+ * 시계가 뒤로 가면 마지막으로 사용한 시각에서 계속 증가시키므로 같은 ID 를 다시 만들지 않습니다.
+ * 노드 ID 는 event-id.node-id 로 서버마다 다르게 지정하며, 지정하지 않으면 Redis 에서 비어 있는 번호를 빌립니다. (EventIdNodeLease)
+ */
+@Slf4j
 @Component
 public class EventIdGenerator {
 
+	static final long EPOCH_MILLIS = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+	static final int NODE_BITS = 10;
+	static final int SEQUENCE_BITS = 12;
+	static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+	// Long.MAX_VALUE 의 36진수 길이. 고정 길이로 맞춰 문자열로도 생성 순 정렬이 되게 한다
+	private static final int COMPACT_LENGTH = 13;
+
+	private final Clock clock;
+	private final long nodeBits;
+
+	// 마지막으로 발급한 (시각 << SEQUENCE_BITS | 순번)
+	private final AtomicLong lastState = new AtomicLong();
+
+	@Autowired
+	public EventIdGenerator(Clock clock, ObjectProvider<EventIdNodeLease> nodeLease,
+		@Value("${event-id.node-id:-1}") int nodeId) {
+		this(clock, nodeId >= 0 ? nodeId : nodeLease.getObject().acquire(MAX_NODE_ID));
+		log.info("[EVENT-ID] 노드 ID: {} ({})", nodeBits >>> SEQUENCE_BITS, nodeId >= 0 ? "event-id.node-id" : "Redis 임대");
+	}
+
+	EventIdGenerator(Clock clock, int nodeId) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("event-id.node-id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+		}
+		this.clock = clock;
+		this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+	}
+
+	/**
+	 * periodKey 와 ID 의 짧은 문자열을 이어 이벤트 ID 를 만듭니다. (예: weekly-2026-02-27-0b3k9x2m1q0a4)
+	 */
 	public String generate(String periodKey) {
-		String shortUuid = UUID.randomUUID()
-			.toString()
-			.substring(0, 4);
+		return periodKey + "-" + toCompactString(nextId());
+	}
+
+	/**
+	 * 시각 순으로 증가하는 64bit ID 를 발급합니다.
+	 */
+	public long nextId() {
+		while (true) {
+			long now = clock.millis() - EPOCH_MILLIS;
+			long previous = lastState.get();
+			long previousMillis = previous >>> SEQUENCE_BITS;
+
+			long next;
+			if (now > previousMillis) {
+				next = now << SEQUENCE_BITS;
+			} else {
+				// 같은 밀리초이거나 시계가 뒤로 간 경우 순번을 올리고, 순번을 다 쓰면 다음 밀리초로 넘어간다
+				next = previous + 1;
+			}
+
+			if (lastState.compareAndSet(previous, next)) {
+				long millis = next >>> SEQUENCE_BITS;
+				return millis << (NODE_BITS + SEQUENCE_BITS) | nodeBits | next & SEQUENCE_MASK;
+			}
+		}
+	}
+
+	/**
+	 * ID 를 고정 길이(13자) 36진수 문자열로 변환합니다.
+	 */
+	public static String toCompactString(long id) {
+		char[] chars = new char[COMPACT_LENGTH];
+		long remaining = id;
+		for (int i = COMPACT_LENGTH - 1; i >= 0; i--) {
+			chars[i] = Character.forDigit((int) (remaining % Character.MAX_RADIX), Character.MAX_RADIX);
+			remaining /= Character.MAX_RADIX;
+		}
+		return new String(chars);
+	}
+
+	public static long fromCompactString(String compact) {
+		return Long.parseLong(compact, Character.MAX_RADIX);
+	}
+
+	static long timestampOf(long id) {
+		return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+	}
 
-		return periodKey + "-uuid-" + shortUuid;
+	static int nodeIdOf(long id) {
+		return (int) (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
 	}
 }
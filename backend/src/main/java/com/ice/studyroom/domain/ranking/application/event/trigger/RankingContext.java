@@ -8,6 +8,7 @@ public record RankingContext(
 
 	int previousRank,
 	int currentRank,
+	int score,
 
 	Integer gapWithUpper
 ) {
@@ -3,21 +3,18 @@ package com.ice.studyroom.domain.ranking.application.event.trigger;
 import com.ice.studyroom.domain.notification.application.NotificationCommandService;
 import com.ice.studyroom.domain.ranking.application.event.publisher.EventIdGenerator;
 import com.ice.studyroom.domain.ranking.application.event.publisher.RankingEventPublisher;
-import com.ice.studyroom.domain.ranking.application.event.assembler.WeeklyRankingAssembler;
-import com.ice.studyroom.domain.ranking.application.event.dto.RankingListUpdatedEvent;
+import com.ice.studyroom.domain.ranking.application.event.dto.RankingListUpdateRequestedEvent;
 import com.ice.studyroom.domain.ranking.application.event.dto.RankingUserChangedEvent;
-import com.ice.studyroom.domain.ranking.application.event.dto.WeeklyRankingDto;
-import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.ice.studyroom.domain.ranking.domain.service.RankingEventPolicy;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.List;
 
 @Slf4j
 @Service
@@ -26,8 +23,7 @@ public class RankingEventTriggerService {
 
 	private final RankingEventPolicy rankingEventPolicy;
 	private final RankingEventPublisher rankingEventPublisher;
-	private final RankingStore rankingStore;
-	private final WeeklyRankingAssembler weeklyRankingAssembler;
+	private final ApplicationEventPublisher applicationEventPublisher;
 	private final EventIdGenerator eventIdGenerator;
 	private final NotificationCommandService notificationCommandService;
 
@@ -46,8 +42,6 @@ public class RankingEventTriggerService {
 							+ "-"
 							+ LocalDate.now(KST);
 
-					Integer score = rankingStore.getScore(EVENT_PERIOD, context.memberId());
-
 					// 1. 개인 이벤트 생성
 					RankingUserChangedEvent userEvent =
 							RankingUserChangedEvent.of(
@@ -59,25 +53,15 @@ public class RankingEventTriggerService {
 									context.memberEmail(),
 									context.currentRank(),
 									context.previousRank(),
-									score == null ? 0 : score,
+									context.score(),
 									context.gapWithUpper()
 							);
 
 					notificationCommandService.saveFromRankingEvent(userEvent);
 					rankingEventPublisher.publishUserChanged(userEvent);
 
-					// 2. 전체 리스트 이벤트 생성
-					List<WeeklyRankingDto> top5 =
-							weeklyRankingAssembler.buildTop5(EVENT_PERIOD);
-
-					RankingListUpdatedEvent listEvent =
-							RankingListUpdatedEvent.of(
-									eventIdGenerator,
-									periodKey,
-									top5
-							);
-
-					rankingEventPublisher.publishListUpdated(listEvent);
+					// 2. 전체 리스트 이벤트는 커밋 이후 periodKey 별로 모아서 발행 (개인 이벤트는 지연 없이 위에서 발행)
+					applicationEventPublisher.publishEvent(new RankingListUpdateRequestedEvent(EVENT_PERIOD, periodKey));
 
                 } catch (Exception e) {
 
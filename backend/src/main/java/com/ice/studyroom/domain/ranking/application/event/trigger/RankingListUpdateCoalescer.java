@@ -0,0 +1,115 @@
+package com.ice.studyroom.domain.ranking.application.event.trigger;
+
+import com.ice.studyroom.domain.ranking.application.event.assembler.WeeklyRankingAssembler;
+import com.ice.studyroom.domain.ranking.application.event.dto.RankingListUpdateRequestedEvent;
+import com.ice.studyroom.domain.ranking.application.event.dto.RankingListUpdatedEvent;
+import com.ice.studyroom.domain.ranking.application.event.dto.WeeklyRankingDto;
+import com.ice.studyroom.domain.ranking.application.event.publisher.EventIdGenerator;
+import com.ice.studyroom.domain.ranking.application.event.publisher.RankingEventPublisher;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 랭킹 리스트 갱신 이벤트를 periodKey 별로 모아서 발행합니다.
+ * <p>
+ * 순위 변화마다 커밋 이후 request 로 요청만 기록하고, 스케줄러가 ranking.event.list-coalesce-window-ms 주기로 flush 하면
+ * periodKey 당 한 번만 Top 5 를 만들어 발행합니다. 마지막으로 발행한 Top 5 와 내용 해시가 같으면 발행하지 않으므로
+ * Top 5 조회와 Kafka 발행은 체크인 수가 아니라 리더보드가 바뀐 횟수에 비례합니다.
+ * 해시는 서버마다 메모리에 보관하므로 여러 서버에서는 같은 리스트가 서버 수만큼 발행될 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingListUpdateCoalescer {
+
+	private final WeeklyRankingAssembler weeklyRankingAssembler;
+	private final RankingEventPublisher rankingEventPublisher;
+	private final EventIdGenerator eventIdGenerator;
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, RankingPeriod> pending = new ConcurrentHashMap<>();
+	private final Map<RankingPeriod, PublishedList> lastPublished = new EnumMap<>(RankingPeriod.class);
+
+	// 롤백된 체크인의 순위 변화로 리스트를 발행하지 않도록 커밋 이후에만 기록한다
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onRequested(RankingListUpdateRequestedEvent event) {
+		request(event.period(), event.periodKey());
+	}
+
+	/**
+	 * 리스트 갱신을 요청합니다. 다음 flush 전까지의 같은 periodKey 요청은 하나로 합쳐집니다.
+	 */
+	public void request(RankingPeriod period, String periodKey) {
+		pending.put(periodKey, period);
+	}
+
+	/**
+	 * 모인 요청을 periodKey 별로 한 번씩 처리하고, Top 5 가 바뀐 경우에만 발행합니다.
+	 */
+	public synchronized void flush() {
+
+		List<String> periodKeys = new ArrayList<>(pending.keySet());
+
+		for (String periodKey : periodKeys) {
+
+			RankingPeriod period = pending.remove(periodKey);
+			if (period == null) {
+				continue;
+			}
+
+			try {
+				List<WeeklyRankingDto> rankings = weeklyRankingAssembler.buildTop5(period);
+				String hash = hash(rankings);
+
+				PublishedList previous = lastPublished.get(period);
+				if (previous != null && previous.periodKey().equals(periodKey) && previous.hash().equals(hash)) {
+					meterRegistry.counter("ranking.list-event.unchanged", "period", period.name()).increment();
+					continue;
+				}
+
+				rankingEventPublisher.publishListUpdated(
+					RankingListUpdatedEvent.of(eventIdGenerator, periodKey, rankings));
+				lastPublished.put(period, new PublishedList(periodKey, hash));
+				meterRegistry.counter("ranking.list-event.published", "period", period.name()).increment();
+
+			} catch (Exception e) {
+				log.error("[RANKING] ❌ 리스트 이벤트 발행 실패 - periodKey: {}", periodKey, e);
+			}
+		}
+	}
+
+	// 마스킹된 이름 / 순위 / 점수로 계산한 Top 5 내용 해시
+	static String hash(List<WeeklyRankingDto> rankings) {
+
+		StringBuilder content = new StringBuilder();
+		for (WeeklyRankingDto ranking : rankings) {
+			content.append(ranking.rank()).append('\u0000')
+				.append(ranking.name()).append('\u0000')
+				.append(ranking.score()).append('\n');
+		}
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record PublishedList(String periodKey, String hash) {
+	}
+}
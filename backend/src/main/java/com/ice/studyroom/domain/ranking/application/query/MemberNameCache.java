@@ -0,0 +1,71 @@
+package com.ice.studyroom.domain.ranking.application.query;
+
+import com.ice.studyroom.domain.membership.domain.entity.Member;
+import com.ice.studyroom.domain.membership.infrastructure.persistence.MemberRepository;
+import com.ice.studyroom.global.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 랭킹 화면에 표시할 회원 이름 캐시입니다.
+ * 캐시에 없는 회원만 한 번의 findAllById 로 조회하며, 이름 변경은 TTL 이후 반영됩니다.
+ * 최대 크기를 넘으면 가장 오래 조회하지 않은 회원부터 지웁니다.
+ */
+@Component
+public class MemberNameCache {
+
+	private final MemberRepository memberRepository;
+	private final Clock clock;
+	private final long ttlMillis;
+
+	private final LruCache<Long, CachedName> cache;
+
+	public MemberNameCache(MemberRepository memberRepository, Clock clock,
+		@Value("${ranking.member-name.cache-ttl-ms:600000}") long ttlMillis,
+		@Value("${ranking.member-name.cache-max-size:10000}") int maxSize) {
+		this.memberRepository = memberRepository;
+		this.clock = clock;
+		this.ttlMillis = ttlMillis;
+		this.cache = new LruCache<>(maxSize);
+	}
+
+	/**
+	 * memberId 별 이름을 반환합니다. 존재하지 않는 회원은 결과에 포함되지 않습니다.
+	 */
+	public Map<Long, String> getNames(Collection<Long> memberIds) {
+
+		long now = clock.millis();
+		Map<Long, String> names = new HashMap<>();
+		List<Long> misses = new ArrayList<>();
+
+		for (Long memberId : memberIds) {
+			CachedName cached = cache.get(memberId);
+			if (cached != null && cached.expiresAt() > now) {
+				names.put(memberId, cached.name());
+			} else {
+				misses.add(memberId);
+			}
+		}
+
+		if (misses.isEmpty()) {
+			return names;
+		}
+
+		for (Member member : memberRepository.findAllById(misses)) {
+			names.put(member.getId(), member.getName());
+			cache.put(member.getId(), new CachedName(member.getName(), now + ttlMillis));
+		}
+
+		return names;
+	}
+
+	private record CachedName(String name, long expiresAt) {
+	}
+}
@@ -0,0 +1,112 @@
+package com.ice.studyroom.domain.ranking.application.query;
+
+import com.ice.studyroom.domain.membership.domain.vo.Email;
+import com.ice.studyroom.domain.membership.infrastructure.persistence.MemberRepository;
+import com.ice.studyroom.domain.ranking.domain.service.RankingEntry;
+import com.ice.studyroom.domain.ranking.domain.service.RankingNameMasker;
+import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.LeaderboardEntryResponse;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.LeaderboardResponse;
+import com.ice.studyroom.global.exception.BusinessException;
+import com.ice.studyroom.global.security.service.TokenService;
+import com.ice.studyroom.global.type.StatusCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 랭킹 페이지 / 내 주변 랭킹 조회 서비스입니다.
+ * 전체 랭킹을 읽지 않고 ZREVRANK / ZREVRANGE 구간만 조회하며,
+ * 구간 첫 사용자의 순위는 ZCOUNT 로 더 높은 점수 인원을 세어 Competition Rank 를 맞춥니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RankingLeaderboardService {
+
+	static final int MAX_PAGE_SIZE = 100;
+	static final int MAX_WINDOW = 20;
+
+	private final RankingStore rankingStore;
+	private final MemberNameCache memberNameCache;
+	private final MemberRepository memberRepository;
+	private final TokenService tokenService;
+
+	public LeaderboardResponse getPage(RankingPeriod period, int page, int size) {
+
+		if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+			throw new BusinessException(StatusCode.INVALID_INPUT,
+				"page 는 0 이상, size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+		}
+
+		long offset = (long) page * size;
+		List<RankingEntry> entries = rankingStore.getRankingsPage(period, offset, size);
+
+		return new LeaderboardResponse(rankingStore.size(period), null, toResponses(period, entries, offset, null));
+	}
+
+	public LeaderboardResponse getAroundMe(RankingPeriod period, int window, String authorizationHeader) {
+
+		if (window < 0 || window > MAX_WINDOW) {
+			throw new BusinessException(StatusCode.INVALID_INPUT,
+				"window 는 0 ~ " + MAX_WINDOW + " 사이여야 합니다.");
+		}
+
+		String email = tokenService.extractEmailFromAccessToken(authorizationHeader);
+		Long memberId = memberRepository.findByEmail(Email.of(email))
+			.orElseThrow(() -> new BusinessException(StatusCode.NOT_FOUND, "존재하지 않는 사용자입니다."))
+			.getId();
+
+		long totalCount = rankingStore.size(period);
+		Long position = rankingStore.getPosition(period, memberId);
+		if (position == null) {
+			return new LeaderboardResponse(totalCount, null, List.of());
+		}
+
+		long offset = Math.max(0, position - window);
+		int limit = (int) (position - offset) + window + 1;
+		List<LeaderboardEntryResponse> responses =
+			toResponses(period, rankingStore.getRankingsPage(period, offset, limit), offset, memberId);
+
+		// 두 조회 사이에 순위가 바뀌어 구간에서 빠진 경우에는 순위만 다시 조회한다
+		Integer myRank = responses.stream()
+			.filter(LeaderboardEntryResponse::me)
+			.map(LeaderboardEntryResponse::rank)
+			.findFirst()
+			.orElseGet(() -> rankingStore.getRank(period, memberId));
+
+		return new LeaderboardResponse(totalCount, myRank, responses);
+	}
+
+	private List<LeaderboardEntryResponse> toResponses(RankingPeriod period, List<RankingEntry> entries, long offset,
+		Long myMemberId) {
+
+		if (entries.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, String> names = memberNameCache.getNames(entries.stream().map(RankingEntry::memberId).toList());
+
+		// 구간 첫 점수의 동점자가 앞 구간에도 있을 수 있으므로 첫 순위는 더 높은 점수 인원으로 계산
+		int previousScore = entries.get(0).score();
+		int rank = (int) rankingStore.countHigherScores(period, previousScore) + 1;
+
+		List<LeaderboardEntryResponse> responses = new ArrayList<>(entries.size());
+		for (int i = 0; i < entries.size(); i++) {
+			RankingEntry entry = entries.get(i);
+			if (entry.score() != previousScore) {
+				rank = (int) (offset + i + 1);
+				previousScore = entry.score();
+			}
+
+			boolean me = entry.memberId().equals(myMemberId);
+			String name = names.get(entry.memberId());
+			String displayName = me && name != null ? name : RankingNameMasker.mask(name);
+			responses.add(new LeaderboardEntryResponse(rank, displayName, entry.score(), me));
+		}
+		return responses;
+	}
+}
@@ -0,0 +1,228 @@
+package com.ice.studyroom.domain.ranking.application.query;
+
+import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshot;
+import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshotItem;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingSnapshotItemRepository;
+import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingSnapshotRepository;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.MemberRankingHistoryResponse;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.SnapshotRankingDiffResponse;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.SnapshotRankingResponse;
+import com.ice.studyroom.global.exception.BusinessException;
+import com.ice.studyroom.global.type.StatusCode;
+import com.ice.studyroom.global.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 지난 기간 랭킹 스냅샷 조회 서비스입니다.
+ * <p>
+ * 완료(COMPLETED)된 스냅샷은 다시 바뀌지 않으므로 스냅샷 ID, Top N, 두 스냅샷 비교 결과를 만료 없이 캐시합니다.
+ * 첫 조회 이후에는 DB 를 읽지 않으며, 최대 크기를 넘으면 가장 오래 조회하지 않은 항목부터 지웁니다.
+ * 사용자별 이력은 새 스냅샷이 완료되면 늘어나므로 TTL 동안만 캐시합니다.
+ * 이름은 처음 조회할 때의 회원 이름으로 고정됩니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class RankingSnapshotQueryService {
+
+	static final int MAX_SIZE = 100;
+
+	private final RankingSnapshotRepository rankingSnapshotRepository;
+	private final RankingSnapshotItemRepository rankingSnapshotItemRepository;
+	private final MemberNameCache memberNameCache;
+	private final Clock clock;
+	private final long historyCacheTtlMillis;
+
+	private final LruCache<SnapshotKey, Long> snapshotIds;
+	private final LruCache<TopKey, List<SnapshotRankingResponse>> topCache;
+	private final LruCache<DiffKey, List<SnapshotRankingDiffResponse>> diffCache;
+	private final LruCache<Long, CachedHistory> historyCache;
+
+	public RankingSnapshotQueryService(RankingSnapshotRepository rankingSnapshotRepository,
+		RankingSnapshotItemRepository rankingSnapshotItemRepository, MemberNameCache memberNameCache, Clock clock,
+		@Value("${ranking.snapshot.query.history-cache-ttl-ms:600000}") long historyCacheTtlMillis,
+		@Value("${ranking.snapshot.query.cache-max-size:1000}") int cacheMaxSize) {
+		this.rankingSnapshotRepository = rankingSnapshotRepository;
+		this.rankingSnapshotItemRepository = rankingSnapshotItemRepository;
+		this.memberNameCache = memberNameCache;
+		this.clock = clock;
+		this.historyCacheTtlMillis = historyCacheTtlMillis;
+		this.snapshotIds = new LruCache<>(cacheMaxSize);
+		this.topCache = new LruCache<>(cacheMaxSize);
+		this.diffCache = new LruCache<>(cacheMaxSize);
+		this.historyCache = new LruCache<>(cacheMaxSize);
+	}
+
+	/**
+	 * 스냅샷의 상위 size 명을 조회합니다.
+	 */
+	public List<SnapshotRankingResponse> getTop(RankingPeriod period, String periodKey, int size) {
+
+		validateSize(size);
+		Long snapshotId = getCompletedSnapshotId(period, periodKey);
+
+		TopKey key = new TopKey(snapshotId, size);
+		List<SnapshotRankingResponse> cached = topCache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		List<RankingSnapshotItem> items = findTop(snapshotId, size);
+		Map<Long, String> names = memberNameCache.getNames(memberIds(items));
+
+		List<SnapshotRankingResponse> responses = items.stream()
+			.map(item -> new SnapshotRankingResponse(
+				item.getRank(), item.getMemberId(), names.get(item.getMemberId()), item.getScore()))
+			.toList();
+
+		topCache.put(key, responses);
+		return responses;
+	}
+
+	/**
+	 * 사용자의 완료된 스냅샷 순위 이력을 최신순으로 조회합니다. period 가 null 이면 모든 기간을 조회합니다.
+	 */
+	public List<MemberRankingHistoryResponse> getMemberHistory(Long memberId, RankingPeriod period) {
+
+		long now = clock.millis();
+		CachedHistory cached = historyCache.get(memberId);
+		List<MemberRankingHistoryResponse> history;
+
+		if (cached != null && cached.expiresAt() > now) {
+			history = cached.history();
+		} else {
+			history = loadMemberHistory(memberId);
+			historyCache.put(memberId, new CachedHistory(history, now + historyCacheTtlMillis));
+		}
+
+		if (period == null) {
+			return history;
+		}
+		return history.stream()
+			.filter(entry -> entry.period() == period)
+			.toList();
+	}
+
+	/**
+	 * to 스냅샷의 상위 size 명이 from 스냅샷과 비교해 순위 / 점수가 얼마나 바뀌었는지 조회합니다.
+	 */
+	public List<SnapshotRankingDiffResponse> getDiff(RankingPeriod period, String fromPeriodKey, String toPeriodKey,
+		int size) {
+
+		validateSize(size);
+		Long fromSnapshotId = getCompletedSnapshotId(period, fromPeriodKey);
+		Long toSnapshotId = getCompletedSnapshotId(period, toPeriodKey);
+
+		DiffKey key = new DiffKey(fromSnapshotId, toSnapshotId, size);
+		List<SnapshotRankingDiffResponse> cached = diffCache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		List<RankingSnapshotItem> current = findTop(toSnapshotId, size);
+		List<Long> memberIds = memberIds(current);
+
+		// idx_ranking_snapshot_item_member_snapshot 으로 비교 대상 사용자만 읽는다
+		Map<Long, RankingSnapshotItem> previous = memberIds.isEmpty()
+			? Map.of()
+			: rankingSnapshotItemRepository.findBySnapshotIdAndMemberIdIn(fromSnapshotId, memberIds)
+				.stream()
+				.collect(Collectors.toMap(RankingSnapshotItem::getMemberId, Function.identity()));
+		Map<Long, String> names = memberNameCache.getNames(memberIds);
+
+		List<SnapshotRankingDiffResponse> responses = new ArrayList<>(current.size());
+		for (RankingSnapshotItem item : current) {
+			RankingSnapshotItem before = previous.get(item.getMemberId());
+			responses.add(new SnapshotRankingDiffResponse(
+				item.getRank(),
+				item.getMemberId(),
+				names.get(item.getMemberId()),
+				item.getScore(),
+				before == null ? null : before.getRank(),
+				before == null ? null : before.getScore(),
+				before == null ? null : before.getRank() - item.getRank()
+			));
+		}
+
+		List<SnapshotRankingDiffResponse> result = List.copyOf(responses);
+		diffCache.put(key, result);
+		return result;
+	}
+
+	private List<MemberRankingHistoryResponse> loadMemberHistory(Long memberId) {
+
+		List<RankingSnapshotItem> items = rankingSnapshotItemRepository.findByMemberIdOrderBySnapshotIdDesc(memberId);
+		if (items.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, RankingSnapshot> snapshots = rankingSnapshotRepository
+			.findAllById(items.stream().map(RankingSnapshotItem::getSnapshotId).distinct().toList())
+			.stream()
+			.collect(Collectors.toMap(RankingSnapshot::getId, Function.identity()));
+
+		List<MemberRankingHistoryResponse> history = new ArrayList<>(items.size());
+		for (RankingSnapshotItem item : items) {
+			RankingSnapshot snapshot = snapshots.get(item.getSnapshotId());
+			if (snapshot == null || !snapshot.isCompleted()) {
+				continue;
+			}
+			history.add(new MemberRankingHistoryResponse(
+				snapshot.getPeriod(), snapshot.getPeriodKey(), item.getRank(), item.getScore()));
+		}
+		return List.copyOf(history);
+	}
+
+	private Long getCompletedSnapshotId(RankingPeriod period, String periodKey) {
+
+		SnapshotKey key = new SnapshotKey(period, periodKey);
+		Long cached = snapshotIds.get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		RankingSnapshot snapshot = rankingSnapshotRepository.findByPeriodAndPeriodKey(period, periodKey)
+			.filter(RankingSnapshot::isCompleted)
+			.orElseThrow(() -> new BusinessException(StatusCode.NOT_FOUND,
+				"완료된 랭킹 스냅샷이 없습니다. period: " + period + ", periodKey: " + periodKey));
+
+		snapshotIds.put(key, snapshot.getId());
+		return snapshot.getId();
+	}
+
+	private List<RankingSnapshotItem> findTop(Long snapshotId, int size) {
+		return rankingSnapshotItemRepository.findBySnapshotIdOrderByRankAscIdAsc(snapshotId, PageRequest.of(0, size));
+	}
+
+	private static List<Long> memberIds(List<RankingSnapshotItem> items) {
+		return items.stream().map(RankingSnapshotItem::getMemberId).toList();
+	}
+
+	private void validateSize(int size) {
+		if (size < 1 || size > MAX_SIZE) {
+			throw new BusinessException(StatusCode.INVALID_INPUT, "size 는 1 ~ " + MAX_SIZE + " 사이여야 합니다.");
+		}
+	}
+
+	private record SnapshotKey(RankingPeriod period, String periodKey) {
+	}
+
+	private record TopKey(Long snapshotId, int size) {
+	}
+
+	private record DiffKey(Long fromSnapshotId, Long toSnapshotId, int size) {
+	}
+
+	private record CachedHistory(List<MemberRankingHistoryResponse> history, long expiresAt) {
+	}
+}
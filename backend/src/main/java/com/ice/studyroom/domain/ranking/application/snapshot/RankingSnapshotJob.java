@@ -1,51 +1,96 @@
 package com.ice.studyroom.domain.ranking.application.snapshot;
 
+import com.ice.studyroom.domain.ranking.application.event.assembler.WeeklyRankingAssembler;
+import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshot;
 import com.ice.studyroom.domain.ranking.domain.service.RankingEntry;
 import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 
+/**
+ * 기간 랭킹을 DB 스냅샷으로 옮기고 다음 기간 랭킹을 새로 시작합니다.
+ * <p>
+ * 회전 모드(ranking.snapshot.rotate=true)에서는 현재 랭킹 키를 periodKey 보관 키로 원자적으로 옮기므로
+ * 새 기간의 점수는 즉시 새 키에 쌓이고, 스냅샷은 더 이상 바뀌지 않는 보관 키에서 비동기로 저장합니다.
+ * 저장이 끝난 보관 키는 archive-ttl 이후 만료됩니다.
+ * 회전을 끄면 현재 랭킹 키에서 바로 저장한 뒤 초기화합니다. (저장 중 들어온 점수는 함께 지워집니다)
+ * <p>
+ * 정렬 집합을 chunkSize 단위로 나누어 읽고, 구간마다 저장과 체크포인트를 커밋하므로
+ * 사용자 수와 무관하게 한 구간만큼의 메모리만 사용합니다.
+ * 중간에 실패하면 랭킹 (보관) 키는 그대로 남아 있으므로 같은 periodKey 로 다시 실행하면 체크포인트부터 이어서 저장합니다.
+ * 비동기 저장은 max-attempts 번까지 체크포인트부터 다시 시도하고, 그래도 실패하면 스냅샷을 FAILED 로 표시해
+ * retryFailed (RankingScheduler 가 주기적으로 호출) 가 다시 실행할 수 있게 합니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RankingSnapshotJob {
 
 	private final RankingStore rankingStore;
 	private final RankingSnapshotService snapshotService;
+	private final WeeklyRankingAssembler weeklyRankingAssembler;
+	private final Executor rankingSnapshotExecutor;
+	private final int chunkSize;
+	private final boolean rotate;
+	private final Duration archiveTtl;
+	private final int maxAttempts;
+	private final long retryDelayMillis;
+
+	public RankingSnapshotJob(RankingStore rankingStore, RankingSnapshotService snapshotService,
+		WeeklyRankingAssembler weeklyRankingAssembler,
+		@Qualifier("rankingSnapshotExecutor") Executor rankingSnapshotExecutor,
+		@Value("${ranking.snapshot.chunk-size:1000}") int chunkSize,
+		@Value("${ranking.snapshot.rotate:true}") boolean rotate,
+		@Value("${ranking.snapshot.archive-ttl-ms:86400000}") long archiveTtlMillis,
+		@Value("${ranking.snapshot.max-attempts:3}") int maxAttempts,
+		@Value("${ranking.snapshot.retry-delay-ms:5000}") long retryDelayMillis) {
+		this.rankingStore = rankingStore;
+		this.snapshotService = snapshotService;
+		this.weeklyRankingAssembler = weeklyRankingAssembler;
+		this.rankingSnapshotExecutor = rankingSnapshotExecutor;
+		this.chunkSize = Math.max(1, chunkSize);
+		this.rotate = rotate;
+		this.archiveTtl = Duration.ofMillis(archiveTtlMillis);
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.retryDelayMillis = retryDelayMillis;
+	}
 
-	@Transactional
 	public void execute(RankingPeriod period, String periodKey) {
 
-		log.info("[RANKING] Snapshot 시작 - period: {}, periodKey: {}",
-				period, periodKey);
+		log.info("[RANKING] Snapshot 시작 - period: {}, periodKey: {}, rotate: {}",
+				period, periodKey, rotate);
 
-        try {
+		RankingSnapshot snapshot = null;
 
-            List<RankingEntry> entries =
-                rankingStore.getAllRankings(period);
+        try {
 
-			log.info("[RANKING] Snapshot 대상 건수 - period: {}, count: {}",
-					period, entries.size());
+			snapshot = snapshotService.startOrResume(period, periodKey);
 
-			if (entries.isEmpty()) {
-				log.warn("[RANKING] Snapshot 대상 없음 - period: {}", period);
+			if (rotate) {
+				rotateThenSnapshot(snapshot);
+				return;
 			}
 
-            List<RankingSnapshotService.SnapshotData> snapshotData =
-                buildSnapshotData(entries);
-
-            snapshotService.createSnapshot(period, periodKey, snapshotData);
+			if (snapshot.isCompleted()) {
+				log.info("[RANKING] 이미 저장된 Snapshot - period: {}, periodKey: {}",
+						period, periodKey);
+			} else {
+				saveSnapshot(snapshot, false);
+			}
 
 			log.info("[RANKING] Snapshot 저장 완료 - period: {}, periodKey: {}",
 					period, periodKey);
 
             rankingStore.clear(period);
+            weeklyRankingAssembler.evictTopRankings();
 
 			log.info("[RANKING] Redis 초기화 완료 - period: {}",
 					period);
@@ -54,37 +99,169 @@ public class RankingSnapshotJob {
 			log.error("[RANKING] ❌ Snapshot 실패 - period: {}, periodKey: {}",
 					period, periodKey, e);
 
+			if (snapshot != null && !snapshot.isCompleted()) {
+				markFailed(snapshot.getId());
+			}
 			throw e;
         }
     }
 
-	private List<RankingSnapshotService.SnapshotData> buildSnapshotData(
-		List<RankingEntry> entries
-	) {
+	/**
+	 * FAILED 로 끝난 스냅샷을 체크포인트부터 다시 실행합니다.
+	 * 회전은 보관 키가 이미 있으면 건너뛰므로, 다시 실행해도 새 기간의 랭킹을 옮기지 않습니다.
+	 */
+	public void retryFailed() {
+		for (RankingSnapshot failed : snapshotService.findFailed()) {
 
-		List<RankingSnapshotService.SnapshotData> result = new ArrayList<>();
+			log.info("[RANKING] 실패한 Snapshot 재실행 - snapshotId: {}, period: {}, periodKey: {}",
+					failed.getId(), failed.getPeriod(), failed.getPeriodKey());
 
-		int previousScore = -1;
-		int currentRank = 0;
+			try {
+				execute(failed.getPeriod(), failed.getPeriodKey());
+			} catch (Exception e) {
+				// execute 에서 이미 기록 / 실패 처리됨 - 다음 스냅샷 계속 진행
+			}
+		}
+	}
 
-		for (int i = 0; i < entries.size(); i++) {
+	private void rotateThenSnapshot(RankingSnapshot snapshot) {
 
-			RankingEntry entry = entries.get(i);
+		RankingPeriod period = snapshot.getPeriod();
+		String periodKey = snapshot.getPeriodKey();
+
+		// 이미 저장된 기간을 다시 회전하면 새 기간 랭킹이 보관 키로 옮겨지므로 건너뛴다
+		if (snapshot.isCompleted()) {
+			log.info("[RANKING] 이미 저장된 Snapshot - period: {}, periodKey: {}",
+					period, periodKey);
+			return;
+		}
 
-			if (entry.score() != previousScore) {
-				currentRank = i + 1;
-				previousScore = entry.score();
+		boolean archived = rankingStore.rotate(period, periodKey);
+		weeklyRankingAssembler.evictTopRankings();
+
+		log.info("[RANKING] Redis 랭킹 회전 완료 - period: {}, periodKey: {}, archived: {}",
+				period, periodKey, archived);
+
+		rankingSnapshotExecutor.execute(() -> saveArchivedSnapshot(snapshot));
+	}
+
+	/*
+	 * 보관 키에서 스냅샷을 저장한다. 실패하면 마지막 체크포인트부터 maxAttempts 번까지 다시 시도하고,
+	 * 그래도 실패하면 FAILED 로 표시한다. (보관 키는 만료되지 않고 남아 retryFailed 로 이어서 저장)
+	 */
+	private void saveArchivedSnapshot(RankingSnapshot snapshot) {
+
+		RankingPeriod period = snapshot.getPeriod();
+		String periodKey = snapshot.getPeriodKey();
+		RankingSnapshot current = snapshot;
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				saveSnapshot(current, true);
+				rankingStore.expireArchive(period, periodKey, archiveTtl);
+
+				log.info("[RANKING] ✅ 보관 랭킹 Snapshot 저장 완료 - period: {}, periodKey: {}",
+						period, periodKey);
+				return;
+			} catch (Exception e) {
+				if (attempt >= maxAttempts) {
+					log.error("[RANKING] ❌ 보관 랭킹 Snapshot 저장 실패 - period: {}, periodKey: {}, attempts: {}",
+							period, periodKey, attempt, e);
+					markFailed(snapshot.getId());
+					return;
+				}
+
+				log.warn("[RANKING] 보관 랭킹 Snapshot 저장 재시도 - period: {}, periodKey: {}, attempt: {}",
+						period, periodKey, attempt, e);
 			}
 
-			result.add(
-				new RankingSnapshotService.SnapshotData(
-					entry.memberId(),
-					currentRank,
-					entry.score()
-				)
-			);
+			try {
+				Thread.sleep(retryDelayMillis * attempt);
+				// 커밋된 마지막 체크포인트부터 이어서 저장
+				current = snapshotService.getSnapshot(snapshot.getId());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				markFailed(snapshot.getId());
+				return;
+			} catch (Exception e) {
+				log.error("[RANKING] ❌ Snapshot 체크포인트 조회 실패 - snapshotId: {}", snapshot.getId(), e);
+				markFailed(snapshot.getId());
+				return;
+			}
 		}
+	}
 
-		return result;
+	private void markFailed(Long snapshotId) {
+		try {
+			snapshotService.fail(snapshotId);
+		} catch (Exception e) {
+			// 상태는 IN_PROGRESS 로 남으므로 같은 periodKey 로 직접 다시 실행해야 한다
+			log.error("[RANKING] ❌ Snapshot 실패 처리 실패 - snapshotId: {}", snapshotId, e);
+		}
+	}
+
+	private void saveSnapshot(RankingSnapshot snapshot, boolean fromArchive) {
+
+		long processed = saveInChunks(snapshot, fromArchive);
+
+		if (processed == 0) {
+			log.warn("[RANKING] Snapshot 대상 없음 - period: {}", snapshot.getPeriod());
+		}
+
+		snapshotService.complete(snapshot.getId());
+	}
+
+	/*
+	 * 체크포인트부터 구간 단위로 읽어 저장하고, 저장한 총 건수를 반환한다.
+	 * Competition Rank 는 구간 경계를 넘어 이어지도록 직전 구간의 마지막 순위 / 점수를 이어받는다.
+	 */
+	private long saveInChunks(RankingSnapshot snapshot, boolean fromArchive) {
+
+		long offset = snapshot.getProcessedCount();
+		int currentRank = snapshot.getLastRank();
+		Integer previousScore = snapshot.getLastScore();
+
+		if (offset > 0) {
+			log.info("[RANKING] 체크포인트부터 재개 - snapshotId: {}, offset: {}",
+					snapshot.getId(), offset);
+		}
+
+		while (true) {
+
+			List<RankingEntry> page = fromArchive
+				? rankingStore.getArchivedRankingsPage(snapshot.getPeriod(), snapshot.getPeriodKey(), offset, chunkSize)
+				: rankingStore.getRankingsPage(snapshot.getPeriod(), offset, chunkSize);
+
+			if (page.isEmpty()) {
+				return offset;
+			}
+
+			List<RankingSnapshotService.SnapshotData> chunk = new ArrayList<>(page.size());
+
+			for (int i = 0; i < page.size(); i++) {
+
+				RankingEntry entry = page.get(i);
+
+				if (!Objects.equals(entry.score(), previousScore)) {
+					currentRank = Math.toIntExact(offset + i + 1);
+					previousScore = entry.score();
+				}
+
+				chunk.add(
+					new RankingSnapshotService.SnapshotData(
+						entry.memberId(),
+						currentRank,
+						entry.score()
+					)
+				);
+			}
+
+			offset += page.size();
+			snapshotService.appendChunk(snapshot.getId(), chunk, offset);
+
+			if (page.size() < chunkSize) {
+				return offset;
+			}
+		}
 	}
 }
@@ -3,7 +3,8 @@ package com.ice.studyroom.domain.ranking.application.snapshot;
 import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshot;
 import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshotItem;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
-import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingSnapshotItemRepository;
+import com.ice.studyroom.domain.ranking.domain.type.RankingSnapshotStatus;
+import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingSnapshotItemJdbcRepository;
 import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingSnapshotRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +13,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+/**
+ * 랭킹 스냅샷을 구간(chunk) 단위로 저장합니다.
+ * 각 메서드가 하나의 트랜잭션이므로 구간 저장과 체크포인트 갱신은 함께 커밋되고,
+ * 작업이 중단되면 마지막으로 커밋된 체크포인트부터 이어서 저장할 수 있습니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -19,45 +25,94 @@ import java.util.List;
 public class RankingSnapshotService {
 
 	private final RankingSnapshotRepository rankingSnapshotRepository;
-	private final RankingSnapshotItemRepository rankingSnapshotItemRepository;
+	private final RankingSnapshotItemJdbcRepository rankingSnapshotItemJdbcRepository;
 
-	public void createSnapshot(
-		RankingPeriod period,
-		String periodKey,
-		List<SnapshotData> snapshotDataList
+	/**
+	 * 같은 period / periodKey 의 스냅샷이 있으면 그대로 반환하고 (재시작), 없으면 새로 만든다.
+	 * 실패(FAILED)로 끝난 스냅샷은 진행 중으로 되돌려 체크포인트부터 이어서 저장한다.
+	 */
+	public RankingSnapshot startOrResume(RankingPeriod period, String periodKey) {
+		return rankingSnapshotRepository.findByPeriodAndPeriodKey(period, periodKey)
+			.map(snapshot -> {
+				snapshot.resume();
+				log.info("[RANKING] 기존 Snapshot 이어서 진행 - snapshotId: {}, status: {}, processed: {}",
+					snapshot.getId(), snapshot.getStatus(), snapshot.getProcessedCount());
+				return snapshot;
+			})
+			.orElseGet(() -> {
+				RankingSnapshot snapshot = rankingSnapshotRepository.save(
+					RankingSnapshot.create(period, periodKey));
+
+				log.info("[RANKING] Snapshot 엔티티 저장 완료 - snapshotId: {}",
+					snapshot.getId());
+
+				return snapshot;
+			});
+	}
+
+	/**
+	 * 한 구간의 항목을 저장하고 체크포인트를 processedCount 로 옮긴다.
+	 */
+	public void appendChunk(
+		Long snapshotId,
+		List<SnapshotData> chunk,
+		long processedCount
 	) {
-		try {
+		if (chunk.isEmpty()) {
+			return;
+		}
+
+		RankingSnapshot snapshot = getSnapshot(snapshotId);
 
-			log.info("[RANKING] Snapshot DB 저장 시작 - period: {}, periodKey: {}, size: {}",
-				period, periodKey, snapshotDataList.size());
+		List<RankingSnapshotItem> items = chunk.stream()
+			.map(data -> RankingSnapshotItem.create(
+				snapshotId,
+				data.memberId,
+				data.rank,
+				data.score
+			))
+			.toList();
 
-			RankingSnapshot snapshot = rankingSnapshotRepository.save(
-				RankingSnapshot.create(period, periodKey));
+		rankingSnapshotItemJdbcRepository.insertAll(items);
 
-			log.info("[RANKING] Snapshot 엔티티 저장 완료 - snapshotId: {}",
-				snapshot.getId());
+		SnapshotData last = chunk.get(chunk.size() - 1);
+		snapshot.advance(processedCount, last.rank, last.score);
 
-			List<RankingSnapshotItem> items = snapshotDataList.stream()
-				.map(data -> RankingSnapshotItem.create(
-					snapshot.getId(),
-					data.memberId,
-					data.rank,
-					data.score
-				))
-				.toList();
+		log.debug("[RANKING] SnapshotItem 구간 저장 완료 - snapshotId: {}, itemCount: {}, processed: {}",
+			snapshotId, items.size(), processedCount);
+	}
+
+	public void complete(Long snapshotId) {
+		RankingSnapshot snapshot = getSnapshot(snapshotId);
+		snapshot.complete();
 
-			rankingSnapshotItemRepository.saveAll(items);
+		log.info("[RANKING] SnapshotItem 저장 완료 - snapshotId: {}, itemCount: {}",
+			snapshotId, snapshot.getProcessedCount());
+	}
 
-			log.info("[RANKING] SnapshotItem 저장 완료 - snapshotId: {}, itemCount: {}",
-				snapshot.getId(), items.size());
+	/**
+	 * 재시도 후에도 저장하지 못한 스냅샷을 실패로 표시한다. (retryFailed 로 다시 실행)
+	 */
+	public void fail(Long snapshotId) {
+		RankingSnapshot snapshot = getSnapshot(snapshotId);
+		snapshot.fail();
 
-		} catch (Exception e) {
+		log.warn("[RANKING] Snapshot 실패 처리 - snapshotId: {}, processed: {}",
+			snapshotId, snapshot.getProcessedCount());
+	}
 
-			log.error("[RANKING] ❌ Snapshot DB 저장 실패 - period: {}, periodKey: {}",
-				period, periodKey, e);
+	@Transactional(readOnly = true)
+	public List<RankingSnapshot> findFailed() {
+		return rankingSnapshotRepository.findAllByStatus(RankingSnapshotStatus.FAILED);
+	}
 
-			throw e;
-		}
+	/**
+	 * 마지막으로 커밋된 체크포인트를 가진 스냅샷
+	 */
+	@Transactional(readOnly = true)
+	public RankingSnapshot getSnapshot(Long snapshotId) {
+		return rankingSnapshotRepository.findById(snapshotId)
+			.orElseThrow(() -> new IllegalStateException("존재하지 않는 Snapshot 입니다. snapshotId: " + snapshotId));
 	}
 
 	public record SnapshotData(
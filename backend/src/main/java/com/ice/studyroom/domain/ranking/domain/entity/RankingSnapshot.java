@@ -1,17 +1,21 @@
 package com.ice.studyroom.domain.ranking.domain.entity;
 
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.domain.type.RankingSnapshotStatus;
 import com.ice.studyroom.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
-
-import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ranking_snapshot")
+@Table(
+	name = "ranking_snapshot",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_ranking_snapshot_period_key",
+		columnNames = {"period", "period_key"}
+	)
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RankingSnapshot extends BaseTimeEntity {
@@ -27,10 +31,52 @@ public class RankingSnapshot extends BaseTimeEntity {
 	@Column(name = "period_key", nullable = false, length = 20)
 	private String periodKey;
 
+	// 새 스냅샷은 항상 IN_PROGRESS 로 저장 - 기본값은 상태 컬럼 도입 전(한 번에 저장 완료된) 기존 행을 위한 값
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, columnDefinition = "VARCHAR(20) DEFAULT 'COMPLETED'")
+	private RankingSnapshotStatus status;
+
+	// 체크포인트 - 지금까지 저장한 랭킹 수 (다음 구간의 시작 offset)
+	@Column(name = "processed_count", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+	private long processedCount;
+
+	// 체크포인트 - 마지막으로 저장한 사용자의 순위 / 점수 (구간 경계의 공동 순위 계산용)
+	@Column(name = "last_rank", nullable = false, columnDefinition = "INT DEFAULT 0")
+	private int lastRank;
+
+	@Column(name = "last_score")
+	private Integer lastScore;
+
 	public static RankingSnapshot create(RankingPeriod period, String periodKey) {
 		RankingSnapshot snapshot = new RankingSnapshot();
 		snapshot.period = period;
 		snapshot.periodKey = periodKey;
+		snapshot.status = RankingSnapshotStatus.IN_PROGRESS;
 		return snapshot;
 	}
+
+	public void advance(long processedCount, int lastRank, int lastScore) {
+		this.processedCount = processedCount;
+		this.lastRank = lastRank;
+		this.lastScore = lastScore;
+	}
+
+	public void complete() {
+		this.status = RankingSnapshotStatus.COMPLETED;
+	}
+
+	public void fail() {
+		this.status = RankingSnapshotStatus.FAILED;
+	}
+
+	// 실패한 스냅샷을 다시 실행할 때 체크포인트는 그대로 두고 상태만 되돌린다
+	public void resume() {
+		if (status == RankingSnapshotStatus.FAILED) {
+			this.status = RankingSnapshotStatus.IN_PROGRESS;
+		}
+	}
+
+	public boolean isCompleted() {
+		return status == RankingSnapshotStatus.COMPLETED;
+	}
 }
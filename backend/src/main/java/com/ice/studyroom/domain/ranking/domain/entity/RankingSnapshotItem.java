@@ -7,7 +7,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "ranking_snapshot_item")
+@Table(name = "ranking_snapshot_item",
+	indexes = {
+		@Index(name = "idx_ranking_snapshot_item_snapshot_rank", columnList = "snapshot_id, rank_position"),
+		@Index(name = "idx_ranking_snapshot_item_member_snapshot", columnList = "member_id, snapshot_id")
+	})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RankingSnapshotItem extends BaseTimeEntity {
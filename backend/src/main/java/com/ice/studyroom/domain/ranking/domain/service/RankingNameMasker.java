@@ -0,0 +1,39 @@
+package com.ice.studyroom.domain.ranking.domain.service;
+
+/**
+ * 랭킹에 노출되는 이름을 마스킹합니다. (첫 글자와 마지막 글자만 노출)
+ */
+public final class RankingNameMasker {
+
+	private RankingNameMasker() {
+	}
+
+	public static String mask(String name) {
+
+		if (name == null || name.isBlank()) {
+			return "";
+		}
+
+		name = name.trim();
+		int length = name.length();
+
+		if (length == 1) {
+			return "*";
+		}
+
+		if (length == 2) {
+			return name.charAt(0) + "*";
+		}
+
+		StringBuilder masked = new StringBuilder();
+		masked.append(name.charAt(0));
+
+		for (int i = 0; i < length - 2; i++) {
+			masked.append("*");
+		}
+
+		masked.append(name.charAt(length - 1));
+
+		return masked.toString();
+	}
+}
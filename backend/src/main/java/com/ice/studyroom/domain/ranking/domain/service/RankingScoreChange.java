@@ -0,0 +1,18 @@
+package com.ice.studyroom.domain.ranking.domain.service;
+
+/**
+ * 점수 반영 전후의 순위 변화 (이벤트 판단 기간 기준)
+ * - previousRank: 반영 전 랭킹에 없던 사용자면 null
+ * - upperScore: 반영 후 1위면 null
+ */
+public record RankingScoreChange(
+	Integer previousRank,
+	int currentRank,
+	int currentScore,
+	Integer upperScore
+) {
+
+	public Integer gapWithUpper() {
+		return upperScore == null ? null : upperScore - currentScore;
+	}
+}
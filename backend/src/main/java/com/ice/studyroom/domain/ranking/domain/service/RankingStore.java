@@ -2,6 +2,7 @@ package com.ice.studyroom.domain.ranking.domain.service;
 
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
 
+import java.time.Duration;
 import java.util.List;
 
 public interface RankingStore {
@@ -11,6 +12,12 @@ public interface RankingStore {
 	 */
 	void increaseScore(RankingPeriod period, Long memberId, int score);
 
+	/**
+	 * 모든 기간에 점수를 증가시키고, eventPeriod 기준 반영 전후 순위와 바로 위 순위 점수를 함께 반환한다.
+	 * 증가와 순위 조회가 원자적으로 수행되므로 동시 체크인 사이에 다른 점수 변경이 끼어들지 않는다.
+	 */
+	RankingScoreChange increaseScoreForAllPeriods(Long memberId, int score, RankingPeriod eventPeriod);
+
 	/**
 	 * 현재 점수 조회 (ZSCORE)
 	 */
@@ -28,10 +35,57 @@ public interface RankingStore {
 	 */
 	Integer getRank(RankingPeriod period, Long memberId);
 
+	/**
+	 * 점수 내림차순 정렬 집합에서 사용자의 위치를 0 부터 반환한다. (ZREVRANK)
+	 * 동점자 사이의 정렬 순서까지 반영된 위치이므로 Competition Rank 와 다를 수 있다. 랭킹 외면 null
+	 */
+	Long getPosition(RankingPeriod period, Long memberId);
+
+	/**
+	 * score 보다 높은 점수를 가진 사용자 수를 조회한다. (ZCOUNT)
+	 * 구간의 첫 사용자 Competition Rank 는 이 값 + 1 이다.
+	 */
+	long countHigherScores(RankingPeriod period, int score);
+
+	/**
+	 * 랭킹에 있는 사용자 수를 조회한다. (ZCARD)
+	 */
+	long size(RankingPeriod period);
+
 	/**
 	 * 해당 기간(period)의 전체 랭킹을 점수 기준 내림차순으로 조회한다.
 	 */
 	List<RankingEntry> getAllRankings(RankingPeriod period);
 
+	/**
+	 * 점수 기준 내림차순으로 offset 번째부터 최대 limit 명을 조회한다. (ZREVRANGE WITHSCORES)
+	 * 전체 랭킹을 한 번에 읽지 않고 구간 단위로 순회할 때 사용한다.
+	 */
+	List<RankingEntry> getRankingsPage(RankingPeriod period, long offset, int limit);
+
+	/**
+	 * 점수 기준 상위 n 명을 내림차순으로 조회한다. (정렬 집합 전체를 읽지 않는다)
+	 * 동점자가 많아도 최대 n 명만 반환하며, 동점자끼리는 Redis 정렬 집합과 같이 memberId 문자열 내림차순으로 자른다.
+	 */
+	List<RankingEntry> getTopRankings(RankingPeriod period, int n);
+
+	/**
+	 * 현재 랭킹을 periodKey 보관 키로 원자적으로 옮긴다. (RENAME, 상수 시간)
+	 * 이후의 점수 증가는 새 랭킹 키에 쌓이므로 회전 도중 유실되는 점수가 없다.
+	 * 보관 키가 이미 있으면 (이전 실행에서 회전됨) 현재 랭킹을 옮기지 않는다.
+	 * 보관 키에 랭킹이 있으면 true 를 반환한다.
+	 */
+	boolean rotate(RankingPeriod period, String periodKey);
+
+	/**
+	 * 보관 키의 랭킹을 점수 기준 내림차순으로 offset 번째부터 최대 limit 명 조회한다.
+	 */
+	List<RankingEntry> getArchivedRankingsPage(RankingPeriod period, String periodKey, long offset, int limit);
+
+	/**
+	 * 보관 키의 만료 시간을 설정한다.
+	 */
+	void expireArchive(RankingPeriod period, String periodKey, Duration ttl);
+
 	public void clear(RankingPeriod period);
 }
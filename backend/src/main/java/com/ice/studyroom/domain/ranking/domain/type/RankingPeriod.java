@@ -1,9 +1,56 @@
 package com.ice.studyroom.domain.ranking.domain.type;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+
 public enum RankingPeriod {
 
 	WEEKLY,
 	MONTHLY,
 	SEMESTER,
-	YEARLY
+	YEARLY;
+
+	/**
+	 * date 가 속한 기간의 달력 기준 시작일 (RankingScheduler 의 스냅샷 주기와 같은 경계)
+	 * 주: 월요일, 월: 1일, 학기: 7월 1일 / 11월 1일, 연: 1월 1일
+	 */
+	public LocalDate startOf(LocalDate date) {
+		return switch (this) {
+			case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+			case MONTHLY -> date.withDayOfMonth(1);
+			case SEMESTER -> {
+				if (date.getMonthValue() >= 11) {
+					yield LocalDate.of(date.getYear(), 11, 1);
+				}
+				if (date.getMonthValue() >= 7) {
+					yield LocalDate.of(date.getYear(), 7, 1);
+				}
+				yield LocalDate.of(date.getYear() - 1, 11, 1);
+			}
+			case YEARLY -> date.withDayOfYear(1);
+		};
+	}
+
+	/**
+	 * date 가 속한 기간이 끝난 뒤 RankingScheduler 가 스냅샷에 사용하는 periodKey
+	 * 주: 마지막 일요일, 월: yyyy-MM, 학기: 끝나는 해-1 (11월 ~ 6월) / 해-2 (7월 ~ 10월), 연: yyyy
+	 */
+	public String periodKeyOf(LocalDate date) {
+		return switch (this) {
+			case WEEKLY -> date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)).toString();
+			case MONTHLY -> YearMonth.from(date).toString();
+			case SEMESTER -> {
+				if (date.getMonthValue() >= 11) {
+					yield (date.getYear() + 1) + "-1";
+				}
+				if (date.getMonthValue() >= 7) {
+					yield date.getYear() + "-2";
+				}
+				yield date.getYear() + "-1";
+			}
+			case YEARLY -> String.valueOf(date.getYear());
+		};
+	}
 }
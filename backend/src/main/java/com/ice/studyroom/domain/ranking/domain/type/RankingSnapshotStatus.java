@@ -0,0 +1,9 @@
+package com.ice.studyroom.domain.ranking.domain.type;
+
+public enum RankingSnapshotStatus {
+
+	IN_PROGRESS,
+	COMPLETED,
+	// 재시도 후에도 저장하지 못함 - 체크포인트부터 다시 실행 대상
+	FAILED
+}
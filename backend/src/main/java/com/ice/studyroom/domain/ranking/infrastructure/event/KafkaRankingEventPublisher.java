@@ -1,20 +1,24 @@
 package com.ice.studyroom.domain.ranking.infrastructure.event;
 
+import com.ice.studyroom.domain.outbox.application.OutboxEventService;
 import com.ice.studyroom.domain.ranking.application.event.dto.RankingListUpdatedEvent;
 import com.ice.studyroom.domain.ranking.application.event.dto.RankingUserChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 import com.ice.studyroom.domain.ranking.application.event.publisher.RankingEventPublisher;
 
+/**
+ * 랭킹 이벤트를 outbox 에 저장합니다. Kafka 전송은 커밋 이후 OutboxRelay 가 수행하므로
+ * 롤백된 체크인의 이벤트는 발행되지 않고, Kafka 장애 중에도 이벤트가 유실되지 않습니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaRankingEventPublisher implements RankingEventPublisher {
 
-	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final OutboxEventService outboxEventService;
 
 	private static final String USER_TOPIC = "RANKING_USER_CHANGED_EVENT";
 	private static final String LIST_TOPIC = "RANKING_LIST_UPDATED_EVENT";
@@ -22,36 +26,22 @@ public class KafkaRankingEventPublisher implements RankingEventPublisher {
 	@Override
 	public void publishUserChanged(RankingUserChangedEvent event) {
 
-		kafkaTemplate.send(USER_TOPIC,
-						event.memberId().toString(),
-						event
-				).whenComplete((result, ex) -> {
-
-					if (ex != null) {
-						log.error("[RANKING] ❌ USER_CHANGED_EVENT 전송 실패 - eventId: {}",
-								event.eventId(), ex);
-					} else {
-						log.info("[RANKING] ✅ USER_CHANGED_EVENT 전송 성공 - eventId: {}",
-								event.eventId());
-					}
-				});
+		outboxEventService.append(USER_TOPIC,
+				event.memberId().toString(),
+				event.eventId(),
+				event
+		);
+		log.info("[RANKING] USER_CHANGED_EVENT outbox 저장 - eventId: {}", event.eventId());
 	}
 
 	@Override
 	public void publishListUpdated(RankingListUpdatedEvent event) {
 
-		kafkaTemplate.send(LIST_TOPIC,
-						event.periodKey(),
-						event
-				).whenComplete((result, ex) -> {
-
-					if (ex != null) {
-						log.error("[RANKING] ❌ LIST_UPDATED_EVENT 전송 실패 - eventId: {}",
-								event.eventId(), ex);
-					} else {
-						log.info("[RANKING] ✅ LIST_UPDATED_EVENT 전송 성공 - eventId: {}",
-								event.eventId());
-					}
-				});
+		outboxEventService.append(LIST_TOPIC,
+				event.periodKey(),
+				event.eventId(),
+				event
+		);
+		log.info("[RANKING] LIST_UPDATED_EVENT outbox 저장 - eventId: {}", event.eventId());
 	}
 }
@@ -0,0 +1,359 @@
+package com.ice.studyroom.domain.ranking.infrastructure.fallback;
+
+import com.ice.studyroom.domain.ranking.domain.service.RankingEntry;
+import com.ice.studyroom.domain.ranking.domain.service.RankingScoreChange;
+import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Redis 랭킹 저장소 앞에서 장애를 흡수하는 랭킹 저장소입니다.
+ * <p>
+ * Redis 호출은 ranking-redis 서킷 브레이커를 거치며, 실패하거나 서킷이 열려 있으면
+ * 기간별 로컬 인덱스(LocalRankingIndex)로 조회를 처리합니다.
+ * 장애 중 체크인 점수는 로컬 인덱스에 반영하고 journal 에 기록해 두었다가,
+ * 연결이 복구되면 replayJournal 이 journalId 기준으로 한 번씩만 Redis 에 다시 반영합니다.
+ * 로컬 인덱스는 정상 상태에서 주기적으로 Redis 랭킹으로 갱신되므로, 장애 중 조회는 마지막 갱신 이후의
+ * 다른 서버 점수를 반영하지 못할 수 있습니다.
+ * journal 은 메모리에만 보관하므로 장애 중 서버가 재시작되면 그 사이 점수는 복구되지 않으며,
+ * Redis 가 점수를 반영한 뒤 응답만 유실된 경우(타임아웃)에는 중복 반영될 수 있습니다.
+ * journal 은 journal-max-size 까지만 쌓고 넘치는 점수는 버리며(ranking.fallback.journal.dropped),
+ * Redis 가 응답하는데도 replay-max-attempts 번 연속 실패한 항목은 로그로 남기고 건너뜁니다(ranking.fallback.journal.dead_lettered).
+ * 로컬 인덱스는 기간별 상위 refresh-size 명만 갱신하므로, 장애 중 그 밖의 사용자 순위는 근사값입니다.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "ranking.fallback.enabled", havingValue = "true", matchIfMissing = true)
+public class FallbackRankingStore implements RankingStore {
+
+	static final String REDIS_CIRCUIT = "ranking-redis";
+	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+	private static final int REFRESH_CHUNK_SIZE = 1000;
+
+	private final ReplayableRankingStore redisStore;
+	private final CircuitBreaker circuitBreaker;
+	private final Clock clock;
+	private final int journalMaxSize;
+	private final int replayMaxAttempts;
+	private final int refreshSize;
+	private final Counter droppedCounter;
+	private final Counter deadLetteredCounter;
+
+	private final Map<RankingPeriod, LocalRankingIndex> localIndexes = new EnumMap<>(RankingPeriod.class);
+	private final Queue<JournaledIncrease> journal = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger journalSize = new AtomicInteger();
+	private final ReentrantLock replayLock = new ReentrantLock();
+
+	// journal 맨 앞 항목의 연속 재반영 실패 횟수 (replayLock 안에서만 접근)
+	private String headJournalId;
+	private int headAttempts;
+
+	public FallbackRankingStore(ReplayableRankingStore redisStore, CircuitBreakerRegistry circuitBreakerRegistry,
+		MeterRegistry meterRegistry, Clock clock,
+		@Value("${ranking.fallback.journal-max-size:100000}") int journalMaxSize,
+		@Value("${ranking.fallback.replay-max-attempts:5}") int replayMaxAttempts,
+		@Value("${ranking.fallback.refresh-size:1000}") int refreshSize) {
+		this.redisStore = redisStore;
+		this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(REDIS_CIRCUIT);
+		this.clock = clock;
+		this.journalMaxSize = journalMaxSize;
+		this.replayMaxAttempts = Math.max(1, replayMaxAttempts);
+		this.refreshSize = refreshSize;
+
+		for (RankingPeriod period : RankingPeriod.values()) {
+			localIndexes.put(period, new LocalRankingIndex());
+		}
+
+		Gauge.builder("ranking.fallback.journal.size", journalSize, AtomicInteger::get)
+			.description("Redis 에 다시 반영해야 하는 랭킹 점수 증가 수").register(meterRegistry);
+		this.droppedCounter = Counter.builder("ranking.fallback.journal.dropped")
+			.description("journal 이 가득 차 Redis 에 다시 반영하지 못하고 버린 점수 증가 수").register(meterRegistry);
+		this.deadLetteredCounter = Counter.builder("ranking.fallback.journal.dead_lettered")
+			.description("재반영이 계속 실패해 건너뛴 journal 항목 수").register(meterRegistry);
+	}
+
+	/**
+	 * 단일 기간 증가는 체크인 경로에서 사용하지 않으므로 journal 에 기록하지 않고 실패를 그대로 전달합니다.
+	 */
+	@Override
+	public void increaseScore(RankingPeriod period, Long memberId, int score) {
+		circuitBreaker.executeRunnable(() -> redisStore.increaseScore(period, memberId, score));
+		localIndexes.get(period).increase(memberId, score);
+	}
+
+	@Override
+	public RankingScoreChange increaseScoreForAllPeriods(Long memberId, int score, RankingPeriod eventPeriod) {
+		try {
+			RankingScoreChange change = circuitBreaker.executeSupplier(
+				() -> redisStore.increaseScoreForAllPeriods(memberId, score, eventPeriod));
+			applyLocally(memberId, score, eventPeriod);
+			return change;
+		} catch (Exception e) {
+			logFallback("점수 증가", e);
+			journal(memberId, score);
+
+			return applyLocally(memberId, score, eventPeriod);
+		}
+	}
+
+	@Override
+	public Integer getScore(RankingPeriod period, Long memberId) {
+		return read("점수 조회", () -> redisStore.getScore(period, memberId),
+			() -> localIndexes.get(period).getScore(memberId));
+	}
+
+	@Override
+	public Integer getUpperScore(RankingPeriod period, Long memberId) {
+		return read("바로 위 점수 조회", () -> redisStore.getUpperScore(period, memberId),
+			() -> localIndexes.get(period).getUpperScore(memberId));
+	}
+
+	@Override
+	public Integer getRank(RankingPeriod period, Long memberId) {
+		return read("순위 조회", () -> redisStore.getRank(period, memberId),
+			() -> localIndexes.get(period).getRank(memberId));
+	}
+
+	@Override
+	public Long getPosition(RankingPeriod period, Long memberId) {
+		return read("위치 조회", () -> redisStore.getPosition(period, memberId),
+			() -> localIndexes.get(period).getPosition(memberId));
+	}
+
+	@Override
+	public long countHigherScores(RankingPeriod period, int score) {
+		return read("상위 점수 인원 조회", () -> redisStore.countHigherScores(period, score),
+			() -> localIndexes.get(period).countHigherScores(score));
+	}
+
+	@Override
+	public long size(RankingPeriod period) {
+		return read("랭킹 인원 조회", () -> redisStore.size(period),
+			() -> (long) localIndexes.get(period).size());
+	}
+
+	@Override
+	public List<RankingEntry> getAllRankings(RankingPeriod period) {
+		return read("전체 랭킹 조회", () -> redisStore.getAllRankings(period),
+			() -> localIndexes.get(period).getAll());
+	}
+
+	@Override
+	public List<RankingEntry> getRankingsPage(RankingPeriod period, long offset, int limit) {
+		return read("랭킹 구간 조회", () -> redisStore.getRankingsPage(period, offset, limit),
+			() -> localIndexes.get(period).getPage(offset, limit));
+	}
+
+	@Override
+	public List<RankingEntry> getTopRankings(RankingPeriod period, int n) {
+		return read("상위 랭킹 조회", () -> redisStore.getTopRankings(period, n),
+			() -> localIndexes.get(period).getTop(n));
+	}
+
+	/*
+	 * 회전 / 보관 키 / 초기화는 스냅샷 작업이 실패를 알고 다시 실행해야 하므로 로컬로 대체하지 않는다
+	 */
+	@Override
+	public boolean rotate(RankingPeriod period, String periodKey) {
+		boolean archived = redisStore.rotate(period, periodKey);
+		localIndexes.get(period).clear();
+		return archived;
+	}
+
+	@Override
+	public List<RankingEntry> getArchivedRankingsPage(RankingPeriod period, String periodKey, long offset, int limit) {
+		return redisStore.getArchivedRankingsPage(period, periodKey, offset, limit);
+	}
+
+	@Override
+	public void expireArchive(RankingPeriod period, String periodKey, Duration ttl) {
+		redisStore.expireArchive(period, periodKey, ttl);
+	}
+
+	@Override
+	public void clear(RankingPeriod period) {
+		redisStore.clear(period);
+		localIndexes.get(period).clear();
+	}
+
+	/**
+	 * journal 에 쌓인 점수 증가를 기록 순서대로, 발생일이 속한 기간에 Redis 로 반영합니다.
+	 * Redis 가 아직 응답하지 않으면 남은 항목은 다음 실행에서 이어서 반영합니다.
+	 * Redis 는 응답하지만 같은 항목이 replay-max-attempts 번 연속 실패하면 그 항목을 건너뛰어 뒤 항목이 막히지 않게 합니다.
+	 */
+	public int replayJournal() {
+		if (!replayLock.tryLock()) {
+			return 0;
+		}
+
+		try {
+			int replayed = 0;
+			JournaledIncrease entry;
+			while ((entry = journal.peek()) != null) {
+				JournaledIncrease current = entry;
+				RuntimeException rejected;
+				try {
+					rejected = circuitBreaker.executeSupplier(() -> replay(current));
+				} catch (Exception e) {
+					logFallback("journal 재반영", e);
+					break;
+				}
+				if (rejected != null) {
+					log.warn("[RANKING] journal 재반영 실패 - journalId: {}, reason: {}", current.journalId(), rejected.toString());
+					if (!exhaustedAttempts(current)) {
+						break;
+					}
+
+					log.error("[RANKING] ❌ journal 재반영 {}회 실패로 건너뜀 - journalId: {}, memberId: {}, score: {}, occurredOn: {}",
+						replayMaxAttempts, current.journalId(), current.memberId(), current.score(), current.occurredOn());
+					deadLetteredCounter.increment();
+				}
+				journal.poll();
+				journalSize.decrementAndGet();
+				replayed++;
+			}
+
+			if (replayed > 0) {
+				log.info("[RANKING] journal 재반영 완료 - replayed: {}, remaining: {}", replayed, journalSize.get());
+			}
+			return replayed;
+		} finally {
+			replayLock.unlock();
+		}
+	}
+
+	/**
+	 * 정상 상태일 때 로컬 인덱스를 Redis 랭킹으로 교체합니다.
+	 * journal 이 남아 있으면 로컬에만 반영된 점수가 지워지므로 갱신하지 않습니다.
+	 */
+	public void refreshLocalIndexes() {
+		if (!journal.isEmpty() || circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+			return;
+		}
+
+		for (RankingPeriod period : RankingPeriod.values()) {
+			try {
+				localIndexes.get(period).replaceAll(readTop(period));
+			} catch (Exception e) {
+				logFallback("로컬 랭킹 갱신", e);
+				return;
+			}
+		}
+	}
+
+	public int getJournalSize() {
+		return journalSize.get();
+	}
+
+	private void journal(Long memberId, int score) {
+		if (journalSize.incrementAndGet() > journalMaxSize) {
+			journalSize.decrementAndGet();
+			droppedCounter.increment();
+			log.warn("[RANKING] ⚠️ journal 가득 참 - 점수는 로컬에만 반영, memberId: {}, score: {}", memberId, score);
+			return;
+		}
+		journal.add(new JournaledIncrease(UUID.randomUUID().toString(), memberId, score, LocalDate.now(clock.withZone(KST))));
+	}
+
+	// Redis 가 응답하지 않는 실패만 던져 서킷과 재시도 흐름에 맡기고,
+	// 항목 자체의 실패는 서킷에 기록하지 않도록 반환한다
+	private RuntimeException replay(JournaledIncrease entry) {
+		try {
+			redisStore.replayIncrease(entry.journalId(), entry.memberId(), entry.score(), entry.occurredOn());
+			return null;
+		} catch (DataAccessResourceFailureException | TransientDataAccessException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			return e;
+		}
+	}
+
+	private boolean exhaustedAttempts(JournaledIncrease entry) {
+		if (!entry.journalId().equals(headJournalId)) {
+			headJournalId = entry.journalId();
+			headAttempts = 0;
+		}
+		return ++headAttempts >= replayMaxAttempts;
+	}
+
+	// 상위 refreshSize 명
+	private List<RankingEntry> readTop(RankingPeriod period) {
+		List<RankingEntry> entries = new ArrayList<>();
+		long offset = 0;
+		while (entries.size() < refreshSize) {
+			long currentOffset = offset;
+			int limit = Math.min(REFRESH_CHUNK_SIZE, refreshSize - entries.size());
+			List<RankingEntry> page = circuitBreaker.executeSupplier(
+				() -> redisStore.getRankingsPage(period, currentOffset, limit));
+			entries.addAll(page);
+			offset += page.size();
+			if (page.size() < limit) {
+				break;
+			}
+		}
+		return entries;
+	}
+
+	private RankingScoreChange applyLocally(Long memberId, int score, RankingPeriod eventPeriod) {
+		RankingScoreChange eventChange = null;
+		for (RankingPeriod period : RankingPeriod.values()) {
+			RankingScoreChange change = localIndexes.get(period).increase(memberId, score);
+			if (period == eventPeriod) {
+				eventChange = change;
+			}
+		}
+		return eventChange;
+	}
+
+	private <T> T read(String operation, Supplier<T> redisRead, Supplier<T> localRead) {
+		try {
+			return circuitBreaker.executeSupplier(redisRead);
+		} catch (Exception e) {
+			logFallback(operation, e);
+			return localRead.get();
+		}
+	}
+
+	private void logFallback(String operation, Exception e) {
+		if (e instanceof CallNotPermittedException) {
+			log.debug("[RANKING] Redis 서킷 열림 - 로컬 랭킹으로 처리: {}", operation);
+			return;
+		}
+		log.warn("[RANKING] ⚠️ Redis {} 실패 - 로컬 랭킹으로 처리, journal: {}", operation, journalSize.get(), e);
+	}
+
+	record JournaledIncrease(
+		String journalId,
+		Long memberId,
+		int score,
+		LocalDate occurredOn
+	) {}
+}
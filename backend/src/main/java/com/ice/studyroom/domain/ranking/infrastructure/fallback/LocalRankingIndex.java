@@ -0,0 +1,202 @@
+package com.ice.studyroom.domain.ranking.infrastructure.fallback;
+
+import com.ice.studyroom.domain.ranking.domain.service.RankingEntry;
+import com.ice.studyroom.domain.ranking.domain.service.RankingScoreChange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 기간의 랭킹을 JVM 메모리에 보관하는 인덱스입니다.
+ * 사용자별 점수 맵과, 점수 내림차순으로 정렬된 점수별 사용자 집합을 함께 유지하므로
+ * Redis 정렬 집합과 같은 Competition Rank / 구간 조회를 제공합니다.
+ * 동점자는 Redis 와 같이 memberId 문자열 내림차순으로 정렬하므로 장애 전후의 상위 n 명 / 구간 조회 결과가 같습니다.
+ */
+public class LocalRankingIndex {
+
+	// Redis 는 같은 점수의 member 를 사전순으로 정렬하므로 ZREVRANGE 와 같은 순서
+	private static final Comparator<Long> TIE_ORDER = Comparator.comparing(String::valueOf, Comparator.reverseOrder());
+
+	private final Map<Long, Integer> scores = new HashMap<>();
+	private final NavigableMap<Integer, TreeSet<Long>> membersByScore = new TreeMap<>(Collections.reverseOrder());
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * 점수를 증가시키고 반영 전후 순위와 바로 위 점수를 반환한다.
+	 */
+	public RankingScoreChange increase(Long memberId, int delta) {
+		lock.writeLock().lock();
+		try {
+			Integer previousScore = scores.get(memberId);
+			Integer previousRank = previousScore == null ? null : rankOf(previousScore);
+
+			int currentScore = (previousScore == null ? 0 : previousScore) + delta;
+			if (previousScore != null) {
+				removeFromScore(memberId, previousScore);
+			}
+			scores.put(memberId, currentScore);
+			membersByScore.computeIfAbsent(currentScore, score -> new TreeSet<>(TIE_ORDER))
+				.add(memberId);
+
+			return new RankingScoreChange(previousRank, rankOf(currentScore), currentScore, upperOf(currentScore));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public Integer getScore(Long memberId) {
+		lock.readLock().lock();
+		try {
+			return scores.get(memberId);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public Integer getRank(Long memberId) {
+		lock.readLock().lock();
+		try {
+			Integer score = scores.get(memberId);
+			return score == null ? null : rankOf(score);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public Integer getUpperScore(Long memberId) {
+		lock.readLock().lock();
+		try {
+			Integer score = scores.get(memberId);
+			return score == null ? null : upperOf(score);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 점수 내림차순 정렬에서 사용자의 위치 (0 부터). 랭킹 외면 null
+	 */
+	public Long getPosition(Long memberId) {
+		lock.readLock().lock();
+		try {
+			Integer score = scores.get(memberId);
+			if (score == null) {
+				return null;
+			}
+			long ahead = rankOf(score) - 1;
+			return ahead + membersByScore.get(score).headSet(memberId, false).size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public long countHigherScores(int score) {
+		lock.readLock().lock();
+		try {
+			return rankOf(score) - 1;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 점수 내림차순으로 offset 번째부터 최대 limit 명을 조회한다.
+	 */
+	public List<RankingEntry> getPage(long offset, int limit) {
+		lock.readLock().lock();
+		try {
+			List<RankingEntry> page = new ArrayList<>(Math.min(limit, scores.size()));
+			long position = 0;
+			for (Map.Entry<Integer, TreeSet<Long>> bucket : membersByScore.entrySet()) {
+				if (position + bucket.getValue().size() <= offset) {
+					position += bucket.getValue().size();
+					continue;
+				}
+				for (Long memberId : bucket.getValue()) {
+					if (position++ < offset) {
+						continue;
+					}
+					if (page.size() == limit) {
+						return page;
+					}
+					page.add(new RankingEntry(memberId, bucket.getKey()));
+				}
+			}
+			return page;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public List<RankingEntry> getAll() {
+		return getPage(0, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 상위 n 명을 조회한다. (RankingStore.getTopRankings 와 같은 규칙)
+	 */
+	public List<RankingEntry> getTop(int n) {
+		return getPage(0, n);
+	}
+
+	/**
+	 * 인덱스 전체를 주어진 랭킹으로 교체한다.
+	 */
+	public void replaceAll(List<RankingEntry> entries) {
+		lock.writeLock().lock();
+		try {
+			scores.clear();
+			membersByScore.clear();
+			for (RankingEntry entry : entries) {
+				scores.put(entry.memberId(), entry.score());
+				membersByScore.computeIfAbsent(entry.score(), score -> new TreeSet<>(TIE_ORDER))
+					.add(entry.memberId());
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void clear() {
+		replaceAll(List.of());
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return scores.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 더 높은 점수를 가진 사용자 수 + 1 (더 높은 점수 종류 수만큼만 순회)
+	private int rankOf(int score) {
+		int higher = 0;
+		for (TreeSet<Long> members : membersByScore.headMap(score, false).values()) {
+			higher += members.size();
+		}
+		return higher + 1;
+	}
+
+	private Integer upperOf(int score) {
+		return membersByScore.lowerKey(score);
+	}
+
+	private void removeFromScore(Long memberId, int score) {
+		TreeSet<Long> members = membersByScore.get(score);
+		members.remove(memberId);
+		if (members.isEmpty()) {
+			membersByScore.remove(score);
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.ice.studyroom.domain.ranking.infrastructure.fallback;
+
+import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
+
+import java.time.LocalDate;
+
+/**
+ * 장애 중 로컬에 기록해 둔 점수 증가를 나중에 다시 반영할 수 있는 랭킹 저장소입니다.
+ */
+public interface ReplayableRankingStore extends RankingStore {
+
+	/**
+	 * journalId 기준으로 한 번만 모든 기간에 점수를 반영한다.
+	 * 이미 반영된 journalId 이면 아무것도 하지 않고 false 를 반환한다.
+	 */
+	boolean replayIncrease(String journalId, Long memberId, int score, LocalDate occurredOn);
+}
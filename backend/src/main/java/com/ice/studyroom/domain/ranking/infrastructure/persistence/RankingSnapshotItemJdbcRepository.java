@@ -0,0 +1,63 @@
+package com.ice.studyroom.domain.ranking.infrastructure.persistence;
+
+import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshotItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스냅샷 항목을 다중 행 INSERT 로 저장합니다.
+ * IDENTITY 키를 사용하는 엔티티는 Hibernate 배치 저장이 적용되지 않아 saveAll 이 행마다 INSERT 를 실행하므로,
+ * 대량 저장은 JDBC 로 직접 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankingSnapshotItemJdbcRepository {
+
+	// 한 문장의 최대 행 수 (행당 6개 파라미터)
+	private static final int ROWS_PER_STATEMENT = 1000;
+
+	private static final String INSERT_PREFIX = """
+		INSERT INTO ranking_snapshot_item (
+			snapshot_id,
+			member_id,
+			rank_position,
+			score,
+			created_at,
+			updated_at
+		) VALUES\s""";
+
+	private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public int insertAll(List<RankingSnapshotItem> items) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		int inserted = 0;
+
+		for (int from = 0; from < items.size(); from += ROWS_PER_STATEMENT) {
+			List<RankingSnapshotItem> rows = items.subList(from, Math.min(from + ROWS_PER_STATEMENT, items.size()));
+
+			StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+			List<Object> args = new ArrayList<>(rows.size() * 6);
+			for (int i = 0; i < rows.size(); i++) {
+				RankingSnapshotItem item = rows.get(i);
+				sql.append(i == 0 ? ROW_PLACEHOLDER : ", " + ROW_PLACEHOLDER);
+				args.add(item.getSnapshotId());
+				args.add(item.getMemberId());
+				args.add(item.getRank());
+				args.add(item.getScore());
+				args.add(now);
+				args.add(now);
+			}
+
+			inserted += jdbcTemplate.update(sql.toString(), args.toArray());
+		}
+		return inserted;
+	}
+}
@@ -1,7 +1,19 @@
 package com.ice.studyroom.domain.ranking.infrastructure.persistence;
 
 import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshotItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface RankingSnapshotItemRepository extends JpaRepository<RankingSnapshotItem, Long> {
+
+	// idx_ranking_snapshot_item_snapshot_rank 로 상위 N 개만 읽는다
+	List<RankingSnapshotItem> findBySnapshotIdOrderByRankAscIdAsc(Long snapshotId, Pageable pageable);
+
+	// idx_ranking_snapshot_item_member_snapshot
+	List<RankingSnapshotItem> findByMemberIdOrderBySnapshotIdDesc(Long memberId);
+
+	List<RankingSnapshotItem> findBySnapshotIdAndMemberIdIn(Long snapshotId, Collection<Long> memberIds);
 }
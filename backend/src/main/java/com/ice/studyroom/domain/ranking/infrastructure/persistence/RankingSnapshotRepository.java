@@ -1,7 +1,16 @@
 package com.ice.studyroom.domain.ranking.infrastructure.persistence;
 
 import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshot;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.domain.type.RankingSnapshotStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface RankingSnapshotRepository extends JpaRepository<RankingSnapshot, Long> {
+
+	Optional<RankingSnapshot> findByPeriodAndPeriodKey(RankingPeriod period, String periodKey);
+
+	List<RankingSnapshot> findAllByStatus(RankingSnapshotStatus status);
 }
@@ -0,0 +1,346 @@
+package com.ice.studyroom.domain.ranking.infrastructure.redis;
+
+import com.ice.studyroom.domain.ranking.domain.entity.RankingConfig;
+import com.ice.studyroom.domain.ranking.domain.service.RankingScoreChange;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingConfigRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일(day) 단위 버킷에만 점수를 기록하고, 기간 랭킹은 조회 시 버킷을 ZUNIONSTORE 로 합쳐 만드는 랭킹 저장소입니다.
+ * (ranking.store.type=bucketed)
+ * <p>
+ * 체크인 한 번의 쓰기는 기간 종류 수와 무관하게 오늘 버킷 하나와, 이미 만들어진 이벤트 기간 랭킹 하나에만 반영됩니다.
+ * 기간 랭킹(view)은 처음 조회될 때 만들어져 view-ttl 동안 재사용되므로,
+ * 이벤트 기간이 아닌 기간의 랭킹은 최대 view-ttl 만큼 늦게 반영됩니다.
+ * 기간의 시작일은 달력 기준 시작일과 RankingConfig.startAt 중 늦은 날이며, 버킷은 bucket-retention 동안 보관됩니다.
+ * RankingConfig 는 체크인마다 조회하지 않도록 기간별로 config-cache-ttl 동안 캐시하므로, 설정 변경은 그 시간 안에 반영됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ranking.store.type", havingValue = "bucketed")
+public class BucketedRedisRankingStore extends RedisRankingStore {
+
+	/*
+	 * 기간 랭킹이 없으면 버킷을 합쳐 만든다
+	 * KEYS[1]: 기간 랭킹 키, KEYS[2..]: 기간에 포함된 버킷 키, ARGV[1]: 기간 랭킹 TTL(ms)
+	 * 반환: 기간 랭킹의 남은 TTL(ms) (버킷이 모두 비어 만들어지지 않았으면 음수)
+	 */
+	private static final DefaultRedisScript<Long> MATERIALIZE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[1]) == 0 and #KEYS > 1 then
+			redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 1, unpack(KEYS, 2))
+			redis.call('PEXPIRE', KEYS[1], ARGV[1])
+		end
+		return redis.call('PTTL', KEYS[1])
+		""", Long.class);
+
+	/*
+	 * 오늘 버킷 ZINCRBY + 이벤트 기간 랭킹의 반영 전후 Competition Rank / 바로 위 점수 계산
+	 * KEYS[1]: 오늘 버킷, KEYS[2]: 이벤트 기간 랭킹 키, KEYS[3..]: 이벤트 기간 버킷 키 (기간 랭킹이 없을 때 생성용)
+	 * ARGV[1]: memberId, ARGV[2]: 증가 점수, ARGV[3]: 버킷 TTL(ms), ARGV[4]: 기간 랭킹 TTL(ms)
+	 * 반환: {이전 순위, 현재 순위, 현재 점수, 바로 위 점수} (없으면 빈 문자열)
+	 */
+	private static final DefaultRedisScript<List> INCREASE_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+		local member = ARGV[1]
+		local view = KEYS[2]
+
+		if redis.call('EXISTS', view) == 0 and #KEYS > 2 then
+			redis.call('ZUNIONSTORE', view, #KEYS - 2, unpack(KEYS, 3))
+			redis.call('PEXPIRE', view, ARGV[4])
+		end
+
+		local previousRank = ''
+		local previousScore = redis.call('ZSCORE', view, member)
+		if previousScore then
+			previousRank = redis.call('ZCOUNT', view, '(' .. previousScore, '+inf') + 1
+		end
+
+		redis.call('ZINCRBY', KEYS[1], ARGV[2], member)
+		redis.call('PEXPIRE', KEYS[1], ARGV[3])
+
+		redis.call('ZINCRBY', view, ARGV[2], member)
+		if redis.call('PTTL', view) < 0 then
+			redis.call('PEXPIRE', view, ARGV[4])
+		end
+
+		local currentScore = redis.call('ZSCORE', view, member)
+		local currentRank = redis.call('ZCOUNT', view, '(' .. currentScore, '+inf') + 1
+
+		local upperScore = ''
+		local upper = redis.call('ZRANGEBYSCORE', view, '(' .. currentScore, '+inf', 'WITHSCORES', 'LIMIT', 0, 1)
+		if #upper > 0 then
+			upperScore = upper[2]
+		end
+
+		return {tostring(previousRank), tostring(currentRank), currentScore, upperScore}
+		""", List.class);
+
+	/*
+	 * 방금 끝난 기간의 버킷을 합쳐 보관 키로 저장
+	 * KEYS[1]: 보관 키, KEYS[2]: 기간 랭킹 키, KEYS[3..]: 기간에 포함된 버킷 키
+	 * 반환: 보관 키에 랭킹이 있으면 1, 없으면 0
+	 */
+	private static final DefaultRedisScript<Long> ROTATE_BUCKETS_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[1]) == 0 and #KEYS > 2 then
+			redis.call('ZUNIONSTORE', KEYS[1], #KEYS - 2, unpack(KEYS, 3))
+		end
+		redis.call('DEL', KEYS[2])
+		return redis.call('EXISTS', KEYS[1])
+		""", Long.class);
+
+	/*
+	 * journalId 당 한 번만 발생일 버킷에 ZINCRBY (이미 만들어진 기간 랭킹 / 보관 키에도 반영)
+	 * KEYS[1]: 반영 표시 키, KEYS[2]: 발생일 버킷, KEYS[3..]: 발생일이 속한 기간의 랭킹 키 또는 보관 키
+	 * ARGV[1]: memberId, ARGV[2]: 증가 점수, ARGV[3]: 반영 표시 TTL(ms), ARGV[4]: 버킷 TTL(ms)
+	 */
+	private static final DefaultRedisScript<Long> REPLAY_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+		if not redis.call('SET', KEYS[1], '1', 'NX', 'PX', ARGV[3]) then
+			return 0
+		end
+		redis.call('ZINCRBY', KEYS[2], ARGV[2], ARGV[1])
+		redis.call('PEXPIRE', KEYS[2], ARGV[4])
+		for i = 3, #KEYS do
+			if redis.call('EXISTS', KEYS[i]) == 1 then
+				redis.call('ZINCRBY', KEYS[i], ARGV[2], ARGV[1])
+			end
+		end
+		return 1
+		""", Long.class);
+
+	private final RankingConfigRepository rankingConfigRepository;
+	private final long viewTtlMillis;
+	private final long bucketRetentionMillis;
+	private final long configCacheTtlMillis;
+
+	// 이 서버에서 기간 랭킹을 만든 뒤 다시 확인하지 않아도 되는 시각 (Redis 왕복 절약용)
+	private final Map<RankingPeriod, Long> materializedUntil = new ConcurrentHashMap<>();
+	// 기간별 RankingConfig.startAt (DB 왕복 절약용, 설정이 없으면 startAt 이 null)
+	private final Map<RankingPeriod, CachedStartAt> configuredStarts = new ConcurrentHashMap<>();
+
+	public BucketedRedisRankingStore(StringRedisTemplate redisTemplate,
+		RankingConfigRepository rankingConfigRepository, Clock clock,
+		@Value("${ranking.store.view-ttl-ms:10000}") long viewTtlMillis,
+		@Value("${ranking.store.bucket-retention-days:400}") int bucketRetentionDays,
+		@Value("${ranking.store.config-cache-ttl-ms:60000}") long configCacheTtlMillis) {
+		super(redisTemplate, clock);
+		this.rankingConfigRepository = rankingConfigRepository;
+		this.viewTtlMillis = viewTtlMillis;
+		this.bucketRetentionMillis = Duration.ofDays(bucketRetentionDays).toMillis();
+		this.configCacheTtlMillis = configCacheTtlMillis;
+	}
+
+	@Override
+	protected String key(RankingPeriod period) {
+		return "ranking:view:" + period.name();
+	}
+
+	@Override
+	protected String archiveKey(RankingPeriod period, String periodKey) {
+		return "ranking:" + period.name() + ":" + periodKey;
+	}
+
+	String bucketKey(LocalDate date) {
+		return "ranking:bucket:" + date;
+	}
+
+	@Override
+	protected String readKey(RankingPeriod period) {
+		String view = key(period);
+		long now = clock.millis();
+
+		Long until = materializedUntil.get(period);
+		if (until != null && until > now) {
+			return view;
+		}
+
+		try {
+			List<String> keys = new ArrayList<>();
+			keys.add(view);
+			keys.addAll(bucketKeys(period, now()));
+
+			Long remainingTtl = redisTemplate.execute(MATERIALIZE_SCRIPT, keys, String.valueOf(viewTtlMillis));
+
+			// 기간 랭킹이 만료되기 전까지는 존재 확인 없이 바로 조회한다
+			if (remainingTtl != null && remainingTtl > 0) {
+				materializedUntil.put(period, now + remainingTtl);
+			}
+			return view;
+		} catch (Exception e) {
+			log.error("[RANKING] ❌ Redis 기간 랭킹 생성 실패 - key: {}", view, e);
+
+			throw e;
+		}
+	}
+
+	@Override
+	public void increaseScore(RankingPeriod period, Long memberId, int score) {
+		increaseScoreForAllPeriods(memberId, score, period);
+	}
+
+	@Override
+	public RankingScoreChange increaseScoreForAllPeriods(Long memberId, int score, RankingPeriod eventPeriod) {
+		LocalDateTime now = now();
+
+		List<String> keys = new ArrayList<>();
+		keys.add(bucketKey(now.toLocalDate()));
+		keys.add(key(eventPeriod));
+		keys.addAll(bucketKeys(eventPeriod, now));
+
+		try {
+			List<?> result = redisTemplate.execute(INCREASE_BUCKET_SCRIPT, keys,
+				memberId.toString(), String.valueOf(score),
+				String.valueOf(bucketRetentionMillis), String.valueOf(viewTtlMillis));
+
+			return new RankingScoreChange(
+				toInteger(result.get(0)),
+				toInteger(result.get(1)),
+				toInteger(result.get(2)),
+				toInteger(result.get(3))
+			);
+		} catch (Exception e) {
+			log.error("[RANKING] ❌ Redis 버킷 점수 증가 실패 - memberId: {}, score: {}",
+					memberId, score, e);
+
+			throw e;
+		}
+	}
+
+	/**
+	 * 발생일 버킷에 반영하고, 기간 랭킹은 발생일이 현재 기간에 속할 때만, 이미 끝난 기간이면 그 기간의 보관 키에 반영합니다.
+	 */
+	@Override
+	public boolean replayIncrease(String journalId, Long memberId, int score, LocalDate occurredOn) {
+		LocalDateTime now = now();
+
+		List<String> keys = new ArrayList<>();
+		keys.add(replayMarkerKey(journalId));
+		keys.add(bucketKey(occurredOn));
+		for (RankingPeriod period : RankingPeriod.values()) {
+			keys.add(occurredOn.isBefore(periodStart(period, now))
+				? archiveKey(period, period.periodKeyOf(occurredOn))
+				: key(period));
+		}
+
+		Long applied = redisTemplate.execute(REPLAY_BUCKET_SCRIPT, keys,
+			memberId.toString(), String.valueOf(score),
+			String.valueOf(REPLAY_MARKER_TTL.toMillis()), String.valueOf(bucketRetentionMillis));
+
+		return applied != null && applied == 1L;
+	}
+
+	/**
+	 * 회전 시점 직전(1분 전) 시각이 속한 기간의 버킷을 합쳐 보관 키로 저장합니다.
+	 * RankingScheduler 는 기간 경계(자정)에 회전하므로 방금 끝난 기간의 마지막 날 버킷까지 모두 포함됩니다.
+	 * 버킷은 그대로 남으므로 이후 같은 기간을 다시 합칠 수 있습니다.
+	 */
+	@Override
+	public boolean rotate(RankingPeriod period, String periodKey) {
+		String archiveKey = archiveKey(period, periodKey);
+
+		List<String> keys = new ArrayList<>();
+		keys.add(archiveKey);
+		keys.add(key(period));
+		keys.addAll(bucketKeys(period, now().minusMinutes(1)));
+
+		try {
+			Long archived = redisTemplate.execute(ROTATE_BUCKETS_SCRIPT, keys);
+			materializedUntil.remove(period);
+
+			return archived != null && archived == 1L;
+		} catch (Exception e) {
+			log.error("[RANKING] ❌ Redis 버킷 랭킹 회전 실패 - period: {}, archiveKey: {}",
+					period, archiveKey, e);
+
+			throw e;
+		}
+	}
+
+	/**
+	 * 기간 랭킹만 지웁니다. 버킷은 보관 기간 동안 유지되며, 새 기간은 기간 시작일 계산으로 자연히 분리됩니다.
+	 */
+	@Override
+	public void clear(RankingPeriod period) {
+		redisTemplate.delete(key(period));
+		materializedUntil.remove(period);
+	}
+
+	List<String> bucketKeys(RankingPeriod period, LocalDateTime at) {
+		LocalDate end = at.toLocalDate();
+		LocalDate start = periodStart(period, at);
+
+		List<String> keys = new ArrayList<>();
+		for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+			keys.add(bucketKey(date));
+		}
+		return keys;
+	}
+
+	/*
+	 * 달력 기준 시작일과 RankingConfig.startAt 중 늦은 날
+	 */
+	LocalDate periodStart(RankingPeriod period, LocalDateTime at) {
+		LocalDate start = period.startOf(at.toLocalDate());
+
+		LocalDateTime startAt = configuredStartAt(period);
+		if (startAt != null && !startAt.isAfter(at)) {
+			LocalDate configured = startAt.toLocalDate();
+			if (configured.isAfter(start)) {
+				start = configured;
+			}
+		}
+		return start;
+	}
+
+	/**
+	 * 캐시된 RankingConfig 를 버리고 기간 랭킹을 다시 만들게 합니다. (설정 변경 직후 바로 반영할 때)
+	 */
+	public void refreshRankingConfig() {
+		configuredStarts.clear();
+		for (RankingPeriod period : RankingPeriod.values()) {
+			clear(period);
+		}
+	}
+
+	private LocalDateTime configuredStartAt(RankingPeriod period) {
+		long now = clock.millis();
+		CachedStartAt cached = configuredStarts.get(period);
+		if (cached != null && cached.expiresAt() > now) {
+			return cached.startAt();
+		}
+
+		try {
+			RankingConfig config = rankingConfigRepository.findByPeriod(period);
+			LocalDateTime startAt = config == null ? null : config.getStartAt();
+			configuredStarts.put(period, new CachedStartAt(startAt, now + configCacheTtlMillis));
+			return startAt;
+		} catch (Exception e) {
+			if (cached == null) {
+				throw e;
+			}
+			// DB 장애 시 점수 반영을 막지 않도록 마지막으로 읽은 설정을 계속 사용
+			log.warn("[RANKING] RankingConfig 조회 실패, 이전 설정 사용 - period: {}", period, e);
+			return cached.startAt();
+		}
+	}
+
+	private LocalDateTime now() {
+		return LocalDateTime.now(clock.withZone(KST));
+	}
+
+	private record CachedStartAt(LocalDateTime startAt, long expiresAt) {
+	}
+}
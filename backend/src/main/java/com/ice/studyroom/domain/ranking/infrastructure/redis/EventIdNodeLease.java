@@ -0,0 +1,118 @@
+package com.ice.studyroom.domain.ranking.infrastructure.redis;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * event-id.node-id 를 지정하지 않은 서버에 Redis 로 이벤트 ID 노드 번호를 빌려줍니다.
+ * <p>
+ * event-id:node:{번호} 키를 SET NX 로 선점하고 TTL 안에서 주기적으로 연장하므로, 살아 있는 서버끼리는 같은 번호를 쓰지 않습니다.
+ * 서버가 비정상 종료되면 TTL 이 지난 뒤 번호가 다시 빌려줄 수 있는 상태가 됩니다.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+public class EventIdNodeLease {
+
+	static final String KEY_PREFIX = "event-id:node:";
+
+	// 내가 빌린 번호면 연장, 만료되어 비어 있으면 다시 선점
+	private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+		local owner = redis.call('GET', KEYS[1])
+		if owner == ARGV[1] then
+			redis.call('PEXPIRE', KEYS[1], ARGV[2])
+			return 1
+		end
+		if not owner then
+			redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+			return 1
+		end
+		return 0
+		""", Long.class);
+
+	private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			return redis.call('DEL', KEYS[1])
+		end
+		return 0
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final Duration ttl;
+	private final String owner = UUID.randomUUID().toString();
+
+	private volatile int leasedNodeId = -1;
+
+	public EventIdNodeLease(StringRedisTemplate redisTemplate,
+		@Value("${event-id.node-lease-ttl-ms:60000}") long ttlMillis) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = Duration.ofMillis(ttlMillis);
+	}
+
+	/**
+	 * 비어 있는 노드 번호(0 ~ maxNodeId)를 빌립니다. 서버들이 같은 번호부터 경쟁하지 않도록 임의의 위치부터 찾습니다.
+	 */
+	public synchronized int acquire(int maxNodeId) {
+		if (leasedNodeId >= 0) {
+			return leasedNodeId;
+		}
+
+		int size = maxNodeId + 1;
+		int start = ThreadLocalRandom.current().nextInt(size);
+		for (int i = 0; i < size; i++) {
+			int nodeId = (start + i) % size;
+			if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + nodeId, owner, ttl))) {
+				leasedNodeId = nodeId;
+				return nodeId;
+			}
+		}
+		throw new IllegalStateException("빌릴 수 있는 이벤트 ID 노드 번호가 없습니다. (0 ~ " + maxNodeId + ")");
+	}
+
+	@Scheduled(fixedDelayString = "${event-id.node-lease-renew-interval-ms:20000}")
+	public void renew() {
+		int nodeId = leasedNodeId;
+		if (nodeId < 0) {
+			return;
+		}
+
+		try {
+			Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + nodeId), owner,
+				String.valueOf(ttl.toMillis()));
+			if (renewed == null || renewed == 0) {
+				// 연장이 TTL 보다 오래 밀린 사이 다른 서버가 같은 번호를 가져갔다 - 이벤트 ID 가 겹칠 수 있다
+				log.error("[EVENT-ID] ❌ 노드 번호 {} 를 다른 서버가 사용 중 - event-id.node-id 를 직접 지정하거나 재시작 필요", nodeId);
+			}
+		} catch (Exception e) {
+			log.warn("[EVENT-ID] 노드 번호 연장 실패 - nodeId: {}", nodeId, e);
+		}
+	}
+
+	@PreDestroy
+	public void release() {
+		int nodeId = leasedNodeId;
+		if (nodeId < 0) {
+			return;
+		}
+
+		try {
+			redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + nodeId), owner);
+		} catch (Exception e) {
+			// TTL 이 지나면 풀린다
+			log.warn("[EVENT-ID] 노드 번호 반납 실패 - nodeId: {}", nodeId, e);
+		}
+		leasedNodeId = -1;
+	}
+}
@@ -0,0 +1,59 @@
+package com.ice.studyroom.domain.ranking.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.ice.studyroom.domain.ranking.application.event.assembler.WeeklyRankingAssembler;
+import com.ice.studyroom.domain.ranking.application.event.dto.TopRankingsEvictedEvent;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 인스턴스 간 Top 5 캐시 무효화를 Redis pub/sub 으로 주고받습니다.
+ * 메시지 본문은 발행한 서버의 id 이며, 자신이 발행한 메시지는 이미 로컬에서 무효화했으므로 수신 시 무시합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingTopCacheChannel implements MessageListener {
+
+	static final ChannelTopic TOPIC = new ChannelTopic("ranking:top-evict");
+	static final String NODE_ID = UUID.randomUUID().toString();
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final WeeklyRankingAssembler weeklyRankingAssembler;
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, TOPIC);
+	}
+
+	@EventListener
+	public void publish(TopRankingsEvictedEvent event) {
+		try {
+			redisTemplate.convertAndSend(TOPIC.getTopic(), NODE_ID);
+		} catch (Exception e) {
+			// 다른 서버는 캐시 TTL(ranking.top.cache-ttl-ms) 이 지나면 따라잡는다
+			log.error("[RANKING] Top 5 캐시 무효화 발행 실패", e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		if (NODE_ID.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+			return;
+		}
+		weeklyRankingAssembler.evictLocalTopRankings();
+	}
+}
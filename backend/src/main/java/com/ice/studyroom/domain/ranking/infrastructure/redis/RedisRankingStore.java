@@ -1,28 +1,102 @@
 package com.ice.studyroom.domain.ranking.infrastructure.redis;
 
 import com.ice.studyroom.domain.ranking.domain.service.RankingEntry;
-import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
+import com.ice.studyroom.domain.ranking.domain.service.RankingScoreChange;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
-import lombok.RequiredArgsConstructor;
+import com.ice.studyroom.domain.ranking.infrastructure.fallback.ReplayableRankingStore;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class RedisRankingStore implements RankingStore {
+@ConditionalOnProperty(name = "ranking.store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisRankingStore implements ReplayableRankingStore {
 
-	private final StringRedisTemplate redisTemplate;
+	protected static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
-	private String key(RankingPeriod period) {
+	protected final StringRedisTemplate redisTemplate;
+	protected final Clock clock;
+
+	public RedisRankingStore(StringRedisTemplate redisTemplate, Clock clock) {
+		this.redisTemplate = redisTemplate;
+		this.clock = clock;
+	}
+
+	/*
+	 * 모든 기간 ZINCRBY + 이벤트 기간의 반영 전후 Competition Rank / 바로 위 점수를 한 번에 계산
+	 * KEYS: 기간별 랭킹 키, ARGV[1]: memberId, ARGV[2]: 증가 점수, ARGV[3]: 이벤트 기간 키 위치
+	 * 반환: {이전 순위, 현재 순위, 현재 점수, 바로 위 점수} (없으면 빈 문자열)
+	 */
+	private static final DefaultRedisScript<List> INCREASE_ALL_SCRIPT = new DefaultRedisScript<>("""
+		local member = ARGV[1]
+		local eventKey = KEYS[tonumber(ARGV[3])]
+
+		local previousRank = ''
+		local previousScore = redis.call('ZSCORE', eventKey, member)
+		if previousScore then
+			previousRank = redis.call('ZCOUNT', eventKey, '(' .. previousScore, '+inf') + 1
+		end
+
+		for i = 1, #KEYS do
+			redis.call('ZINCRBY', KEYS[i], ARGV[2], member)
+		end
+
+		local currentScore = redis.call('ZSCORE', eventKey, member)
+		local currentRank = redis.call('ZCOUNT', eventKey, '(' .. currentScore, '+inf') + 1
+
+		local upperScore = ''
+		local upper = redis.call('ZRANGEBYSCORE', eventKey, '(' .. currentScore, '+inf', 'WITHSCORES', 'LIMIT', 0, 1)
+		if #upper > 0 then
+			upperScore = upper[2]
+		end
+
+		return {tostring(previousRank), tostring(currentRank), currentScore, upperScore}
+		""", List.class);
+
+	/*
+	 * 현재 랭킹 키를 보관 키로 회전
+	 * KEYS[1]: 현재 랭킹 키, KEYS[2]: 보관 키
+	 * 반환: 보관 키에 랭킹이 있으면 1, 없으면 0
+	 */
+	private static final DefaultRedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[2]) == 1 then
+			return 1
+		end
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return 0
+		end
+		redis.call('RENAME', KEYS[1], KEYS[2])
+		return 1
+		""", Long.class);
+
+	protected String key(RankingPeriod period) {
 		return "ranking:" + period.name();
 	}
 
+	/*
+	 * 조회에 사용할 랭킹 키 (기본은 기간별 랭킹 키)
+	 */
+	protected String readKey(RankingPeriod period) {
+		return key(period);
+	}
+
+	protected String archiveKey(RankingPeriod period, String periodKey) {
+		return key(period) + ":" + periodKey;
+	}
+
 	@Override
 	public void increaseScore(RankingPeriod period, Long memberId, int score) {
         try {
@@ -36,10 +110,94 @@ public class RedisRankingStore implements RankingStore {
         }
     }
 
+	@Override
+	public RankingScoreChange increaseScoreForAllPeriods(Long memberId, int score, RankingPeriod eventPeriod) {
+		RankingPeriod[] periods = RankingPeriod.values();
+		List<String> keys = Arrays.stream(periods).map(this::key).toList();
+
+		try {
+			List<?> result = redisTemplate.execute(INCREASE_ALL_SCRIPT, keys,
+				memberId.toString(), String.valueOf(score), String.valueOf(eventPeriod.ordinal() + 1));
+
+			return new RankingScoreChange(
+				toInteger(result.get(0)),
+				toInteger(result.get(1)),
+				toInteger(result.get(2)),
+				toInteger(result.get(3))
+			);
+		} catch (Exception e) {
+			log.error("[RANKING] ❌ Redis 전체 기간 점수 증가 실패 - memberId: {}, score: {}",
+					memberId, score, e);
+
+			throw e;
+		}
+	}
+
+	/*
+	 * journalId 당 한 번만 발생일이 속한 기간의 랭킹에 ZINCRBY
+	 * KEYS[1]: 반영 표시 키, KEYS[2..ARGV[4]+1]: 현재 기간 랭킹 키, 나머지: 이미 끝난 기간의 보관 키 (있을 때만 반영)
+	 * ARGV[1]: memberId, ARGV[2]: 증가 점수, ARGV[3]: 반영 표시 TTL(ms), ARGV[4]: 현재 기간 랭킹 키 수
+	 */
+	private static final DefaultRedisScript<Long> REPLAY_SCRIPT = new DefaultRedisScript<>("""
+		if not redis.call('SET', KEYS[1], '1', 'NX', 'PX', ARGV[3]) then
+			return 0
+		end
+		local liveCount = tonumber(ARGV[4])
+		for i = 2, #KEYS do
+			if i <= liveCount + 1 or redis.call('EXISTS', KEYS[i]) == 1 then
+				redis.call('ZINCRBY', KEYS[i], ARGV[2], ARGV[1])
+			end
+		end
+		return 1
+		""", Long.class);
+
+	protected static final Duration REPLAY_MARKER_TTL = Duration.ofDays(1);
+
+	/**
+	 * 발생일이 현재 기간에 속하면 현재 랭킹 키에, 이미 끝난 기간이면 그 기간의 보관 키가 남아 있을 때만 반영합니다.
+	 * (장애 중 기간이 바뀌어도 지난 기간의 점수가 새 기간 랭킹에 섞이지 않음)
+	 */
+	@Override
+	public boolean replayIncrease(String journalId, Long memberId, int score, LocalDate occurredOn) {
+		LocalDate today = LocalDate.now(clock.withZone(KST));
+
+		List<String> liveKeys = new ArrayList<>();
+		List<String> archiveKeys = new ArrayList<>();
+		for (RankingPeriod period : RankingPeriod.values()) {
+			if (period.startOf(occurredOn).equals(period.startOf(today))) {
+				liveKeys.add(key(period));
+			} else {
+				archiveKeys.add(archiveKey(period, period.periodKeyOf(occurredOn)));
+			}
+		}
+
+		List<String> keys = new ArrayList<>();
+		keys.add(replayMarkerKey(journalId));
+		keys.addAll(liveKeys);
+		keys.addAll(archiveKeys);
+
+		Long applied = redisTemplate.execute(REPLAY_SCRIPT, keys,
+			memberId.toString(), String.valueOf(score), String.valueOf(REPLAY_MARKER_TTL.toMillis()),
+			String.valueOf(liveKeys.size()));
+
+		return applied != null && applied == 1L;
+	}
+
+	protected String replayMarkerKey(String journalId) {
+		return "ranking:journal:" + journalId;
+	}
+
+	protected static Integer toInteger(Object value) {
+		if (value == null || value.toString().isEmpty()) {
+			return null;
+		}
+		return (int) Double.parseDouble(value.toString());
+	}
+
 	@Override
 	public Integer getScore(RankingPeriod period, Long memberId) {
 		Double score = redisTemplate.opsForZSet()
-			.score(key(period), memberId.toString());
+			.score(readKey(period), memberId.toString());
 
 		return score == null ? null : score.intValue();
 	}
@@ -57,7 +215,7 @@ public class RedisRankingStore implements RankingStore {
 		Set<ZSetOperations.TypedTuple<String>> upper =
 			redisTemplate.opsForZSet()
 				.rangeByScoreWithScores(
-					key(period),
+					readKey(period),
 					myScore + 1,
 					Double.POSITIVE_INFINITY,
 					0,
@@ -80,44 +238,127 @@ public class RedisRankingStore implements RankingStore {
             if (myScore == null) return null;
 
             Long higherCount = redisTemplate.opsForZSet()
-                    .count(key(period), myScore + 1, Double.POSITIVE_INFINITY);
+                    .count(readKey(period), myScore + 1, Double.POSITIVE_INFINITY);
 
             return higherCount.intValue() + 1;
 
         } catch (Exception e) {
 			log.error("[RANKING] ❌ Redis 랭킹 조회 실패 - key: {}, memberId: {}",
-					key(period), memberId, e);
+					readKey(period), memberId, e);
 
 			throw e;
         }
     }
 
+	@Override
+	public Long getPosition(RankingPeriod period, Long memberId) {
+		return redisTemplate.opsForZSet()
+			.reverseRank(readKey(period), memberId.toString());
+	}
+
+	@Override
+	public long countHigherScores(RankingPeriod period, int score) {
+		Long count = redisTemplate.opsForZSet()
+			.count(readKey(period), score + 1, Double.POSITIVE_INFINITY);
+
+		return count == null ? 0 : count;
+	}
+
+	@Override
+	public long size(RankingPeriod period) {
+		Long size = redisTemplate.opsForZSet()
+			.zCard(readKey(period));
+
+		return size == null ? 0 : size;
+	}
+
 	@Override
 	public List<RankingEntry> getAllRankings(RankingPeriod period) {
 
         try {
             Set<ZSetOperations.TypedTuple<String>> tuples =
                     redisTemplate.opsForZSet()
-                            .reverseRangeWithScores(key(period), 0, -1);
-
-            if (tuples == null || tuples.isEmpty()) {
-                return List.of();
-            }
-
-            return tuples.stream()
-                    .map(tuple -> new RankingEntry(
-                            Long.valueOf(tuple.getValue()),
-                            tuple.getScore().intValue()
-                    ))
-                    .toList();
+                            .reverseRangeWithScores(readKey(period), 0, -1);
+
+            return toEntries(tuples);
         } catch (Exception e) {
 			log.error("[RANKING] ❌ Redis 전체 랭킹 조회 실패 - key: {}",
-					key(period), e);
+					readKey(period), e);
 
 			throw e;
         }
     }
 
+	@Override
+	public List<RankingEntry> getRankingsPage(RankingPeriod period, long offset, int limit) {
+		return getPage(readKey(period), offset, limit);
+	}
+
+	@Override
+	public List<RankingEntry> getArchivedRankingsPage(RankingPeriod period, String periodKey, long offset, int limit) {
+		return getPage(archiveKey(period, periodKey), offset, limit);
+	}
+
+	private List<RankingEntry> getPage(String key, long offset, int limit) {
+
+		if (limit <= 0) {
+			return List.of();
+		}
+
+		try {
+			Set<ZSetOperations.TypedTuple<String>> tuples =
+				redisTemplate.opsForZSet()
+					.reverseRangeWithScores(key, offset, offset + limit - 1);
+
+			return toEntries(tuples);
+		} catch (Exception e) {
+			log.error("[RANKING] ❌ Redis 랭킹 구간 조회 실패 - key: {}, offset: {}, limit: {}",
+					key, offset, limit, e);
+
+			throw e;
+		}
+	}
+
+	@Override
+	public boolean rotate(RankingPeriod period, String periodKey) {
+
+		String archiveKey = archiveKey(period, periodKey);
+
+		try {
+			Long archived = redisTemplate.execute(ROTATE_SCRIPT, List.of(key(period), archiveKey));
+
+			return archived != null && archived == 1L;
+		} catch (Exception e) {
+			log.error("[RANKING] ❌ Redis 랭킹 회전 실패 - key: {}, archiveKey: {}",
+					key(period), archiveKey, e);
+
+			throw e;
+		}
+	}
+
+	@Override
+	public void expireArchive(RankingPeriod period, String periodKey, Duration ttl) {
+		redisTemplate.expire(archiveKey(period, periodKey), ttl);
+	}
+
+	private static List<RankingEntry> toEntries(Set<ZSetOperations.TypedTuple<String>> tuples) {
+		if (tuples == null || tuples.isEmpty()) {
+			return List.of();
+		}
+
+		return tuples.stream()
+			.map(tuple -> new RankingEntry(
+				Long.valueOf(tuple.getValue()),
+				tuple.getScore().intValue()
+			))
+			.toList();
+	}
+
+	@Override
+	public List<RankingEntry> getTopRankings(RankingPeriod period, int n) {
+		return getPage(readKey(period), 0, n);
+	}
+
 	public void clear(RankingPeriod period) {
 		redisTemplate.delete(key(period));
 	}
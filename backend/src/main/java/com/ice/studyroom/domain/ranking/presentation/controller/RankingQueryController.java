@@ -1,7 +1,9 @@
 package com.ice.studyroom.domain.ranking.presentation.controller;
 
+import com.ice.studyroom.domain.ranking.application.query.RankingLeaderboardService;
 import com.ice.studyroom.domain.ranking.application.query.RankingQueryService;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.LeaderboardResponse;
 import com.ice.studyroom.domain.ranking.presentation.dto.response.RankingResponse;
 import com.ice.studyroom.global.dto.response.ResponseDto;
 import com.ice.studyroom.global.type.StatusCode;
@@ -12,6 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -24,6 +27,7 @@ import java.util.List;
 public class RankingQueryController {
 
 	private final RankingQueryService rankingQueryService;
+	private final RankingLeaderboardService rankingLeaderboardService;
 
 	@Operation(
 		summary = "기간별 랭킹 Top 5 조회",
@@ -51,4 +55,53 @@ public class RankingQueryController {
 			.status(StatusCode.OK.getStatus())
 			.body(ResponseDto.of(responses));
 	}
+
+	@Operation(
+		summary = "기간별 랭킹 페이지 조회",
+		description = "주간(WEEKLY)을 포함한 모든 기간의 랭킹을 페이지 단위로 조회합니다. 동점자는 같은 순위(Competition Rank)로 표시됩니다."
+	)
+	@ApiResponse(responseCode = "200", description = "랭킹 조회 성공")
+	@ApiResponse(responseCode = "400", description = "잘못된 period / page / size 값 요청")
+	@ApiResponse(responseCode = "500", description = "서버 내부 오류")
+	@GetMapping("/rankings/leaderboard")
+	public ResponseEntity<ResponseDto<LeaderboardResponse>> getLeaderboard(
+
+		@Parameter(description = "조회할 랭킹 기간", required = true)
+		@RequestParam RankingPeriod period,
+
+		@Parameter(description = "페이지 번호 (0 부터)")
+		@RequestParam(defaultValue = "0") int page,
+
+		@Parameter(description = "페이지 크기 (최대 100)")
+		@RequestParam(defaultValue = "20") int size
+	) {
+
+		return ResponseEntity
+			.status(StatusCode.OK.getStatus())
+			.body(ResponseDto.of(rankingLeaderboardService.getPage(period, page, size)));
+	}
+
+	@Operation(
+		summary = "내 주변 랭킹 조회",
+		description = "로그인한 사용자의 순위와 위아래 window 명의 랭킹을 조회합니다. 랭킹에 없으면 myRank 는 null 입니다."
+	)
+	@ApiResponse(responseCode = "200", description = "랭킹 조회 성공")
+	@ApiResponse(responseCode = "400", description = "잘못된 period / window 값 요청")
+	@ApiResponse(responseCode = "500", description = "서버 내부 오류")
+	@GetMapping("/rankings/leaderboard/me")
+	public ResponseEntity<ResponseDto<LeaderboardResponse>> getLeaderboardAroundMe(
+
+		@RequestHeader("Authorization") String authorizationHeader,
+
+		@Parameter(description = "조회할 랭킹 기간", required = true)
+		@RequestParam RankingPeriod period,
+
+		@Parameter(description = "내 위아래로 조회할 인원 (최대 20)")
+		@RequestParam(defaultValue = "5") int window
+	) {
+
+		return ResponseEntity
+			.status(StatusCode.OK.getStatus())
+			.body(ResponseDto.of(rankingLeaderboardService.getAroundMe(period, window, authorizationHeader)));
+	}
 }
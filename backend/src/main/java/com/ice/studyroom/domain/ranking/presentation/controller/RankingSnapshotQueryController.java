@@ -0,0 +1,97 @@
+package com.ice.studyroom.domain.ranking.presentation.controller;
+
+import com.ice.studyroom.domain.ranking.application.query.RankingSnapshotQueryService;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.MemberRankingHistoryResponse;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.SnapshotRankingDiffResponse;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.SnapshotRankingResponse;
+import com.ice.studyroom.global.dto.response.ResponseDto;
+import com.ice.studyroom.global.type.StatusCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/rankings/snapshots")
+public class RankingSnapshotQueryController {
+
+	private final RankingSnapshotQueryService rankingSnapshotQueryService;
+
+	@Operation(
+		summary = "지난 기간 랭킹 Top N 조회",
+		description = "완료된 랭킹 스냅샷에서 period / periodKey 의 상위 size 명을 조회합니다."
+	)
+	@ApiResponse(responseCode = "200", description = "스냅샷 조회 성공")
+	@ApiResponse(responseCode = "400", description = "잘못된 period / size 값 요청")
+	@ApiResponse(responseCode = "404", description = "완료된 스냅샷 없음")
+	@GetMapping("/{period}/{periodKey}")
+	public ResponseEntity<ResponseDto<List<SnapshotRankingResponse>>> getSnapshotTop(
+
+		@PathVariable RankingPeriod period,
+		@PathVariable String periodKey,
+
+		@Parameter(description = "조회할 인원 (최대 100)")
+		@RequestParam(defaultValue = "10") int size
+	) {
+
+		return ResponseEntity
+			.status(StatusCode.OK.getStatus())
+			.body(ResponseDto.of(rankingSnapshotQueryService.getTop(period, periodKey, size)));
+	}
+
+	@Operation(
+		summary = "두 기간 랭킹 비교",
+		description = "to 스냅샷의 상위 size 명이 from 스냅샷과 비교해 순위 / 점수가 얼마나 바뀌었는지 조회합니다."
+	)
+	@ApiResponse(responseCode = "200", description = "스냅샷 비교 성공")
+	@ApiResponse(responseCode = "400", description = "잘못된 period / size 값 요청")
+	@ApiResponse(responseCode = "404", description = "완료된 스냅샷 없음")
+	@GetMapping("/{period}/diff")
+	public ResponseEntity<ResponseDto<List<SnapshotRankingDiffResponse>>> getSnapshotDiff(
+
+		@PathVariable RankingPeriod period,
+
+		@Parameter(description = "비교 기준 periodKey", required = true)
+		@RequestParam String from,
+
+		@Parameter(description = "비교 대상 periodKey", required = true)
+		@RequestParam String to,
+
+		@Parameter(description = "비교할 인원 (최대 100)")
+		@RequestParam(defaultValue = "10") int size
+	) {
+
+		return ResponseEntity
+			.status(StatusCode.OK.getStatus())
+			.body(ResponseDto.of(rankingSnapshotQueryService.getDiff(period, from, to, size)));
+	}
+
+	@Operation(
+		summary = "사용자 랭킹 이력 조회",
+		description = "사용자의 지난 기간 순위 / 점수를 최신순으로 조회합니다. period 를 생략하면 모든 기간을 조회합니다."
+	)
+	@ApiResponse(responseCode = "200", description = "이력 조회 성공")
+	@GetMapping("/members/{memberId}")
+	public ResponseEntity<ResponseDto<List<MemberRankingHistoryResponse>>> getMemberHistory(
+
+		@PathVariable Long memberId,
+
+		@Parameter(description = "조회할 랭킹 기간")
+		@RequestParam(required = false) RankingPeriod period
+	) {
+
+		return ResponseEntity
+			.status(StatusCode.OK.getStatus())
+			.body(ResponseDto.of(rankingSnapshotQueryService.getMemberHistory(memberId, period)));
+	}
+}
@@ -0,0 +1,9 @@
+package com.ice.studyroom.domain.ranking.presentation.dto.response;
+
+public record LeaderboardEntryResponse(
+
+	int rank,
+	String name,
+	int score,
+	boolean me
+) {}
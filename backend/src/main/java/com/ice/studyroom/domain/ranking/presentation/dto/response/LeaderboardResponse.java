@@ -0,0 +1,10 @@
+package com.ice.studyroom.domain.ranking.presentation.dto.response;
+
+import java.util.List;
+
+public record LeaderboardResponse(
+
+	long totalCount,
+	Integer myRank,
+	List<LeaderboardEntryResponse> entries
+) {}
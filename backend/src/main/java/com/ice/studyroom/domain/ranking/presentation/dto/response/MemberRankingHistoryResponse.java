@@ -0,0 +1,11 @@
+package com.ice.studyroom.domain.ranking.presentation.dto.response;
+
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+
+public record MemberRankingHistoryResponse(
+
+	RankingPeriod period,
+	String periodKey,
+	int rank,
+	int score
+) {}
@@ -0,0 +1,16 @@
+package com.ice.studyroom.domain.ranking.presentation.dto.response;
+
+/**
+ * 두 스냅샷 사이의 순위 변화. 이전 스냅샷에 없던 사용자는 previousRank / previousScore / rankChange 가 null 입니다.
+ * rankChange 는 올라간 순위 수 (양수면 상승)
+ */
+public record SnapshotRankingDiffResponse(
+
+	int rank,
+	Long memberId,
+	String name,
+	int score,
+	Integer previousRank,
+	Integer previousScore,
+	Integer rankChange
+) {}
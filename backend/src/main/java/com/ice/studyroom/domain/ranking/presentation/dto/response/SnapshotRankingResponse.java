@@ -0,0 +1,9 @@
+package com.ice.studyroom.domain.ranking.presentation.dto.response;
+
+public record SnapshotRankingResponse(
+
+	int rank,
+	Long memberId,
+	String name,
+	int score
+) {}
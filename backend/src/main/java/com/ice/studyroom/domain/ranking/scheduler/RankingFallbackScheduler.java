@@ -0,0 +1,30 @@
+package com.ice.studyroom.domain.ranking.scheduler;
+
+import com.ice.studyroom.domain.ranking.infrastructure.fallback.FallbackRankingStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 장애 중 기록한 랭킹 점수를 다시 반영하고, 장애 대비 로컬 랭킹을 주기적으로 갱신합니다.
+ */
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ranking.fallback.enabled", havingValue = "true", matchIfMissing = true)
+public class RankingFallbackScheduler {
+
+	private final FallbackRankingStore fallbackRankingStore;
+
+	@Scheduled(fixedDelayString = "${ranking.fallback.replay-interval-ms:5000}")
+	public void replayJournal() {
+		fallbackRankingStore.replayJournal();
+	}
+
+	@Scheduled(fixedDelayString = "${ranking.fallback.refresh-interval-ms:60000}")
+	public void refreshLocalIndexes() {
+		fallbackRankingStore.refreshLocalIndexes();
+	}
+}
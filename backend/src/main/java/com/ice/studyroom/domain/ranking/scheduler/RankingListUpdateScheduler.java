@@ -0,0 +1,23 @@
+package com.ice.studyroom.domain.ranking.scheduler;
+
+import com.ice.studyroom.domain.ranking.application.event.trigger.RankingListUpdateCoalescer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모아 둔 랭킹 리스트 갱신 요청을 주기적으로 발행합니다.
+ */
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class RankingListUpdateScheduler {
+
+	private final RankingListUpdateCoalescer rankingListUpdateCoalescer;
+
+	@Scheduled(fixedDelayString = "${ranking.event.list-coalesce-window-ms:500}")
+	public void flush() {
+		rankingListUpdateCoalescer.flush();
+	}
+}
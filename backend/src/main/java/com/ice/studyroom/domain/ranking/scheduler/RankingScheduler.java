@@ -22,10 +22,10 @@ public class RankingScheduler {
 	private static final String KST_ZONE = "Asia/Seoul";
 	private static final ZoneId KST = ZoneId.of(KST_ZONE);
 
-	// 주간 - 일요일 23:59:59
-	@Scheduled(cron = "59 59 23 ? * SUN", zone = KST_ZONE)
+	// 주간 - 월요일 00:00 (periodKey 는 지난 주 일요일)
+	@Scheduled(cron = "0 0 0 ? * MON", zone = KST_ZONE)
 	public void weeklySnapshot() {
-		String periodKey = LocalDate.now(KST).toString();
+		String periodKey = lastDayOfEndedPeriod().toString();
 
 		log.info("[RANKING] Weekly Snapshot 스케줄 시작 - periodKey: {}", periodKey);
 
@@ -45,10 +45,10 @@ public class RankingScheduler {
         }
     }
 
-	// 월간 - 말일 23:59:59
-	@Scheduled(cron = "59 59 23 L * ?", zone = KST_ZONE)
+	// 월간 - 1일 00:00 (periodKey 는 지난 달)
+	@Scheduled(cron = "0 0 0 1 * ?", zone = KST_ZONE)
 	public void monthlySnapshot() {
-		String periodKey = YearMonth.now(KST).toString();
+		String periodKey = YearMonth.from(lastDayOfEndedPeriod()).toString();
 
 		log.info("[RANKING] Monthly Snapshot 시작 - periodKey: {}", periodKey);
 
@@ -68,10 +68,10 @@ public class RankingScheduler {
         }
     }
 
-	// 연간 - 12월 31일 23:59:59
-	@Scheduled(cron = "59 59 23 31 12 ?", zone = KST_ZONE)
+	// 연간 - 1월 1일 00:00 (periodKey 는 지난 해)
+	@Scheduled(cron = "0 0 0 1 1 ?", zone = KST_ZONE)
 	public void yearlySnapshot() {
-		String periodKey = String.valueOf(LocalDate.now(KST).getYear());
+		String periodKey = String.valueOf(lastDayOfEndedPeriod().getYear());
 
 		log.info("[RANKING] Yearly Snapshot 시작 - periodKey: {}", periodKey);
 
@@ -91,6 +91,13 @@ public class RankingScheduler {
         }
     }
 
+	// 재시도 후에도 저장하지 못한 스냅샷을 체크포인트부터 다시 실행
+	@Scheduled(fixedDelayString = "${ranking.snapshot.retry-interval-ms:600000}",
+		initialDelayString = "${ranking.snapshot.retry-interval-ms:600000}")
+	public void retryFailedSnapshots() {
+		snapshotJob.retryFailed();
+	}
+
 	// 1학기 - 매년 7월 1일 00:00
 	@Scheduled(cron = "0 0 0 1 7 ?", zone = KST_ZONE)
 	public void firstSemesterSnapshot() {
@@ -136,4 +143,12 @@ public class RankingScheduler {
 			throw e;
         }
     }
+
+	/*
+	 * 스냅샷은 기간이 끝난 경계(자정)에 실행해 마지막 날 자정 직전의 체크인까지 지난 기간에 포함한다.
+	 * periodKey 는 방금 끝난 기간의 마지막 날(어제) 기준으로 만든다.
+	 */
+	private static LocalDate lastDayOfEndedPeriod() {
+		return LocalDate.now(KST).minusDays(1);
+	}
 }
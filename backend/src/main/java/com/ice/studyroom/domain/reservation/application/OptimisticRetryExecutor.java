@@ -0,0 +1,59 @@
+package com.ice.studyroom.domain.reservation.application;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.ice.studyroom.domain.reservation.domain.exception.reservation.ReservationConcurrencyException;
+import com.ice.studyroom.domain.reservation.util.ReservationLogUtil;
+
+/**
+ * 낙관적 락 충돌(version 불일치) 시 새 트랜잭션으로 재시도합니다.
+ * 재시도 간격은 full jitter 지수 백오프로, 같은 슬롯을 노리는 요청들이 다시 동시에 충돌하지 않도록 분산시킵니다.
+ * 각 시도는 REQUIRES_NEW 트랜잭션 메서드를 호출해야 하므로 이 클래스 자체는 트랜잭션을 갖지 않습니다.
+ */
+@Component
+public class OptimisticRetryExecutor {
+
+	private final int maxAttempts;
+	private final long baseBackoffMillis;
+	private final long maxBackoffMillis;
+
+	public OptimisticRetryExecutor(
+		@Value("${reservation.concurrency.optimistic.max-attempts:3}") int maxAttempts,
+		@Value("${reservation.concurrency.optimistic.base-backoff-ms:10}") long baseBackoffMillis,
+		@Value("${reservation.concurrency.optimistic.max-backoff-ms:100}") long maxBackoffMillis) {
+		this.maxAttempts = Math.max(maxAttempts, 1);
+		this.baseBackoffMillis = baseBackoffMillis;
+		this.maxBackoffMillis = maxBackoffMillis;
+	}
+
+	public <T> T execute(Supplier<T> attempt) {
+		for (int attemptNo = 1; ; attemptNo++) {
+			try {
+				return attempt.get();
+			} catch (OptimisticLockingFailureException e) {
+				if (attemptNo >= maxAttempts) {
+					ReservationLogUtil.logWarn("낙관적 락 재시도 초과", "시도 횟수: " + attemptNo);
+					throw new ReservationConcurrencyException();
+				}
+				sleepWithJitter(attemptNo);
+			}
+		}
+	}
+
+	private void sleepWithJitter(int attemptNo) {
+		long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << (attemptNo - 1));
+		long sleepMillis = ThreadLocalRandom.current().nextLong(ceiling + 1);
+
+		try {
+			Thread.sleep(sleepMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ReservationConcurrencyException();
+		}
+	}
+}
@@ -5,9 +5,13 @@ import com.ice.studyroom.domain.membership.domain.vo.Email;
 import com.ice.studyroom.domain.reservation.domain.exception.reservation.ReservationConcurrencyException;
 import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
 import com.ice.studyroom.domain.reservation.domain.service.ReservationValidator;
+import com.ice.studyroom.domain.reservation.domain.type.ConcurrencyStrategy;
 import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
 import com.ice.studyroom.domain.reservation.infrastructure.persistence.ScheduleRepository;
 import com.ice.studyroom.domain.reservation.util.ReservationLogUtil;
+import com.ice.studyroom.domain.schedule.domain.event.ScheduleSlotChangedEvent;
+import com.ice.studyroom.domain.schedule.domain.exception.schedule.GroupRoomOnlyException;
+import com.ice.studyroom.domain.schedule.domain.exception.schedule.ReservationCapacityExceededException;
 import com.ice.studyroom.domain.schedule.domain.exception.schedule.ScheduleNotFoundException;
 import com.ice.studyroom.global.exception.BusinessException;
 import com.ice.studyroom.global.type.ActionType;
@@ -15,6 +19,9 @@ import com.ice.studyroom.global.type.StatusCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.PessimisticLockException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,7 +39,26 @@ public class ReservationConcurrencyService {
 
 	private final ScheduleRepository scheduleRepository;
 	private final ReservationValidator reservationValidator;
+	private final ApplicationEventPublisher eventPublisher;
 
+	@Value("${reservation.concurrency.individual-room:PESSIMISTIC}")
+	private ConcurrencyStrategy individualRoomStrategy;
+
+	@Value("${reservation.concurrency.group-room:PESSIMISTIC}")
+	private ConcurrencyStrategy groupRoomStrategy;
+
+	/**
+	 * 방 타입별로 설정된 동시성 제어 전략을 반환합니다.
+	 * 개인 예약 경로는 INDIVIDUAL 방, 단체 예약 경로는 GROUP 방에만 성공할 수 있으므로 경로 선택에 그대로 사용합니다.
+	 */
+	public ConcurrencyStrategy strategyFor(RoomType roomType) {
+		return roomType == RoomType.GROUP ? groupRoomStrategy : individualRoomStrategy;
+	}
+
+	/**
+	 * 조건부 UPDATE 한 문장으로 좌석을 점유합니다. 행 잠금은 UPDATE 문 실행 ~ 커밋 사이에만 유지됩니다.
+	 * 갱신된 행 수가 요청 수와 다르면 일부만 점유된 상태이므로 예외를 던져 트랜잭션 전체를 롤백합니다.
+	 */
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public List<Schedule> processIndividualReservationWithLock(List<Long> scheduleIds){
 		try {
@@ -40,24 +66,61 @@ public class ReservationConcurrencyService {
 				.sorted()
 				.collect(Collectors.toList());
 
-			List<Schedule> lockedSchedules = scheduleRepository.findByIdsWithPessimisticLock(sortedScheduleIds);
-			if (lockedSchedules.size() != scheduleIds.size()) {
-				throw new ScheduleNotFoundException(scheduleIds, ActionType.INDIVIDUAL_RESERVATION);
-			}
+			int updatedCount = scheduleRepository.increaseCurrentResIfAvailable(sortedScheduleIds);
+			List<Schedule> schedules = scheduleRepository.findAllByIdIn(sortedScheduleIds);
 
-			lockedSchedules.forEach(schedule -> {
-				schedule.validateForIndividualReservation();
-				schedule.reserve();
-			});
+			if (updatedCount != scheduleIds.size()) {
+				throw resolveIndividualReservationFailure(scheduleIds, schedules);
+			}
 
-			scheduleRepository.saveAll(lockedSchedules);
-			return lockedSchedules;
+			// 조건부 UPDATE 는 엔티티 리스너를 거치지 않으므로 현황판 갱신 이벤트를 직접 발행
+			eventPublisher.publishEvent(new ScheduleSlotChangedEvent(sortedScheduleIds));
+			return schedules;
 
-		} catch (PessimisticLockException e) {
+		} catch (PessimisticLockException | PessimisticLockingFailureException e) {
 			throw new ReservationConcurrencyException();
 		}
 	}
 
+	// 조건부 UPDATE 실패 원인을 기존 도메인 예외로 변환 (실패 경로에서만 수행)
+	private BusinessException resolveIndividualReservationFailure(List<Long> scheduleIds, List<Schedule> schedules) {
+		if (schedules.size() != scheduleIds.size()) {
+			return new ScheduleNotFoundException(scheduleIds, ActionType.INDIVIDUAL_RESERVATION);
+		}
+
+		for (Schedule schedule : schedules) {
+			if (schedule.getRoomType() == RoomType.GROUP) {
+				return new GroupRoomOnlyException("해당 방은 단체예약 전용입니다. 스케줄 ID: " + schedule.getId());
+			}
+		}
+
+		Long unavailableScheduleId = schedules.stream()
+			.filter(schedule -> !schedule.isAvailable() || !schedule.isCurrentResLessThanCapacity())
+			.map(Schedule::getId)
+			.findFirst()
+			.orElse(null);
+		return new ReservationCapacityExceededException("예약 가능한 자리가 없습니다. 스케줄 ID: " + unavailableScheduleId);
+	}
+
+	/**
+	 * 잠금 없이 스케줄을 읽고, flush 시점의 version 조건부 UPDATE 로 충돌을 감지합니다.
+	 * 충돌 시 ObjectOptimisticLockingFailureException 이 발생하며 재시도는 OptimisticRetryExecutor 가 담당합니다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public List<Schedule> processIndividualReservationOptimistically(List<Long> scheduleIds) {
+		List<Schedule> schedules = scheduleRepository.findAllByIdIn(scheduleIds);
+		if (schedules.size() != scheduleIds.size()) {
+			throw new ScheduleNotFoundException(scheduleIds, ActionType.INDIVIDUAL_RESERVATION);
+		}
+
+		schedules.forEach(schedule -> {
+			schedule.validateForIndividualReservation();
+			schedule.reserve();
+		});
+
+		return scheduleRepository.saveAllAndFlush(schedules);
+	}
+
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public List<Schedule> processGroupReservationWithLock(List<Long> scheduleIds, Set<String> uniqueEmails){
 		try{
@@ -66,46 +129,59 @@ public class ReservationConcurrencyService {
 
 			List<Schedule> lockedSchedules = scheduleRepository.findByIdsWithPessimisticLock(sortedScheduleIds);
 
-			if (lockedSchedules.size() != scheduleIds.size()) {
-				ReservationLogUtil.logWarn("단체 예약 실패 - 존재하지 않는 스케줄 포함됨", "스케줄 ID: " + scheduleIds);
-				throw new BusinessException(StatusCode.NOT_FOUND, "존재하지 않는 스케줄이 포함되어 있습니다.");
-			}
+			return reserveGroupSchedules(lockedSchedules, scheduleIds, uniqueEmails);
+		}catch (PessimisticLockException e) {
+			throw new ReservationConcurrencyException();
+		}
+	}
 
-			//임계 영역에서 중복 예약 검사
-			for (String email : uniqueEmails) {
-				reservationValidator.checkDuplicateReservation(Email.of(email));
-			}
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public List<Schedule> processGroupReservationOptimistically(List<Long> scheduleIds, Set<String> uniqueEmails) {
+		List<Schedule> schedules = scheduleRepository.findAllByIdIn(scheduleIds);
 
-			reservationValidator.validateSchedulesAvailable(lockedSchedules);
+		reserveGroupSchedules(schedules, scheduleIds, uniqueEmails);
+		return scheduleRepository.saveAllAndFlush(schedules);
+	}
 
-			RoomType roomType = lockedSchedules.get(0).getRoomType();
-			if(roomType == RoomType.INDIVIDUAL) {
-				ReservationLogUtil.logWarn("단체 예약 실패 - 개인 전용 방 예약 시도", "방 번호: " + lockedSchedules.get(0).getRoomNumber());
-				throw new BusinessException(StatusCode.FORBIDDEN, "해당 방은 개인예약 전용입니다.");
-			}
+	private List<Schedule> reserveGroupSchedules(List<Schedule> schedules, List<Long> scheduleIds,
+		Set<String> uniqueEmails) {
+		if (schedules.size() != scheduleIds.size()) {
+			ReservationLogUtil.logWarn("단체 예약 실패 - 존재하지 않는 스케줄 포함됨", "스케줄 ID: " + scheduleIds);
+			throw new BusinessException(StatusCode.NOT_FOUND, "존재하지 않는 스케줄이 포함되어 있습니다.");
+		}
 
-			// 최소 예약 인원(minRes) 검사 (예약자 + 참여자 수 체크)
-			int totalParticipants = uniqueEmails.size(); // 예약자 + 참여자 수
-			int minRes = lockedSchedules.get(0).getMinRes(); // 모든 Group 전용 schedule의 min_res는 2로 동일
-			int capacity = lockedSchedules.get(0).getCapacity(); // 같은 방의 schedule은 capacity는 동일
-			if (totalParticipants < minRes) {
-				ReservationLogUtil.logWarn("단체 예약 실패 - 최소 인원 미달", "최소 인원: " + minRes, "현재 인원: " + totalParticipants);
-				throw new BusinessException(StatusCode.BAD_REQUEST,
-					"최소 예약 인원 조건을 만족하지 않습니다. (필요 인원: " + minRes + ", 현재 인원: " + totalParticipants + ")");
-			}else if (totalParticipants > capacity) {
-				ReservationLogUtil.logWarn("단체 예약 실패 - 최대 인원 초과", "최대 수용 인원: " + capacity, "현재 인원: " + totalParticipants);
-				throw new BusinessException(StatusCode.BAD_REQUEST,
-					"방의 최대 수용 인원을 초과했습니다. (최대 수용 인원: " + capacity + ", 현재 인원: " + totalParticipants + ")");
-			}
+		//임계 영역에서 중복 예약 검사
+		for (String email : uniqueEmails) {
+			reservationValidator.checkDuplicateReservation(Email.of(email));
+		}
 
-			for (Schedule schedule : lockedSchedules) {
-				schedule.updateGroupCurrentRes(totalParticipants); // 현재 사용 인원을 예약자 + 참여자 숫자로 지정
-				schedule.updateStatus(ScheduleSlotStatus.RESERVED);
-			}
+		reservationValidator.validateSchedulesAvailable(schedules);
 
-			return lockedSchedules;
-		}catch (PessimisticLockException e) {
-			throw new ReservationConcurrencyException();
+		RoomType roomType = schedules.get(0).getRoomType();
+		if(roomType == RoomType.INDIVIDUAL) {
+			ReservationLogUtil.logWarn("단체 예약 실패 - 개인 전용 방 예약 시도", "방 번호: " + schedules.get(0).getRoomNumber());
+			throw new BusinessException(StatusCode.FORBIDDEN, "해당 방은 개인예약 전용입니다.");
 		}
+
+		// 최소 예약 인원(minRes) 검사 (예약자 + 참여자 수 체크)
+		int totalParticipants = uniqueEmails.size(); // 예약자 + 참여자 수
+		int minRes = schedules.get(0).getMinRes(); // 모든 Group 전용 schedule의 min_res는 2로 동일
+		int capacity = schedules.get(0).getCapacity(); // 같은 방의 schedule은 capacity는 동일
+		if (totalParticipants < minRes) {
+			ReservationLogUtil.logWarn("단체 예약 실패 - 최소 인원 미달", "최소 인원: " + minRes, "현재 인원: " + totalParticipants);
+			throw new BusinessException(StatusCode.BAD_REQUEST,
+				"최소 예약 인원 조건을 만족하지 않습니다. (필요 인원: " + minRes + ", 현재 인원: " + totalParticipants + ")");
+		}else if (totalParticipants > capacity) {
+			ReservationLogUtil.logWarn("단체 예약 실패 - 최대 인원 초과", "최대 수용 인원: " + capacity, "현재 인원: " + totalParticipants);
+			throw new BusinessException(StatusCode.BAD_REQUEST,
+				"방의 최대 수용 인원을 초과했습니다. (최대 수용 인원: " + capacity + ", 현재 인원: " + totalParticipants + ")");
+		}
+
+		for (Schedule schedule : schedules) {
+			schedule.updateGroupCurrentRes(totalParticipants); // 현재 사용 인원을 예약자 + 참여자 숫자로 지정
+			schedule.updateStatus(ScheduleSlotStatus.RESERVED);
+		}
+
+		return schedules;
 	}
 }
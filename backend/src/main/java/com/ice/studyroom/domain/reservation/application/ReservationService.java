@@ -16,33 +16,34 @@ import com.ice.studyroom.domain.reservation.domain.exception.type.reservation.Re
 import com.ice.studyroom.domain.reservation.domain.service.ReservationValidator;
 import com.ice.studyroom.domain.schedule.domain.service.ScheduleCanceller;
 import com.ice.studyroom.global.type.ActionType;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import com.ice.studyroom.domain.admin.domain.type.RoomType;
+import com.ice.studyroom.domain.reservation.application.email.ReservationEmailOutboxService;
 import com.ice.studyroom.domain.reservation.util.ReservationLogUtil;
 import com.ice.studyroom.global.security.service.TokenService;
 import com.ice.studyroom.domain.membership.domain.entity.Member;
-import com.ice.studyroom.domain.membership.domain.service.MemberDomainService;
 import com.ice.studyroom.domain.membership.domain.vo.Email;
 import com.ice.studyroom.domain.membership.infrastructure.persistence.MemberRepository;
 import com.ice.studyroom.domain.penalty.application.PenaltyService;
 import com.ice.studyroom.domain.penalty.domain.type.PenaltyReasonType;
 import com.ice.studyroom.domain.reservation.domain.entity.Reservation;
 import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+import com.ice.studyroom.domain.reservation.domain.type.ConcurrencyStrategy;
 import com.ice.studyroom.domain.reservation.domain.type.ReservationStatus;
 import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
 import com.ice.studyroom.domain.reservation.infrastructure.persistence.ReservationRepository;
 import com.ice.studyroom.domain.reservation.infrastructure.persistence.ScheduleRepository;
+import com.ice.studyroom.domain.reservation.infrastructure.redis.ScheduleSlotInventory;
 import com.ice.studyroom.domain.reservation.presentation.dto.request.CreateReservationRequest;
 import com.ice.studyroom.domain.reservation.presentation.dto.response.CancelReservationResponse;
 import com.ice.studyroom.domain.reservation.presentation.dto.response.GetMostRecentReservationResponse;
 import com.ice.studyroom.domain.reservation.presentation.dto.response.GetReservationsResponse;
 import com.ice.studyroom.domain.reservation.presentation.dto.response.ParticipantResponse;
-import com.ice.studyroom.global.dto.request.EmailRequest;
 import com.ice.studyroom.global.exception.BusinessException;
-import com.ice.studyroom.global.service.EmailService;
 import com.ice.studyroom.global.type.StatusCode;
 
 import lombok.RequiredArgsConstructor;
@@ -53,18 +54,22 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ReservationService {
 
+	private static final int DEFAULT_RESERVATION_PAGE_SIZE = 20;
+	private static final int MAX_RESERVATION_PAGE_SIZE = 100;
+
 	private final TokenService tokenService;
 	private final MemberRepository memberRepository;
 	private final ReservationRepository reservationRepository;
 	private final ScheduleRepository scheduleRepository;
 	private final ReservationConcurrencyService reservationConcurrencyService;
 	private final ReservationCompensationService reservationCompensationService;
+	private final OptimisticRetryExecutor optimisticRetryExecutor;
+	private final ScheduleSlotInventory scheduleSlotInventory;
 	private final RankingCheckInApplicationService rankingCheckInApplicationService;
 	private final ReservationValidator reservationValidator;
 	private final ScheduleCanceller scheduleCanceller;
 	private final PenaltyService penaltyService;
-	private final MemberDomainService memberDomainService;
-	private final EmailService emailService;
+	private final ReservationEmailOutboxService reservationEmailOutboxService;
 	private final Clock clock;
 
 
@@ -74,49 +79,54 @@ public class ReservationService {
 			.map(GetMostRecentReservationResponse::from);
 	}
 
+	/**
+	 * 기간 / 페이지 조건이 하나도 없으면 기존 응답(전체 예약, 저장 순서)을 그대로 반환하고,
+	 * 하나라도 있으면 예약 날짜 내림차순으로 한 페이지(기본 20건, 최대 100건)만 반환합니다.
+	 */
 	@Transactional(readOnly = true)
-	public List<GetReservationsResponse> getReservations(String authorizationHeader) {
+	public List<GetReservationsResponse> getReservations(String authorizationHeader, LocalDate from, LocalDate to,
+		Integer page, Integer size) {
 		String reservationOwnerEmail = tokenService.extractEmailFromAccessToken(authorizationHeader);
 
+		if (from != null && to != null && from.isAfter(to)) {
+			throw new BusinessException(StatusCode.INVALID_INPUT, "조회 시작일은 종료일보다 늦을 수 없습니다.");
+		}
+
 		Member reservationOwner = memberRepository.findByEmail(Email.of(reservationOwnerEmail))
 			.orElseThrow(() -> {
 				ReservationLogUtil.logWarn("내 예약 정보 조회 실패 - 존재하지 않는 회원", "email: " + reservationOwnerEmail);
 				return new BusinessException(StatusCode.UNAUTHORIZED, "회원 정보를 찾을 수 없습니다.");
 			});
 
-		List<Reservation> reservations = reservationRepository.findByMember(reservationOwner);
-
-		Map<String, List<ParticipantResponse>> reservationParticipantsMap = new HashMap<>();
-
-		for (Reservation reservation : reservations) {
-			String key = reservation.getRoomNumber() + "_" + reservation.getScheduleDate() + "_" + reservation.getStartTime();
-
-			if (!reservationParticipantsMap.containsKey(key)) {
-
-				Schedule schedule = scheduleRepository.findById(reservation.getFirstScheduleId())
-					.orElseThrow(() -> new BusinessException(StatusCode.NOT_FOUND, "존재하지 않는 스케줄입니다."));
+		List<Reservation> reservations;
+		if (from == null && to == null && page == null && size == null) {
+			reservations = reservationRepository.findByMember(reservationOwner);
+		} else {
+			int pageNumber = page == null ? 0 : Math.max(page, 0);
+			int pageSize = size == null ? DEFAULT_RESERVATION_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_RESERVATION_PAGE_SIZE);
+			reservations = reservationRepository.findByMemberAndScheduleDateRange(
+				reservationOwner, from, to, PageRequest.of(pageNumber, pageSize));
+		}
 
-				if (schedule.getRoomType() == RoomType.GROUP) {
-					List<Reservation> sameReservations = reservationRepository.findByRoomNumberAndScheduleDateAndStartTime(
-						reservation.getRoomNumber(), reservation.getScheduleDate(), reservation.getStartTime());
+		if (reservations.isEmpty()) {
+			return List.of();
+		}
 
-					List<ParticipantResponse> participants = sameReservations.stream()
-						.map(sameRes -> ParticipantResponse.from(sameRes.getMember(), sameRes.isHolder()))
-						.collect(Collectors.toList());
+		// 단체 예약 참여자는 firstScheduleId 기준으로 한 번에 조회 (개인 예약은 참여자 목록이 없다)
+		Set<Long> firstScheduleIds = reservations.stream()
+			.map(Reservation::getFirstScheduleId)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toSet());
 
-					reservationParticipantsMap.put(key, participants);
-				}
-				// 그룹예약인지 개인 예약인지 확인
-				// 그룹 예약이면 findByFirstScheduleId
-				// 참여자를 찾기 위해서 아래 로직이 수행됨
-				// 개인 예약이면
-				// 참여자를 찾을 필요가 없다.
-			}
-		}
+		Map<Long, List<ParticipantResponse>> participantsByFirstScheduleId = reservationRepository
+			.findGroupParticipantsByFirstScheduleIdIn(firstScheduleIds).stream()
+			.collect(Collectors.groupingBy(Reservation::getFirstScheduleId,
+				Collectors.mapping(participant -> ParticipantResponse.from(participant.getMember(), participant.isHolder()),
+					Collectors.toList())));
 
 		return reservations.stream()
-			.map(reservation -> GetReservationsResponse.from(reservation, reservationParticipantsMap.get(
-				reservation.getRoomNumber() + "_" + reservation.getScheduleDate() + "_" + reservation.getStartTime())))
+			.map(reservation -> GetReservationsResponse.from(reservation,
+				participantsByFirstScheduleId.get(reservation.getFirstScheduleId())))
 			.collect(Collectors.toList());
 	}
 
@@ -136,9 +146,21 @@ public class ReservationService {
 		// 예약 중복 방지
 		reservationValidator.checkDuplicateReservation(Email.of(reservationOwnerEmail));
 
-		// 예약 가능 여부 검증 및 스케줄 현재 예약 가능 인원 감소
+		// Redis 잔여 좌석 선별 - 좌석이 없는 요청은 DB 락 대기 없이 바로 실패
 		List<Long> scheduleIds = Arrays.stream(request.scheduleId()).toList();
-		List<Schedule> schedules = reservationConcurrencyService.processIndividualReservationWithLock(scheduleIds);
+		// 실제로 차감한 경우에만 실패 시 복구 (Redis 장애로 건너뛴 경우 복구하면 좌석이 늘어난다)
+		boolean acquired = scheduleSlotInventory.acquire(scheduleIds);
+
+		// 예약 가능 여부 검증 및 스케줄 현재 예약 가능 인원 감소
+		List<Schedule> schedules;
+		try {
+			schedules = reserveIndividualSchedules(scheduleIds);
+		} catch (Exception e) {
+			if (acquired) {
+				scheduleSlotInventory.release(scheduleIds);
+			}
+			throw e;
+		}
 
 		try {
 			Reservation reservation = Reservation.from(schedules, true, reservationOwner);
@@ -150,6 +172,9 @@ public class ReservationService {
 		} catch (Exception e) {
 			try {
 				reservationCompensationService.rollbackSchedules(scheduleIds, reservationOwnerEmail);
+				if (acquired) {
+					scheduleSlotInventory.release(scheduleIds);
+				}
 			} catch (Exception rollbackException) {
 				ReservationLogUtil.log("예약 실패 보상 트랜잭션 실패", "예약자: " + reservationOwnerEmail + " " + rollbackException.getMessage());
 			}
@@ -200,7 +225,7 @@ public class ReservationService {
 
 		// 예약 가능 여부 확인
 		List<Long> scheduleIds = Arrays.stream(request.scheduleId()).toList();
-		List<Schedule> schedules = reservationConcurrencyService.processGroupReservationWithLock(scheduleIds, uniqueEmails);
+		List<Schedule> schedules = reserveGroupSchedules(scheduleIds, uniqueEmails);
 
 		try {
 			// 예약 리스트 생성 및 저장
@@ -368,6 +393,22 @@ public class ReservationService {
 		return "Success";
 	}
 
+	private List<Schedule> reserveIndividualSchedules(List<Long> scheduleIds) {
+		if (reservationConcurrencyService.strategyFor(RoomType.INDIVIDUAL) == ConcurrencyStrategy.OPTIMISTIC) {
+			return optimisticRetryExecutor.execute(
+				() -> reservationConcurrencyService.processIndividualReservationOptimistically(scheduleIds));
+		}
+		return reservationConcurrencyService.processIndividualReservationWithLock(scheduleIds);
+	}
+
+	private List<Schedule> reserveGroupSchedules(List<Long> scheduleIds, Set<String> uniqueEmails) {
+		if (reservationConcurrencyService.strategyFor(RoomType.GROUP) == ConcurrencyStrategy.OPTIMISTIC) {
+			return optimisticRetryExecutor.execute(
+				() -> reservationConcurrencyService.processGroupReservationOptimistically(scheduleIds, uniqueEmails));
+		}
+		return reservationConcurrencyService.processGroupReservationWithLock(scheduleIds, uniqueEmails);
+	}
+
 	private void validateConsecutiveSchedules(CreateReservationRequest request) {
 		Schedule firstSchedule = scheduleRepository.findById(request.scheduleId()[0])
 			.orElseThrow(() -> new BusinessException(StatusCode.NOT_FOUND, "존재하지 않는 스케줄입니다."));
@@ -385,67 +426,11 @@ public class ReservationService {
 		}
 	}
 
+	/**
+	 * 예약 확정 메일을 outbox 에 적재합니다. 실제 발송은 커밋 이후 ReservationEmailOutboxRelay 가 수행합니다.
+	 */
 	protected void sendReservationSuccessEmail(RoomType type, String reservationOwnerEmail, Set<String> participantsEmail,
 		List<Schedule> schedules) {
-
-		String subject = "[ICE-STUDYRES] 스터디룸 예약이 완료되었습니다.";
-		List<Email> participantsEmailList = participantsEmail.stream().map(Email::of).toList();
-		String body = buildReservationSuccessEmailBody(type, schedules, reservationOwnerEmail, participantsEmailList);
-
-		emailService.sendEmail(new EmailRequest(reservationOwnerEmail, subject, body));
-
-		if(type == RoomType.GROUP){
-			for (String uniqueEmail : participantsEmail) {
-				if(!uniqueEmail.equals(reservationOwnerEmail)){
-					emailService.sendEmail(new EmailRequest(uniqueEmail, subject, body));
-				}
-			}
-		}
-	}
-
-	private String buildReservationSuccessEmailBody(RoomType type, List<Schedule> schedules, String reservationOwnerEmail, List<Email> participantsEmail) {
-		String participantsSection = "";
-		Member reservationOwner = memberDomainService.getMemberByEmail(reservationOwnerEmail);
-		List<Member> participantsMember = memberDomainService.getMembersByEmail(participantsEmail);
-		if (type == RoomType.GROUP) {
-			participantsSection = "<h3>참여자 명단</h3><ul>";
-
-			for (Member member : participantsMember) {
-				if(!member.getEmail().getValue().equals(reservationOwnerEmail)){
-					participantsSection += "<li>" + member.getName() + "(" + member.getStudentNum() + ")" + "</li>";
-				}
-			}
-			participantsSection += "</ul>";
-		}
-
-		return String.format(
-			"<html><body>" +
-				"<h2>스터디룸 예약이 완료되었습니다!</h2>" +
-				"<p>아래 예약 정보를 확인해주세요.</p>" +
-				"<hr>" +
-				"<h3>예약 정보</h3>" +
-				"<p><strong>예약자:</strong> %s(%s)</p>" +
-				"<p><strong>스터디룸:</strong> %s</p>" +
-				"<p><strong>예약 날짜:</strong> %s</p>" +
-				"<p><strong>이용 시간:</strong> %s ~ %s</p>" +
-				"%s" +  // 그룹 예약 시 참여자 목록 포함
-				"<hr>" +
-				"<h3>⚠ 예약 패널티 안내 ⚠</h3>" +
-				"<p>예약 시간 미준수 시 패널티가 부여되며, 해당 기간 동안 예약 기능이 제한됩니다.</p>" +
-				"<ul>" +
-				"<li><strong>No Show</strong> 시 <strong>7일간 패널티 부여</strong></li>" +
-				"<li><strong>예약 시간 30분 초과 입장</strong> 시 <strong>지각 처리</strong> 및 <strong>3일간 패널티 부여</strong></li>" +
-				"<li><strong>입장 시간 1시간 전 취소</strong> 시 <strong>2일간 패널티 부여</strong></li>" +
-				"</ul>" +
-				"<p>감사합니다.</p>" +
-				"</body></html>",
-			reservationOwner.getName(),
-			reservationOwner.getStudentNum(),
-			schedules.get(0).getRoomNumber(),
-			LocalDate.now(),
-			schedules.get(0).getStartTime(),
-			schedules.size() > 1 ? schedules.get(1).getEndTime() : schedules.get(0).getEndTime(),
-			participantsSection
-		);
+		reservationEmailOutboxService.enqueue(type, reservationOwnerEmail, participantsEmail, schedules);
 	}
 }
@@ -0,0 +1,109 @@
+package com.ice.studyroom.domain.reservation.application.email;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.ice.studyroom.domain.admin.domain.type.RoomType;
+import com.ice.studyroom.domain.membership.domain.entity.Member;
+import com.ice.studyroom.domain.membership.domain.service.MemberDomainService;
+import com.ice.studyroom.domain.membership.domain.vo.Email;
+import com.ice.studyroom.domain.reservation.domain.entity.ReservationEmailOutbox;
+import com.ice.studyroom.global.dto.request.EmailRequest;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox 묶음을 메일 요청으로 변환합니다.
+ * 묶음 전체의 회원 정보를 한 번에 조회하고, 같은 예약의 수신자들은 같은 본문을 공유합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationEmailComposer {
+
+	static final String SUBJECT = "[ICE-STUDYRES] 스터디룸 예약이 완료되었습니다.";
+
+	private final MemberDomainService memberDomainService;
+
+	public Map<Long, EmailRequest> compose(List<ReservationEmailOutbox> outboxes) {
+		Set<Email> emails = new LinkedHashSet<>();
+		for (ReservationEmailOutbox outbox : outboxes) {
+			emails.add(Email.of(outbox.getOwnerEmail()));
+			if (outbox.getRoomType() == RoomType.GROUP) {
+				outbox.getParticipantEmailList().forEach(email -> emails.add(Email.of(email)));
+			}
+		}
+
+		Map<String, Member> membersByEmail = memberDomainService.getMembersByEmail(List.copyOf(emails)).stream()
+			.collect(Collectors.toMap(member -> member.getEmail().getValue(), Function.identity(), (a, b) -> a));
+
+		Map<String, String> bodyByReservation = new HashMap<>();
+		Map<Long, EmailRequest> requests = new HashMap<>();
+		for (ReservationEmailOutbox outbox : outboxes) {
+			String body = bodyByReservation.computeIfAbsent(reservationKey(outbox),
+				key -> buildReservationSuccessEmailBody(outbox, membersByEmail));
+			requests.put(outbox.getId(), new EmailRequest(outbox.getRecipientEmail(), SUBJECT, body));
+		}
+		return requests;
+	}
+
+	private String reservationKey(ReservationEmailOutbox outbox) {
+		return outbox.getOwnerEmail() + "_" + outbox.getRoomNumber() + "_" + outbox.getScheduleDate() + "_"
+			+ outbox.getStartTime();
+	}
+
+	private String buildReservationSuccessEmailBody(ReservationEmailOutbox outbox, Map<String, Member> membersByEmail) {
+		String participantsSection = "";
+		if (outbox.getRoomType() == RoomType.GROUP) {
+			StringBuilder section = new StringBuilder("<h3>참여자 명단</h3><ul>");
+			for (String participantEmail : outbox.getParticipantEmailList()) {
+				Member member = membersByEmail.get(participantEmail);
+				if (member != null && !participantEmail.equals(outbox.getOwnerEmail())) {
+					section.append("<li>").append(member.getName()).append("(").append(member.getStudentNum()).append(")")
+						.append("</li>");
+				}
+			}
+			participantsSection = section.append("</ul>").toString();
+		}
+
+		Member reservationOwner = membersByEmail.get(outbox.getOwnerEmail());
+		String ownerName = reservationOwner != null ? reservationOwner.getName() : outbox.getOwnerEmail();
+		String ownerStudentNum = reservationOwner != null ? reservationOwner.getStudentNum() : "-";
+
+		return String.format(
+			"<html><body>" +
+				"<h2>스터디룸 예약이 완료되었습니다!</h2>" +
+				"<p>아래 예약 정보를 확인해주세요.</p>" +
+				"<hr>" +
+				"<h3>예약 정보</h3>" +
+				"<p><strong>예약자:</strong> %s(%s)</p>" +
+				"<p><strong>스터디룸:</strong> %s</p>" +
+				"<p><strong>예약 날짜:</strong> %s</p>" +
+				"<p><strong>이용 시간:</strong> %s ~ %s</p>" +
+				"%s" +  // 그룹 예약 시 참여자 목록 포함
+				"<hr>" +
+				"<h3>⚠ 예약 패널티 안내 ⚠</h3>" +
+				"<p>예약 시간 미준수 시 패널티가 부여되며, 해당 기간 동안 예약 기능이 제한됩니다.</p>" +
+				"<ul>" +
+				"<li><strong>No Show</strong> 시 <strong>7일간 패널티 부여</strong></li>" +
+				"<li><strong>예약 시간 30분 초과 입장</strong> 시 <strong>지각 처리</strong> 및 <strong>3일간 패널티 부여</strong></li>" +
+				"<li><strong>입장 시간 1시간 전 취소</strong> 시 <strong>2일간 패널티 부여</strong></li>" +
+				"</ul>" +
+				"<p>감사합니다.</p>" +
+				"</body></html>",
+			ownerName,
+			ownerStudentNum,
+			outbox.getRoomNumber(),
+			outbox.getScheduleDate(),
+			outbox.getStartTime(),
+			outbox.getEndTime(),
+			participantsSection
+		);
+	}
+}
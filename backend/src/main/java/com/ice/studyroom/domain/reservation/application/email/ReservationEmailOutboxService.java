@@ -0,0 +1,122 @@
+package com.ice.studyroom.domain.reservation.application.email;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ice.studyroom.domain.admin.domain.type.RoomType;
+import com.ice.studyroom.domain.reservation.domain.entity.ReservationEmailOutbox;
+import com.ice.studyroom.domain.reservation.infrastructure.persistence.ReservationEmailOutboxRepository;
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+
+/**
+ * 예약 확정 메일 outbox 의 적재 / 선점 / 결과 기록을 담당합니다.
+ */
+@Service
+public class ReservationEmailOutboxService {
+
+	private final ReservationEmailOutboxRepository outboxRepository;
+	private final Clock clock;
+	private final int maxAttempts;
+	private final long baseBackoffMillis;
+	private final long maxBackoffMillis;
+	private final long claimTimeoutMillis;
+
+	public ReservationEmailOutboxService(ReservationEmailOutboxRepository outboxRepository, Clock clock,
+		@Value("${reservation.email.outbox.max-attempts:5}") int maxAttempts,
+		@Value("${reservation.email.outbox.base-backoff-ms:30000}") long baseBackoffMillis,
+		@Value("${reservation.email.outbox.max-backoff-ms:1800000}") long maxBackoffMillis,
+		@Value("${reservation.email.outbox.claim-timeout-ms:300000}") long claimTimeoutMillis) {
+		this.outboxRepository = outboxRepository;
+		this.clock = clock;
+		this.maxAttempts = maxAttempts;
+		this.baseBackoffMillis = baseBackoffMillis;
+		this.maxBackoffMillis = maxBackoffMillis;
+		this.claimTimeoutMillis = claimTimeoutMillis;
+	}
+
+	/**
+	 * 예약 트랜잭션 안에서 호출되어 수신자별 outbox 행을 저장합니다. 예약이 롤백되면 메일도 발송되지 않습니다.
+	 * 개인 예약은 예약자에게만, 단체 예약은 예약자와 모든 참여자에게 발송됩니다.
+	 */
+	@Transactional
+	public void enqueue(RoomType roomType, String reservationOwnerEmail, Set<String> participantsEmail,
+		List<Schedule> schedules) {
+		LocalDateTime now = LocalDateTime.now(clock);
+		Schedule firstSchedule = schedules.get(0);
+		Schedule lastSchedule = schedules.get(schedules.size() - 1);
+		List<String> participants = List.copyOf(participantsEmail);
+
+		Set<String> recipients = new LinkedHashSet<>();
+		recipients.add(reservationOwnerEmail);
+		if (roomType == RoomType.GROUP) {
+			recipients.addAll(participants);
+		}
+
+		List<ReservationEmailOutbox> outboxes = new ArrayList<>();
+		for (String recipient : recipients) {
+			outboxes.add(ReservationEmailOutbox.of(recipient, reservationOwnerEmail, participants, roomType,
+				firstSchedule.getRoomNumber(), firstSchedule.getScheduleDate(), firstSchedule.getStartTime(),
+				lastSchedule.getEndTime(), now));
+		}
+		outboxRepository.saveAll(outboxes);
+	}
+
+	/**
+	 * 발송 가능한 행을 최대 batchSize 만큼 선점합니다. 선점에 성공한 행만 반환됩니다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public List<ReservationEmailOutbox> claimBatch(int batchSize) {
+		LocalDateTime now = LocalDateTime.now(clock);
+		List<Long> ids = outboxRepository.findIdsReadyToSend(now, PageRequest.of(0, batchSize));
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		String claimToken = UUID.randomUUID().toString();
+		if (outboxRepository.claim(ids, claimToken, now) == 0) {
+			return List.of();
+		}
+		return outboxRepository.findByClaimToken(claimToken);
+	}
+
+	/**
+	 * 발송 결과를 기록합니다. failures 에 없는 행은 발송 성공으로 처리합니다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void complete(List<ReservationEmailOutbox> outboxes, Map<Long, String> failures) {
+		LocalDateTime now = LocalDateTime.now(clock);
+		for (ReservationEmailOutbox outbox : outboxes) {
+			String error = failures.get(outbox.getId());
+			if (error == null) {
+				outbox.markSent(now);
+			} else {
+				outbox.markFailed(error, now, backoffFor(outbox.getAttempts() + 1), maxAttempts);
+			}
+		}
+		outboxRepository.saveAll(outboxes);
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public int releaseStaleClaims() {
+		return outboxRepository.releaseStaleClaims(LocalDateTime.now(clock).minus(Duration.ofMillis(claimTimeoutMillis)));
+	}
+
+	// 지수 백오프 (base, 2*base, 4*base ... 최대 maxBackoff)
+	Duration backoffFor(int attempt) {
+		long multiplier = 1L << Math.min(attempt - 1, 20);
+		return Duration.ofMillis(Math.min(maxBackoffMillis, baseBackoffMillis * multiplier));
+	}
+}
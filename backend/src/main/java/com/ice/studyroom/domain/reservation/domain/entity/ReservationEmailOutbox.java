@@ -0,0 +1,151 @@
+package com.ice.studyroom.domain.reservation.domain.entity;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import com.ice.studyroom.domain.admin.domain.type.RoomType;
+import com.ice.studyroom.domain.reservation.domain.type.EmailOutboxStatus;
+import com.ice.studyroom.global.entity.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약 확정 메일 outbox. 예약과 같은 트랜잭션에서 수신자별로 한 행씩 저장되고, 릴레이가 커밋 이후 발송합니다.
+ * 메일 본문은 발송 시점에 만들기 때문에 예약 트랜잭션에서는 회원 조회 / 본문 생성이 일어나지 않습니다.
+ */
+@Entity
+@Table(name = "reservation_email_outbox", indexes = {
+	@Index(name = "idx_reservation_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+	@Index(name = "idx_reservation_email_outbox_claim_token", columnList = "claim_token")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ReservationEmailOutbox extends BaseTimeEntity {
+
+	private static final String EMAIL_DELIMITER = ",";
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "recipient_email", nullable = false)
+	private String recipientEmail;
+
+	@Column(name = "owner_email", nullable = false)
+	private String ownerEmail;
+
+	// 단체 예약 참여자 이메일 (예약자 포함, 쉼표 구분)
+	@Column(name = "participant_emails", columnDefinition = "TEXT")
+	private String participantEmails;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "room_type", nullable = false)
+	private RoomType roomType;
+
+	@Column(name = "room_number", nullable = false, length = 20)
+	private String roomNumber;
+
+	@Column(name = "schedule_date", nullable = false)
+	private LocalDate scheduleDate;
+
+	@Column(name = "start_time", nullable = false)
+	private LocalTime startTime;
+
+	@Column(name = "end_time", nullable = false)
+	private LocalTime endTime;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false)
+	@Builder.Default
+	private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+	@Column(name = "attempts", nullable = false)
+	@Builder.Default
+	private int attempts = 0;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "claim_token", length = 36)
+	private String claimToken;
+
+	@Column(name = "claimed_at")
+	private LocalDateTime claimedAt;
+
+	@Column(name = "last_error", length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Column(name = "sent_at")
+	private LocalDateTime sentAt;
+
+	public static ReservationEmailOutbox of(String recipientEmail, String ownerEmail, List<String> participantEmails,
+		RoomType roomType, String roomNumber, LocalDate scheduleDate, LocalTime startTime, LocalTime endTime,
+		LocalDateTime now) {
+		return ReservationEmailOutbox.builder()
+			.recipientEmail(recipientEmail)
+			.ownerEmail(ownerEmail)
+			.participantEmails(String.join(EMAIL_DELIMITER, participantEmails))
+			.roomType(roomType)
+			.roomNumber(roomNumber)
+			.scheduleDate(scheduleDate)
+			.startTime(startTime)
+			.endTime(endTime)
+			.nextAttemptAt(now)
+			.build();
+	}
+
+	public List<String> getParticipantEmailList() {
+		if (participantEmails == null || participantEmails.isBlank()) {
+			return List.of();
+		}
+		return Arrays.asList(participantEmails.split(EMAIL_DELIMITER));
+	}
+
+	public void markSent(LocalDateTime now) {
+		this.status = EmailOutboxStatus.SENT;
+		this.attempts++;
+		this.sentAt = now;
+		this.claimToken = null;
+		this.lastError = null;
+	}
+
+	/**
+	 * 발송 실패를 기록합니다. 최대 시도 횟수 전까지는 backoff 이후 다시 PENDING 으로 돌아갑니다.
+	 */
+	public void markFailed(String error, LocalDateTime now, Duration backoff, int maxAttempts) {
+		this.attempts++;
+		this.claimToken = null;
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+
+		if (this.attempts >= maxAttempts) {
+			this.status = EmailOutboxStatus.FAILED;
+			return;
+		}
+		this.status = EmailOutboxStatus.PENDING;
+		this.nextAttemptAt = now.plus(backoff);
+	}
+
+	public boolean isFailed() {
+		return status == EmailOutboxStatus.FAILED;
+	}
+}
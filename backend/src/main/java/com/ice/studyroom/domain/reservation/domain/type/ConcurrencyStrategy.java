@@ -0,0 +1,6 @@
+package com.ice.studyroom.domain.reservation.domain.type;
+
+public enum ConcurrencyStrategy {
+	PESSIMISTIC, // 행 잠금 기반 (개인: 조건부 UPDATE 한 문장, 단체: SELECT ... FOR UPDATE 후 갱신)
+	OPTIMISTIC   // 잠금 없이 읽고 version 조건부 UPDATE, 충돌 시 재시도
+}
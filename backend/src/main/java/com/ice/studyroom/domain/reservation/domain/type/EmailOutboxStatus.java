@@ -0,0 +1,8 @@
+package com.ice.studyroom.domain.reservation.domain.type;
+
+public enum EmailOutboxStatus {
+	PENDING,  // 발송 대기 (재시도 대기 포함)
+	SENDING,  // 릴레이가 선점하여 발송 중
+	SENT,     // 발송 완료
+	FAILED    // 최대 재시도 횟수 초과
+}
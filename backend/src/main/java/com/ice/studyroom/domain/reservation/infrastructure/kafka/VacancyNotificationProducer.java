@@ -1,38 +1,37 @@
 package com.ice.studyroom.domain.reservation.infrastructure.kafka;
 
+import com.ice.studyroom.domain.outbox.application.OutboxEventService;
 import com.ice.studyroom.domain.reservation.infrastructure.kafka.dto.VacancyNotificationRequest;
-import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+/**
+ * 빈자리 알림 요청을 outbox 에 저장합니다. 취소 트랜잭션과 함께 커밋된 경우에만 OutboxRelay 가 Kafka 로 발행합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class VacancyNotificationProducer {
 
 	private static final String TOPIC_NAME = "vacancy-notifications";
-	private static final String KAFKA_PRODUCER_CIRCUIT = "kafka-producer";
 	private static final String REDIS_KEY_PREFIX = "vacancy-notification:schedule:";
 	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일");
 
-	private final KafkaTemplate<String, VacancyNotificationRequest> kafkaTemplate;
+	private final OutboxEventService outboxEventService;
 	private final RedisTemplate<String, Object> redisTemplate;
 	private final Clock clock;
 
-	@Async("vacancyNotificationExecutor")
+	@Transactional
 	public void sendVacancyNotificationToSubscribers(Long scheduleId, String roomName, LocalTime startTime, LocalTime endTime) {
 		String redisKey = REDIS_KEY_PREFIX + scheduleId;
 
@@ -50,7 +49,7 @@ public class VacancyNotificationProducer {
 		log.info("빈자리 알림 이메일 전송 프로세스 수행, 인원: {} 방 번호: {}", subscribers.size(), roomName);
 		String formattedDate = LocalDateTime.now(clock).format(DATE_FORMATTER);
 
-		long currentTimestamp = System.currentTimeMillis();
+		long currentTimestamp = clock.millis();
 
 		String starTimeStr = startTime.format(DateTimeFormatter.ofPattern("HH:mm"));
 		String endTimeStr = endTime.format(DateTimeFormatter.ofPattern("HH:mm"));
@@ -65,29 +64,9 @@ public class VacancyNotificationProducer {
 				starTimeStr,
 				endTimeStr
 			);
-			sendSingleNotification(request);
+			// 같은 빈자리 발생에 대한 같은 구독자 알림은 한 번만 저장
+			String eventKey = "vacancy-" + scheduleId + "-" + currentTimestamp + "-" + email;
+			outboxEventService.append(TOPIC_NAME, null, eventKey, request);
 		}
 	}
-
-	@CircuitBreaker(name = KAFKA_PRODUCER_CIRCUIT, fallbackMethod = "handleSendFailure")
-	public CompletableFuture<Void> sendSingleNotification(VacancyNotificationRequest request) {
-		return kafkaTemplate.send(TOPIC_NAME, request)
-			.whenComplete((result, ex) -> {
-				if (ex == null) {
-					log.info("빈자리 알림 이메일 전송 성공. 이메일: {} 토픽: {}",
-						request.getEmail(),
-						result.getRecordMetadata().topic());
-				}
-			})
-			.thenAccept(sendResult -> {});
-	}
-
-	private CompletableFuture<Void> handleSendFailure(VacancyNotificationRequest request, Throwable throwable) {
-		if (throwable instanceof CallNotPermittedException) {
-			log.error("서킷 브레이커가 OPEN 상태입니다. 카프카 전송을 시도하지 않습니다. Email: {}", request.getEmail());
-		} else {
-			log.error("빈자리 알림 이메일 전송 실패. 이메일: {} 에러: {}", request.getEmail(), throwable.getMessage());
-		}
-		return CompletableFuture.completedFuture(null);
-	}
 }
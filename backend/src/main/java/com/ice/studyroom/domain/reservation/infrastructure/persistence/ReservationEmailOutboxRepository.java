@@ -0,0 +1,50 @@
+package com.ice.studyroom.domain.reservation.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.ice.studyroom.domain.reservation.domain.entity.ReservationEmailOutbox;
+
+public interface ReservationEmailOutboxRepository extends JpaRepository<ReservationEmailOutbox, Long> {
+
+	@Query("""
+		SELECT o.id FROM ReservationEmailOutbox o
+		WHERE o.status = com.ice.studyroom.domain.reservation.domain.type.EmailOutboxStatus.PENDING
+		AND o.nextAttemptAt <= :now
+		ORDER BY o.id
+		""")
+	List<Long> findIdsReadyToSend(@Param("now") LocalDateTime now, Pageable pageable);
+
+	/**
+	 * PENDING 상태인 행만 선점합니다. 여러 서버의 릴레이가 같은 행을 고르더라도 하나만 갱신에 성공합니다.
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		UPDATE ReservationEmailOutbox o
+		SET o.status = com.ice.studyroom.domain.reservation.domain.type.EmailOutboxStatus.SENDING,
+			o.claimToken = :claimToken,
+			o.claimedAt = :now
+		WHERE o.id IN :ids
+		AND o.status = com.ice.studyroom.domain.reservation.domain.type.EmailOutboxStatus.PENDING
+		""")
+	int claim(@Param("ids") List<Long> ids, @Param("claimToken") String claimToken, @Param("now") LocalDateTime now);
+
+	List<ReservationEmailOutbox> findByClaimToken(String claimToken);
+
+	// 발송 도중 서버가 종료되어 SENDING 으로 남은 행을 다시 대기 상태로 되돌린다
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		UPDATE ReservationEmailOutbox o
+		SET o.status = com.ice.studyroom.domain.reservation.domain.type.EmailOutboxStatus.PENDING,
+			o.claimToken = null
+		WHERE o.status = com.ice.studyroom.domain.reservation.domain.type.EmailOutboxStatus.SENDING
+		AND o.claimedAt < :claimedBefore
+		""")
+	int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+}
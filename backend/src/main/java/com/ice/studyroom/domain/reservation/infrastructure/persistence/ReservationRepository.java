@@ -2,9 +2,11 @@ package com.ice.studyroom.domain.reservation.infrastructure.persistence;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +19,29 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
 	List<Reservation> findByMember(Member member);
 
+	@Query("""
+		SELECT r FROM Reservation r
+		WHERE r.member = :member
+		AND (:from IS NULL OR r.scheduleDate >= :from)
+		AND (:to IS NULL OR r.scheduleDate <= :to)
+		ORDER BY r.scheduleDate DESC, r.startTime DESC, r.id DESC
+		""")
+	List<Reservation> findByMemberAndScheduleDateRange(@Param("member") Member member, @Param("from") LocalDate from,
+		@Param("to") LocalDate to, Pageable pageable);
+
+	/**
+	 * 단체 예약 스케줄들의 참여자 예약을 회원까지 한 번에 조회합니다.
+	 * 같은 단체 예약의 참여자들은 동일한 firstScheduleId 를 공유합니다.
+	 */
+	@Query("""
+		SELECT r FROM Reservation r
+		JOIN FETCH r.member
+		JOIN Schedule s ON s.id = r.firstScheduleId
+		WHERE r.firstScheduleId IN :firstScheduleIds
+		AND s.roomType = com.ice.studyroom.domain.admin.domain.type.RoomType.GROUP
+		""")
+	List<Reservation> findGroupParticipantsByFirstScheduleIdIn(@Param("firstScheduleIds") Collection<Long> firstScheduleIds);
+
 	List<Reservation> findByScheduleDateAndEndTime(LocalDate scheduleDate, LocalTime time);
 
 	List<Reservation> findByRoomNumberAndScheduleDateAndStartTime(String roomNumber, LocalDate scheduleDate, LocalTime startTime);
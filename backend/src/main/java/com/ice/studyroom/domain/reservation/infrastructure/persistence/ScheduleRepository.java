@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
@@ -30,4 +31,44 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
 	List<Schedule> findByScheduleDateAndRoomTimeSlotIdIn(LocalDate date, List<Long> roomTimeSlotId);
 
+	/**
+	 * 개인 예약 좌석 1개를 단일 UPDATE 문으로 점유합니다.
+	 * 잔여 좌석이 있고 AVAILABLE 인 INDIVIDUAL 스케줄만 갱신되며, 갱신된 행 수로 성공 여부를 판단합니다.
+	 * (MySQL 은 SET 절을 왼쪽부터 평가하므로 status 를 current_res 보다 먼저 계산한다)
+	 * 벌크 UPDATE 는 @PreUpdate 를 거치지 않으므로 updatedAt 도 직접 갱신한다.
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		UPDATE Schedule s
+		SET s.status = CASE WHEN s.currentRes + 1 >= s.capacity
+				THEN com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus.RESERVED
+				ELSE s.status END,
+			s.currentRes = s.currentRes + 1,
+			s.version = s.version + 1,
+			s.updatedAt = LOCAL DATETIME
+		WHERE s.id IN :ids
+		  AND s.currentRes < s.capacity
+		  AND s.status = com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus.AVAILABLE
+		  AND s.roomType = com.ice.studyroom.domain.admin.domain.type.RoomType.INDIVIDUAL
+	""")
+	int increaseCurrentResIfAvailable(@Param("ids") List<Long> ids);
+
+	/**
+	 * 예약 취소 시 좌석 1개를 단일 UPDATE 문으로 반납합니다. (Schedule.cancel() 과 동일한 규칙)
+	 * 영속성 컨텍스트에 남은 Schedule 이 갱신 전 좌석 수를 보지 않도록 실행 후 비운다.
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		UPDATE Schedule s
+		SET s.status = CASE WHEN s.currentRes - 1 < s.capacity
+				THEN com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus.AVAILABLE
+				ELSE s.status END,
+			s.currentRes = s.currentRes - 1,
+			s.version = s.version + 1,
+			s.updatedAt = LOCAL DATETIME
+		WHERE s.id = :id
+		  AND s.currentRes > 0
+	""")
+	int decreaseCurrentRes(@Param("id") Long id);
+
 }
@@ -0,0 +1,178 @@
+package com.ice.studyroom.domain.reservation.infrastructure.redis;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
+import com.ice.studyroom.domain.reservation.infrastructure.persistence.ScheduleRepository;
+import com.ice.studyroom.domain.reservation.util.ReservationLogUtil;
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+import com.ice.studyroom.domain.schedule.domain.event.ScheduleSeatReleasedEvent;
+import com.ice.studyroom.domain.schedule.domain.exception.schedule.ReservationCapacityExceededException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스케줄별 잔여 좌석을 Redis에 두고, 개인 예약 요청을 DB 트랜잭션 진입 전에 선별(admission)합니다.
+ * <p>
+ * Redis 값은 입장 허용 여부만 결정하며 최종 정합성은 여전히 MySQL 비관적 락 구간에서 검증됩니다.
+ * 따라서 Redis 값이 실제보다 크면 DB 검증에서 걸러지고, 작으면 다음 재동기화(reconcile) 때 복구됩니다.
+ */
+@Slf4j
+@Service
+public class ScheduleSlotInventory {
+
+	private static final String KEY_PREFIX = "schedule:inventory:";
+	private static final Duration KEY_TTL = Duration.ofDays(1);
+
+	private static final long ACQUIRED = 1L;
+	private static final long SOLD_OUT = 0L;
+
+	// 모든 슬롯에 잔여 좌석이 있을 때만 일괄 차감 (연속 2시간 예약 대응)
+	private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+		for i = 1, #KEYS do
+			local remaining = redis.call('GET', KEYS[i])
+			if not remaining then
+				return -1
+			end
+			if tonumber(remaining) <= 0 then
+				return 0
+			end
+		end
+		for i = 1, #KEYS do
+			redis.call('DECR', KEYS[i])
+		end
+		return 1
+		""", Long.class);
+
+	// 키가 존재하는 경우에만 복구 (만료된 키를 되살리지 않는다)
+	private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+		for i = 1, #KEYS do
+			if redis.call('EXISTS', KEYS[i]) == 1 then
+				redis.call('INCR', KEYS[i])
+			end
+		end
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ScheduleRepository scheduleRepository;
+	private final boolean enabled;
+
+	public ScheduleSlotInventory(StringRedisTemplate redisTemplate, ScheduleRepository scheduleRepository,
+		@Value("${reservation.admission.redis-enabled:false}") boolean enabled) {
+		this.redisTemplate = redisTemplate;
+		this.scheduleRepository = scheduleRepository;
+		this.enabled = enabled;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 요청한 스케줄들의 잔여 좌석을 원자적으로 1씩 차감합니다.
+	 * 하나라도 잔여 좌석이 없으면 아무것도 차감하지 않고 예외를 던집니다.
+	 * Redis 장애 시에는 DB 락 경로로 그대로 진행시킵니다.
+	 *
+	 * @return 실제로 차감했으면 true. 비활성 / Redis 장애로 차감하지 않았으면 false (이때는 release 하면 안 된다)
+	 */
+	public boolean acquire(List<Long> scheduleIds) {
+		if (!enabled) {
+			return false;
+		}
+
+		try {
+			Long result = redisTemplate.execute(ACQUIRE_SCRIPT, keys(scheduleIds));
+
+			if (result != null && result != ACQUIRED && result != SOLD_OUT) {
+				// 재고 키가 아직 적재되지 않은 스케줄 → DB 값으로 적재 후 한 번 더 시도
+				load(scheduleRepository.findAllByIdIn(scheduleIds), false);
+				result = redisTemplate.execute(ACQUIRE_SCRIPT, keys(scheduleIds));
+			}
+
+			if (result != null && result == SOLD_OUT) {
+				ReservationLogUtil.logWarn("예약 선별 실패 - 잔여 좌석 없음", "스케줄 ID: " + scheduleIds);
+				throw new ReservationCapacityExceededException("예약 가능한 자리가 없습니다. 스케줄 ID: " + scheduleIds);
+			}
+			return result != null && result == ACQUIRED;
+		} catch (ReservationCapacityExceededException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("[RESERVATION] Redis 좌석 재고 차감 실패 - DB 락 경로로 진행 - scheduleIds: {}", scheduleIds, e);
+			return false;
+		}
+	}
+
+	/**
+	 * acquire 로 차감한 좌석을 되돌립니다. (예약 실패, 보상 트랜잭션, 예약 취소)
+	 */
+	public void release(List<Long> scheduleIds) {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			redisTemplate.execute(RELEASE_SCRIPT, keys(scheduleIds));
+		} catch (Exception e) {
+			log.error("[RESERVATION] Redis 좌석 재고 복구 실패 - scheduleIds: {}", scheduleIds, e);
+		}
+	}
+
+	// 예약 취소 커밋 이후 좌석 복구 - 커밋 전에 복구하면 롤백된 취소가 좌석을 늘려 초과 입장이 생긴다
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSeatReleased(ScheduleSeatReleasedEvent event) {
+		release(event.scheduleIds());
+	}
+
+	/**
+	 * 해당 날짜의 스케줄 잔여 좌석을 MySQL 기준으로 덮어씁니다.
+	 */
+	public void reconcile(LocalDate date) {
+		if (!enabled) {
+			return;
+		}
+
+		List<Schedule> schedules = scheduleRepository.findByScheduleDate(date);
+		load(schedules, true);
+		log.info("[RESERVATION] Redis 좌석 재고 동기화 완료 - date: {}, count: {}", date, schedules.size());
+	}
+
+	private void load(List<Schedule> schedules, boolean overwrite) {
+		for (Schedule schedule : schedules) {
+			String key = key(schedule.getId());
+			String remaining = String.valueOf(remainingOf(schedule));
+
+			if (overwrite) {
+				redisTemplate.opsForValue().set(key, remaining, KEY_TTL);
+			} else {
+				redisTemplate.opsForValue().setIfAbsent(key, remaining, KEY_TTL);
+			}
+		}
+	}
+
+	private int remainingOf(Schedule schedule) {
+		if (schedule.getStatus() != ScheduleSlotStatus.AVAILABLE) {
+			return 0;
+		}
+		return Math.max(schedule.getCapacity() - schedule.getCurrentRes(), 0);
+	}
+
+	private List<String> keys(List<Long> scheduleIds) {
+		return scheduleIds.stream()
+			.sorted()
+			.map(this::key)
+			.toList();
+	}
+
+	private String key(Long scheduleId) {
+		return KEY_PREFIX + scheduleId;
+	}
+}
@@ -1,9 +1,11 @@
 package com.ice.studyroom.domain.reservation.presentation;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 import com.ice.studyroom.global.type.ResponseMessage;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.ice.studyroom.domain.reservation.application.ReservationService;
@@ -45,19 +48,27 @@ public class ReservationController {
 	/**
 	 *
 	 * @param authorizationHeader
-	 * @return List 형태의 내 예약 정보들
+	 * @param from 조회 시작일 (포함, 생략 시 제한 없음)
+	 * @param to 조회 종료일 (포함, 생략 시 제한 없음)
+	 * @param page 0부터 시작하는 페이지 번호 (생략 시 0)
+	 * @param size 페이지 크기 (생략 시 20, 최대 100)
+	 * @return List 형태의 내 예약 정보들. 조건을 하나라도 주면 예약 날짜 내림차순 한 페이지, 없으면 전체 (저장 순서)
 	 * exception handler 전역 처리로 수정 예정
 	 */
-	@Operation(summary = "내 예약 정보 조회", description = "현재 사용자의 예약 정보를 조회합니다.")
+	@Operation(summary = "내 예약 정보 조회", description = "현재 사용자의 예약 정보를 조회합니다. 기간 / 페이지 조건을 주면 예약 날짜 내림차순으로 페이지 단위 조회합니다.")
 	@ApiResponse(responseCode = "200", description = "예약 정보 조회 성공")
 	@ApiResponse(responseCode = "500", description = "예약 정보 조회 실패")
 	@GetMapping("/my")
 	public ResponseEntity<ResponseDto<List<GetReservationsResponse>>> getMyReservation(
-		@RequestHeader("Authorization") String authorizationHeader
+		@RequestHeader("Authorization") String authorizationHeader,
+		@RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam(name = "page", required = false) Integer page,
+		@RequestParam(name = "size", required = false) Integer size
 	) {
 		return ResponseEntity
 			.status(StatusCode.OK.getStatus())
-			.body(ResponseDto.of(reservationService.getReservations(authorizationHeader)));
+			.body(ResponseDto.of(reservationService.getReservations(authorizationHeader, from, to, page, size)));
 	}
 
 	@GetMapping("/my/latest")
@@ -0,0 +1,119 @@
+package com.ice.studyroom.domain.reservation.scheduler;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ice.studyroom.domain.reservation.application.email.ReservationEmailComposer;
+import com.ice.studyroom.domain.reservation.application.email.ReservationEmailOutboxService;
+import com.ice.studyroom.domain.reservation.domain.entity.ReservationEmailOutbox;
+import com.ice.studyroom.global.dto.request.EmailRequest;
+import com.ice.studyroom.global.service.EmailService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 확정 메일 outbox 를 주기적으로 읽어 묶음 단위로 발송합니다.
+ * 예약 요청은 outbox 저장까지만 수행하므로 메일 서버 상태가 예약 응답 시간에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+public class ReservationEmailOutboxRelay {
+
+	private final ReservationEmailOutboxService outboxService;
+	private final ReservationEmailComposer emailComposer;
+	private final EmailService emailService;
+	private final int batchSize;
+
+	private final Counter sentCounter;
+	private final Counter retryCounter;
+	private final Counter failedCounter;
+	private final Timer batchTimer;
+
+	public ReservationEmailOutboxRelay(ReservationEmailOutboxService outboxService,
+		ReservationEmailComposer emailComposer, EmailService emailService, MeterRegistry meterRegistry,
+		@Value("${reservation.email.outbox.batch-size:50}") int batchSize) {
+		this.outboxService = outboxService;
+		this.emailComposer = emailComposer;
+		this.emailService = emailService;
+		this.batchSize = batchSize;
+
+		this.sentCounter = Counter.builder("reservation.email.outbox.sent")
+			.description("발송 완료된 예약 확정 메일 수").register(meterRegistry);
+		this.retryCounter = Counter.builder("reservation.email.outbox.retry")
+			.description("재시도 대기로 돌아간 예약 확정 메일 수").register(meterRegistry);
+		this.failedCounter = Counter.builder("reservation.email.outbox.failed")
+			.description("최대 재시도 횟수를 넘겨 포기한 예약 확정 메일 수").register(meterRegistry);
+		this.batchTimer = Timer.builder("reservation.email.outbox.batch")
+			.description("예약 확정 메일 묶음 발송 시간").register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${reservation.email.outbox.poll-interval-ms:2000}")
+	public void relay() {
+		try {
+			// 한 번의 실행에서 대기 중인 묶음을 모두 비운다
+			while (relayBatch() == batchSize) {
+				log.debug("[RESERVATION] 예약 확정 메일 outbox 다음 묶음 처리");
+			}
+		} catch (Exception e) {
+			log.error("[RESERVATION] 예약 확정 메일 outbox 처리 실패", e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${reservation.email.outbox.claim-timeout-ms:300000}")
+	public void releaseStaleClaims() {
+		int released = outboxService.releaseStaleClaims();
+		if (released > 0) {
+			log.warn("[RESERVATION] 발송 중 상태로 남은 예약 확정 메일 {}건을 재시도 대기로 전환", released);
+		}
+	}
+
+	int relayBatch() {
+		List<ReservationEmailOutbox> outboxes = outboxService.claimBatch(batchSize);
+		if (outboxes.isEmpty()) {
+			return 0;
+		}
+
+		Map<Long, String> failures = batchTimer.record(() -> send(outboxes));
+		outboxService.complete(outboxes, failures);
+
+		long failedCount = outboxes.stream().filter(ReservationEmailOutbox::isFailed).count();
+		sentCounter.increment(outboxes.size() - failures.size());
+		retryCounter.increment(failures.size() - failedCount);
+		failedCounter.increment(failedCount);
+		if (failedCount > 0) {
+			log.error("[RESERVATION] 예약 확정 메일 발송 포기 - {}건", failedCount);
+		}
+		return outboxes.size();
+	}
+
+	private Map<Long, String> send(List<ReservationEmailOutbox> outboxes) {
+		Map<Long, String> failures = new HashMap<>();
+
+		Map<Long, EmailRequest> requests;
+		try {
+			requests = emailComposer.compose(outboxes);
+		} catch (Exception e) {
+			outboxes.forEach(outbox -> failures.put(outbox.getId(), "본문 생성 실패: " + e.getMessage()));
+			return failures;
+		}
+
+		Map<EmailRequest, Exception> sendFailures = emailService.sendEmails(List.copyOf(requests.values()));
+		requests.forEach((outboxId, request) -> {
+			Exception cause = sendFailures.get(request);
+			if (cause != null) {
+				failures.put(outboxId, String.valueOf(cause.getMessage()));
+			}
+		});
+		return failures;
+	}
+}
@@ -0,0 +1,45 @@
+package com.ice.studyroom.domain.reservation.scheduler;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ice.studyroom.domain.reservation.infrastructure.redis.ScheduleSlotInventory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class ScheduleInventoryReconcileScheduler {
+
+	private final ScheduleSlotInventory scheduleSlotInventory;
+	private final Clock clock;
+
+	// 서버 기동 시 오늘 스케줄의 잔여 좌석을 Redis에 적재
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		reconcileToday();
+	}
+
+	// 예약 경로 밖(연장, 관리자 점유 등)에서 바뀐 좌석 수를 주기적으로 MySQL 기준으로 맞춘다
+	@Scheduled(fixedDelayString = "${reservation.admission.reconcile-interval-ms:60000}")
+	public void reconcileToday() {
+		if (!scheduleSlotInventory.isEnabled()) {
+			return;
+		}
+
+		try {
+			scheduleSlotInventory.reconcile(LocalDate.now(clock));
+		} catch (Exception e) {
+			log.error("[RESERVATION] Redis 좌석 재고 동기화 실패", e);
+		}
+	}
+}
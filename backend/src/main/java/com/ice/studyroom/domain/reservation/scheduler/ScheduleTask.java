@@ -5,12 +5,15 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ice.studyroom.domain.schedule.domain.event.ScheduleGeneratedEvent;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ScheduleTask {
 
 	private final JdbcTemplate jdbcTemplate;
+	private final ApplicationEventPublisher eventPublisher;
 	private final Clock clock;
 
 	@Transactional
@@ -64,6 +68,8 @@ public class ScheduleTask {
 				WHERE r.day_of_week = DAYNAME(CONVERT_TZ(CURRENT_DATE, 'UTC', 'Asia/Seoul'));
 			""";
 		jdbcTemplate.update(sql);
+		// 커밋 이후 오늘 현황판을 새로 만든다
+		eventPublisher.publishEvent(new ScheduleGeneratedEvent(todayDate));
 		log.info("스케줄 생성 완료 - 실행 완료 시각: {}", LocalDateTime.now());
 	}
 }
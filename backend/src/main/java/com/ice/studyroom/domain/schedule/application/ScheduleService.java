@@ -15,10 +15,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Clock;
-import java.time.LocalDate;
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class ScheduleService {
@@ -27,12 +23,11 @@ public class ScheduleService {
 	private final MemberRepository memberRepository;
 	private final ScheduleRepository scheduleRepository;
 	private final ScheduleVacancyAlertService scheduleVacancyAlertService;
-	private final Clock clock;
+	private final TodayScheduleBoard todayScheduleBoard;
 
-	@Transactional(readOnly = true)
-	public List<Schedule> getSchedule() {
-		LocalDate today = LocalDate.now(clock);
-		return scheduleRepository.findByScheduleDate(today);
+	// 오늘 현황판은 메모리 스냅샷에서 제공 (MySQL 조회 없음)
+	public TodayScheduleBoard.Board getSchedule() {
+		return todayScheduleBoard.getBoard();
 	}
 
 	@Transactional(readOnly = true)
@@ -0,0 +1,51 @@
+package com.ice.studyroom.domain.schedule.application;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ice.studyroom.domain.reservation.infrastructure.persistence.ScheduleRepository;
+import com.ice.studyroom.domain.schedule.application.dto.ScheduleSlotDelta;
+import com.ice.studyroom.domain.schedule.domain.event.ScheduleSlotChangedEvent;
+import com.ice.studyroom.domain.schedule.infrastructure.redis.ScheduleSlotDeltaChannel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 스케줄 변경을 변경분(ScheduleSlotDelta)으로 만들어 전파합니다.
+ * 이 서버의 현황판 / SSE 구독자에는 바로 반영하고, 다른 서버에는 Redis pub/sub 으로 전달합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleSlotChangeRelay {
+
+	private final ScheduleRepository scheduleRepository;
+	private final TodayScheduleBoard todayScheduleBoard;
+	private final ScheduleSlotStreamService scheduleSlotStreamService;
+	private final ScheduleSlotDeltaChannel scheduleSlotDeltaChannel;
+
+	// 커밋 이후 실행되므로 새 트랜잭션에서 변경된 행만 다시 읽는다
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public void onSlotChanged(ScheduleSlotChangedEvent event) {
+		List<ScheduleSlotDelta> deltas;
+		try {
+			deltas = scheduleRepository.findAllByIdIn(event.scheduleIds()).stream()
+				.map(ScheduleSlotDelta::from)
+				.toList();
+		} catch (Exception e) {
+			// 변경분 조회 실패는 다음 현황판 재구성 때 복구된다
+			log.error("[SCHEDULE] 좌석 변경분 조회 실패 - scheduleIds: {}", event.scheduleIds(), e);
+			return;
+		}
+
+		todayScheduleBoard.apply(deltas);
+		scheduleSlotStreamService.broadcast(deltas);
+		scheduleSlotDeltaChannel.publish(deltas);
+	}
+}
@@ -0,0 +1,188 @@
+package com.ice.studyroom.domain.schedule.application;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ice.studyroom.domain.schedule.application.dto.ScheduleSlotDelta;
+import com.ice.studyroom.global.exception.BusinessException;
+import com.ice.studyroom.global.type.StatusCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스케줄 좌석 변경을 SSE 로 전달합니다.
+ * <p>
+ * SseEmitter 는 서블릿 비동기 요청으로 유지되므로 연결당 스레드를 점유하지 않습니다.
+ * 이벤트는 연결마다 크기가 정해진 큐에 넣기만 하므로 broadcast 를 호출한 스레드(요청 / Redis 리스너)는 막히지 않습니다.
+ * 큐는 전송 실행기(scheduleSlotStreamExecutor)의 스레드가 연결당 하나씩만 비우므로 연결별 순서는 유지되고,
+ * 느린 연결은 자기 큐만 채우다가 가득 차면 끊깁니다. (다시 연결하면 snapshot 으로 복구)
+ */
+@Slf4j
+@Service
+public class ScheduleSlotStreamService {
+
+	static final String SNAPSHOT_EVENT = "snapshot";
+	static final String DELTA_EVENT = "slot-delta";
+
+	private final TodayScheduleBoard todayScheduleBoard;
+	private final TaskExecutor streamExecutor;
+	private final long timeoutMillis;
+	private final int maxConnections;
+	private final int queueCapacity;
+
+	private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+	public ScheduleSlotStreamService(TodayScheduleBoard todayScheduleBoard,
+		@Qualifier("scheduleSlotStreamExecutor") TaskExecutor streamExecutor,
+		@Value("${schedule.stream.timeout-ms:1800000}") long timeoutMillis,
+		@Value("${schedule.stream.max-connections:5000}") int maxConnections,
+		@Value("${schedule.stream.queue-capacity:100}") int queueCapacity) {
+		this.todayScheduleBoard = todayScheduleBoard;
+		this.streamExecutor = streamExecutor;
+		this.timeoutMillis = timeoutMillis;
+		this.maxConnections = maxConnections;
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * 새 구독을 등록하고 현재 현황판을 snapshot 이벤트로 먼저 보냅니다.
+	 * 이후에는 slot-delta 이벤트만 전달되므로 클라이언트는 별도 조회 없이 현황판을 유지할 수 있습니다.
+	 */
+	public SseEmitter subscribe() {
+		if (subscribers.size() >= maxConnections) {
+			log.warn("[SCHEDULE] SSE 연결 수 초과 - current: {}", subscribers.size());
+			throw new BusinessException(StatusCode.SERVICE_UNAVAILABLE, "실시간 좌석 구독자가 많습니다. 잠시 후 다시 시도해주세요.");
+		}
+
+		return register(new SseEmitter(timeoutMillis));
+	}
+
+	SseEmitter register(SseEmitter emitter) {
+		Subscriber subscriber = new Subscriber(emitter, queueCapacity);
+		emitter.onCompletion(() -> subscribers.remove(emitter));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(e -> subscribers.remove(emitter));
+		subscribers.put(emitter, subscriber);
+
+		TodayScheduleBoard.Board board = todayScheduleBoard.getBoard();
+		enqueue(subscriber, SseEmitter.event().name(SNAPSHOT_EVENT).id(board.etag()).data(board.schedules()));
+		return emitter;
+	}
+
+	public void broadcast(List<ScheduleSlotDelta> deltas) {
+		if (deltas.isEmpty() || subscribers.isEmpty()) {
+			return;
+		}
+
+		for (Subscriber subscriber : subscribers.values()) {
+			enqueue(subscriber, SseEmitter.event().name(DELTA_EVENT).data(deltas));
+		}
+	}
+
+	// 프록시 유휴 연결 종료 방지 + 끊긴 연결 정리
+	public void heartbeat() {
+		for (Subscriber subscriber : subscribers.values()) {
+			enqueue(subscriber, SseEmitter.event().comment("heartbeat"));
+		}
+	}
+
+	public int connectionCount() {
+		return subscribers.size();
+	}
+
+	private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+		if (!subscriber.queue.offer(event)) {
+			// 전송이 이벤트 발생 속도를 따라가지 못하는 연결
+			log.warn("[SCHEDULE] SSE 전송 지연으로 연결 종료 - pending: {}", subscriber.queue.size());
+			close(subscriber, null);
+			return;
+		}
+		scheduleDrain(subscriber);
+	}
+
+	private void scheduleDrain(Subscriber subscriber) {
+		if (!subscriber.draining.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			streamExecutor.execute(() -> drain(subscriber));
+		} catch (TaskRejectedException e) {
+			// 이벤트는 큐에 남아 있으므로 다음 broadcast / heartbeat 때 다시 시도
+			subscriber.draining.set(false);
+			log.warn("[SCHEDULE] SSE 전송 작업 등록 실패 - 다음 이벤트 때 재시도");
+		}
+	}
+
+	private void drain(Subscriber subscriber) {
+		SseEmitter.SseEventBuilder event;
+		while (!subscriber.closed.get() && (event = subscriber.queue.poll()) != null) {
+			try {
+				subscriber.emitter.send(event);
+			} catch (IOException | IllegalStateException e) {
+				// 클라이언트가 이미 끊은 연결
+				close(subscriber, e);
+			}
+		}
+
+		subscriber.draining.set(false);
+		if (subscriber.closed.get()) {
+			// 전송 중에 끊긴 연결은 전송이 끝난 이 스레드에서 마무리 (send 와 complete 는 같은 락을 쓴다)
+			complete(subscriber);
+		} else if (!subscriber.queue.isEmpty()) {
+			// draining 을 내린 사이에 들어온 이벤트
+			scheduleDrain(subscriber);
+		}
+	}
+
+	private void close(Subscriber subscriber, Throwable cause) {
+		subscribers.remove(subscriber.emitter);
+		subscriber.queue.clear();
+		subscriber.cause = cause;
+		if (subscriber.closed.compareAndSet(false, true) && !subscriber.draining.get()) {
+			// 진행 중인 전송이 없으면 바로 종료, 있으면 drain 이 끝난 뒤 종료
+			complete(subscriber);
+		}
+	}
+
+	private void complete(Subscriber subscriber) {
+		if (!subscriber.completed.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			if (subscriber.cause == null) {
+				subscriber.emitter.complete();
+			} else {
+				subscriber.emitter.completeWithError(subscriber.cause);
+			}
+		} catch (Exception e) {
+			log.debug("[SCHEDULE] SSE 연결 종료 처리 실패", e);
+		}
+	}
+
+	private static final class Subscriber {
+
+		private final SseEmitter emitter;
+		private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private final AtomicBoolean closed = new AtomicBoolean();
+		private final AtomicBoolean completed = new AtomicBoolean();
+		private volatile Throwable cause;
+
+		private Subscriber(SseEmitter emitter, int queueCapacity) {
+			this.emitter = emitter;
+			this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		}
+	}
+}
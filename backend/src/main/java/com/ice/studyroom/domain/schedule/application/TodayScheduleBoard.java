@@ -0,0 +1,123 @@
+package com.ice.studyroom.domain.schedule.application;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ice.studyroom.domain.reservation.infrastructure.persistence.ScheduleRepository;
+import com.ice.studyroom.domain.schedule.application.dto.ScheduleSlotDelta;
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+import com.ice.studyroom.domain.schedule.presentation.dto.response.ScheduleResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오늘 스케줄 현황판의 메모리 스냅샷.
+ * <p>
+ * 조회는 스냅샷만 읽고 MySQL 에 접근하지 않습니다. 스케줄 생성 시 전체를 다시 만들고,
+ * 좌석 변경은 ScheduleSlotChangeRelay 가 전달하는 변경분으로 패치합니다.
+ * 늦게 도착한 패치가 최신 값을 덮어쓰지 않도록 Schedule.version 이 더 큰 경우에만 반영합니다.
+ * ETag 는 현황판 내용으로 계산하므로 재구성이나 서버 인스턴스가 달라도 내용이 같으면 같은 값이 나옵니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodayScheduleBoard {
+
+	// 기존 findByScheduleDate 결과와 같은 순서 (스케줄 ID 순)
+	private static final Comparator<ScheduleResponse> BOARD_ORDER = Comparator.comparing(ScheduleResponse::id);
+
+	private final ScheduleRepository scheduleRepository;
+	private final Clock clock;
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.empty(null));
+
+	/**
+	 * 오늘 현황판과 ETag 를 반환합니다. 스냅샷이 오늘 것이 아니면 (스케줄 생성 전) 빈 현황판을 반환합니다.
+	 */
+	public Board getBoard() {
+		LocalDate today = LocalDate.now(clock);
+		Snapshot current = snapshot.get();
+
+		if (!today.equals(current.date())) {
+			return new Board(List.of(), "\"" + today + "-empty\"");
+		}
+		return new Board(current.view(), current.etag());
+	}
+
+	/**
+	 * 오늘 스케줄 전체를 MySQL 에서 다시 읽어 스냅샷을 교체합니다.
+	 * 스케줄 생성 트랜잭션의 커밋 이후에도 호출되므로 항상 새 트랜잭션에서 읽습니다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public synchronized void rebuild() {
+		LocalDate today = LocalDate.now(clock);
+		Map<Long, Slot> slots = new LinkedHashMap<>();
+		for (Schedule schedule : scheduleRepository.findByScheduleDate(today)) {
+			slots.put(schedule.getId(), Slot.from(schedule));
+		}
+
+		snapshot.set(Snapshot.of(today, slots));
+		log.info("[SCHEDULE] 현황판 재구성 완료 - date: {}, count: {}", today, slots.size());
+	}
+
+	/**
+	 * 좌석 변경분을 스냅샷에 반영합니다. (로컬 커밋 / 다른 인스턴스에서 Redis 로 전달된 변경 공통)
+	 */
+	public synchronized void apply(List<ScheduleSlotDelta> deltas) {
+		Snapshot current = snapshot.get();
+		Map<Long, Slot> slots = new LinkedHashMap<>(current.slots());
+		boolean changed = false;
+
+		for (ScheduleSlotDelta delta : deltas) {
+			Slot previous = slots.get(delta.scheduleId());
+			// 오늘 현황판에 없는 스케줄이거나 이미 더 최신 값을 반영한 경우
+			if (previous == null || previous.version() >= delta.version()) {
+				continue;
+			}
+
+			slots.put(delta.scheduleId(), new Slot(delta.version(), previous.response().applying(delta)));
+			changed = true;
+		}
+
+		if (changed) {
+			snapshot.set(Snapshot.of(current.date(), slots));
+		}
+	}
+
+	public record Board(List<ScheduleResponse> schedules, String etag) {
+	}
+
+	private record Slot(long version, ScheduleResponse response) {
+
+		static Slot from(Schedule schedule) {
+			return new Slot(schedule.getVersion(), ScheduleResponse.from(schedule));
+		}
+	}
+
+	private record Snapshot(LocalDate date, Map<Long, Slot> slots, List<ScheduleResponse> view, String etag) {
+
+		static Snapshot empty(LocalDate date) {
+			return new Snapshot(date, Map.of(), List.of(), "\"empty\"");
+		}
+
+		static Snapshot of(LocalDate date, Map<Long, Slot> slots) {
+			List<ScheduleResponse> view = slots.values().stream()
+				.map(Slot::response)
+				.sorted(BOARD_ORDER)
+				.toList();
+			// enum hashCode 는 JVM 마다 다르므로 문자열 표현으로 계산
+			String etag = "\"" + date + "-" + Integer.toHexString(view.toString().hashCode()) + "\"";
+			return new Snapshot(date, Map.copyOf(slots), view, etag);
+		}
+	}
+}
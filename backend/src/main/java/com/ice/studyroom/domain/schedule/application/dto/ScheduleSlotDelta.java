@@ -0,0 +1,33 @@
+package com.ice.studyroom.domain.schedule.application.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+
+/**
+ * 스케줄 좌석 변경분. 예약 / 취소 / 연장 / 관리자 선점으로 바뀌는 값만 담는다.
+ * version 으로 순서가 뒤바뀐 변경분을 걸러낼 수 있다.
+ */
+public record ScheduleSlotDelta(
+	Long scheduleId,
+	LocalDate scheduleDate,
+	Integer currentRes,
+	ScheduleSlotStatus status,
+	boolean available,
+	long version,
+	LocalDateTime updatedAt
+) {
+	public static ScheduleSlotDelta from(Schedule schedule) {
+		return new ScheduleSlotDelta(
+			schedule.getId(),
+			schedule.getScheduleDate(),
+			schedule.getCurrentRes(),
+			schedule.getStatus(),
+			schedule.isAvailable(),
+			schedule.getVersion(),
+			schedule.getUpdatedAt()
+		);
+	}
+}
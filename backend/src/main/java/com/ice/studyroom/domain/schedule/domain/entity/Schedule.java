@@ -9,16 +9,19 @@ import com.ice.studyroom.domain.schedule.domain.exception.schedule.GroupRoomOnly
 import com.ice.studyroom.domain.schedule.domain.exception.schedule.ReservationCapacityExceededException;
 import com.ice.studyroom.domain.schedule.domain.exception.schedule.CancellationNotAllowedException;
 import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
+import com.ice.studyroom.domain.schedule.infrastructure.persistence.ScheduleChangeEntityListener;
 import com.ice.studyroom.global.entity.BaseTimeEntity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,6 +30,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "schedule")
+@EntityListeners(ScheduleChangeEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -76,6 +80,11 @@ public class Schedule extends BaseTimeEntity {
 	@Column(name = "day_of_week", nullable = false)
 	private DayOfWeekStatus dayOfWeek;
 
+	// 낙관적 락 전략에서 조건부 UPDATE(WHERE version = ?)에 사용 - JDBC 배치 INSERT 대비 기본값 0
+	@Version
+	@Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+	private long version;
+
 	public boolean isAvailable() {
 		return status == ScheduleSlotStatus.AVAILABLE;
 	}
@@ -0,0 +1,9 @@
+package com.ice.studyroom.domain.schedule.domain.event;
+
+import java.time.LocalDate;
+
+/**
+ * 하루치 스케줄이 새로 생성되었음을 알리는 이벤트.
+ */
+public record ScheduleGeneratedEvent(LocalDate scheduleDate) {
+}
@@ -0,0 +1,14 @@
+package com.ice.studyroom.domain.schedule.domain.event;
+
+import java.util.List;
+
+/**
+ * 예약 취소로 스케줄 좌석이 반납되었음을 알리는 이벤트.
+ * Redis 잔여 좌석은 커밋이 확정된 뒤에만 되돌린다.
+ */
+public record ScheduleSeatReleasedEvent(List<Long> scheduleIds) {
+
+	public static ScheduleSeatReleasedEvent of(Long scheduleId) {
+		return new ScheduleSeatReleasedEvent(List.of(scheduleId));
+	}
+}
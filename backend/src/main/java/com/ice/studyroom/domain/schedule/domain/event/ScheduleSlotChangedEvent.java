@@ -0,0 +1,14 @@
+package com.ice.studyroom.domain.schedule.domain.event;
+
+import java.util.List;
+
+/**
+ * 스케줄의 좌석 수 / 상태가 바뀌었음을 알리는 이벤트.
+ * 변경된 값은 커밋 이후 다시 읽으므로 ID만 담는다.
+ */
+public record ScheduleSlotChangedEvent(List<Long> scheduleIds) {
+
+	public static ScheduleSlotChangedEvent of(Long scheduleId) {
+		return new ScheduleSlotChangedEvent(List.of(scheduleId));
+	}
+}
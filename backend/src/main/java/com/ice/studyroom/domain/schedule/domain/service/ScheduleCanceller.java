@@ -5,8 +5,11 @@ import com.ice.studyroom.domain.reservation.domain.exception.type.reservation.Re
 import com.ice.studyroom.domain.reservation.domain.exception.type.reservation.ScheduleNotFoundReason;
 import com.ice.studyroom.domain.reservation.infrastructure.kafka.VacancyNotificationProducer;
 import com.ice.studyroom.domain.reservation.infrastructure.persistence.ScheduleRepository;
-import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+import com.ice.studyroom.domain.schedule.domain.exception.schedule.CancellationNotAllowedException;
+import com.ice.studyroom.domain.schedule.domain.event.ScheduleSeatReleasedEvent;
+import com.ice.studyroom.domain.schedule.domain.event.ScheduleSlotChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,20 +20,31 @@ import java.util.Optional;
 public class ScheduleCanceller {
 	private final ScheduleRepository scheduleRepository;
 	private final VacancyNotificationProducer vacancyNotificationProducer;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public void cancelAssociatedSchedules(Long reservationId, Long firstScheduleId, Optional<Long> secondScheduleIdOpt) {
-		findAndCancelSchedule(reservationId, firstScheduleId);
-		secondScheduleIdOpt.ifPresent(id -> findAndCancelSchedule(reservationId, id));
+		cancelSchedule(reservationId, firstScheduleId);
+		secondScheduleIdOpt.ifPresent(id -> cancelSchedule(reservationId, id));
 	}
 
-	private void findAndCancelSchedule(Long reservationId, Long scheduleId) {
-		Schedule schedule = scheduleRepository.findById(scheduleId)
-			.orElseThrow(() -> new ReservationScheduleNotFoundException(
-				ScheduleNotFoundReason.NOT_FOUND, scheduleId, reservationId, ReservationActionType.CANCEL_RESERVATION
-			));
-		schedule.cancel();
+	private void cancelSchedule(Long reservationId, Long scheduleId) {
+		// 조건부 UPDATE 한 문장으로 좌석 반납 - 갱신된 행이 없을 때만 원인을 조회한다
+		int updatedCount = scheduleRepository.decreaseCurrentRes(scheduleId);
+		if (updatedCount == 0) {
+			if (!scheduleRepository.existsById(scheduleId)) {
+				throw new ReservationScheduleNotFoundException(
+					ScheduleNotFoundReason.NOT_FOUND, scheduleId, reservationId, ReservationActionType.CANCEL_RESERVATION
+				);
+			}
+			throw new CancellationNotAllowedException("취소할 예약이 없습니다. 스케줄 ID: " + scheduleId);
+		}
+		// Redis 잔여 좌석은 커밋 이후에 복구 (롤백되면 좌석이 반납되지 않았으므로 그대로 둔다)
+		eventPublisher.publishEvent(ScheduleSeatReleasedEvent.of(scheduleId));
+		// 조건부 UPDATE 는 엔티티 리스너를 거치지 않으므로 현황판 갱신 이벤트를 직접 발행
+		eventPublisher.publishEvent(ScheduleSlotChangedEvent.of(scheduleId));
 		// 배포할 경우 주석 제거
+//		Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow();
 //		if (schedule.getCapacity() - schedule.getCurrentRes() == 1) {
 //			vacancyNotificationProducer.sendVacancyNotificationToSubscribers(
 //				scheduleId,
@@ -0,0 +1,24 @@
+package com.ice.studyroom.domain.schedule.infrastructure.persistence;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+import com.ice.studyroom.domain.schedule.domain.event.ScheduleSlotChangedEvent;
+
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 더티 체킹으로 반영되는 스케줄 변경(reserve, cancel, updateStatus, 관리자 선점/해제 등)을 이벤트로 발행합니다.
+ * 조건부 UPDATE 처럼 영속성 컨텍스트를 거치지 않는 변경은 호출한 쪽에서 직접 발행해야 합니다.
+ */
+@RequiredArgsConstructor
+public class ScheduleChangeEntityListener {
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	@PostUpdate
+	public void afterUpdate(Schedule schedule) {
+		eventPublisher.publishEvent(ScheduleSlotChangedEvent.of(schedule.getId()));
+	}
+}
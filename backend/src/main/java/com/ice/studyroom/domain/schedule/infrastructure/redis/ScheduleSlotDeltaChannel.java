@@ -0,0 +1,79 @@
+package com.ice.studyroom.domain.schedule.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.studyroom.domain.schedule.application.ScheduleSlotStreamService;
+import com.ice.studyroom.domain.schedule.application.TodayScheduleBoard;
+import com.ice.studyroom.domain.schedule.application.dto.ScheduleSlotDelta;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 인스턴스 간 스케줄 좌석 변경분을 Redis pub/sub 으로 주고받습니다.
+ * 자신이 발행한 메시지는 이미 로컬에 반영했으므로 수신 시 무시합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleSlotDeltaChannel implements MessageListener {
+
+	private static final ChannelTopic TOPIC = new ChannelTopic("schedule:slot-delta");
+	private static final String NODE_ID = UUID.randomUUID().toString();
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ObjectMapper objectMapper;
+	private final TodayScheduleBoard todayScheduleBoard;
+	private final ScheduleSlotStreamService scheduleSlotStreamService;
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, TOPIC);
+	}
+
+	public void publish(List<ScheduleSlotDelta> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		try {
+			String payload = objectMapper.writeValueAsString(new DeltaMessage(NODE_ID, deltas));
+			redisTemplate.convertAndSend(TOPIC.getTopic(), payload);
+		} catch (Exception e) {
+			// 다른 서버는 주기적 현황판 재구성으로 따라잡는다
+			log.error("[SCHEDULE] 좌석 변경분 발행 실패 - count: {}", deltas.size(), e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			DeltaMessage deltaMessage = objectMapper.readValue(
+				new String(message.getBody(), StandardCharsets.UTF_8), DeltaMessage.class);
+
+			if (NODE_ID.equals(deltaMessage.originNodeId())) {
+				return;
+			}
+
+			todayScheduleBoard.apply(deltaMessage.deltas());
+			scheduleSlotStreamService.broadcast(deltaMessage.deltas());
+		} catch (Exception e) {
+			log.error("[SCHEDULE] 좌석 변경분 수신 처리 실패", e);
+		}
+	}
+
+	record DeltaMessage(String originNodeId, List<ScheduleSlotDelta> deltas) {
+	}
+}
@@ -1,15 +1,20 @@
 package com.ice.studyroom.domain.schedule.presentation;
 
-import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
 import com.ice.studyroom.domain.schedule.application.ScheduleService;
+import com.ice.studyroom.domain.schedule.application.ScheduleSlotStreamService;
+import com.ice.studyroom.domain.schedule.application.TodayScheduleBoard;
+import com.ice.studyroom.domain.schedule.presentation.dto.response.ScheduleResponse;
 import com.ice.studyroom.global.dto.response.ResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -23,15 +28,29 @@ import java.util.List;
 public class ScheduleController {
 
 	private final ScheduleService scheduleService;
+	private final ScheduleSlotStreamService scheduleSlotStreamService;
 
-	@Operation(summary = "스터디룸 일정 조회", description = "스터디룸 예약 가능한 일정을 조회합니다.")
+	@Operation(summary = "스터디룸 일정 조회", description = "스터디룸 예약 가능한 일정을 조회합니다. If-None-Match 로 변경 여부를 확인할 수 있습니다.")
 	@ApiResponse(responseCode = "200", description = "스터디룸 일정 조회 성공")
+	@ApiResponse(responseCode = "304", description = "마지막 조회 이후 변경 없음")
 	@ApiResponse(responseCode = "500", description = "스터디룸 일정 조회 실패")
 	@GetMapping()
-	public ResponseEntity<ResponseDto<List<Schedule>>> getSchedule() {
+	public ResponseEntity<ResponseDto<List<ScheduleResponse>>> getSchedule() {
+		TodayScheduleBoard.Board board = scheduleService.getSchedule();
+
+		// ETag 를 지정하면 If-None-Match 가 일치할 때 HttpEntityMethodProcessor 가 본문 없이 304 로 응답한다
 		return ResponseEntity
 			.status(HttpStatus.OK)
-			.body(ResponseDto.of(scheduleService.getSchedule()));
+			.eTag(board.etag())
+			.cacheControl(CacheControl.noCache())
+			.body(ResponseDto.of(board.schedules()));
+	}
+
+	@Operation(summary = "스터디룸 좌석 실시간 구독",
+		description = "연결 직후 snapshot 이벤트로 오늘 현황판을, 이후 slot-delta 이벤트로 좌석 변경분(scheduleId, currentRes, status)을 전달합니다.")
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamSlots() {
+		return scheduleSlotStreamService.subscribe();
 	}
 
 	@Operation(summary = "특정 스케줄 빈자리 알림 신청", description = "이미 예약된 특정 스케줄에 빈자리가 생길 경우 알림을 받도록 등록합니다.")
@@ -0,0 +1,60 @@
+package com.ice.studyroom.domain.schedule.presentation.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import com.ice.studyroom.domain.admin.domain.type.DayOfWeekStatus;
+import com.ice.studyroom.domain.admin.domain.type.RoomType;
+import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
+import com.ice.studyroom.domain.schedule.application.dto.ScheduleSlotDelta;
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+
+/**
+ * 스케줄 현황판 응답. 기존에 직렬화되던 Schedule 엔티티와 같은 필드 이름을 유지한다.
+ */
+public record ScheduleResponse(
+	Long id,
+	RoomType roomType,
+	LocalDate scheduleDate,
+	String roomNumber,
+	Long roomTimeSlotId,
+	LocalTime startTime,
+	LocalTime endTime,
+	Integer currentRes,
+	Integer capacity,
+	Integer minRes,
+	ScheduleSlotStatus status,
+	DayOfWeekStatus dayOfWeek,
+	boolean available,
+	boolean currentResLessThanCapacity,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt
+) {
+	public static ScheduleResponse from(Schedule schedule) {
+		return new ScheduleResponse(
+			schedule.getId(),
+			schedule.getRoomType(),
+			schedule.getScheduleDate(),
+			schedule.getRoomNumber(),
+			schedule.getRoomTimeSlotId(),
+			schedule.getStartTime(),
+			schedule.getEndTime(),
+			schedule.getCurrentRes(),
+			schedule.getCapacity(),
+			schedule.getMinRes(),
+			schedule.getStatus(),
+			schedule.getDayOfWeek(),
+			schedule.isAvailable(),
+			schedule.isCurrentResLessThanCapacity(),
+			schedule.getCreatedAt(),
+			schedule.getUpdatedAt()
+		);
+	}
+
+	public ScheduleResponse applying(ScheduleSlotDelta delta) {
+		return new ScheduleResponse(id, roomType, scheduleDate, roomNumber, roomTimeSlotId, startTime, endTime,
+			delta.currentRes(), capacity, minRes, delta.status(), dayOfWeek, delta.available(),
+			delta.currentRes() < capacity, createdAt, delta.updatedAt());
+	}
+}
@@ -0,0 +1,57 @@
+package com.ice.studyroom.domain.schedule.scheduler;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ice.studyroom.domain.schedule.application.ScheduleSlotStreamService;
+import com.ice.studyroom.domain.schedule.application.TodayScheduleBoard;
+import com.ice.studyroom.domain.schedule.domain.event.ScheduleGeneratedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class ScheduleBoardScheduler {
+
+	private final TodayScheduleBoard todayScheduleBoard;
+	private final ScheduleSlotStreamService scheduleSlotStreamService;
+
+	// 서버 기동 시 오늘 현황판 적재
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		rebuild();
+	}
+
+	// 스케줄 생성(ScheduleTask) 커밋 직후 현황판을 새로 만든다
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onScheduleGenerated(ScheduleGeneratedEvent event) {
+		rebuild();
+	}
+
+	// 다른 서버 인스턴스에서 일어난 변경, 날짜 변경 등을 주기적으로 MySQL 기준으로 맞춘다
+	@Scheduled(fixedDelayString = "${schedule.board.refresh-interval-ms:300000}")
+	public void refresh() {
+		rebuild();
+	}
+
+	// SSE 유휴 연결이 프록시에서 끊기지 않도록 주기적으로 주석 이벤트 전송
+	@Scheduled(fixedDelayString = "${schedule.stream.heartbeat-interval-ms:25000}")
+	public void heartbeat() {
+		scheduleSlotStreamService.heartbeat();
+	}
+
+	private void rebuild() {
+		try {
+			todayScheduleBoard.rebuild();
+		} catch (Exception e) {
+			log.error("[SCHEDULE] 현황판 재구성 실패", e);
+		}
+	}
+}
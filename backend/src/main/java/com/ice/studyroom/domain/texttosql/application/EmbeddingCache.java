@@ -0,0 +1,60 @@
+package com.ice.studyroom.domain.texttosql.application;
+
+import com.ice.studyroom.global.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 텍스트별 임베딩 결과 캐시입니다.
+ * 키는 정규화한 텍스트(앞뒤 공백 제거, 연속 공백 축소, 소문자)이며, 사용하는 모델(all-MiniLM-L6-v2)의
+ * 토크나이저도 대소문자와 공백 수를 구분하지 않으므로 같은 키는 같은 임베딩을 갖습니다.
+ * 최대 크기를 넘으면 가장 오래 조회하지 않은 텍스트부터 지웁니다.
+ */
+@Component
+public class EmbeddingCache {
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final Clock clock;
+	private final long ttlMillis;
+
+	private final LruCache<String, CachedEmbedding> cache;
+
+	public EmbeddingCache(Clock clock,
+		@Value("${embedding.cache.ttl-ms:3600000}") long ttlMillis,
+		@Value("${embedding.cache.max-size:10000}") int maxSize) {
+		this.clock = clock;
+		this.ttlMillis = ttlMillis;
+		this.cache = new LruCache<>(maxSize);
+	}
+
+	public static String normalize(String text) {
+		return WHITESPACE.matcher(text.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 캐시된 임베딩의 복사본. 없거나 만료됐으면 null
+	 */
+	public float[] get(String normalizedText) {
+		CachedEmbedding cached = cache.get(normalizedText);
+		if (cached == null || cached.expiresAt() <= clock.millis()) {
+			return null;
+		}
+		return cached.embedding().clone();
+	}
+
+	public void put(String normalizedText, float[] embedding) {
+		cache.put(normalizedText, new CachedEmbedding(embedding.clone(), clock.millis() + ttlMillis));
+	}
+
+	public int size() {
+		return cache.size();
+	}
+
+	private record CachedEmbedding(float[] embedding, long expiresAt) {
+	}
+}
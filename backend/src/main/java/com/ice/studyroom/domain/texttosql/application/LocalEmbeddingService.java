@@ -8,15 +8,42 @@ import ai.djl.translate.TranslateException;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import java.nio.ByteBuffer;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 모델(all-MiniLM-L6-v2)로 텍스트 임베딩을 만듭니다.
+ * <p>
+ * DJL Predictor 는 스레드 안전하지 않으므로 pool-size 개를 미리 만들어 두고 요청마다 하나씩 빌려 씁니다.
+ * 같은 텍스트(EmbeddingCache 정규화 기준)는 캐시된 결과를 반환합니다.
+ */
 @Slf4j
 @Service
 public class LocalEmbeddingService {
 
+	private final EmbeddingCache embeddingCache;
+	private final int poolSize;
+	private final long borrowTimeoutMillis;
+
 	private ZooModel<String, float[]> model;
-	private Predictor<String, float[]> predictor;
+	private BlockingQueue<Predictor<String, float[]>> predictors;
+
+	public LocalEmbeddingService(EmbeddingCache embeddingCache,
+		@Value("${embedding.predictor.pool-size:0}") int poolSize,
+		@Value("${embedding.predictor.borrow-timeout-ms:5000}") long borrowTimeoutMillis) {
+		this.embeddingCache = embeddingCache;
+		// 0 이하면 CPU 코어 수
+		this.poolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		this.borrowTimeoutMillis = borrowTimeoutMillis;
+	}
 
 	@PostConstruct
 	public void initialize() {
@@ -32,11 +59,14 @@ public class LocalEmbeddingService {
 				.build();
 
 			model = criteria.loadModel();
-			predictor = model.newPredictor();
+			predictors = new ArrayBlockingQueue<>(poolSize);
+			for (int i = 0; i < poolSize; i++) {
+				predictors.add(model.newPredictor());
+			}
 
-			log.info("로컬 임베딩 모델 로딩 완료! (all-MiniLM-L6-v2, 384차원)");
+			log.info("로컬 임베딩 모델 로딩 완료! (all-MiniLM-L6-v2, 384차원, predictor {}개)", poolSize);
 
-			float[] testEmbedding = predictor.predict("테스트");
+			float[] testEmbedding = predict(List.of("테스트")).get(0);
 			log.info("임베딩 테스트 성공: 차원 = {}", testEmbedding.length);
 
 		} catch (Exception e) {
@@ -48,47 +78,77 @@ public class LocalEmbeddingService {
 	/**
 	 * 텍스트를 벡터로 변환
 	 */
-	public byte[] createEmbedding(String text) {
-		try {
-			log.debug("임베딩 생성: {}", text);
+	public float[] embed(String text) {
+		return embedAll(List.of(text)).get(0);
+	}
 
-			float[] embedding = predictor.predict(text);
+	/**
+	 * 여러 텍스트를 벡터로 변환. 캐시에 없는 텍스트만 한 번의 배치 추론으로 처리합니다.
+	 *
+	 * @return texts 와 같은 순서의 임베딩
+	 */
+	public List<float[]> embedAll(List<String> texts) {
+		List<float[]> embeddings = new ArrayList<>(texts.size());
+		// 정규화한 텍스트 -> embeddings 에서 채워야 할 위치
+		Map<String, List<Integer>> misses = new LinkedHashMap<>();
+
+		for (int i = 0; i < texts.size(); i++) {
+			String normalized = EmbeddingCache.normalize(texts.get(i));
+			float[] cached = embeddingCache.get(normalized);
+			embeddings.add(cached);
+			if (cached == null) {
+				misses.computeIfAbsent(normalized, key -> new ArrayList<>()).add(i);
+			}
+		}
 
-			return floatArrayToByteArray(embedding);
+		if (misses.isEmpty()) {
+			return embeddings;
+		}
 
-		} catch (TranslateException e) {
-			log.error("임베딩 생성 실패: {}", text, e);
-			throw new RuntimeException("임베딩 생성 실패", e);
+		log.debug("임베딩 생성: {}개 (캐시 적중 {}개)", misses.size(), texts.size() - misses.size());
+
+		List<String> missTexts = new ArrayList<>(misses.keySet());
+		List<float[]> predicted = predict(missTexts);
+
+		for (int i = 0; i < missTexts.size(); i++) {
+			float[] embedding = predicted.get(i);
+			embeddingCache.put(missTexts.get(i), embedding);
+			for (int position : misses.get(missTexts.get(i))) {
+				embeddings.set(position, embedding.clone());
+			}
 		}
+		return embeddings;
 	}
 
-	/**
-	 * float[] → byte[] 변환
-	 */
-	private byte[] floatArrayToByteArray(float[] floats) {
-		ByteBuffer buffer = ByteBuffer.allocate(floats.length * Float.BYTES);
-		for (float f : floats) {
-			buffer.putFloat(f);
+	private List<float[]> predict(List<String> texts) {
+		Predictor<String, float[]> predictor = borrow();
+		try {
+			return predictor.batchPredict(texts);
+		} catch (TranslateException e) {
+			log.error("임베딩 생성 실패: {}", texts, e);
+			throw new RuntimeException("임베딩 생성 실패", e);
+		} finally {
+			predictors.add(predictor);
 		}
-		return buffer.array();
 	}
 
-	/**
-	 * byte[] → float[] 변환
-	 */
-	public float[] byteArrayToFloatArray(byte[] bytes) {
-		ByteBuffer buffer = ByteBuffer.wrap(bytes);
-		float[] floats = new float[bytes.length / Float.BYTES];
-		for (int i = 0; i < floats.length; i++) {
-			floats[i] = buffer.getFloat();
+	private Predictor<String, float[]> borrow() {
+		try {
+			Predictor<String, float[]> predictor = predictors.poll(borrowTimeoutMillis, TimeUnit.MILLISECONDS);
+			if (predictor == null) {
+				throw new IllegalStateException("사용 가능한 임베딩 predictor 가 없습니다. (" + borrowTimeoutMillis + "ms 대기)");
+			}
+			return predictor;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("임베딩 predictor 대기 중 인터럽트", e);
 		}
-		return floats;
 	}
 
 	@PreDestroy
 	public void cleanup() {
-		if (predictor != null) {
-			predictor.close();
+		if (predictors != null) {
+			predictors.forEach(Predictor::close);
 		}
 		if (model != null) {
 			model.close();
@@ -8,9 +8,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Optional;
-
+import java.util.Set;
+
+/**
+ * 질문별 Text-to-SQL 결과 캐시 (text2sql:{정규화한 질문}, TTL 30분)
+ * <p>
+ * 저장한 키는 만료 시각을 점수로 하는 ZSET(text2sql-index:keys)에도 기록합니다.
+ * 통계와 전체 삭제는 이 ZSET 만 읽으므로 다른 도메인의 키가 많아도 KEYS 처럼 전체 키 공간을 훑지 않습니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -18,17 +26,25 @@ public class QueryCacheService {
 
 	private final RedisTemplate<String, String> redisTemplate;
 	private final ObjectMapper objectMapper;
+	private final Clock clock;
 
 	private static final String CACHE_KEY_PREFIX = "text2sql:";
+	private static final String INDEX_KEY = "text2sql-index:keys";
 	private static final Duration CACHE_TTL = Duration.ofMinutes(30); // 30분 캐시
+	private static final int EVICT_CHUNK_SIZE = 500;
 
 	/**
 	 * 캐시 키 생성 (사용자 쿼리의 해시)
 	 */
 	private String generateCacheKey(String userQuery) {
-		// 쿼리 정규화 (공백, 대소문자 통일)
-		String normalized = userQuery.toLowerCase().trim().replaceAll("\\s+", " ");
-		return CACHE_KEY_PREFIX + normalized;
+		return CACHE_KEY_PREFIX + normalize(userQuery);
+	}
+
+	/**
+	 * 쿼리 정규화 (공백, 대소문자 통일)
+	 */
+	public static String normalize(String userQuery) {
+		return userQuery.toLowerCase().trim().replaceAll("\\s+", " ");
 	}
 
 	/**
@@ -62,7 +78,11 @@ public class QueryCacheService {
 			String cacheKey = generateCacheKey(userQuery);
 			String json = objectMapper.writeValueAsString(result);
 
+			long now = clock.millis();
 			redisTemplate.opsForValue().set(cacheKey, json, CACHE_TTL);
+			redisTemplate.opsForZSet().add(INDEX_KEY, cacheKey, now + CACHE_TTL.toMillis());
+			// 이미 만료된 키는 목록에서 정리
+			redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, now);
 			log.info("캐시 저장: {} (TTL: {}분)", userQuery, CACHE_TTL.toMinutes());
 
 		} catch (JsonProcessingException e) {
@@ -76,26 +96,35 @@ public class QueryCacheService {
 	public void evict(String userQuery) {
 		String cacheKey = generateCacheKey(userQuery);
 		redisTemplate.delete(cacheKey);
+		redisTemplate.opsForZSet().remove(INDEX_KEY, cacheKey);
 		log.info("캐시 삭제: {}", userQuery);
 	}
 
 	/**
-	 * 모든 Text-to-SQL 캐시 삭제
+	 * 모든 Text-to-SQL 캐시 삭제 (EVICT_CHUNK_SIZE 개씩 UNLINK)
 	 */
 	public void evictAll() {
-		var keys = redisTemplate.keys(CACHE_KEY_PREFIX + "*");
-		if (keys != null && !keys.isEmpty()) {
-			redisTemplate.delete(keys);
-			log.info("전체 캐시 삭제: {}개", keys.size());
+		int evicted = 0;
+
+		while (true) {
+			Set<String> keys = redisTemplate.opsForZSet().range(INDEX_KEY, 0, EVICT_CHUNK_SIZE - 1);
+			if (keys == null || keys.isEmpty()) {
+				break;
+			}
+			redisTemplate.unlink(keys);
+			redisTemplate.opsForZSet().remove(INDEX_KEY, keys.toArray());
+			evicted += keys.size();
 		}
+
+		log.info("전체 캐시 삭제: {}개", evicted);
 	}
 
 	/**
-	 * 캐시 통계 조회
+	 * 캐시 통계 조회 (만료되지 않은 키 수)
 	 */
 	public CacheStats getStats() {
-		var keys = redisTemplate.keys(CACHE_KEY_PREFIX + "*");
-		int cacheSize = keys != null ? keys.size() : 0;
+		Long count = redisTemplate.opsForZSet().count(INDEX_KEY, clock.millis(), Double.POSITIVE_INFINITY);
+		int cacheSize = count != null ? count.intValue() : 0;
 		return new CacheStats(cacheSize, CACHE_TTL.toMinutes());
 	}
 
@@ -0,0 +1,220 @@
+package com.ice.studyroom.domain.texttosql.application;
+
+import com.ice.studyroom.global.util.LruCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * 질문 임베딩과 검증된 SQL 을 함께 보관해, 표현만 다른 질문에 SQL 을 재사용하는 캐시입니다.
+ * <p>
+ * 정확히 같은 질문은 QueryCacheService 가 처리하고, 여기서는 코사인 유사도가 similarity-threshold 이상인
+ * 가장 가까운 질문의 SQL 만 돌려줍니다. 결과 행은 보관하지 않으므로 호출 측에서 SQL 을 다시 실행합니다.
+ * <p>
+ * 임베딩 모델(all-MiniLM-L6-v2)은 영어 모델이라 한국어 질문은 기간 / 방 이름 / 상태가 달라도 유사도가 높게 나옵니다.
+ * 그래서 SQL 의 조건을 바꾸는 단어(날짜 / 숫자 / 방 / 상태 / 대상 / 이름, 개수인지 목록인지)가 같은 질문끼리만 유사도를 비교하고,
+ * 조사 / 요청 표현 / 서술어(있어, 몇 개야 등)처럼 조건과 무관한 표현 차이는 임베딩에 맡깁니다.
+ * (오늘 예약 수 / 오늘 예약 몇 개야는 비교하고, 이번 주 / 이번 달, 예약 수 / 취소 수, 세미나실 / 회의실은 재사용하지 않음)
+ * 항목은 서버별 메모리에만 있으며 TTL 이 지나면 쓰지 않고, 최대 크기를 넘으면 가장 오래 쓰지 않은 질문부터 지웁니다.
+ */
+@Component
+public class SemanticQueryCache {
+
+	private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+	// 긴 조사부터 확인 (이야 / 야는 서술격 조사)
+	private static final List<String> PARTICLES = List.of("에서는", "에서", "으로", "까지", "부터", "에게", "한테",
+		"이랑", "하고", "이야", "은", "는", "이", "가", "을", "를", "의", "에", "로", "와", "과", "도", "만", "랑", "야");
+	// 관형형 어미 (예약한 학생 / 취소된 예약)
+	private static final List<String> MODIFIER_ENDINGS = List.of("했던", "하는", "되는", "중인", "된", "한");
+	// 서술어 어미. 이름과 겹치지 않도록 두 글자 이상만 둔다
+	private static final List<String> PREDICATE_ENDINGS = List.of("었어", "았어", "였어", "했어", "됐어", "있어", "없어",
+		"왔어", "었나", "았나", "했나", "됐나", "있나", "있니", "했니", "하니", "인가", "인지", "는지", "일까", "할까",
+		"나요", "까요", "어요", "아요", "세요", "거야", "건가");
+	// 질문의 조건과 무관한 요청 / 의문 표현
+	private static final Set<String> STOPWORDS = Set.of("알려줘", "알려주세요", "알려", "보여줘", "보여주세요", "보여",
+		"줘", "주세요", "좀", "뭐야", "뭐지", "해줘", "궁금해", "확인", "조회", "조회해줘", "전체", "모든", "모두", "총",
+		"please", "show", "me", "the", "what", "is", "are", "how", "many", "all");
+	// 같은 조건을 가리키는 표현은 하나로 모은다 (개수 / 목록 구분은 SQL 이 달라지므로 남긴다)
+	private static final Map<String, String> SYNONYMS = synonyms();
+
+	private final boolean enabled;
+	private final Clock clock;
+	private final double similarityThreshold;
+	private final long ttlMillis;
+	private final DistributionSummary similaritySummary;
+
+	private final LruCache<String, Entry> entries;
+
+	public SemanticQueryCache(Clock clock, MeterRegistry meterRegistry,
+		@Value("${texttosql.semantic-cache.enabled:true}") boolean enabled,
+		@Value("${texttosql.semantic-cache.similarity-threshold:0.93}") double similarityThreshold,
+		@Value("${texttosql.semantic-cache.ttl-ms:1800000}") long ttlMillis,
+		@Value("${texttosql.semantic-cache.max-size:1000}") int maxSize) {
+		this.enabled = enabled;
+		this.clock = clock;
+		this.similarityThreshold = similarityThreshold;
+		this.ttlMillis = ttlMillis;
+		this.entries = new LruCache<>(maxSize);
+		// 가장 가까운 질문의 유사도 분포 (임계값 조정용)
+		this.similaritySummary = DistributionSummary.builder("texttosql.cache.semantic.similarity")
+			.description("캐시된 질문 중 가장 가까운 질문의 코사인 유사도")
+			.publishPercentiles(0.5, 0.9, 0.99)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 꺼져 있으면 호출 측은 질문 임베딩도 만들지 않습니다.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 조건 단어가 모두 같고 유사도가 임계값 이상인 가장 가까운 질문의 SQL
+	 */
+	public Optional<String> findSimilar(String question, float[] embedding) {
+		if (!enabled || entries.size() == 0) {
+			return Optional.empty();
+		}
+		float[] normalized = normalize(embedding);
+		if (normalized == null) {
+			return Optional.empty();
+		}
+
+		String conditions = conditionsOf(question);
+		long now = clock.millis();
+		Entry best = null;
+		double bestSimilarity = -1;
+
+		for (Entry entry : entries.values()) {
+			if (entry.expiresAt() <= now) {
+				entries.remove(entry.key());
+				continue;
+			}
+			if (entry.vector().length != normalized.length || !entry.conditions().equals(conditions)) {
+				continue;
+			}
+			double similarity = dot(normalized, entry.vector());
+			if (similarity > bestSimilarity) {
+				best = entry;
+				bestSimilarity = similarity;
+			}
+		}
+
+		if (best == null) {
+			return Optional.empty();
+		}
+		similaritySummary.record(bestSimilarity);
+		if (bestSimilarity < similarityThreshold) {
+			return Optional.empty();
+		}
+		// 재사용한 질문을 최근 항목으로
+		entries.get(best.key());
+		return Optional.of(best.sql());
+	}
+
+	public void put(String question, float[] embedding, String sql) {
+		if (!enabled) {
+			return;
+		}
+		float[] normalized = normalize(embedding);
+		if (normalized == null) {
+			return;
+		}
+
+		String key = QueryCacheService.normalize(question);
+		entries.put(key, new Entry(key, normalized, sql, conditionsOf(question), clock.millis() + ttlMillis));
+	}
+
+	/**
+	 * 재사용한 SQL 이 실패했을 때 같은 SQL 을 가진 항목을 지웁니다.
+	 */
+	public void evictSql(String sql) {
+		entries.removeIf((key, entry) -> entry.sql().equals(sql));
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	// 조사 / 요청 표현 / 서술어를 빼고 동의어를 모은 조건 단어 집합. 이 값이 같은 질문끼리만 SQL 을 재사용한다
+	static String conditionsOf(String question) {
+		Set<String> conditions = new TreeSet<>();
+		for (String token : DELIMITER.split(question.toLowerCase(Locale.ROOT))) {
+			if (token.isEmpty() || STOPWORDS.contains(token) || isPredicate(token)) {
+				continue;
+			}
+			String stem = stripSuffix(stripSuffix(token, PARTICLES), MODIFIER_ENDINGS);
+			if (!STOPWORDS.contains(stem)) {
+				conditions.add(SYNONYMS.getOrDefault(stem, stem));
+			}
+		}
+		return String.join(",", conditions);
+	}
+
+	private static boolean isPredicate(String token) {
+		return PREDICATE_ENDINGS.stream().anyMatch(token::endsWith);
+	}
+
+	private static String stripSuffix(String token, List<String> suffixes) {
+		for (String suffix : suffixes) {
+			if (token.length() > suffix.length() && token.endsWith(suffix)) {
+				return token.substring(0, token.length() - suffix.length());
+			}
+		}
+		return token;
+	}
+
+	private static Map<String, String> synonyms() {
+		Map<String, String> synonyms = new HashMap<>();
+		for (String word : List.of("수", "개수", "건수", "몇", "개", "건", "명", "몇개", "몇건", "몇명", "얼마나", "count")) {
+			synonyms.put(word, "#count");
+		}
+		for (String word : List.of("목록", "리스트", "내역", "현황", "명단", "list")) {
+			synonyms.put(word, "#list");
+		}
+		for (String word : List.of("학생", "사용자", "유저", "멤버")) {
+			synonyms.put(word, "회원");
+		}
+		return Map.copyOf(synonyms);
+	}
+
+	private static float[] normalize(float[] vector) {
+		double sum = 0;
+		for (float value : vector) {
+			sum += value * value;
+		}
+		if (sum == 0) {
+			return null;
+		}
+
+		double norm = Math.sqrt(sum);
+		float[] normalized = new float[vector.length];
+		for (int i = 0; i < vector.length; i++) {
+			normalized[i] = (float)(vector[i] / norm);
+		}
+		return normalized;
+	}
+
+	private static double dot(float[] a, float[] b) {
+		double sum = 0;
+		for (int i = 0; i < a.length; i++) {
+			sum += a[i] * b[i];
+		}
+		return sum;
+	}
+
+	private record Entry(String key, float[] vector, String sql, String conditions, long expiresAt) {
+	}
+}
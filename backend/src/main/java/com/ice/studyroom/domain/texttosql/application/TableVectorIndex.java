@@ -0,0 +1,175 @@
+package com.ice.studyroom.domain.texttosql.application;
+
+import com.ice.studyroom.domain.texttosql.domain.entity.TableMetadata;
+import com.ice.studyroom.domain.texttosql.infrastructure.redis.RedisVectorRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테이블 메타데이터 임베딩을 JVM 메모리에 올려 두고 유사 테이블을 찾는 인덱스입니다.
+ * <p>
+ * 모든 임베딩을 미리 정규화해 하나의 float[] 행렬(테이블 수 x 차원)에 이어 붙여 두므로,
+ * 검색은 질의 벡터와 각 행의 내적만 계산하고 상위 K 개는 크기 K 의 배열로 유지합니다.
+ * 메타데이터가 바뀌면 Redis 버전 키(RedisVectorRepository#getVersion)가 올라가며,
+ * 검색 시 version-check-interval-ms 마다 버전을 확인해 달라졌을 때만 다시 적재합니다.
+ */
+@Slf4j
+@Component
+public class TableVectorIndex {
+
+	private final RedisVectorRepository redisVectorRepository;
+	private final long versionCheckIntervalMillis;
+
+	private volatile Snapshot snapshot;
+	private volatile long lastVersionCheckMillis;
+
+	public TableVectorIndex(RedisVectorRepository redisVectorRepository,
+		@Value("${texttosql.vector-index.version-check-interval-ms:5000}") long versionCheckIntervalMillis) {
+		this.redisVectorRepository = redisVectorRepository;
+		this.versionCheckIntervalMillis = versionCheckIntervalMillis;
+	}
+
+	/**
+	 * 질의 벡터와 코사인 유사도가 높은 순으로 최대 topK 개의 테이블을 반환합니다.
+	 */
+	public List<TableMatch> search(float[] queryVector, int topK) {
+		Snapshot current = refreshIfStale();
+		if (current.size() == 0 || topK <= 0) {
+			return List.of();
+		}
+		if (queryVector.length != current.dimension()) {
+			throw new IllegalArgumentException("벡터 차원이 일치하지 않습니다.");
+		}
+
+		double queryNorm = norm(queryVector);
+		if (queryNorm == 0) {
+			return List.of();
+		}
+
+		int k = Math.min(topK, current.size());
+		int[] topRows = new int[k];
+		float[] topScores = new float[k];
+		int filled = 0;
+
+		float[] matrix = current.matrix();
+		int dimension = current.dimension();
+		for (int row = 0; row < current.size(); row++) {
+			int offset = row * dimension;
+			float dot = 0f;
+			for (int i = 0; i < dimension; i++) {
+				dot += queryVector[i] * matrix[offset + i];
+			}
+
+			// 점수 내림차순으로 유지되는 크기 k 배열에 삽입
+			if (filled == k && dot <= topScores[k - 1]) {
+				continue;
+			}
+			int position = filled < k ? filled++ : k - 1;
+			while (position > 0 && topScores[position - 1] < dot) {
+				topScores[position] = topScores[position - 1];
+				topRows[position] = topRows[position - 1];
+				position--;
+			}
+			topScores[position] = dot;
+			topRows[position] = row;
+		}
+
+		List<TableMatch> matches = new ArrayList<>(filled);
+		for (int i = 0; i < filled; i++) {
+			int row = topRows[i];
+			matches.add(new TableMatch(current.tableNames()[row], topScores[i] / queryNorm,
+				current.relatedTables().get(row)));
+		}
+		return matches;
+	}
+
+	private Snapshot refreshIfStale() {
+		Snapshot current = snapshot;
+		long now = System.currentTimeMillis();
+		if (current != null && now - lastVersionCheckMillis < versionCheckIntervalMillis) {
+			return current;
+		}
+
+		synchronized (this) {
+			current = snapshot;
+			if (current != null && now - lastVersionCheckMillis < versionCheckIntervalMillis) {
+				return current;
+			}
+
+			try {
+				// 적재 중 변경된 메타데이터를 놓치지 않도록 버전을 먼저 읽는다
+				long version = redisVectorRepository.getVersion();
+				if (current == null || current.version() != version) {
+					current = load(version);
+					snapshot = current;
+					log.info("테이블 벡터 인덱스 적재 - version: {}, tables: {}", version, current.size());
+				}
+			} catch (Exception e) {
+				if (current == null) {
+					throw e;
+				}
+				log.warn("테이블 벡터 인덱스 버전 확인 실패 - 기존 인덱스 사용 (version: {})",
+					current.version(), e);
+			}
+			lastVersionCheckMillis = now;
+			return current;
+		}
+	}
+
+	private Snapshot load(long version) {
+		List<TableMetadata> tables = redisVectorRepository.findAll();
+
+		int dimension = tables.stream()
+			.filter(table -> table.getEmbedding() != null)
+			.mapToInt(table -> table.getEmbedding().length)
+			.findFirst()
+			.orElse(0);
+
+		List<String> tableNames = new ArrayList<>(tables.size());
+		List<List<String>> relatedTables = new ArrayList<>(tables.size());
+		float[] matrix = new float[tables.size() * dimension];
+
+		for (TableMetadata table : tables) {
+			float[] embedding = table.getEmbedding();
+			if (embedding == null || embedding.length != dimension) {
+				log.warn("임베딩 차원이 달라 인덱스에서 제외 - table: {}", table.getTableName());
+				continue;
+			}
+			double norm = norm(embedding);
+			if (norm == 0) {
+				continue;
+			}
+
+			int offset = tableNames.size() * dimension;
+			for (int i = 0; i < dimension; i++) {
+				matrix[offset + i] = (float)(embedding[i] / norm);
+			}
+			tableNames.add(table.getTableName());
+			relatedTables.add(table.getRelatedTables() == null ? List.of() : List.copyOf(table.getRelatedTables()));
+		}
+
+		return new Snapshot(version, dimension, tableNames.toArray(String[]::new), List.copyOf(relatedTables), matrix);
+	}
+
+	private static double norm(float[] vector) {
+		double sum = 0;
+		for (float value : vector) {
+			sum += value * value;
+		}
+		return Math.sqrt(sum);
+	}
+
+	public record TableMatch(String tableName, double similarity, List<String> relatedTables) {}
+
+	private record Snapshot(long version, int dimension, String[] tableNames, List<List<String>> relatedTables,
+							float[] matrix) {
+
+		int size() {
+			return tableNames.length;
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.ice.studyroom.domain.texttosql.application;
 
 import com.ice.studyroom.domain.texttosql.domain.entity.SqlExample;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.model.ChatModel;
@@ -23,6 +24,9 @@ public class TextToSqlService {
 	private final FewShotExampleService fewShotExampleService;
 	private final QueryCacheService queryCacheService;
 	private final VectorSearchService vectorSearchService;
+	private final SemanticQueryCache semanticQueryCache;
+	private final LocalEmbeddingService localEmbeddingService;
+	private final MeterRegistry meterRegistry;
 	private final ChatClient chatClient;
 
 	public TextToSqlService(
@@ -33,6 +37,9 @@ public class TextToSqlService {
 		FewShotExampleService fewShotExampleService,
 		QueryCacheService queryCacheService,
 		VectorSearchService vectorSearchService,
+		SemanticQueryCache semanticQueryCache,
+		LocalEmbeddingService localEmbeddingService,
+		MeterRegistry meterRegistry,
 		ChatModel chatModel
 	) {
 		this.jdbcTemplate = jdbcTemplate;
@@ -42,6 +49,9 @@ public class TextToSqlService {
 		this.fewShotExampleService = fewShotExampleService;
 		this.queryCacheService = queryCacheService;
 		this.vectorSearchService = vectorSearchService;
+		this.semanticQueryCache = semanticQueryCache;
+		this.localEmbeddingService = localEmbeddingService;
+		this.meterRegistry = meterRegistry;
 		this.chatClient = ChatClient.builder(chatModel).build();
 
 	}
@@ -53,6 +63,7 @@ public class TextToSqlService {
 		try {
 			Optional<QueryResult> cached = queryCacheService.get(userQuery);
 			if (cached.isPresent()) {
+				recordCacheLookup("exact");
 				long cacheTime = System.currentTimeMillis() - startTime;
 				log.info("캐시에서 반환 ({}ms)", cacheTime);
 
@@ -66,6 +77,16 @@ public class TextToSqlService {
 				);
 			}
 
+			// 표현만 다른 질문이면 검증된 SQL 을 재사용하고 최신 데이터로 다시 실행
+			float[] questionEmbedding = embedQuestion(userQuery);
+			Optional<QueryResult> semanticResult = executeSimilarQuery(userQuery, questionEmbedding, startTime);
+			if (semanticResult.isPresent()) {
+				recordCacheLookup("semantic");
+				queryCacheService.put(userQuery, semanticResult.get());
+				return semanticResult.get();
+			}
+			recordCacheLookup("miss");
+
 			SqlRetryService.RetryResult retryResult = sqlRetryService.executeWithRetry(
 				// SQL 생성 로직
 				(query) -> {
@@ -96,6 +117,9 @@ public class TextToSqlService {
 				);
 
 				queryCacheService.put(userQuery, result);
+				if (questionEmbedding != null) {
+					semanticQueryCache.put(userQuery, questionEmbedding, result.sql());
+				}
 
 				return result;
 			} else {
@@ -109,6 +133,47 @@ public class TextToSqlService {
 		}
 	}
 
+	// 의미 캐시가 꺼져 있거나 임베딩 실패 시 의미 캐시 없이 진행
+	private float[] embedQuestion(String userQuery) {
+		if (!semanticQueryCache.isEnabled()) {
+			return null;
+		}
+		try {
+			return localEmbeddingService.embed(userQuery);
+		} catch (Exception e) {
+			log.warn("질문 임베딩 실패 - 의미 캐시 건너뜀: {}", userQuery, e);
+			return null;
+		}
+	}
+
+	private Optional<QueryResult> executeSimilarQuery(String userQuery, float[] questionEmbedding, long startTime) {
+		if (questionEmbedding == null) {
+			return Optional.empty();
+		}
+
+		Optional<String> similarSql = semanticQueryCache.findSimilar(userQuery, questionEmbedding);
+		if (similarSql.isEmpty()) {
+			return Optional.empty();
+		}
+
+		String sql = similarSql.get();
+		try {
+			sqlValidationService.validate(sql);
+			List<Map<String, Object>> data = jdbcTemplate.queryForList(sql);
+			long executionTime = System.currentTimeMillis() - startTime;
+			log.info("의미 캐시 SQL 재사용 ({}ms): {}", executionTime, sql);
+			return Optional.of(new QueryResult(sql, data, executionTime, 0));
+		} catch (Exception e) {
+			log.warn("의미 캐시 SQL 실행 실패 - 새로 생성: {}", sql, e);
+			semanticQueryCache.evictSql(sql);
+			return Optional.empty();
+		}
+	}
+
+	private void recordCacheLookup(String result) {
+		meterRegistry.counter("texttosql.cache.lookup", "result", result).increment();
+	}
+
 	private String generateSQL(String userQuery) {
 		try {
 			if (fewShotExampleService == null) {
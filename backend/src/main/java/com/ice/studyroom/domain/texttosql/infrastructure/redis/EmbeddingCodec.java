@@ -0,0 +1,125 @@
+package com.ice.studyroom.domain.texttosql.infrastructure.redis;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 임베딩을 Redis 에 저장할 바이너리 형식으로 변환합니다.
+ * <p>
+ * 첫 바이트가 형식 버전이며 그 뒤에 값이 이어집니다.
+ * <ul>
+ *     <li>FLOAT32 (1): float32 little-endian 배열 (384차원 기준 1,537 bytes)</li>
+ *     <li>INT8 (2): float32 LE 스케일 + 차원당 1바이트 양자화 값 (384차원 기준 389 bytes)</li>
+ * </ul>
+ * 이전 형식(쉼표로 구분한 10진수 문자열)은 첫 바이트가 숫자 / 부호 문자라 버전 바이트와 겹치지 않으므로 그대로 읽을 수 있습니다.
+ */
+public final class EmbeddingCodec {
+
+	private static final int HEADER_SIZE = 1;
+
+	public enum Format {
+		FLOAT32((byte)1),
+		INT8((byte)2);
+
+		private final byte version;
+
+		Format(byte version) {
+			this.version = version;
+		}
+	}
+
+	private EmbeddingCodec() {
+	}
+
+	public static byte[] encode(float[] embedding, Format format) {
+		return switch (format) {
+			case FLOAT32 -> encodeFloat32(embedding);
+			case INT8 -> encodeInt8(embedding);
+		};
+	}
+
+	public static float[] decode(byte[] bytes) {
+		if (isLegacy(bytes)) {
+			return decodeLegacy(bytes);
+		}
+
+		byte version = bytes[0];
+		if (version == Format.FLOAT32.version) {
+			return decodeFloat32(bytes);
+		}
+		if (version == Format.INT8.version) {
+			return decodeInt8(bytes);
+		}
+		throw new IllegalArgumentException("지원하지 않는 임베딩 형식입니다. version: " + version);
+	}
+
+	/**
+	 * 쉼표로 구분한 10진수 문자열로 저장된 이전 형식인지 확인합니다.
+	 */
+	public static boolean isLegacy(byte[] bytes) {
+		if (bytes.length == 0) {
+			return false;
+		}
+		byte first = bytes[0];
+		return (first >= '0' && first <= '9') || first == '-' || first == '.';
+	}
+
+	private static byte[] encodeFloat32(float[] embedding) {
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + embedding.length * Float.BYTES)
+			.order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put(Format.FLOAT32.version);
+		buffer.asFloatBuffer().put(embedding);
+		return buffer.array();
+	}
+
+	private static float[] decodeFloat32(byte[] bytes) {
+		float[] embedding = new float[(bytes.length - HEADER_SIZE) / Float.BYTES];
+		ByteBuffer.wrap(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE)
+			.slice()
+			.order(ByteOrder.LITTLE_ENDIAN)
+			.asFloatBuffer()
+			.get(embedding);
+		return embedding;
+	}
+
+	// 절댓값 최댓값을 127 로 맞추는 대칭 양자화
+	private static byte[] encodeInt8(float[] embedding) {
+		float maxAbs = 0f;
+		for (float value : embedding) {
+			maxAbs = Math.max(maxAbs, Math.abs(value));
+		}
+		float scale = maxAbs == 0f ? 1f : maxAbs / 127f;
+
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + Float.BYTES + embedding.length)
+			.order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put(Format.INT8.version);
+		buffer.putFloat(scale);
+		for (float value : embedding) {
+			buffer.put((byte)Math.round(value / scale));
+		}
+		return buffer.array();
+	}
+
+	private static float[] decodeInt8(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE)
+			.order(ByteOrder.LITTLE_ENDIAN);
+		float scale = buffer.getFloat();
+
+		int offset = HEADER_SIZE + Float.BYTES;
+		float[] embedding = new float[bytes.length - offset];
+		for (int i = 0; i < embedding.length; i++) {
+			embedding[i] = bytes[offset + i] * scale;
+		}
+		return embedding;
+	}
+
+	private static float[] decodeLegacy(byte[] bytes) {
+		String[] parts = new String(bytes, StandardCharsets.UTF_8).split(",");
+		float[] embedding = new float[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			embedding[i] = Float.parseFloat(parts[i]);
+		}
+		return embedding;
+	}
+}
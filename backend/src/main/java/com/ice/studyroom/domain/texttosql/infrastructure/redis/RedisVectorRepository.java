@@ -3,22 +3,55 @@ package com.ice.studyroom.domain.texttosql.infrastructure.redis;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ice.studyroom.domain.texttosql.domain.entity.TableMetadata;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Consumer;
 
+/**
+ * 테이블 메타데이터를 Redis Hash (table:{tableName}) 로 저장합니다.
+ * 임베딩은 EmbeddingCodec 바이너리 형식으로 저장하고, Hash 는 byte[] 템플릿으로 읽어 문자열 변환 없이 복원합니다.
+ * Hash / 키 목록 / 버전은 MULTI 로 함께 바꾸므로 중간에 실패해도 목록에 없는 Hash 나 Hash 없는 목록 항목이 남지 않습니다.
+ */
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class RedisVectorRepository {
 
+	private static final String EMBEDDING_FIELD = "embedding";
+	private static final int SCAN_COUNT = 100;
+	private static final int DELETE_MAX_ATTEMPTS = 3;
+
 	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisTemplate<String, byte[]> byteArrayRedisTemplate;
+	private final HashOperations<String, String, byte[]> hashOperations;
 	private final ObjectMapper objectMapper;
+	private final EmbeddingCodec.Format embeddingFormat;
+
+	public RedisVectorRepository(RedisTemplate<String, Object> redisTemplate,
+		RedisTemplate<String, byte[]> byteArrayRedisTemplate, ObjectMapper objectMapper,
+		@Value("${texttosql.embedding.storage-format:FLOAT32}") EmbeddingCodec.Format embeddingFormat) {
+		this.redisTemplate = redisTemplate;
+		this.byteArrayRedisTemplate = byteArrayRedisTemplate;
+		this.hashOperations = byteArrayRedisTemplate.opsForHash();
+		this.objectMapper = objectMapper;
+		this.embeddingFormat = embeddingFormat;
+	}
 
 	private static final String KEY_PREFIX = "table:";
+	// 메타데이터가 바뀔 때마다 증가 (TableVectorIndex 재적재 기준). table:* 패턴에 걸리지 않도록 접두사를 달리한다
+	private static final String VERSION_KEY = "table-metadata:version";
+	// 저장된 table:* 키 목록. 전체 키 공간을 훑는 KEYS 대신 이 집합만 읽는다
+	private static final String INDEX_KEY = "table-metadata:keys";
 
 	/**
 	 * 테이블 메타데이터 저장
@@ -27,15 +60,19 @@ public class RedisVectorRepository {
 		try {
 			String key = KEY_PREFIX + metadata.getTableName();
 
-			Map<String, String> hash = new HashMap<>();
-			hash.put("tableName", metadata.getTableName());
-			hash.put("description", metadata.getDescription());
-			hash.put("keywords", metadata.getKeywords());
-			hash.put("columns", objectMapper.writeValueAsString(metadata.getColumns()));
-			hash.put("relatedTables", objectMapper.writeValueAsString(metadata.getRelatedTables()));
-			hash.put("embedding", floatArrayToString(metadata.getEmbedding()));
+			Map<String, byte[]> hash = new HashMap<>();
+			hash.put("tableName", toBytes(metadata.getTableName()));
+			hash.put("description", toBytes(metadata.getDescription()));
+			hash.put("keywords", toBytes(metadata.getKeywords()));
+			hash.put("columns", objectMapper.writeValueAsBytes(metadata.getColumns()));
+			hash.put("relatedTables", objectMapper.writeValueAsBytes(metadata.getRelatedTables()));
+			hash.put(EMBEDDING_FIELD, EmbeddingCodec.encode(metadata.getEmbedding(), embeddingFormat));
 
-			redisTemplate.opsForHash().putAll(key, hash);
+			inTransaction(operations -> {
+				operations.opsForHash().putAll(key, hash);
+				operations.opsForSet().add(INDEX_KEY, toBytes(key));
+				operations.opsForValue().increment(VERSION_KEY);
+			});
 
 			log.debug("테이블 메타데이터 저장: {}", metadata.getTableName());
 
@@ -51,7 +88,7 @@ public class RedisVectorRepository {
 	public Optional<TableMetadata> findByTableName(String tableName) {
 		try {
 			String key = KEY_PREFIX + tableName;
-			Map<Object, Object> hash = redisTemplate.opsForHash().entries(key);
+			Map<String, byte[]> hash = hashOperations.entries(key);
 
 			if (hash.isEmpty()) {
 				return Optional.empty();
@@ -71,17 +108,17 @@ public class RedisVectorRepository {
 	public List<TableMetadata> findAll() {
 		List<TableMetadata> result = new ArrayList<>();
 
-		Set<String> keys = redisTemplate.keys(KEY_PREFIX + "*");
-		if (keys != null) {
-			for (String key : keys) {
-				Map<Object, Object> hash = redisTemplate.opsForHash().entries(key);
-				if (!hash.isEmpty()) {
-					try {
-						result.add(hashToMetadata(hash));
-					} catch (Exception e) {
-						log.error("메타데이터 변환 실패: {}", key, e);
-					}
-				}
+		for (String key : indexedKeys()) {
+			Map<String, byte[]> hash = hashOperations.entries(key);
+			if (hash.isEmpty()) {
+				// 외부에서 지워진 키는 목록에서도 제거
+				redisTemplate.opsForSet().remove(INDEX_KEY, key);
+				continue;
+			}
+			try {
+				result.add(hashToMetadata(hash));
+			} catch (Exception e) {
+				log.error("메타데이터 변환 실패: {}", key, e);
 			}
 		}
 
@@ -92,48 +129,138 @@ public class RedisVectorRepository {
 	 * 개수 조회
 	 */
 	public long count() {
-		Set<String> keys = redisTemplate.keys(KEY_PREFIX + "*");
-		return keys != null ? keys.size() : 0;
+		Long size = redisTemplate.opsForSet().size(INDEX_KEY);
+		return size != null ? size : 0;
 	}
 
 	/**
 	 * 전체 삭제
 	 */
 	public void deleteAll() {
-		Set<String> keys = redisTemplate.keys(KEY_PREFIX + "*");
-		if (keys != null && !keys.isEmpty()) {
-			redisTemplate.delete(keys);
+		for (int attempt = 1; attempt <= DELETE_MAX_ATTEMPTS; attempt++) {
+			List<Object> results = byteArrayRedisTemplate.execute(new SessionCallback<>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public List<Object> execute(RedisOperations operations) {
+					// 목록을 읽은 뒤 다른 서버가 저장하면 EXEC 가 취소되고 다시 읽는다
+					operations.watch(INDEX_KEY);
+					Set<String> keys = indexedKeys();
+					if (keys.isEmpty()) {
+						operations.unwatch();
+						return List.of(Boolean.TRUE);
+					}
+					operations.multi();
+					operations.unlink(keys);
+					operations.unlink(INDEX_KEY);
+					operations.opsForValue().increment(VERSION_KEY);
+					return operations.exec();
+				}
+			});
+			if (results != null && !results.isEmpty()) {
+				return;
+			}
+			log.debug("테이블 메타데이터 삭제 중 키 목록 변경 - 재시도 ({}/{})", attempt, DELETE_MAX_ATTEMPTS);
 		}
+		throw new IllegalStateException("테이블 메타데이터 삭제 실패 - 키 목록이 계속 바뀌었습니다.");
+	}
+
+	/**
+	 * 키 목록이 없던 때 저장된 table:* 키를 SCAN 으로 찾아 목록에 추가 (KEYS 와 달리 조금씩 나눠 훑음)
+	 *
+	 * @return 추가한 키 수
+	 */
+	public int rebuildKeyIndex() {
+		int added = 0;
+		ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				Long result = redisTemplate.opsForSet().add(INDEX_KEY, cursor.next());
+				added += result != null ? result.intValue() : 0;
+			}
+		}
+
+		if (added > 0) {
+			log.info("테이블 메타데이터 키 목록 재구성: {}개", added);
+		}
+		return added;
+	}
+
+	/**
+	 * 메타데이터 버전 조회 (저장된 적 없으면 0)
+	 */
+	public long getVersion() {
+		Object version = redisTemplate.opsForValue().get(VERSION_KEY);
+		return version == null ? 0L : Long.parseLong(version.toString());
+	}
+
+	/**
+	 * 이전 형식(10진수 문자열)으로 저장된 임베딩을 바이너리 형식으로 다시 저장
+	 *
+	 * @return 변환한 테이블 수
+	 */
+	public int migrateLegacyEmbeddings() {
+		int migrated = 0;
+
+		for (String key : indexedKeys()) {
+			byte[] embedding = hashOperations.get(key, EMBEDDING_FIELD);
+			if (embedding != null && EmbeddingCodec.isLegacy(embedding)) {
+				hashOperations.put(key, EMBEDDING_FIELD,
+					EmbeddingCodec.encode(EmbeddingCodec.decode(embedding), embeddingFormat));
+				migrated++;
+			}
+		}
+
+		if (migrated > 0) {
+			redisTemplate.opsForValue().increment(VERSION_KEY);
+			log.info("임베딩 저장 형식 변환 완료: {}개 ({})", migrated, embeddingFormat);
+		}
+		return migrated;
 	}
 
 	// === Helper Methods ===
 
-	private TableMetadata hashToMetadata(Map<Object, Object> hash) throws JsonProcessingException {
+	// byte[] 템플릿으로 MULTI ~ EXEC 실행 (키 / 값 모두 문자열 직렬화라 redisTemplate 으로 읽어도 같은 값)
+	private void inTransaction(Consumer<RedisOperations<String, byte[]>> commands) {
+		byteArrayRedisTemplate.execute(new SessionCallback<List<Object>>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public List<Object> execute(RedisOperations operations) {
+				operations.multi();
+				commands.accept(operations);
+				return operations.exec();
+			}
+		});
+	}
+
+	private TableMetadata hashToMetadata(Map<String, byte[]> hash) throws IOException {
 		return TableMetadata.builder()
-			.tableName((String) hash.get("tableName"))
-			.description((String) hash.get("description"))
-			.keywords((String) hash.get("keywords"))
-			.columns(objectMapper.readValue((String) hash.get("columns"), List.class))
-			.relatedTables(objectMapper.readValue((String) hash.get("relatedTables"), List.class))
-			.embedding(stringToFloatArray((String) hash.get("embedding")))
+			.tableName(toString(hash.get("tableName")))
+			.description(toString(hash.get("description")))
+			.keywords(toString(hash.get("keywords")))
+			.columns(objectMapper.readValue(hash.get("columns"), List.class))
+			.relatedTables(objectMapper.readValue(hash.get("relatedTables"), List.class))
+			.embedding(EmbeddingCodec.decode(hash.get(EMBEDDING_FIELD)))
 			.build();
 	}
 
-	private String floatArrayToString(float[] floats) {
-		StringBuilder sb = new StringBuilder();
-		for (int i = 0; i < floats.length; i++) {
-			if (i > 0) sb.append(",");
-			sb.append(floats[i]);
+	private Set<String> indexedKeys() {
+		Set<Object> members = redisTemplate.opsForSet().members(INDEX_KEY);
+		if (members == null) {
+			return Set.of();
 		}
-		return sb.toString();
-	}
 
-	private float[] stringToFloatArray(String str) {
-		String[] parts = str.split(",");
-		float[] floats = new float[parts.length];
-		for (int i = 0; i < parts.length; i++) {
-			floats[i] = Float.parseFloat(parts[i]);
+		Set<String> keys = new HashSet<>(members.size());
+		for (Object member : members) {
+			keys.add(member.toString());
 		}
-		return floats;
+		return keys;
+	}
+
+	private static byte[] toBytes(String value) {
+		return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String toString(byte[] value) {
+		return value == null ? null : new String(value, StandardCharsets.UTF_8);
 	}
 }
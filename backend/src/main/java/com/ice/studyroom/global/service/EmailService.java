@@ -1,5 +1,8 @@
 package com.ice.studyroom.global.service;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.scheduling.annotation.Async;
 
 import com.ice.studyroom.global.dto.request.EmailRequest;
@@ -8,4 +11,10 @@ public interface EmailService {
 
 	@Async("emailTaskExecutor")
 	void sendEmail(EmailRequest emailRequest);
+
+	/**
+	 * 여러 메일을 하나의 SMTP 연결로 동기 발송합니다.
+	 * @return 발송에 실패한 요청과 원인 (모두 성공하면 빈 Map)
+	 */
+	Map<EmailRequest, Exception> sendEmails(List<EmailRequest> emailRequests);
 }
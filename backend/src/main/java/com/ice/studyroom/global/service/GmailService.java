@@ -1,5 +1,11 @@
 package com.ice.studyroom.global.service;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
@@ -20,12 +26,7 @@ public class GmailService implements EmailService {
 
 	public void sendEmail(EmailRequest emailRequest) {
 		try {
-			MimeMessage mimeMessage = mailSender.createMimeMessage();
-			MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-
-			helper.setTo(emailRequest.getTo());
-			helper.setSubject(emailRequest.getSubject());
-			helper.setText(emailRequest.getBody(), true); // HTML 본문
+			MimeMessage mimeMessage = createMimeMessage(emailRequest);
 
 			mailSender.send(mimeMessage);
 			log.info("이메일 전송 성공 - 수신자: {}, 제목: {}", emailRequest.getTo(), emailRequest.getSubject());
@@ -34,4 +35,56 @@ public class GmailService implements EmailService {
 			throw new RuntimeException("메일 전송에 실패했습니다.", e);
 		}
 	}
+
+	/**
+	 * JavaMailSender.send(MimeMessage...) 는 한 번의 SMTP 연결(접속 + 인증)로 모든 메시지를 보낸다.
+	 * 개별 메시지 실패는 MailSendException.getFailedMessages() 로 구분한다.
+	 */
+	@Override
+	public Map<EmailRequest, Exception> sendEmails(List<EmailRequest> emailRequests) {
+		Map<EmailRequest, Exception> failures = new IdentityHashMap<>();
+		Map<MimeMessage, EmailRequest> requestByMessage = new IdentityHashMap<>();
+
+		for (EmailRequest emailRequest : emailRequests) {
+			try {
+				requestByMessage.put(createMimeMessage(emailRequest), emailRequest);
+			} catch (MessagingException e) {
+				failures.put(emailRequest, e);
+			}
+		}
+
+		if (requestByMessage.isEmpty()) {
+			return failures;
+		}
+
+		try {
+			mailSender.send(requestByMessage.keySet().toArray(new MimeMessage[0]));
+		} catch (MailSendException e) {
+			e.getFailedMessages().forEach((message, cause) -> {
+				EmailRequest failed = requestByMessage.get(message);
+				if (failed != null) {
+					failures.put(failed, cause);
+				}
+			});
+			if (e.getFailedMessages().isEmpty()) {
+				requestByMessage.values().forEach(request -> failures.put(request, e));
+			}
+		} catch (MailException e) {
+			// 접속 / 인증 실패 - 묶음 전체 실패
+			requestByMessage.values().forEach(request -> failures.put(request, e));
+		}
+
+		log.info("이메일 일괄 전송 - 요청: {}, 실패: {}", emailRequests.size(), failures.size());
+		return failures;
+	}
+
+	private MimeMessage createMimeMessage(EmailRequest emailRequest) throws MessagingException {
+		MimeMessage mimeMessage = mailSender.createMimeMessage();
+		MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+
+		helper.setTo(emailRequest.getTo());
+		helper.setSubject(emailRequest.getSubject());
+		helper.setText(emailRequest.getBody(), true); // HTML 본문
+		return mimeMessage;
+	}
 }
@@ -0,0 +1,66 @@
+package com.ice.studyroom.global.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * 최대 크기를 넘으면 가장 오래 쓰지 않은 항목부터 지우는 서버 메모리 캐시입니다.
+ * <p>
+ * 접근 순서 LinkedHashMap 을 하나의 락으로 감싸므로 모든 연산이 스레드 안전합니다.
+ * 조회도 순서를 바꾸기 때문에 읽기끼리도 락을 공유하며, 항목 수가 수천 개 이하인 캐시를 대상으로 합니다.
+ */
+public class LruCache<K, V> {
+
+	private final int maxSize;
+	private final LinkedHashMap<K, V> entries;
+
+	public LruCache(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("maxSize 는 1 이상이어야 합니다. maxSize: " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > LruCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * 값이 있으면 가장 최근에 쓴 항목으로 옮기고 반환합니다. 없으면 null
+	 */
+	public synchronized V get(K key) {
+		return entries.get(key);
+	}
+
+	public synchronized void put(K key, V value) {
+		entries.put(key, value);
+	}
+
+	public synchronized void remove(K key) {
+		entries.remove(key);
+	}
+
+	public synchronized void removeIf(BiPredicate<? super K, ? super V> filter) {
+		entries.entrySet().removeIf(entry -> filter.test(entry.getKey(), entry.getValue()));
+	}
+
+	/**
+	 * 현재 값의 복사본 (접근 순서는 바꾸지 않음)
+	 */
+	public synchronized List<V> values() {
+		return new ArrayList<>(entries.values());
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+	}
+}
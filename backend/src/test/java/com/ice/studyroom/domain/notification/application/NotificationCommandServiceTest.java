@@ -1,7 +1,7 @@
 package com.ice.studyroom.domain.notification.application;
 
 import com.ice.studyroom.domain.notification.domain.entity.Notification;
-import com.ice.studyroom.domain.notification.infrastructure.NotificationRepository;
+import com.ice.studyroom.domain.notification.domain.event.NotificationCreatedEvent;
 import com.ice.studyroom.domain.notification.type.NotificationEventType;
 import com.ice.studyroom.domain.ranking.application.event.dto.RankingUserChangedEvent;
 import com.ice.studyroom.domain.ranking.application.event.policy.RankingEventType;
@@ -9,20 +9,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 class NotificationCommandServiceTest {
 
-	private NotificationRepository notificationRepository;
+	private ApplicationEventPublisher eventPublisher;
 	private NotificationCommandService notificationCommandService;
 
 	@BeforeEach
 	void setUp() {
-		notificationRepository = mock(NotificationRepository.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
 		notificationCommandService =
-			new NotificationCommandService(notificationRepository);
+			new NotificationCommandService(eventPublisher);
 	}
 
 	private RankingUserChangedEvent createEvent(String eventId) {
@@ -41,23 +42,20 @@ class NotificationCommandServiceTest {
 	}
 
 	@Test
-	@DisplayName("이벤트 수신 시 Notification 정상 저장")
+	@DisplayName("이벤트 수신 시 저장할 Notification 을 만들어 발행")
 	void saveNotification_success() {
 
 		RankingUserChangedEvent event = createEvent("event-1");
 
-		when(notificationRepository.existsByEventId("event-1"))
-			.thenReturn(false);
-
 		notificationCommandService.saveFromRankingEvent(event);
 
-		ArgumentCaptor<Notification> captor =
-			ArgumentCaptor.forClass(Notification.class);
+		ArgumentCaptor<NotificationCreatedEvent> captor =
+			ArgumentCaptor.forClass(NotificationCreatedEvent.class);
 
-		verify(notificationRepository, times(1))
-			.save(captor.capture());
+		verify(eventPublisher, times(1))
+			.publishEvent(captor.capture());
 
-		Notification saved = captor.getValue();
+		Notification saved = captor.getValue().notification();
 
 		assertThat(saved.getMemberId()).isEqualTo(1L);
 		assertThat(saved.getEventType())
@@ -65,21 +63,7 @@ class NotificationCommandServiceTest {
 		assertThat(saved.getRank()).isEqualTo(3);
 		assertThat(saved.getPreviousRank()).isEqualTo(6);
 		assertThat(saved.getGapWithUpper()).isEqualTo(10);
+		assertThat(saved.getEventId()).isEqualTo("event-1");
 		assertThat(saved.isRead()).isFalse();
 	}
-
-	@Test
-	@DisplayName("같은 eventId가 존재하면 저장하지 않음")
-	void duplicateEvent_shouldNotSave() {
-
-		RankingUserChangedEvent event = createEvent("event-1");
-
-		when(notificationRepository.existsByEventId("event-1"))
-			.thenReturn(true);
-
-		notificationCommandService.saveFromRankingEvent(event);
-
-		verify(notificationRepository, never())
-			.save(any());
-	}
 }
@@ -0,0 +1,123 @@
+package com.ice.studyroom.domain.notification.application;
+
+import com.ice.studyroom.domain.membership.domain.entity.Member;
+import com.ice.studyroom.domain.membership.domain.vo.Email;
+import com.ice.studyroom.domain.membership.infrastructure.persistence.MemberRepository;
+import com.ice.studyroom.domain.notification.domain.entity.Notification;
+import com.ice.studyroom.domain.notification.domain.event.NotificationsReadEvent;
+import com.ice.studyroom.domain.notification.infrastructure.NotificationRepository;
+import com.ice.studyroom.domain.notification.infrastructure.redis.UnreadNotificationCounter;
+import com.ice.studyroom.domain.notification.type.NotificationEventType;
+import com.ice.studyroom.global.exception.BusinessException;
+import com.ice.studyroom.global.security.service.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class NotificationQueryServiceTest {
+
+	private static final String TOKEN = "Bearer token";
+	private static final Long MEMBER_ID = 1L;
+
+	private NotificationRepository notificationRepository;
+	private UnreadNotificationCounter unreadNotificationCounter;
+	private ApplicationEventPublisher eventPublisher;
+
+	private NotificationQueryService service;
+
+	@BeforeEach
+	void setUp() {
+		notificationRepository = mock(NotificationRepository.class);
+		unreadNotificationCounter = mock(UnreadNotificationCounter.class);
+		MemberRepository memberRepository = mock(MemberRepository.class);
+		TokenService tokenService = mock(TokenService.class);
+
+		eventPublisher = mock(ApplicationEventPublisher.class);
+
+		service = new NotificationQueryService(notificationRepository, memberRepository, tokenService,
+			unreadNotificationCounter, eventPublisher);
+
+		Member member = Member.builder()
+			.id(MEMBER_ID)
+			.email(Email.of("test@hufs.ac.kr"))
+			.name("박민수")
+			.studentNum("20201234")
+			.build();
+		when(tokenService.extractEmailFromAccessToken(TOKEN)).thenReturn("test@hufs.ac.kr");
+		when(memberRepository.findByEmail(Email.of("test@hufs.ac.kr"))).thenReturn(Optional.of(member));
+	}
+
+	@Test
+	@DisplayName("캐시된 안 읽은 알림 수가 있으면 DB 를 조회하지 않는다")
+	void 안읽은_수_캐시_적중() {
+
+		when(unreadNotificationCounter.get(MEMBER_ID)).thenReturn(7L);
+
+		long count = service.getUnreadCount(TOKEN);
+
+		assertThat(count).isEqualTo(7L);
+		verify(notificationRepository, never()).countUnread(anyLong());
+	}
+
+	@Test
+	@DisplayName("캐시가 없으면 DB 에서 세고 캐시를 채운다")
+	void 안읽은_수_캐시_미스() {
+
+		when(unreadNotificationCounter.get(MEMBER_ID)).thenReturn(null);
+		when(notificationRepository.countUnread(MEMBER_ID)).thenReturn(3L);
+
+		long count = service.getUnreadCount(TOKEN);
+
+		assertThat(count).isEqualTo(3L);
+		verify(unreadNotificationCounter).initialize(MEMBER_ID, 3L);
+	}
+
+	@Test
+	@DisplayName("안 읽은 알림을 읽음 처리하면 커밋 후 안 읽은 알림 수를 줄이도록 알리고, 이미 읽은 알림이면 그대로 둔다")
+	void 읽음_처리시_감소() {
+
+		Notification unread = Notification.create(MEMBER_ID, NotificationEventType.TOP5_RANK_CHANGED, 3, 6, 120, 10,
+			"event-1");
+		when(notificationRepository.findForRead(10L, MEMBER_ID)).thenReturn(Optional.of(unread));
+
+		service.readNotification(10L, TOKEN);
+		service.readNotification(10L, TOKEN);
+
+		assertThat(unread.isRead()).isTrue();
+		verify(eventPublisher, times(1)).publishEvent(new NotificationsReadEvent(MEMBER_ID, false));
+		// 캐시는 트랜잭션 안에서 바로 바꾸지 않는다
+		verify(unreadNotificationCounter, never()).decrease(anyLong());
+	}
+
+	@Test
+	@DisplayName("전체 읽음 처리는 커밋 후 안 읽은 알림 수를 0 으로 맞추도록 알린다")
+	void 전체_읽음_처리() {
+
+		when(notificationRepository.markAllAsRead(MEMBER_ID)).thenReturn(3);
+
+		service.readAllNotifications(TOKEN);
+
+		verify(eventPublisher).publishEvent(new NotificationsReadEvent(MEMBER_ID, true));
+		verify(unreadNotificationCounter, never()).reset(anyLong());
+	}
+
+	@Test
+	@DisplayName("커서는 createdAt 과 id 를 함께 보내야 한다")
+	void 커서_한쪽만_전달() {
+
+		assertThatThrownBy(() -> service.getUnreadNotificationPage(TOKEN, 20, LocalDateTime.now(), null))
+			.isInstanceOf(BusinessException.class);
+		assertThatThrownBy(() -> service.getUnreadNotificationPage(TOKEN, NotificationQueryService.MAX_PAGE_SIZE + 1,
+			null, null))
+			.isInstanceOf(BusinessException.class);
+	}
+}
@@ -0,0 +1,245 @@
+package com.ice.studyroom.domain.notification.application;
+
+import com.ice.studyroom.domain.notification.domain.entity.Notification;
+import com.ice.studyroom.domain.notification.infrastructure.NotificationJdbcRepository;
+import com.ice.studyroom.domain.notification.infrastructure.redis.UnreadNotificationCounter;
+import com.ice.studyroom.domain.notification.type.NotificationEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class NotificationWriteBufferTest {
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	private SimpleMeterRegistry meterRegistry;
+	private NotificationJdbcRepository notificationJdbcRepository;
+	private UnreadNotificationCounter unreadNotificationCounter;
+	private List<List<String>> writtenBatches;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		notificationJdbcRepository = mock(NotificationJdbcRepository.class);
+		unreadNotificationCounter = mock(UnreadNotificationCounter.class);
+		writtenBatches = new ArrayList<>();
+
+		// 저장 시점의 묶음 내용을 복사해 둔다 (버퍼가 같은 리스트를 재사용하므로)
+		when(notificationJdbcRepository.insertAllIgnoringDuplicates(anyList())).thenAnswer(invocation -> {
+			List<Notification> batch = invocation.getArgument(0);
+			writtenBatches.add(batch.stream().map(Notification::getEventId).toList());
+			return batch.size();
+		});
+	}
+
+	@Test
+	@DisplayName("batch-size 만큼 쌓이면 한 번에 저장한다")
+	void 크기_도달시_저장() {
+
+		NotificationWriteBuffer buffer = createBuffer(3, 100);
+
+		buffer.add(notification("event-1"));
+		buffer.add(notification("event-2"));
+		assertThat(writtenBatches).isEmpty();
+
+		buffer.add(notification("event-3"));
+
+		assertThat(writtenBatches).containsExactly(List.of("event-1", "event-2", "event-3"));
+		assertThat(buffer.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("batch-size 보다 적게 쌓여도 flush 하면 저장한다")
+	void 주기_flush_저장() {
+
+		NotificationWriteBuffer buffer = createBuffer(100, 1000);
+		buffer.add(notification("event-1"));
+		buffer.add(notification("event-2"));
+
+		buffer.flush();
+
+		assertThat(writtenBatches).containsExactly(List.of("event-1", "event-2"));
+	}
+
+	@Test
+	@DisplayName("버퍼가 가득 차면 저장 스레드가 비운 뒤 넣어 알림을 버리지 않는다")
+	void 버퍼_가득참() {
+
+		NotificationWriteBuffer buffer = createBuffer(100, 1);
+		buffer.add(notification("event-1"));
+
+		buffer.add(notification("event-2"));
+
+		assertThat(writtenBatches).containsExactly(List.of("event-1"));
+		buffer.flush();
+		assertThat(writtenBatches).containsExactly(List.of("event-1"), List.of("event-2"));
+	}
+
+	@Test
+	@DisplayName("버퍼가 가득 찬 채로 저장 스레드가 비우지 못하면 호출 스레드에서 저장하지 않고 버린 수를 기록한다")
+	void 버퍼_가득참_대기_초과() {
+
+		// 비우기 요청을 받아만 두고 실행하지 않는 저장 스레드
+		List<Runnable> requested = new ArrayList<>();
+		NotificationWriteBuffer buffer = new NotificationWriteBuffer(notificationJdbcRepository,
+			unreadNotificationCounter, requested::add, meterRegistry, 100, 1, MAX_ATTEMPTS, 0, 10);
+		buffer.add(notification("event-1"));
+
+		buffer.add(notification("event-2"));
+
+		assertThat(requested).hasSize(1);
+		verify(notificationJdbcRepository, never()).insertAllIgnoringDuplicates(anyList());
+		assertThat(meterRegistry.get("notification.write.dropped").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("묶음 저장이 실패하면 다시 시도해 저장한다")
+	void 저장_실패_재시도() {
+
+		when(notificationJdbcRepository.insertAllIgnoringDuplicates(anyList()))
+			.thenThrow(new RuntimeException("lock wait timeout"))
+			.thenReturn(2);
+		NotificationWriteBuffer buffer = createBuffer(100, 1000);
+		buffer.add(notification("event-1"));
+		buffer.add(notification("event-2"));
+
+		buffer.flush();
+
+		verify(notificationJdbcRepository, times(2)).insertAllIgnoringDuplicates(anyList());
+		verify(notificationJdbcRepository, never()).insertEach(anyList());
+		assertThat(meterRegistry.get("notification.write.inserted").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("재시도해도 묶음 저장이 실패하면 한 건씩 저장하고 실패한 알림 수를 기록한다")
+	void 저장_실패_한건씩_저장() {
+
+		doThrow(new RuntimeException("data too long")).when(notificationJdbcRepository).insertAllIgnoringDuplicates(anyList());
+		when(notificationJdbcRepository.insertEach(anyList())).thenReturn(new NotificationJdbcRepository.InsertResult(1, 1));
+		NotificationWriteBuffer buffer = createBuffer(100, 1000);
+		buffer.add(notification(1L, "event-1"));
+		buffer.add(notification(2L, "event-2"));
+
+		buffer.flush();
+
+		verify(notificationJdbcRepository, times(MAX_ATTEMPTS)).insertAllIgnoringDuplicates(anyList());
+		verify(notificationJdbcRepository, times(1)).insertEach(anyList());
+		assertThat(buffer.size()).isZero();
+		assertThat(meterRegistry.get("notification.write.inserted").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("notification.write.failed").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("notification.write.duplicated").counter().count()).isZero();
+		verify(unreadNotificationCounter).evict(Set.of(1L, 2L));
+	}
+
+	@Test
+	@DisplayName("DB 연결 실패가 길어져도 알림을 실패로 버리지 않고 버퍼에 되돌렸다가 복구 후 저장한다")
+	void DB_장애시_버퍼에_되돌림() {
+
+		doThrow(new CannotGetJdbcConnectionException("connection refused"))
+			.when(notificationJdbcRepository).insertAllIgnoringDuplicates(anyList());
+		when(notificationJdbcRepository.insertEach(anyList())).thenAnswer(invocation ->
+			new NotificationJdbcRepository.InsertResult(0, 0, List.copyOf(invocation.<List<Notification>>getArgument(0))));
+		NotificationWriteBuffer buffer = createBuffer(100, 1000);
+		buffer.add(notification("event-1"));
+		buffer.add(notification("event-2"));
+
+		// max-attempts x backoff 보다 긴 장애 동안 여러 번 flush
+		for (int i = 0; i < 5; i++) {
+			buffer.flush();
+		}
+
+		assertThat(buffer.size()).isEqualTo(2);
+		verify(notificationJdbcRepository, times(5 * MAX_ATTEMPTS)).insertAllIgnoringDuplicates(anyList());
+		assertThat(meterRegistry.find("notification.write.failed").counter()).isNull();
+		assertThat(meterRegistry.get("notification.write.requeued").counter().count()).isEqualTo(10);
+
+		// 복구
+		doAnswer(invocation -> {
+			List<Notification> batch = invocation.getArgument(0);
+			writtenBatches.add(batch.stream().map(Notification::getEventId).toList());
+			return batch.size();
+		}).when(notificationJdbcRepository).insertAllIgnoringDuplicates(anyList());
+		buffer.flush();
+
+		assertThat(writtenBatches).containsExactly(List.of("event-1", "event-2"));
+		assertThat(buffer.size()).isZero();
+		assertThat(meterRegistry.get("notification.write.inserted").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("한 건씩 저장하던 중 DB 연결이 끊기면 저장한 알림은 기록하고 남은 알림만 되돌린다")
+	void 한건씩_저장중_DB_장애() {
+
+		doThrow(new CannotGetJdbcConnectionException("connection refused"))
+			.when(notificationJdbcRepository).insertAllIgnoringDuplicates(anyList());
+		NotificationWriteBuffer buffer = createBuffer(100, 1000);
+		Notification second = notification(2L, "event-2");
+		when(notificationJdbcRepository.insertEach(anyList()))
+			.thenReturn(new NotificationJdbcRepository.InsertResult(1, 0, List.of(second)));
+		buffer.add(notification(1L, "event-1"));
+		buffer.add(second);
+
+		buffer.flush();
+
+		assertThat(buffer.size()).isEqualTo(1);
+		assertThat(meterRegistry.get("notification.write.inserted").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("notification.write.failed").counter().count()).isZero();
+		verify(unreadNotificationCounter).increase(Map.of(1L, 1));
+	}
+
+	@Test
+	@DisplayName("모두 저장되면 사용자별 저장 수만큼 안 읽은 알림 수를 올린다")
+	void 저장_후_안읽은_수_증가() {
+
+		NotificationWriteBuffer buffer = createBuffer(100, 1000);
+		buffer.add(notification(1L, "event-1"));
+		buffer.add(notification(1L, "event-2"));
+		buffer.add(notification(2L, "event-3"));
+
+		buffer.flush();
+
+		verify(unreadNotificationCounter).increase(Map.of(1L, 2, 2L, 1));
+		verify(unreadNotificationCounter, never()).evict(any());
+	}
+
+	@Test
+	@DisplayName("중복으로 건너뛴 알림이 있으면 해당 사용자의 안 읽은 알림 수 캐시를 지운다")
+	void 중복_포함시_캐시_삭제() {
+
+		when(notificationJdbcRepository.insertAllIgnoringDuplicates(anyList())).thenReturn(1);
+		NotificationWriteBuffer buffer = createBuffer(100, 1000);
+		buffer.add(notification(1L, "event-1"));
+		buffer.add(notification(2L, "event-2"));
+
+		buffer.flush();
+
+		verify(unreadNotificationCounter).evict(Set.of(1L, 2L));
+		verify(unreadNotificationCounter, never()).increase(anyMap());
+	}
+
+	private NotificationWriteBuffer createBuffer(int batchSize, int capacity) {
+		return new NotificationWriteBuffer(notificationJdbcRepository, unreadNotificationCounter, Runnable::run,
+			meterRegistry, batchSize, capacity, MAX_ATTEMPTS, 0, 0);
+	}
+
+	private Notification notification(String eventId) {
+		return notification(1L, eventId);
+	}
+
+	private Notification notification(Long memberId, String eventId) {
+		return Notification.create(memberId, NotificationEventType.TOP5_RANK_CHANGED, 3, 6, 120, 10, eventId);
+	}
+}
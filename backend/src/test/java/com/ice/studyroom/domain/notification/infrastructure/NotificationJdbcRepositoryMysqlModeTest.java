@@ -0,0 +1,129 @@
+package com.ice.studyroom.domain.notification.infrastructure;
+
+import com.ice.studyroom.domain.notification.domain.entity.Notification;
+import com.ice.studyroom.domain.notification.type.NotificationEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MySQL 경로(다중 행 INSERT, 중복 시 행 단위 재시도)의 SQL 과 영향 행 수 집계를 H2 MySQL 호환 모드에서 검증합니다.
+ */
+class NotificationJdbcRepositoryMysqlModeTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private NotificationJdbcRepository notificationJdbcRepository;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:notification_mysql;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("""
+			CREATE TABLE notification (
+				id BIGINT AUTO_INCREMENT PRIMARY KEY,
+				member_id BIGINT NOT NULL,
+				event_type VARCHAR(30) NOT NULL,
+				`rank` INT NOT NULL,
+				previous_rank INT,
+				score INT NOT NULL,
+				is_read BOOLEAN NOT NULL,
+				gap_with_upper INT,
+				event_id VARCHAR(255) NOT NULL,
+				created_at TIMESTAMP,
+				updated_at TIMESTAMP,
+				CONSTRAINT uk_notification_event_id UNIQUE (event_id)
+			)
+			""");
+
+		notificationJdbcRepository = new NotificationJdbcRepository(jdbcTemplate);
+		ReflectionTestUtils.setField(notificationJdbcRepository, "mysql", true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("DROP TABLE notification");
+	}
+
+	@Test
+	@DisplayName("중복이 섞인 묶음은 중복만 건너뛰고 새로 저장된 행만 센다")
+	void 다중행_중복_무시() {
+
+		int first = notificationJdbcRepository.insertAllIgnoringDuplicates(List.of(
+			notification(1L, "event-1"),
+			notification(2L, "event-2")
+		));
+		// 묶음 안의 중복과 이미 저장된 이벤트가 섞인 경우
+		int second = notificationJdbcRepository.insertAllIgnoringDuplicates(List.of(
+			notification(1L, "event-1"),
+			notification(3L, "event-3"),
+			notification(3L, "event-3")
+		));
+
+		assertThat(first).isEqualTo(2);
+		assertThat(second).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForList("SELECT event_id FROM notification", String.class))
+			.containsExactlyInAnyOrder("event-1", "event-2", "event-3");
+	}
+
+	@Test
+	@DisplayName("중복이 아닌 오류는 경고로 바꾸지 않고 묶음 전체를 실패시킨다")
+	void 중복_외_오류는_실패() {
+
+		assertThatThrownBy(() -> notificationJdbcRepository.insertAllIgnoringDuplicates(List.of(
+			notification(1L, "event-1"),
+			notification(2L, "x".repeat(300))
+		))).isInstanceOf(DataIntegrityViolationException.class)
+			.isNotInstanceOf(DuplicateKeyException.class);
+
+		// 잘린 값이나 일부 행만 저장되지 않는다
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification", Long.class)).isZero();
+	}
+
+	@Test
+	@DisplayName("한 문장의 최대 행 수보다 큰 묶음은 여러 문장으로 나눠 저장하고 합계를 센다")
+	void 여러_문장_합계() {
+
+		List<Notification> notifications = IntStream.rangeClosed(1, 1200)
+			.mapToObj(i -> notification((long) i, "event-" + i))
+			.toList();
+
+		assertThat(notificationJdbcRepository.insertAllIgnoringDuplicates(notifications)).isEqualTo(1200);
+		assertThat(notificationJdbcRepository.insertAllIgnoringDuplicates(notifications)).isZero();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification", Long.class)).isEqualTo(1200);
+	}
+
+	@Test
+	@DisplayName("한 건씩 저장하면 중복은 건너뛰고 저장할 수 없는 행만 실패로 센다")
+	void 한건씩_저장() {
+
+		notificationJdbcRepository.insertAllIgnoringDuplicates(List.of(notification(1L, "event-1")));
+
+		NotificationJdbcRepository.InsertResult result = notificationJdbcRepository.insertEach(List.of(
+			notification(1L, "event-1"),
+			notification(2L, "x".repeat(300)),
+			notification(3L, "event-3")
+		));
+
+		assertThat(result.inserted()).isEqualTo(1);
+		assertThat(result.failed()).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForList("SELECT event_id FROM notification", String.class))
+			.containsExactlyInAnyOrder("event-1", "event-3");
+	}
+
+	private Notification notification(Long memberId, String eventId) {
+		return Notification.create(memberId, NotificationEventType.TOP5_RANK_CHANGED, 3, 6, 120, 10, eventId);
+	}
+}
@@ -0,0 +1,88 @@
+package com.ice.studyroom.domain.notification.infrastructure;
+
+import com.ice.studyroom.domain.notification.domain.entity.Notification;
+import com.ice.studyroom.domain.notification.type.NotificationEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(NotificationJdbcRepository.class)
+class NotificationJdbcRepositoryTest {
+
+	@Autowired
+	private NotificationJdbcRepository notificationJdbcRepository;
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	@Test
+	@DisplayName("같은 eventId 는 한 번만 저장되고 나머지는 건너뛴다")
+	void 중복_eventId_무시() {
+
+		int first = notificationJdbcRepository.insertAllIgnoringDuplicates(List.of(
+			notification(1L, "event-1"),
+			notification(2L, "event-2")
+		));
+		// Kafka 재전달 등으로 같은 이벤트가 다시 들어온 경우
+		int second = notificationJdbcRepository.insertAllIgnoringDuplicates(List.of(
+			notification(1L, "event-1"),
+			notification(3L, "event-3")
+		));
+
+		assertThat(first).isEqualTo(2);
+		assertThat(second).isEqualTo(1);
+		assertThat(notificationRepository.findAll())
+			.extracting(Notification::getEventId)
+			.containsExactlyInAnyOrder("event-1", "event-2", "event-3");
+	}
+
+	@Test
+	@DisplayName("저장된 알림은 안 읽은 알림으로 조회된다")
+	void 저장된_알림_조회() {
+
+		notificationJdbcRepository.insertAllIgnoringDuplicates(List.of(notification(1L, "event-1")));
+
+		List<Notification> unread = notificationRepository.findUnreadByMemberId(1L);
+
+		assertThat(unread).hasSize(1);
+		assertThat(unread.get(0).getRank()).isEqualTo(3);
+		assertThat(unread.get(0).getPreviousRank()).isEqualTo(6);
+		assertThat(unread.get(0).getEventType()).isEqualTo(NotificationEventType.TOP5_RANK_CHANGED);
+	}
+
+	@Test
+	@DisplayName("안 읽은 알림을 (createdAt, id) 커서로 중복/누락 없이 이어서 조회한다")
+	void 안읽은_알림_커서_조회() {
+
+		// 한 묶음으로 저장된 알림은 createdAt 이 같으므로 id 로 순서를 가른다
+		notificationJdbcRepository.insertAllIgnoringDuplicates(List.of(
+			notification(1L, "event-1"),
+			notification(1L, "event-2"),
+			notification(1L, "event-3"),
+			notification(2L, "event-4")
+		));
+
+		List<Notification> first = notificationRepository.findUnreadFirstPage(1L, PageRequest.of(0, 2));
+		Notification last = first.get(first.size() - 1);
+		List<Notification> second = notificationRepository.findUnreadPageAfter(
+			1L, last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+		assertThat(first).extracting(Notification::getEventId).containsExactly("event-3", "event-2");
+		assertThat(second).extracting(Notification::getEventId).containsExactly("event-1");
+		assertThat(notificationRepository.countUnread(1L)).isEqualTo(3L);
+	}
+
+	private Notification notification(Long memberId, String eventId) {
+		return Notification.create(memberId, NotificationEventType.TOP5_RANK_CHANGED, 3, 6, 120, 10, eventId);
+	}
+}
@@ -0,0 +1,145 @@
+package com.ice.studyroom.domain.outbox.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.studyroom.domain.outbox.domain.entity.OutboxEvent;
+import com.ice.studyroom.domain.outbox.infrastructure.persistence.OutboxEventJdbcRepository;
+import com.ice.studyroom.domain.outbox.infrastructure.persistence.OutboxEventRepository;
+
+/**
+ * outbox 적재가 호출한 비즈니스 트랜잭션을 rollback-only 로 만들지 않는지 검증합니다.
+ * 트랜잭션 경계를 직접 다루므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OutboxEventService.class, OutboxEventJdbcRepository.class, OutboxEventServiceTest.Config.class})
+class OutboxEventServiceTest {
+
+	private static final String TOPIC = "RANKING_USER_CHANGED_EVENT";
+
+	@Autowired
+	private OutboxEventService outboxEventService;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		Clock clock() {
+			return Clock.systemDefaultZone();
+		}
+
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper();
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		outboxEventRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("두 트랜잭션이 같은 이벤트 키를 동시에 저장해도 둘 다 커밋되고 이벤트는 한 건만 남음")
+	void 같은_키_동시_저장() throws Exception {
+		int threadCount = 2;
+		CyclicBarrier barrier = new CyclicBarrier(threadCount);
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			results.add(executor.submit(() -> transaction.execute(status -> {
+				await(barrier);
+				boolean inserted = outboxEventService.append(TOPIC, "1", "race-key", new Payload("race"));
+				// 같은 트랜잭션의 다른 쓰기도 함께 커밋되어야 한다
+				outboxEventService.append(TOPIC, "1", "other-" + Thread.currentThread().getId(), new Payload("other"));
+				return inserted;
+			})));
+		}
+
+		List<Boolean> inserted = new ArrayList<>();
+		for (Future<Boolean> result : results) {
+			inserted.add(result.get(10, TimeUnit.SECONDS));
+		}
+		executor.shutdown();
+
+		assertThat(inserted).containsExactlyInAnyOrder(true, false);
+		assertThat(outboxEventRepository.findAll())
+			.extracting(OutboxEvent::getEventKey)
+			.containsOnlyOnce("race-key")
+			.hasSize(3);
+	}
+
+	@Test
+	@DisplayName("이미 저장된 키를 다시 저장해도 호출한 트랜잭션은 커밋됨")
+	void 중복_키_저장후_커밋() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.executeWithoutResult(status -> outboxEventService.append(TOPIC, "1", "dup-key", new Payload("a")));
+
+		transaction.executeWithoutResult(status -> {
+			assertThat(outboxEventService.append(TOPIC, "1", "dup-key", new Payload("b"))).isFalse();
+			outboxEventService.append(TOPIC, "1", "after-dup", new Payload("c"));
+		});
+
+		assertThat(outboxEventRepository.findAll())
+			.extracting(OutboxEvent::getEventKey)
+			.containsExactlyInAnyOrder("dup-key", "after-dup");
+	}
+
+	@Test
+	@DisplayName("직렬화할 수 없는 이벤트는 저장하지 않고 호출한 트랜잭션은 커밋됨")
+	void 직렬화_실패() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		transaction.executeWithoutResult(status -> {
+			assertThat(outboxEventService.append(TOPIC, "1", "broken", new Object())).isFalse();
+			outboxEventService.append(TOPIC, "1", "after-broken", new Payload("ok"));
+		});
+
+		assertThat(outboxEventRepository.findAll())
+			.extracting(OutboxEvent::getEventKey)
+			.containsExactly("after-broken");
+	}
+
+	private static void await(CyclicBarrier barrier) {
+		try {
+			barrier.await(5, TimeUnit.SECONDS);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	record Payload(String value) {
+	}
+}
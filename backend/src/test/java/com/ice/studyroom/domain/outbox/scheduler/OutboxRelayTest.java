@@ -0,0 +1,313 @@
+package com.ice.studyroom.domain.outbox.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.studyroom.domain.outbox.application.OutboxEventService;
+import com.ice.studyroom.domain.outbox.domain.entity.OutboxEvent;
+import com.ice.studyroom.domain.outbox.domain.type.OutboxEventStatus;
+import com.ice.studyroom.domain.outbox.infrastructure.kafka.OutboxKafkaSender;
+import com.ice.studyroom.domain.outbox.infrastructure.persistence.OutboxEventJdbcRepository;
+import com.ice.studyroom.domain.outbox.infrastructure.persistence.OutboxEventRepository;
+import com.ice.studyroom.domain.ranking.application.event.dto.RankingUserChangedEvent;
+import com.ice.studyroom.domain.ranking.application.event.policy.RankingEventType;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * outbox 적재 → 선점 → Kafka 발행 → 결과 기록 흐름을 H2 와 MockProducer 위에서 검증합니다.
+ * 선점 / 결과 기록이 REQUIRES_NEW 로 동작하므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@DataJpaTest(properties = {
+	"outbox.relay.batch-size=3",
+	"outbox.relay.poll-interval-ms=3600000",
+	"outbox.relay.initial-delay-ms=3600000",
+	"outbox.relay.redrive-interval-ms=3600000",
+	"outbox.relay.max-attempts=3",
+	"outbox.relay.parallelism=" + OutboxRelayTest.TOPIC + ":2"
+})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OutboxEventService.class, OutboxEventJdbcRepository.class, OutboxKafkaSender.class, OutboxRelay.class, OutboxRelayTest.Config.class})
+class OutboxRelayTest {
+
+	static final String TOPIC = "RANKING_USER_CHANGED_EVENT";
+
+	@Autowired
+	private OutboxEventService outboxEventService;
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private MockProducer<String, Object> mockProducer;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		Clock clock() {
+			return Clock.systemDefaultZone();
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		CircuitBreakerRegistry circuitBreakerRegistry() {
+			return CircuitBreakerRegistry.ofDefaults();
+		}
+
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper();
+		}
+
+		// 로컬 Kafka 대용 - 실제 프로듀서와 같은 직렬화기를 사용
+		// KafkaTemplate 이 전송 실패 후 프로듀서를 닫더라도 다음 테스트에서 재사용할 수 있도록 close 를 무시
+		@Bean
+		MockProducer<String, Object> mockProducer() {
+			return new MockProducer<>(true, new StringSerializer(), new JsonSerializer<>()) {
+				@Override
+				public void close() {
+				}
+
+				@Override
+				public void close(Duration timeout) {
+				}
+			};
+		}
+
+		@Bean
+		KafkaTemplate<String, Object> kafkaTemplate(MockProducer<String, Object> mockProducer) {
+			return new KafkaTemplate<>(new MockProducerFactory<>(() -> mockProducer));
+		}
+
+		@Bean
+		ExecutorService outboxRelayExecutor() {
+			return Executors.newFixedThreadPool(2);
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		outboxEventRepository.deleteAll();
+		mockProducer.clear();
+		mockProducer.sendException = null;
+		circuitBreakerRegistry.circuitBreaker(OutboxKafkaSender.KAFKA_PRODUCER_CIRCUIT).transitionToClosedState();
+	}
+
+	@Test
+	@DisplayName("커밋된 트랜잭션의 이벤트만 멱등 키 헤더와 함께 발행")
+	void 커밋된_이벤트만_발행() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.executeWithoutResult(status -> appendEvent(1L, "committed"));
+		transaction.executeWithoutResult(status -> {
+			appendEvent(2L, "rolled-back");
+			status.setRollbackOnly();
+		});
+
+		outboxRelay.relay();
+
+		List<ProducerRecord<String, Object>> history = mockProducer.history();
+		assertThat(history).hasSize(1);
+		ProducerRecord<String, Object> record = history.get(0);
+		assertThat(record.topic()).isEqualTo(TOPIC);
+		assertThat(record.key()).isEqualTo("1");
+		assertThat(record.value()).isInstanceOf(RankingUserChangedEvent.class);
+		assertThat(new String(record.headers().lastHeader(OutboxKafkaSender.IDEMPOTENCY_KEY_HEADER).value(),
+			StandardCharsets.UTF_8)).isEqualTo("committed");
+
+		assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getStatus)
+			.containsExactly(OutboxEventStatus.PUBLISHED);
+	}
+
+	@Test
+	@DisplayName("같은 멱등 키의 이벤트는 한 번만 저장")
+	void 중복_이벤트_무시() {
+		appendEvent(1L, "duplicated");
+		appendEvent(1L, "duplicated");
+
+		assertThat(outboxEventRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Kafka 장애 시 이벤트는 유실되지 않고 시도 횟수 없이 outage-backoff 이후 재시도 대기")
+	void Kafka_장애시_재시도_대기() {
+		mockProducer.sendException = new IllegalStateException("broker down");
+		appendEvent(1L, "event-1");
+
+		outboxRelay.relay();
+
+		OutboxEvent event = outboxEventRepository.findAll().get(0);
+		assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+		assertThat(event.getAttempts()).isZero();
+		assertThat(event.getNextAttemptAt()).isAfter(event.getCreatedAt());
+
+		// 장애가 복구되어도 backoff 전에는 다시 발행하지 않는다
+		mockProducer.sendException = null;
+		outboxRelay.relay();
+		assertThat(mockProducer.history()).isEmpty();
+
+		outboxRelay.refreshBacklogMetrics();
+		assertThat(meterRegistry.get("outbox.backlog.size").gauge().value()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("장애가 최대 시도 횟수 x backoff 보다 길어져도 이벤트를 포기하지 않고 복구 후 발행")
+	void 긴_장애에도_유실_없음() {
+		mockProducer.sendException = new IllegalStateException("broker down");
+		appendEvent(1L, "event-1");
+
+		// max-attempts(3) 보다 훨씬 많이, backoff 를 건너뛰며 재시도
+		for (int i = 0; i < 10; i++) {
+			outboxRelay.relay();
+			makeReadyNow();
+		}
+
+		OutboxEvent event = outboxEventRepository.findAll().get(0);
+		assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+		assertThat(event.getAttempts()).isZero();
+
+		mockProducer.sendException = null;
+		outboxRelay.relay();
+
+		assertThat(mockProducer.history()).hasSize(1);
+		assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getStatus)
+			.containsExactly(OutboxEventStatus.PUBLISHED);
+	}
+
+	@Test
+	@DisplayName("kafka-producer 서킷이 열려 있으면 선점하지 않는다")
+	void 서킷_열림시_선점하지_않음() {
+		appendEvent(1L, "event-1");
+		circuitBreakerRegistry.circuitBreaker(OutboxKafkaSender.KAFKA_PRODUCER_CIRCUIT).transitionToForcedOpenState();
+
+		outboxRelay.relay();
+
+		OutboxEvent event = outboxEventRepository.findAll().get(0);
+		assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+		assertThat(event.getClaimedAt()).isNull();
+		assertThat(event.getAttempts()).isZero();
+		assertThat(mockProducer.history()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("레코드로 만들 수 없는 이벤트만 시도 횟수가 늘고, 나머지는 발행")
+	void 이벤트_자체_실패만_시도_횟수_증가() {
+		appendEvent(1L, "poison");
+		appendEvent(2L, "event-2");
+		jdbcTemplate.update("UPDATE outbox_event SET payload_type = 'com.example.Missing' WHERE event_key = 'poison'");
+
+		outboxRelay.relay();
+
+		assertThat(outboxEventRepository.findAll())
+			.extracting(OutboxEvent::getEventKey, OutboxEvent::getStatus, OutboxEvent::getAttempts)
+			.containsExactlyInAnyOrder(
+				tuple("poison", OutboxEventStatus.PENDING, 1),
+				tuple("event-2", OutboxEventStatus.PUBLISHED, 1)
+			);
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수를 넘겨 포기한 이벤트는 재구동 후 다시 발행")
+	void 포기한_이벤트_재구동() {
+		appendEvent(1L, "event-1");
+		jdbcTemplate.update("UPDATE outbox_event SET status = 'FAILED', attempts = 3");
+
+		outboxRelay.relay();
+		assertThat(mockProducer.history()).isEmpty();
+
+		outboxRelay.redriveFailed();
+		outboxRelay.relay();
+
+		assertThat(mockProducer.history()).hasSize(1);
+		assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getStatus)
+			.containsExactly(OutboxEventStatus.PUBLISHED);
+		assertThat(meterRegistry.get("outbox.events.redriven").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("발행 실패가 없으면 레인을 나누어 발행해도 같은 키의 이벤트는 저장 순서대로 발행")
+	void 같은_키는_순서_보장() {
+		for (int sequence = 0; sequence < 5; sequence++) {
+			for (long memberId = 1; memberId <= 4; memberId++) {
+				appendEvent(memberId, "member-" + memberId + "-" + sequence);
+			}
+		}
+
+		outboxRelay.relay();
+
+		assertThat(outboxRelay.parallelismOf(TOPIC)).isEqualTo(2);
+		assertThat(mockProducer.history()).hasSize(20);
+		for (long memberId = 1; memberId <= 4; memberId++) {
+			String key = String.valueOf(memberId);
+			assertThat(mockProducer.history().stream()
+				.filter(record -> key.equals(record.key()))
+				.map(record -> ((RankingUserChangedEvent)record.value()).eventId())
+				.toList())
+				.containsExactly("member-" + key + "-0", "member-" + key + "-1", "member-" + key + "-2",
+					"member-" + key + "-3", "member-" + key + "-4");
+		}
+		assertThat(meterRegistry.get("outbox.events.published").tag("topic", TOPIC).counter().count())
+			.isGreaterThanOrEqualTo(20);
+	}
+
+	private void makeReadyNow() {
+		jdbcTemplate.update("UPDATE outbox_event SET next_attempt_at = ?", LocalDateTime.now().minusSeconds(1));
+	}
+
+	private void appendEvent(Long memberId, String eventId) {
+		RankingUserChangedEvent event = new RankingUserChangedEvent(eventId, RankingEventType.TOP5_RANK_CHANGED,
+			"weekly-2025-03-03", memberId, "테스트사용자", "test@hufs.ac.kr", 1, 2, 10, null);
+		outboxEventService.append(TOPIC, memberId.toString(), eventId, event);
+	}
+}
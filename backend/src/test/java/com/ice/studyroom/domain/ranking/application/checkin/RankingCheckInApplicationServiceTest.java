@@ -2,9 +2,11 @@ package com.ice.studyroom.domain.ranking.application.checkin;
 
 import com.ice.studyroom.domain.membership.domain.entity.Member;
 import com.ice.studyroom.domain.membership.domain.vo.Email;
+import com.ice.studyroom.domain.ranking.application.event.assembler.WeeklyRankingAssembler;
 import com.ice.studyroom.domain.ranking.application.event.trigger.RankingContext;
 import com.ice.studyroom.domain.ranking.application.event.trigger.RankingEventTriggerService;
 import com.ice.studyroom.domain.ranking.domain.service.RankingScoreCalculator;
+import com.ice.studyroom.domain.ranking.domain.service.RankingScoreChange;
 import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
 import com.ice.studyroom.domain.reservation.domain.entity.Reservation;
@@ -25,6 +27,7 @@ class RankingCheckInApplicationServiceTest {
 	private RankingScoreCalculator rankingScoreCalculator;
 	private RankingStore rankingStore;
 	private RankingEventTriggerService rankingEventTriggerService;
+	private WeeklyRankingAssembler weeklyRankingAssembler;
 
 	private RankingCheckInApplicationService service;
 
@@ -33,11 +36,13 @@ class RankingCheckInApplicationServiceTest {
 		rankingScoreCalculator = mock(RankingScoreCalculator.class);
 		rankingStore = mock(RankingStore.class);
 		rankingEventTriggerService = mock(RankingEventTriggerService.class);
+		weeklyRankingAssembler = mock(WeeklyRankingAssembler.class);
 
 		service = new RankingCheckInApplicationService(
 			rankingScoreCalculator,
 			rankingStore,
-			rankingEventTriggerService
+			rankingEventTriggerService,
+			weeklyRankingAssembler
 		);
 	}
 
@@ -70,33 +75,28 @@ class RankingCheckInApplicationServiceTest {
 
 		service.handleCheckIn(reservation, ReservationStatus.NO_SHOW);
 
-		verify(rankingStore, never()).increaseScore(any(), any(), anyInt());
+		verify(rankingStore, never()).increaseScoreForAllPeriods(any(), anyInt(), any());
 		verify(rankingEventTriggerService, never()).trigger(any());
 	}
 
 	@Test
-	@DisplayName("점수 > 0이면 모든 기간에 점수 반영")
+	@DisplayName("점수 > 0이면 한 번의 호출로 모든 기간에 점수 반영")
 	void handleCheckIn_scoreAppliedToAllPeriods() {
 		Reservation reservation = createReservation();
 
 		when(rankingScoreCalculator.calculate(any(), any()))
 			.thenReturn(20);
 
-		when(rankingStore.getRank(RankingPeriod.WEEKLY, 1L))
-			.thenReturn(6)   // previous
-			.thenReturn(5);  // current
-
-		when(rankingStore.getUpperScore(any(), any()))
-			.thenReturn(100);
-
-		when(rankingStore.getScore(any(), any()))
-			.thenReturn(90);
+		when(rankingStore.increaseScoreForAllPeriods(1L, 20, RankingPeriod.WEEKLY))
+			.thenReturn(new RankingScoreChange(6, 5, 90, 100));
 
 		service.handleCheckIn(reservation, ReservationStatus.ENTRANCE);
 
-		// RankingPeriod.values() 만큼 호출됐는지 확인
-		verify(rankingStore, times(RankingPeriod.values().length))
-			.increaseScore(any(), eq(1L), eq(20));
+		verify(rankingStore, times(1))
+			.increaseScoreForAllPeriods(1L, 20, RankingPeriod.WEEKLY);
+		verify(rankingStore, never()).increaseScore(any(), any(), anyInt());
+		verify(rankingStore, never()).getRank(any(), any());
+		verify(weeklyRankingAssembler).evictTopRankings();
 
 		verify(rankingEventTriggerService, times(1))
 			.trigger(any());
@@ -110,8 +110,8 @@ class RankingCheckInApplicationServiceTest {
 		when(rankingScoreCalculator.calculate(any(), any()))
 			.thenReturn(20);
 
-		when(rankingStore.getRank(RankingPeriod.WEEKLY, 1L))
-			.thenReturn(null);
+		when(rankingStore.increaseScoreForAllPeriods(1L, 20, RankingPeriod.WEEKLY))
+			.thenReturn(new RankingScoreChange(null, 3, 20, 100));
 
 		service.handleCheckIn(reservation, ReservationStatus.ENTRANCE);
 
@@ -126,15 +126,8 @@ class RankingCheckInApplicationServiceTest {
 		when(rankingScoreCalculator.calculate(any(), any()))
 			.thenReturn(20);
 
-		when(rankingStore.getRank(RankingPeriod.WEEKLY, 1L))
-			.thenReturn(6)
-			.thenReturn(5);
-
-		when(rankingStore.getUpperScore(any(), any()))
-			.thenReturn(120);
-
-		when(rankingStore.getScore(any(), any()))
-			.thenReturn(100);
+		when(rankingStore.increaseScoreForAllPeriods(1L, 20, RankingPeriod.WEEKLY))
+			.thenReturn(new RankingScoreChange(6, 5, 100, 120));
 
 		service.handleCheckIn(reservation, ReservationStatus.ENTRANCE);
 
@@ -145,5 +138,7 @@ class RankingCheckInApplicationServiceTest {
 
 		assertThat(captor.getValue().gapWithUpper())
 			.isEqualTo(20);
+		assertThat(captor.getValue().score())
+			.isEqualTo(100);
 	}
 }
@@ -2,12 +2,17 @@ package com.ice.studyroom.domain.ranking.application.event.assembler;
 
 import com.ice.studyroom.domain.membership.domain.entity.Member;
 import com.ice.studyroom.domain.membership.infrastructure.persistence.MemberRepository;
+import com.ice.studyroom.domain.ranking.application.event.dto.TopRankingsEvictedEvent;
+import com.ice.studyroom.domain.ranking.application.event.dto.WeeklyRankingDto;
 import com.ice.studyroom.domain.ranking.domain.service.RankingEntry;
 import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -17,22 +22,130 @@ class WeeklyRankingAssemblerTest {
 
 	private final RankingStore rankingStore = mock(RankingStore.class);
 	private final MemberRepository memberRepository = mock(MemberRepository.class);
+	private final Clock clock = mock(Clock.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
 
 	private final WeeklyRankingAssembler assembler =
-		new WeeklyRankingAssembler(rankingStore, memberRepository);
+		new WeeklyRankingAssembler(rankingStore, memberRepository, clock, eventPublisher, 5000);
 
 	@Test
 	@DisplayName("Top5를 점수 기준으로 반환하고 이름을 마스킹한다")
 	void buildTop5_success() {
 
 		// given
+		givenTopRankings();
+
+		// when
+		var result = assembler.buildTop5(RankingPeriod.WEEKLY);
+
+		// then
+		assertThat(result).hasSize(3);
+		assertThat(result.get(0).rank()).isEqualTo(1);
+		assertThat(result.get(0).name()).isEqualTo("김*준");
+		assertThat(result.get(0).score()).isEqualTo(100);
+		verify(rankingStore, never()).getAllRankings(any());
+	}
+
+	@Test
+	@DisplayName("랭킹이 없으면 빈 리스트 반환")
+	void buildTop5_empty() {
+
+		when(clock.millis()).thenReturn(0L);
+		when(rankingStore.getTopRankings(RankingPeriod.WEEKLY, 5))
+			.thenReturn(List.of());
+
+		var result = assembler.buildTop5(RankingPeriod.WEEKLY);
+
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	@DisplayName("TTL 이내 재조회는 캐시를 사용하고, 점수 변경 시 무효화된다")
+	void buildTop5_cache() {
+
+		givenTopRankings();
+
+		assembler.buildTop5(RankingPeriod.WEEKLY);
+		assembler.buildTop5(RankingPeriod.WEEKLY);
+
+		verify(rankingStore, times(1)).getTopRankings(RankingPeriod.WEEKLY, 5);
+		verify(memberRepository, times(1)).findAllById(any());
+
+		assembler.evictTopRankings();
+		assembler.buildTop5(RankingPeriod.WEEKLY);
+
+		verify(rankingStore, times(2)).getTopRankings(RankingPeriod.WEEKLY, 5);
+		verify(eventPublisher).publishEvent(any(TopRankingsEvictedEvent.class));
+	}
+
+	@Test
+	@DisplayName("다른 서버의 무효화 메시지로 로컬 캐시만 무효화할 때는 다시 발행하지 않는다")
+	void buildTop5_localEvict() {
+
+		givenTopRankings();
+
+		assembler.buildTop5(RankingPeriod.WEEKLY);
+		assembler.evictLocalTopRankings();
+		assembler.buildTop5(RankingPeriod.WEEKLY);
+
+		verify(rankingStore, times(2)).getTopRankings(RankingPeriod.WEEKLY, 5);
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	@DisplayName("저장소가 동점자를 더 돌려줘도 점수 내림차순, memberId 문자열 내림차순으로 5명만 반환한다")
+	void buildTop5_tiesCapped() {
+
+		when(clock.millis()).thenReturn(0L);
+		// 1위 1명 + 같은 점수 9명
+		List<RankingEntry> entries = new ArrayList<>();
+		entries.add(new RankingEntry(100L, 100));
+		for (long memberId = 1; memberId <= 9; memberId++) {
+			entries.add(new RankingEntry(memberId, 50));
+		}
+		when(rankingStore.getTopRankings(RankingPeriod.WEEKLY, 5)).thenReturn(entries);
+		List<Member> members = List.of(member(100L), member(9L), member(8L), member(7L), member(6L));
+		when(memberRepository.findAllById(List.of(100L, 9L, 8L, 7L, 6L))).thenReturn(members);
+
+		List<WeeklyRankingDto> result = assembler.buildTop5(RankingPeriod.WEEKLY);
+
+		assertThat(result).hasSize(5);
+		assertThat(result).extracting(WeeklyRankingDto::rank).containsExactly(1, 2, 2, 2, 2);
+		assertThat(result).extracting(WeeklyRankingDto::name)
+			.containsExactly("회***0", "회*9", "회*8", "회*7", "회*6");
+	}
+
+	@Test
+	@DisplayName("TTL 이 지나면 다시 조회한다")
+	void buildTop5_cacheExpired() {
+
+		givenTopRankings();
+
+		assembler.buildTop5(RankingPeriod.WEEKLY);
+		when(clock.millis()).thenReturn(5001L);
+		assembler.buildTop5(RankingPeriod.WEEKLY);
+
+		verify(rankingStore, times(2)).getTopRankings(RankingPeriod.WEEKLY, 5);
+	}
+
+	private Member member(Long id) {
+		Member member = mock(Member.class);
+		when(member.getId()).thenReturn(id);
+		when(member.getName()).thenReturn("회원" + id);
+		return member;
+	}
+
+	private void givenTopRankings() {
+
+		when(clock.millis()).thenReturn(0L);
+
 		List<RankingEntry> entries = List.of(
 			new RankingEntry(1L, 100),
 			new RankingEntry(2L, 90),
 			new RankingEntry(3L, 80)
 		);
 
-		when(rankingStore.getAllRankings(RankingPeriod.WEEKLY))
+		when(rankingStore.getTopRankings(RankingPeriod.WEEKLY, 5))
 			.thenReturn(entries);
 
 		Member m1 = mock(Member.class);
@@ -49,26 +162,5 @@ class WeeklyRankingAssemblerTest {
 
 		when(memberRepository.findAllById(List.of(1L,2L,3L)))
 			.thenReturn(List.of(m1, m2, m3));
-
-		// when
-		var result = assembler.buildTop5(RankingPeriod.WEEKLY);
-
-		// then
-		assertThat(result).hasSize(3);
-		assertThat(result.get(0).rank()).isEqualTo(1);
-		assertThat(result.get(0).name()).isEqualTo("김*준");
-		assertThat(result.get(0).score()).isEqualTo(100);
-	}
-
-	@Test
-	@DisplayName("랭킹이 없으면 빈 리스트 반환")
-	void buildTop5_empty() {
-
-		when(rankingStore.getAllRankings(RankingPeriod.WEEKLY))
-			.thenReturn(List.of());
-
-		var result = assembler.buildTop5(RankingPeriod.WEEKLY);
-
-		assertThat(result).isEmpty();
 	}
 }
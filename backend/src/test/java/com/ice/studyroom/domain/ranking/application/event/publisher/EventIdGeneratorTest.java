@@ -1,20 +1,120 @@
 package com.ice.studyroom.domain.ranking.application.event.publisher;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class EventIdGeneratorTest {
 
-	private final EventIdGenerator generator = new EventIdGenerator();
+	private static final Instant NOW = Instant.parse("2026-02-27T10:00:00Z");
+
+	private final EventIdGenerator generator = new EventIdGenerator(Clock.systemUTC(), 7);
 
 	@Test
 	void generate_format_is_correct() {
 		String eventId = generator.generate("weekly-2026-02-27");
 
-		assertThat(eventId)
-			.startsWith("weekly-2026-02-27-uuid-");
+		assertThat(eventId).startsWith("weekly-2026-02-27-");
+		assertThat(eventId).hasSize("weekly-2026-02-27-".length() + 13);
+	}
+
+	@Test
+	@DisplayName("ID 에는 생성 시각과 노드 ID 가 담긴다")
+	void ID_구성() {
+		EventIdGenerator fixed = new EventIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC), 513);
+
+		long id = fixed.nextId();
+
+		assertThat(EventIdGenerator.timestampOf(id)).isEqualTo(NOW.toEpochMilli());
+		assertThat(EventIdGenerator.nodeIdOf(id)).isEqualTo(513);
+		assertThat(EventIdGenerator.fromCompactString(EventIdGenerator.toCompactString(id))).isEqualTo(id);
+	}
+
+	@Test
+	@DisplayName("같은 밀리초에 순번을 다 쓰면 다음 밀리초로 넘어가 중복 없이 증가한다")
+	void 순번_소진() {
+		EventIdGenerator fixed = new EventIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC), 1);
+
+		long previous = fixed.nextId();
+		for (int i = 0; i < 10_000; i++) {
+			long id = fixed.nextId();
+			assertThat(id).isGreaterThan(previous);
+			previous = id;
+		}
+		assertThat(EventIdGenerator.timestampOf(previous)).isEqualTo(NOW.toEpochMilli() + 2);
+	}
+
+	@Test
+	@DisplayName("시계가 뒤로 가도 ID 는 계속 증가한다")
+	void 시계_역행() {
+		Clock clock = mock(Clock.class);
+		when(clock.millis()).thenReturn(NOW.toEpochMilli(), NOW.toEpochMilli() - 1000, NOW.toEpochMilli() + 1);
+		EventIdGenerator generator = new EventIdGenerator(clock, 1);
+
+		long first = generator.nextId();
+		long second = generator.nextId();
+		long third = generator.nextId();
+
+		assertThat(second).isGreaterThan(first);
+		assertThat(third).isGreaterThan(second);
+	}
+
+	@Test
+	@DisplayName("문자열 ID 는 생성 순으로 정렬된다")
+	void 문자열_정렬() {
+		String first = EventIdGenerator.toCompactString(generator.nextId());
+		String second = EventIdGenerator.toCompactString(generator.nextId());
+
+		assertThat(second).isGreaterThan(first);
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 동시에 수백만 개를 발급해도 중복이 없다")
+	void 동시_발급_중복_없음() throws Exception {
+		int threads = 8;
+		int perThread = 500_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		List<Future<long[]>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			futures.add(executor.submit(() -> {
+				long[] ids = new long[perThread];
+				for (int i = 0; i < perThread; i++) {
+					ids[i] = generator.nextId();
+				}
+				return ids;
+			}));
+		}
+
+		long[] all = new long[threads * perThread];
+		int offset = 0;
+		for (Future<long[]> future : futures) {
+			long[] ids = future.get();
+			// 한 스레드 안에서는 발급 순서대로 증가
+			for (int i = 1; i < ids.length; i++) {
+				assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+			}
+			System.arraycopy(ids, 0, all, offset, ids.length);
+			offset += ids.length;
+		}
+		executor.shutdown();
 
-		assertThat(eventId.length()).isGreaterThan(25);
+		Arrays.sort(all);
+		for (int i = 1; i < all.length; i++) {
+			assertThat(all[i]).isNotEqualTo(all[i - 1]);
+		}
 	}
 }
@@ -1,17 +1,15 @@
 package com.ice.studyroom.domain.ranking.application.event.trigger;
 
 import com.ice.studyroom.domain.notification.application.NotificationCommandService;
-import com.ice.studyroom.domain.ranking.application.event.assembler.WeeklyRankingAssembler;
+import com.ice.studyroom.domain.ranking.application.event.dto.RankingListUpdateRequestedEvent;
 import com.ice.studyroom.domain.ranking.application.event.publisher.EventIdGenerator;
 import com.ice.studyroom.domain.ranking.application.event.publisher.RankingEventPublisher;
-import com.ice.studyroom.domain.ranking.application.event.dto.WeeklyRankingDto;
 import com.ice.studyroom.domain.ranking.domain.service.RankingEventPolicy;
-import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.Mockito.*;
@@ -20,16 +18,15 @@ class RankingEventTriggerServiceTest {
 
 	private final RankingEventPolicy policy = mock(RankingEventPolicy.class);
 	private final RankingEventPublisher publisher = mock(RankingEventPublisher.class);
-	private final RankingStore rankingStore = mock(RankingStore.class);
-	private final WeeklyRankingAssembler assembler = mock(WeeklyRankingAssembler.class);
+	private final ApplicationEventPublisher applicationEventPublisher = mock(ApplicationEventPublisher.class);
 	private final EventIdGenerator idGenerator = mock(EventIdGenerator.class);
 	private final NotificationCommandService notificationCommandService = mock(NotificationCommandService.class);
 
 	private final RankingEventTriggerService service =
-		new RankingEventTriggerService(policy, publisher, rankingStore, assembler, idGenerator, notificationCommandService);
+		new RankingEventTriggerService(policy, publisher, applicationEventPublisher, idGenerator, notificationCommandService);
 
 	@Test
-	@DisplayName("순위 변화가 있으면 알림 저장 후 USER_CHANGED와 LIST_UPDATED 이벤트를 발행한다")
+	@DisplayName("순위 변화가 있으면 알림 저장 후 USER_CHANGED 이벤트를 바로 발행하고 LIST_UPDATED 는 커밋 후 모아서 발행하도록 요청한다")
 	void trigger_when_rank_changed_publish_events() {
 
 		// given
@@ -40,15 +37,11 @@ class RankingEventTriggerServiceTest {
 		when(context.memberId()).thenReturn(1L);
 		when(context.memberName()).thenReturn("김예준");
 		when(context.memberEmail()).thenReturn("test@test.com");
+		when(context.score()).thenReturn(100);
 		when(context.gapWithUpper()).thenReturn(10);
 
 		when(policy.determine(5, 3)).thenReturn(Optional.of(mock()));
 
-		when(rankingStore.getScore(RankingPeriod.WEEKLY, 1L)).thenReturn(100);
-
-		when(assembler.buildTop5(RankingPeriod.WEEKLY))
-			.thenReturn(List.of(new WeeklyRankingDto(1, "김*준", 100)));
-
 		when(idGenerator.generate(any())).thenReturn("weekly-2026-02-27-uuid-1234");
 
 		// when
@@ -59,7 +52,10 @@ class RankingEventTriggerServiceTest {
 			.saveFromRankingEvent(any());
 
 		verify(publisher, times(1)).publishUserChanged(any());
-		verify(publisher, times(1)).publishListUpdated(any());
+		verify(applicationEventPublisher, times(1)).publishEvent(
+			argThat((Object event) -> event instanceof RankingListUpdateRequestedEvent requested
+				&& requested.period() == RankingPeriod.WEEKLY));
+		verify(publisher, never()).publishListUpdated(any());
 	}
 
 	@Test
@@ -82,6 +78,6 @@ class RankingEventTriggerServiceTest {
 			.saveFromRankingEvent(any());
 
 		verify(publisher, never()).publishUserChanged(any());
-		verify(publisher, never()).publishListUpdated(any());
+		verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
 	}
 }
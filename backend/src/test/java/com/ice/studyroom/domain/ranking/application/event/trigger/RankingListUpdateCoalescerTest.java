@@ -0,0 +1,107 @@
+package com.ice.studyroom.domain.ranking.application.event.trigger;
+
+import com.ice.studyroom.domain.ranking.application.event.assembler.WeeklyRankingAssembler;
+import com.ice.studyroom.domain.ranking.application.event.dto.RankingListUpdatedEvent;
+import com.ice.studyroom.domain.ranking.application.event.dto.WeeklyRankingDto;
+import com.ice.studyroom.domain.ranking.application.event.publisher.EventIdGenerator;
+import com.ice.studyroom.domain.ranking.application.event.publisher.RankingEventPublisher;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class RankingListUpdateCoalescerTest {
+
+	private static final RankingPeriod PERIOD = RankingPeriod.WEEKLY;
+	private static final String PERIOD_KEY = "weekly-2026-03-02";
+
+	private WeeklyRankingAssembler assembler;
+	private RankingEventPublisher publisher;
+	private RankingListUpdateCoalescer coalescer;
+
+	@BeforeEach
+	void setUp() {
+		assembler = mock(WeeklyRankingAssembler.class);
+		publisher = mock(RankingEventPublisher.class);
+		EventIdGenerator idGenerator = mock(EventIdGenerator.class);
+		when(idGenerator.generate(any())).thenReturn("event-id");
+
+		coalescer = new RankingListUpdateCoalescer(assembler, publisher, idGenerator, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("같은 periodKey 요청은 한 번의 Top 5 조회와 발행으로 합쳐진다")
+	void 같은_periodKey_요청_병합() {
+
+		// given
+		when(assembler.buildTop5(PERIOD)).thenReturn(List.of(new WeeklyRankingDto(1, "김*준", 100)));
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			coalescer.request(PERIOD, PERIOD_KEY);
+		}
+		coalescer.flush();
+
+		// then
+		verify(assembler, times(1)).buildTop5(PERIOD);
+
+		ArgumentCaptor<RankingListUpdatedEvent> captor = ArgumentCaptor.forClass(RankingListUpdatedEvent.class);
+		verify(publisher, times(1)).publishListUpdated(captor.capture());
+		assertThat(captor.getValue().periodKey()).isEqualTo(PERIOD_KEY);
+	}
+
+	@Test
+	@DisplayName("Top 5 내용이 바뀌지 않았으면 다시 발행하지 않는다")
+	void 내용이_같으면_발행하지_않음() {
+
+		// given
+		when(assembler.buildTop5(PERIOD))
+			.thenReturn(List.of(new WeeklyRankingDto(1, "김*준", 100)))
+			.thenReturn(List.of(new WeeklyRankingDto(1, "김*준", 100)))
+			.thenReturn(List.of(new WeeklyRankingDto(1, "김*준", 110)));
+
+		// when
+		coalescer.request(PERIOD, PERIOD_KEY);
+		coalescer.flush();
+		coalescer.request(PERIOD, PERIOD_KEY);
+		coalescer.flush();
+		coalescer.request(PERIOD, PERIOD_KEY);
+		coalescer.flush();
+
+		// then - 첫 번째와 점수가 바뀐 세 번째만 발행
+		verify(publisher, times(2)).publishListUpdated(any());
+	}
+
+	@Test
+	@DisplayName("periodKey 가 바뀌면 내용이 같아도 발행한다")
+	void periodKey_변경시_발행() {
+
+		// given
+		when(assembler.buildTop5(PERIOD)).thenReturn(List.of(new WeeklyRankingDto(1, "김*준", 100)));
+
+		// when
+		coalescer.request(PERIOD, PERIOD_KEY);
+		coalescer.flush();
+		coalescer.request(PERIOD, "weekly-2026-03-03");
+		coalescer.flush();
+
+		// then
+		verify(publisher, times(2)).publishListUpdated(any());
+	}
+
+	@Test
+	@DisplayName("요청이 없으면 아무 것도 조회하지 않는다")
+	void 요청이_없으면_조회하지_않음() {
+
+		coalescer.flush();
+
+		verifyNoInteractions(assembler, publisher);
+	}
+}
@@ -0,0 +1,95 @@
+package com.ice.studyroom.domain.ranking.application.event.trigger;
+
+import com.ice.studyroom.domain.ranking.application.event.assembler.WeeklyRankingAssembler;
+import com.ice.studyroom.domain.ranking.application.event.dto.RankingListUpdateRequestedEvent;
+import com.ice.studyroom.domain.ranking.application.event.dto.WeeklyRankingDto;
+import com.ice.studyroom.domain.ranking.application.event.publisher.EventIdGenerator;
+import com.ice.studyroom.domain.ranking.application.event.publisher.RankingEventPublisher;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * 리스트 갱신 요청이 체크인 트랜잭션의 커밋 이후에만 기록되는지 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({RankingListUpdateCoalescer.class, RankingListUpdateCoalescerTransactionTest.Config.class})
+class RankingListUpdateCoalescerTransactionTest {
+
+	private static final RankingPeriod PERIOD = RankingPeriod.WEEKLY;
+
+	@Autowired
+	private RankingListUpdateCoalescer coalescer;
+
+	@Autowired
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@MockitoBean
+	private WeeklyRankingAssembler assembler;
+
+	@MockitoBean
+	private RankingEventPublisher publisher;
+
+	@MockitoBean
+	private EventIdGenerator idGenerator;
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Test
+	@DisplayName("롤백된 트랜잭션의 요청은 발행하지 않고 커밋된 요청만 발행한다")
+	void 커밋된_요청만_발행() {
+
+		// given
+		when(assembler.buildTop5(PERIOD)).thenReturn(List.of(new WeeklyRankingDto(1, "김*준", 100)));
+		when(idGenerator.generate(any())).thenReturn("event-id");
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		// when - 롤백
+		transaction.executeWithoutResult(status -> {
+			applicationEventPublisher.publishEvent(new RankingListUpdateRequestedEvent(PERIOD, "weekly-2026-03-02"));
+			status.setRollbackOnly();
+		});
+		coalescer.flush();
+
+		// then
+		verify(assembler, never()).buildTop5(any());
+
+		// when - 커밋
+		transaction.executeWithoutResult(status ->
+			applicationEventPublisher.publishEvent(new RankingListUpdateRequestedEvent(PERIOD, "weekly-2026-03-02")));
+		coalescer.flush();
+
+		// then
+		verify(assembler, times(1)).buildTop5(PERIOD);
+		verify(publisher, times(1)).publishListUpdated(any());
+	}
+}
@@ -0,0 +1,66 @@
+package com.ice.studyroom.domain.ranking.application.query;
+
+import com.ice.studyroom.domain.membership.domain.entity.Member;
+import com.ice.studyroom.domain.membership.domain.vo.Email;
+import com.ice.studyroom.domain.membership.infrastructure.persistence.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class MemberNameCacheTest {
+
+	private MemberRepository memberRepository;
+	private MemberNameCache memberNameCache;
+
+	@BeforeEach
+	void setUp() {
+		memberRepository = mock(MemberRepository.class);
+		when(memberRepository.findAllById(anyList())).thenAnswer(invocation -> {
+			List<Long> ids = invocation.getArgument(0);
+			return ids.stream().map(MemberNameCacheTest::member).toList();
+		});
+
+		memberNameCache = new MemberNameCache(memberRepository, Clock.systemUTC(), 600000, 2);
+	}
+
+	@Test
+	@DisplayName("캐시에 있는 회원은 다시 조회하지 않는다")
+	void 캐시_적중() {
+
+		memberNameCache.getNames(List.of(1L, 2L));
+		assertThat(memberNameCache.getNames(List.of(1L, 2L))).containsEntry(1L, "회원1").containsEntry(2L, "회원2");
+
+		verify(memberRepository, times(1)).findAllById(anyList());
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 가장 오래 조회하지 않은 회원만 지운다")
+	void 오래된_회원만_제거() {
+
+		memberNameCache.getNames(List.of(1L, 2L));
+		memberNameCache.getNames(List.of(1L));
+		memberNameCache.getNames(List.of(3L));
+		clearInvocations(memberRepository);
+
+		// 최근에 조회한 1 은 남아 있고, 가장 오래된 2 만 다시 조회한다
+		memberNameCache.getNames(List.of(1L, 2L));
+
+		verify(memberRepository).findAllById(List.of(2L));
+	}
+
+	private static Member member(Long memberId) {
+		return Member.builder()
+			.id(memberId)
+			.email(Email.of("test" + memberId + "@hufs.ac.kr"))
+			.name("회원" + memberId)
+			.studentNum("2020000" + memberId)
+			.build();
+	}
+}
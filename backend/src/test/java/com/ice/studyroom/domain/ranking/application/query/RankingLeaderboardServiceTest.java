@@ -0,0 +1,153 @@
+package com.ice.studyroom.domain.ranking.application.query;
+
+import com.ice.studyroom.domain.membership.domain.entity.Member;
+import com.ice.studyroom.domain.membership.domain.vo.Email;
+import com.ice.studyroom.domain.membership.infrastructure.persistence.MemberRepository;
+import com.ice.studyroom.domain.ranking.domain.service.RankingEntry;
+import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.LeaderboardEntryResponse;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.LeaderboardResponse;
+import com.ice.studyroom.global.exception.BusinessException;
+import com.ice.studyroom.global.security.service.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class RankingLeaderboardServiceTest {
+
+	private static final RankingPeriod PERIOD = RankingPeriod.WEEKLY;
+	private static final String TOKEN = "Bearer token";
+
+	private RankingStore rankingStore;
+	private MemberNameCache memberNameCache;
+	private MemberRepository memberRepository;
+	private TokenService tokenService;
+
+	private RankingLeaderboardService service;
+
+	@BeforeEach
+	void setUp() {
+		rankingStore = mock(RankingStore.class);
+		memberNameCache = mock(MemberNameCache.class);
+		memberRepository = mock(MemberRepository.class);
+		tokenService = mock(TokenService.class);
+
+		service = new RankingLeaderboardService(rankingStore, memberNameCache, memberRepository, tokenService);
+
+		when(memberNameCache.getNames(any())).thenReturn(Map.of(
+			3L, "김철수",
+			4L, "이영희",
+			5L, "박민수",
+			6L, "최지우"
+		));
+	}
+
+	@Test
+	@DisplayName("페이지 첫 점수의 동점자가 앞 페이지에 있으면 같은 순위로 표시한다")
+	void 페이지_경계_동점_순위_보정() {
+
+		// given - 2페이지(offset 2) 첫 사용자는 앞 페이지 2등과 동점
+		when(rankingStore.getRankingsPage(PERIOD, 2, 2)).thenReturn(List.of(
+			new RankingEntry(3L, 50),
+			new RankingEntry(4L, 40)
+		));
+		when(rankingStore.countHigherScores(PERIOD, 50)).thenReturn(1L);
+		when(rankingStore.size(PERIOD)).thenReturn(10L);
+
+		// when
+		LeaderboardResponse response = service.getPage(PERIOD, 1, 2);
+
+		// then
+		assertThat(response.totalCount()).isEqualTo(10L);
+		assertThat(response.myRank()).isNull();
+		assertThat(response.entries())
+			.extracting(LeaderboardEntryResponse::rank)
+			.containsExactly(2, 4);
+		assertThat(response.entries())
+			.extracting(LeaderboardEntryResponse::name)
+			.containsExactly("김*수", "이*희");
+		verify(memberNameCache, times(1)).getNames(any());
+		verify(rankingStore, never()).getAllRankings(any());
+	}
+
+	@Test
+	@DisplayName("내 위아래 window 명만 조회하고 내 이름은 마스킹하지 않는다")
+	void 내_주변_랭킹_조회() {
+
+		// given - 내 위치(0 부터)는 3, window 1 이면 위치 2 ~ 4 를 조회
+		givenMember(5L);
+		when(rankingStore.getPosition(PERIOD, 5L)).thenReturn(3L);
+		when(rankingStore.getRankingsPage(PERIOD, 2, 3)).thenReturn(List.of(
+			new RankingEntry(3L, 50),
+			new RankingEntry(5L, 40),
+			new RankingEntry(6L, 40)
+		));
+		when(rankingStore.countHigherScores(PERIOD, 50)).thenReturn(2L);
+		when(rankingStore.size(PERIOD)).thenReturn(7L);
+
+		// when
+		LeaderboardResponse response = service.getAroundMe(PERIOD, 1, TOKEN);
+
+		// then
+		assertThat(response.myRank()).isEqualTo(4);
+		assertThat(response.entries())
+			.extracting(LeaderboardEntryResponse::rank)
+			.containsExactly(3, 4, 4);
+		assertThat(response.entries())
+			.extracting(LeaderboardEntryResponse::name)
+			.containsExactly("김*수", "박민수", "최*우");
+		assertThat(response.entries())
+			.extracting(LeaderboardEntryResponse::me)
+			.containsExactly(false, true, false);
+	}
+
+	@Test
+	@DisplayName("랭킹에 없는 사용자는 빈 목록과 null 순위를 반환한다")
+	void 랭킹에_없는_사용자() {
+
+		// given
+		givenMember(9L);
+		when(rankingStore.getPosition(PERIOD, 9L)).thenReturn(null);
+		when(rankingStore.size(PERIOD)).thenReturn(7L);
+
+		// when
+		LeaderboardResponse response = service.getAroundMe(PERIOD, 5, TOKEN);
+
+		// then
+		assertThat(response.myRank()).isNull();
+		assertThat(response.entries()).isEmpty();
+		verify(rankingStore, never()).getRankingsPage(any(), anyLong(), anyInt());
+	}
+
+	@Test
+	@DisplayName("페이지 크기가 최대값을 넘으면 예외")
+	void 페이지_크기_초과() {
+
+		assertThatThrownBy(() -> service.getPage(PERIOD, 0, RankingLeaderboardService.MAX_PAGE_SIZE + 1))
+			.isInstanceOf(BusinessException.class);
+	}
+
+	private void givenMember(Long memberId) {
+		Member member = Member.builder()
+			.id(memberId)
+			.email(Email.of("test@hufs.ac.kr"))
+			.name("박민수")
+			.studentNum("20201234")
+			.build();
+
+		when(tokenService.extractEmailFromAccessToken(TOKEN)).thenReturn("test@hufs.ac.kr");
+		when(memberRepository.findByEmail(Email.of("test@hufs.ac.kr"))).thenReturn(Optional.of(member));
+	}
+}
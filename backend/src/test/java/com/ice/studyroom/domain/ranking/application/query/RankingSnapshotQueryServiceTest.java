@@ -0,0 +1,152 @@
+package com.ice.studyroom.domain.ranking.application.query;
+
+import com.ice.studyroom.domain.ranking.application.snapshot.RankingSnapshotService;
+import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshot;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingSnapshotItemJdbcRepository;
+import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingSnapshotItemRepository;
+import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingSnapshotRepository;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.MemberRankingHistoryResponse;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.SnapshotRankingDiffResponse;
+import com.ice.studyroom.domain.ranking.presentation.dto.response.SnapshotRankingResponse;
+import com.ice.studyroom.global.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({RankingSnapshotService.class, RankingSnapshotItemJdbcRepository.class})
+class RankingSnapshotQueryServiceTest {
+
+	@Autowired
+	private RankingSnapshotService snapshotService;
+
+	@Autowired
+	private RankingSnapshotRepository snapshotRepository;
+
+	@Autowired
+	private RankingSnapshotItemRepository snapshotItemRepository;
+
+	private RankingSnapshotQueryService queryService;
+
+	@BeforeEach
+	void setUp() {
+		MemberNameCache memberNameCache = mock(MemberNameCache.class);
+		when(memberNameCache.getNames(any())).thenReturn(Map.of(1L, "김철수", 2L, "이영희", 3L, "박민수"));
+
+		queryService = new RankingSnapshotQueryService(snapshotRepository, snapshotItemRepository, memberNameCache,
+			Clock.systemUTC(), 600000, 1000);
+
+		saveSnapshot("2026-02-09", List.of(
+			new RankingSnapshotService.SnapshotData(1L, 1, 100),
+			new RankingSnapshotService.SnapshotData(2L, 2, 80)
+		));
+		saveSnapshot("2026-02-16", List.of(
+			new RankingSnapshotService.SnapshotData(2L, 1, 120),
+			new RankingSnapshotService.SnapshotData(3L, 2, 90),
+			new RankingSnapshotService.SnapshotData(1L, 3, 50)
+		));
+	}
+
+	@Test
+	@DisplayName("스냅샷 Top N 은 첫 조회 이후 캐시에서 응답한다")
+	void Top_N_조회와_캐시() {
+
+		List<SnapshotRankingResponse> first = queryService.getTop(RankingPeriod.WEEKLY, "2026-02-16", 2);
+
+		assertThat(first)
+			.extracting(SnapshotRankingResponse::rank, SnapshotRankingResponse::memberId, SnapshotRankingResponse::name)
+			.containsExactly(tuple(1, 2L, "이영희"), tuple(2, 3L, "박민수"));
+
+		// 완료된 스냅샷은 바뀌지 않으므로 DB 에서 지워도 같은 결과를 캐시에서 반환
+		snapshotItemRepository.deleteAll();
+		snapshotRepository.deleteAll();
+
+		assertThat(queryService.getTop(RankingPeriod.WEEKLY, "2026-02-16", 2)).isEqualTo(first);
+	}
+
+	@Test
+	@DisplayName("캐시가 가득 차면 가장 오래 조회하지 않은 Top N 만 지운다")
+	void Top_N_캐시_LRU() {
+
+		RankingSnapshotQueryService smallCacheService = new RankingSnapshotQueryService(snapshotRepository,
+			snapshotItemRepository, mock(MemberNameCache.class), Clock.systemUTC(), 600000, 2);
+
+		List<SnapshotRankingResponse> top1 = smallCacheService.getTop(RankingPeriod.WEEKLY, "2026-02-16", 1);
+		smallCacheService.getTop(RankingPeriod.WEEKLY, "2026-02-16", 2);
+		smallCacheService.getTop(RankingPeriod.WEEKLY, "2026-02-16", 1);
+		List<SnapshotRankingResponse> top3 = smallCacheService.getTop(RankingPeriod.WEEKLY, "2026-02-16", 3);
+
+		snapshotItemRepository.deleteAll();
+
+		// 최근에 조회한 Top 1 / Top 3 은 캐시에 남고, 가장 오래된 Top 2 만 DB 에서 다시 읽는다
+		assertThat(smallCacheService.getTop(RankingPeriod.WEEKLY, "2026-02-16", 1)).isEqualTo(top1);
+		assertThat(smallCacheService.getTop(RankingPeriod.WEEKLY, "2026-02-16", 3)).isEqualTo(top3);
+		assertThat(smallCacheService.getTop(RankingPeriod.WEEKLY, "2026-02-16", 2)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("두 스냅샷의 순위 / 점수 변화를 계산한다")
+	void 스냅샷_비교() {
+
+		List<SnapshotRankingDiffResponse> diff =
+			queryService.getDiff(RankingPeriod.WEEKLY, "2026-02-09", "2026-02-16", 10);
+
+		assertThat(diff)
+			.extracting(SnapshotRankingDiffResponse::memberId, SnapshotRankingDiffResponse::previousRank,
+				SnapshotRankingDiffResponse::rankChange, SnapshotRankingDiffResponse::previousScore)
+			.containsExactly(
+				tuple(2L, 2, 1, 80),
+				tuple(3L, null, null, null),
+				tuple(1L, 1, -2, 100)
+			);
+	}
+
+	@Test
+	@DisplayName("사용자 이력은 완료된 스냅샷만 최신순으로 조회한다")
+	void 사용자_이력_조회() {
+
+		RankingSnapshot inProgress = snapshotService.startOrResume(RankingPeriod.WEEKLY, "2026-02-23");
+		snapshotService.appendChunk(inProgress.getId(),
+			List.of(new RankingSnapshotService.SnapshotData(1L, 1, 10)), 1);
+
+		List<MemberRankingHistoryResponse> history = queryService.getMemberHistory(1L, RankingPeriod.WEEKLY);
+
+		assertThat(history)
+			.extracting(MemberRankingHistoryResponse::periodKey, MemberRankingHistoryResponse::rank)
+			.containsExactly(tuple("2026-02-16", 3), tuple("2026-02-09", 1));
+		assertThat(queryService.getMemberHistory(1L, RankingPeriod.MONTHLY)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("완료되지 않은 스냅샷은 조회할 수 없다")
+	void 미완료_스냅샷_조회_불가() {
+
+		snapshotService.startOrResume(RankingPeriod.WEEKLY, "2026-02-23");
+
+		assertThatThrownBy(() -> queryService.getTop(RankingPeriod.WEEKLY, "2026-02-23", 10))
+			.isInstanceOf(BusinessException.class);
+	}
+
+	private void saveSnapshot(String periodKey, List<RankingSnapshotService.SnapshotData> data) {
+		RankingSnapshot snapshot = snapshotService.startOrResume(RankingPeriod.WEEKLY, periodKey);
+		snapshotService.appendChunk(snapshot.getId(), data, data.size());
+		snapshotService.complete(snapshot.getId());
+	}
+}
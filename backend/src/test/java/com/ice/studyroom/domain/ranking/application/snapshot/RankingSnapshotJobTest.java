@@ -1,21 +1,28 @@
 package com.ice.studyroom.domain.ranking.application.snapshot;
 
+import com.ice.studyroom.domain.ranking.application.event.assembler.WeeklyRankingAssembler;
+import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshot;
 import com.ice.studyroom.domain.ranking.domain.service.RankingEntry;
 import com.ice.studyroom.domain.ranking.domain.service.RankingStore;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
 
+import java.time.Duration;
 import java.util.List;
 
-import static org.mockito.ArgumentMatchers.argThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,164 +34,347 @@ class RankingSnapshotJobTest {
 	@Mock
 	private RankingSnapshotService snapshotService;
 
-	@InjectMocks
+	@Mock
+	private WeeklyRankingAssembler weeklyRankingAssembler;
+
 	private RankingSnapshotJob snapshotJob;
 
 	private final RankingPeriod PERIOD = RankingPeriod.WEEKLY;
 
+	private static final int CHUNK_SIZE = 2;
+
+	private static final Duration ARCHIVE_TTL = Duration.ofHours(1);
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	@BeforeEach
+	void setUp() {
+		snapshotJob = createJob(false);
+	}
+
+	private RankingSnapshotJob createJob(boolean rotate) {
+		return new RankingSnapshotJob(rankingStore, snapshotService, weeklyRankingAssembler, Runnable::run,
+			CHUNK_SIZE, rotate, ARCHIVE_TTL.toMillis(), MAX_ATTEMPTS, 0);
+	}
+
 	@Test
 	void 공동순위_정상_계산_및_스냅샷_저장_검증() {
 
 		// given
-		List<RankingEntry> entries = List.of(
+		givenSnapshot(RankingSnapshot.create(PERIOD, "2026-02-16"));
+		givenRankings(
 			new RankingEntry(1L, 100),
 			new RankingEntry(2L, 100),
 			new RankingEntry(3L, 80)
 		);
 
-		given(rankingStore.getAllRankings(PERIOD))
-			.willReturn(entries);
-
 		// when
 		snapshotJob.execute(PERIOD, "2026-02-16");
 
 		// then
-		verify(snapshotService).createSnapshot(
-			eq(PERIOD),
-			eq("2026-02-16"),
-			argThat(snapshotDataList -> {
+		List<RankingSnapshotService.SnapshotData> saved = captureSavedData(2);
+		assertThat(saved).extracting(RankingSnapshotService.SnapshotData::memberId)
+			.containsExactly(1L, 2L, 3L);
+		assertThat(saved).extracting(RankingSnapshotService.SnapshotData::rank)
+			.containsExactly(1, 1, 3);
 
-				if (snapshotDataList.size() != 3) return false;
+		verify(snapshotService).complete(any());
+		verify(rankingStore).clear(PERIOD);
+	}
 
-				var m1 = snapshotDataList.stream()
-					.filter(d -> d.memberId().equals(1L))
-					.findFirst().get();
+	@Test
+	void 구간_경계를_넘는_공동순위_유지() {
 
-				var m2 = snapshotDataList.stream()
-					.filter(d -> d.memberId().equals(2L))
-					.findFirst().get();
+		givenSnapshot(RankingSnapshot.create(PERIOD, "2026-02-16"));
+		givenRankings(
+			new RankingEntry(1L, 100),
+			new RankingEntry(2L, 90),
+			new RankingEntry(3L, 90),
+			new RankingEntry(4L, 90),
+			new RankingEntry(5L, 80)
+		);
 
-				var m3 = snapshotDataList.stream()
-					.filter(d -> d.memberId().equals(3L))
-					.findFirst().get();
+		snapshotJob.execute(PERIOD, "2026-02-16");
 
-				return m1.rank() == 1 &&
-					m2.rank() == 1 &&
-					m3.rank() == 3;
-			})
-		);
+		assertThat(captureSavedData(3)).extracting(RankingSnapshotService.SnapshotData::rank)
+			.containsExactly(1, 2, 2, 2, 5);
 
-		verify(rankingStore).clear(PERIOD);
+		// 구간마다 체크포인트가 저장한 누적 건수로 이동한다
+		verify(snapshotService).appendChunk(any(), any(), eq(2L));
+		verify(snapshotService).appendChunk(any(), any(), eq(4L));
+		verify(snapshotService).appendChunk(any(), any(), eq(5L));
 	}
 
 	@Test
 	void 전원_동점_테스트() {
 
-		List<RankingEntry> entries = List.of(
+		givenSnapshot(RankingSnapshot.create(PERIOD, "2026-02-16"));
+		givenRankings(
 			new RankingEntry(1L, 100),
 			new RankingEntry(2L, 100),
 			new RankingEntry(3L, 100)
 		);
 
-		given(rankingStore.getAllRankings(PERIOD))
-			.willReturn(entries);
-
 		snapshotJob.execute(PERIOD, "2026-02-16");
 
-		verify(snapshotService).createSnapshot(
-			eq(PERIOD),
-			eq("2026-02-16"),
-			argThat(list ->
-				list.stream().allMatch(d -> d.rank() == 1)
-			)
-		);
+		assertThat(captureSavedData(2)).allMatch(d -> d.rank() == 1);
 	}
 
 	@Test
 	void 한명만_있는_경우() {
 
-		List<RankingEntry> entries = List.of(
+		givenSnapshot(RankingSnapshot.create(PERIOD, "2026-02-16"));
+		givenRankings(
 			new RankingEntry(1L, 50)
 		);
 
-		given(rankingStore.getAllRankings(PERIOD))
-			.willReturn(entries);
-
 		snapshotJob.execute(PERIOD, "2026-02-16");
 
-		verify(snapshotService).createSnapshot(
-			eq(PERIOD),
-			eq("2026-02-16"),
-			argThat(list ->
-				list.size() == 1 &&
-					list.get(0).rank() == 1
-			)
-		);
+		List<RankingSnapshotService.SnapshotData> saved = captureSavedData(1);
+		assertThat(saved).hasSize(1);
+		assertThat(saved.get(0).rank()).isEqualTo(1);
 	}
 
 	@Test
 	void 빈랭킹도_snapshot_생성() {
 
-		given(rankingStore.getAllRankings(PERIOD))
-			.willReturn(List.of());
+		givenSnapshot(RankingSnapshot.create(PERIOD, "2026-02-16"));
+		givenRankings();
 
 		snapshotJob.execute(PERIOD, "2026-02-16");
 
-		verify(snapshotService).createSnapshot(
-			eq(PERIOD),
-			eq("2026-02-16"),
-			eq(List.of())
-		);
-
+		verify(snapshotService, never()).appendChunk(any(), any(), anyLong());
+		verify(snapshotService).complete(any());
 		verify(rankingStore).clear(PERIOD);
 	}
 
 	@Test
-	void 스냅샷_후_clear는_항상_호출된다() {
+	void 체크포인트부터_이어서_저장() {
 
-		List<RankingEntry> entries = List.of(
-			new RankingEntry(1L, 10)
+		// given - 앞의 두 명(100점 공동 1위)까지 저장된 상태
+		RankingSnapshot snapshot = RankingSnapshot.create(PERIOD, "2026-02-16");
+		snapshot.advance(2, 1, 100);
+		givenSnapshot(snapshot);
+		givenRankings(
+			new RankingEntry(1L, 100),
+			new RankingEntry(2L, 100),
+			new RankingEntry(3L, 100),
+			new RankingEntry(4L, 80)
 		);
 
-		given(rankingStore.getAllRankings(PERIOD))
-			.willReturn(entries);
+		// when
+		snapshotJob.execute(PERIOD, "2026-02-16");
+
+		// then
+		verify(rankingStore, never()).getRankingsPage(PERIOD, 0, CHUNK_SIZE);
+
+		List<RankingSnapshotService.SnapshotData> saved = captureSavedData(1);
+		assertThat(saved).extracting(RankingSnapshotService.SnapshotData::memberId)
+			.containsExactly(3L, 4L);
+		assertThat(saved).extracting(RankingSnapshotService.SnapshotData::rank)
+			.containsExactly(1, 4);
+	}
+
+	@Test
+	void 이미_완료된_snapshot이면_저장없이_clear() {
+
+		RankingSnapshot snapshot = RankingSnapshot.create(PERIOD, "2026-02-16");
+		snapshot.complete();
+		givenSnapshot(snapshot);
 
 		snapshotJob.execute(PERIOD, "2026-02-16");
 
+		verify(rankingStore, never()).getRankingsPage(any(), anyLong(), anyInt());
+		verify(snapshotService, never()).complete(any());
 		verify(rankingStore).clear(PERIOD);
+		verify(weeklyRankingAssembler).evictTopRankings();
 	}
 
 	@Test
 	void 스냅샷_저장_실패시_Redis_clear_호출되지_않는다() {
 
 		// given
-		List<RankingEntry> entries = List.of(
+		givenSnapshot(RankingSnapshot.create(PERIOD, "2026-02-16"));
+		givenRankings(
 			new RankingEntry(1L, 100)
 		);
 
-		given(rankingStore.getAllRankings(PERIOD))
-			.willReturn(entries);
-
 		// snapshotService에서 예외 발생하도록 설정
 		doThrow(new RuntimeException("DB 저장 실패"))
 			.when(snapshotService)
-			.createSnapshot(eq(PERIOD), eq("2026-02-16"), any());
+			.appendChunk(any(), any(), anyLong());
 
 		// when
-		try {
-			snapshotJob.execute(PERIOD, "2026-02-16");
-		} catch (RuntimeException ignored) {
-		}
+		assertThatThrownBy(() -> snapshotJob.execute(PERIOD, "2026-02-16"))
+			.isInstanceOf(RuntimeException.class);
+
+		// then - 완료 처리와 clear는 호출되면 안 되고, 다시 실행할 수 있도록 실패로 표시
+		verify(snapshotService, never()).complete(any());
+		verify(rankingStore, never()).clear(PERIOD);
+		verify(snapshotService).fail(any());
+	}
+
+	@Test
+	void 회전_모드는_보관키에서_저장한_뒤_만료시킨다() {
+
+		// given
+		snapshotJob = createJob(true);
+		givenSnapshot(RankingSnapshot.create(PERIOD, "2026-02-16"));
+		given(rankingStore.rotate(PERIOD, "2026-02-16")).willReturn(true);
+		givenArchivedRankings(
+			new RankingEntry(1L, 100),
+			new RankingEntry(2L, 100),
+			new RankingEntry(3L, 80)
+		);
+
+		// when
+		snapshotJob.execute(PERIOD, "2026-02-16");
 
 		// then
-		verify(snapshotService).createSnapshot(
-			eq(PERIOD),
-			eq("2026-02-16"),
-			any()
+		assertThat(captureSavedData(2)).extracting(RankingSnapshotService.SnapshotData::rank)
+			.containsExactly(1, 1, 3);
+
+		verify(rankingStore, never()).getRankingsPage(any(), anyLong(), anyInt());
+		verify(snapshotService).complete(any());
+		verify(rankingStore).expireArchive(PERIOD, "2026-02-16", ARCHIVE_TTL);
+		verify(weeklyRankingAssembler).evictTopRankings();
+
+		// 현재 랭킹 키는 회전으로 비워지므로 clear 하지 않는다
+		verify(rankingStore, never()).clear(any());
+	}
+
+	@Test
+	void 회전_모드에서_이미_완료된_snapshot이면_회전하지_않는다() {
+
+		snapshotJob = createJob(true);
+		RankingSnapshot snapshot = RankingSnapshot.create(PERIOD, "2026-02-16");
+		snapshot.complete();
+		givenSnapshot(snapshot);
+
+		snapshotJob.execute(PERIOD, "2026-02-16");
+
+		verify(rankingStore, never()).rotate(any(), any());
+		verify(rankingStore, never()).clear(any());
+	}
+
+	@Test
+	void 회전_모드에서_저장_실패시_보관키를_만료시키지_않는다() {
+
+		// given
+		snapshotJob = createJob(true);
+		givenSnapshot(RankingSnapshot.create(PERIOD, "2026-02-16"));
+		given(rankingStore.rotate(PERIOD, "2026-02-16")).willReturn(true);
+		givenArchivedRankings(
+			new RankingEntry(1L, 100)
 		);
+		doThrow(new RuntimeException("DB 저장 실패"))
+			.when(snapshotService)
+			.appendChunk(any(), any(), anyLong());
 
-		// clear는 호출되면 안 됨
-		verify(rankingStore, never()).clear(PERIOD);
+		given(snapshotService.getSnapshot(any())).willReturn(RankingSnapshot.create(PERIOD, "2026-02-16"));
+
+		// when - 회전은 이미 끝났으므로 비동기 저장 실패가 호출자에게 전파되지 않는다
+		snapshotJob.execute(PERIOD, "2026-02-16");
+
+		// then - 재시도 후에도 실패하면 보관키를 남겨 두고 실패로 표시
+		verify(snapshotService, times(MAX_ATTEMPTS)).appendChunk(any(), any(), anyLong());
+		verify(snapshotService, never()).complete(any());
+		verify(rankingStore, never()).expireArchive(any(), any(), any());
+		verify(snapshotService).fail(any());
+	}
+
+	@Test
+	void 회전_모드에서_저장_실패시_체크포인트부터_다시_시도한다() {
+
+		// given - 첫 구간은 저장되고 두 번째 구간에서 한 번 실패
+		snapshotJob = createJob(true);
+		givenSnapshot(RankingSnapshot.create(PERIOD, "2026-02-16"));
+		given(rankingStore.rotate(PERIOD, "2026-02-16")).willReturn(true);
+		givenArchivedRankings(
+			new RankingEntry(1L, 100),
+			new RankingEntry(2L, 90),
+			new RankingEntry(3L, 90)
+		);
+		doNothing()
+			.doThrow(new RuntimeException("DB 저장 실패"))
+			.doNothing()
+			.when(snapshotService)
+			.appendChunk(any(), any(), anyLong());
+
+		RankingSnapshot checkpoint = RankingSnapshot.create(PERIOD, "2026-02-16");
+		checkpoint.advance(2, 2, 90);
+		given(snapshotService.getSnapshot(any())).willReturn(checkpoint);
+
+		// when
+		snapshotJob.execute(PERIOD, "2026-02-16");
+
+		// then - 커밋된 체크포인트(2명)부터 이어서 저장하고 공동 순위도 이어진다
+		List<RankingSnapshotService.SnapshotData> saved = captureSavedData(3);
+		assertThat(saved).extracting(RankingSnapshotService.SnapshotData::memberId)
+			.containsExactly(1L, 2L, 3L, 3L);
+		assertThat(saved.get(3).rank()).isEqualTo(2);
+		verify(rankingStore, times(2)).getArchivedRankingsPage(PERIOD, "2026-02-16", 2, CHUNK_SIZE);
+		verify(snapshotService).complete(any());
+		verify(rankingStore).expireArchive(PERIOD, "2026-02-16", ARCHIVE_TTL);
+		verify(snapshotService, never()).fail(any());
 	}
 
+	@Test
+	void 실패한_snapshot은_retryFailed로_다시_실행한다() {
+
+		// given
+		snapshotJob = createJob(true);
+		RankingSnapshot failed = RankingSnapshot.create(PERIOD, "2026-02-16");
+		failed.advance(1, 1, 100);
+		given(snapshotService.findFailed()).willReturn(List.of(failed));
+		givenSnapshot(failed);
+		// 보관 키가 이미 있으므로 회전은 건너뛰고 true
+		given(rankingStore.rotate(PERIOD, "2026-02-16")).willReturn(true);
+		givenArchivedRankings(
+			new RankingEntry(1L, 100),
+			new RankingEntry(2L, 80)
+		);
+
+		// when
+		snapshotJob.retryFailed();
+
+		// then
+		assertThat(captureSavedData(1)).extracting(RankingSnapshotService.SnapshotData::memberId)
+			.containsExactly(2L);
+		verify(snapshotService).complete(any());
+		verify(rankingStore).expireArchive(PERIOD, "2026-02-16", ARCHIVE_TTL);
+	}
+
+	private void givenSnapshot(RankingSnapshot snapshot) {
+		given(snapshotService.startOrResume(PERIOD, "2026-02-16"))
+			.willReturn(snapshot);
+	}
+
+	// 정렬 집합을 흉내내어 요청한 구간만 돌려준다
+	private void givenRankings(RankingEntry... entries) {
+		List<RankingEntry> rankings = List.of(entries);
+		lenient().when(rankingStore.getRankingsPage(eq(PERIOD), anyLong(), anyInt()))
+			.thenAnswer(invocation -> {
+				int from = (int) Math.min(invocation.<Long>getArgument(1), rankings.size());
+				int to = Math.min(from + invocation.<Integer>getArgument(2), rankings.size());
+				return rankings.subList(from, to);
+			});
+	}
+
+	private void givenArchivedRankings(RankingEntry... entries) {
+		List<RankingEntry> rankings = List.of(entries);
+		given(rankingStore.getArchivedRankingsPage(eq(PERIOD), eq("2026-02-16"), anyLong(), anyInt()))
+			.willAnswer(invocation -> {
+				int from = (int) Math.min(invocation.<Long>getArgument(2), rankings.size());
+				int to = Math.min(from + invocation.<Integer>getArgument(3), rankings.size());
+				return rankings.subList(from, to);
+			});
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<RankingSnapshotService.SnapshotData> captureSavedData(int chunkCount) {
+		ArgumentCaptor<List<RankingSnapshotService.SnapshotData>> captor = ArgumentCaptor.forClass(List.class);
+		verify(snapshotService, times(chunkCount)).appendChunk(any(), captor.capture(), anyLong());
+		return captor.getAllValues().stream().flatMap(List::stream).toList();
+	}
 }
@@ -0,0 +1,100 @@
+package com.ice.studyroom.domain.ranking.application.snapshot;
+
+import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshot;
+import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshotItem;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.domain.type.RankingSnapshotStatus;
+import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingSnapshotItemJdbcRepository;
+import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingSnapshotItemRepository;
+import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingSnapshotRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({RankingSnapshotService.class, RankingSnapshotItemJdbcRepository.class})
+class RankingSnapshotServiceTest {
+
+	@Autowired
+	private RankingSnapshotService snapshotService;
+
+	@Autowired
+	private RankingSnapshotRepository snapshotRepository;
+
+	@Autowired
+	private RankingSnapshotItemRepository snapshotItemRepository;
+
+	@Test
+	@DisplayName("구간 저장 시 항목과 체크포인트가 함께 기록된다")
+	void 구간_저장과_체크포인트() {
+
+		RankingSnapshot snapshot = snapshotService.startOrResume(RankingPeriod.WEEKLY, "2026-02-16");
+
+		snapshotService.appendChunk(snapshot.getId(), List.of(
+			new RankingSnapshotService.SnapshotData(1L, 1, 100),
+			new RankingSnapshotService.SnapshotData(2L, 1, 100)
+		), 2);
+		snapshotService.appendChunk(snapshot.getId(), List.of(
+			new RankingSnapshotService.SnapshotData(3L, 3, 80)
+		), 3);
+		snapshotService.complete(snapshot.getId());
+
+		RankingSnapshot saved = snapshotRepository.findById(snapshot.getId()).orElseThrow();
+		assertThat(saved.getStatus()).isEqualTo(RankingSnapshotStatus.COMPLETED);
+		assertThat(saved.getProcessedCount()).isEqualTo(3);
+		assertThat(saved.getLastRank()).isEqualTo(3);
+		assertThat(saved.getLastScore()).isEqualTo(80);
+
+		assertThat(snapshotItemRepository.findAll())
+			.extracting(RankingSnapshotItem::getMemberId, RankingSnapshotItem::getRank, RankingSnapshotItem::getScore)
+			.containsExactlyInAnyOrder(
+				tuple(1L, 1, 100),
+				tuple(2L, 1, 100),
+				tuple(3L, 3, 80)
+			);
+	}
+
+	@Test
+	@DisplayName("실패로 표시된 스냅샷은 다시 시작하면 체크포인트를 유지한 채 진행 중으로 되돌아간다")
+	void 실패한_스냅샷_재개() {
+
+		RankingSnapshot snapshot = snapshotService.startOrResume(RankingPeriod.MONTHLY, "2026-02");
+		snapshotService.appendChunk(snapshot.getId(), List.of(
+			new RankingSnapshotService.SnapshotData(1L, 1, 100)
+		), 1);
+		snapshotService.fail(snapshot.getId());
+
+		assertThat(snapshotService.findFailed()).extracting(RankingSnapshot::getId)
+			.containsExactly(snapshot.getId());
+
+		RankingSnapshot resumed = snapshotService.startOrResume(RankingPeriod.MONTHLY, "2026-02");
+
+		assertThat(resumed.getStatus()).isEqualTo(RankingSnapshotStatus.IN_PROGRESS);
+		assertThat(resumed.getProcessedCount()).isEqualTo(1);
+		assertThat(snapshotService.findFailed()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("한 문장의 최대 행 수보다 큰 구간도 모두 저장된다")
+	void 대량_구간_저장() {
+
+		RankingSnapshot snapshot = snapshotService.startOrResume(RankingPeriod.YEARLY, "2026");
+		List<RankingSnapshotService.SnapshotData> chunk = IntStream.rangeClosed(1, 2500)
+			.mapToObj(i -> new RankingSnapshotService.SnapshotData((long) i, i, 5000 - i))
+			.toList();
+
+		snapshotService.appendChunk(snapshot.getId(), chunk, chunk.size());
+
+		assertThat(snapshotItemRepository.count()).isEqualTo(2500);
+	}
+}
@@ -1,14 +1,15 @@
 package com.ice.studyroom.domain.ranking.application.snapshot;
 
+import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshot;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingSnapshotRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
@@ -18,6 +19,9 @@ class RankingSnapshotUniqueConstraintTest {
 	@Autowired
 	private RankingSnapshotService snapshotService;
 
+	@Autowired
+	private RankingSnapshotRepository snapshotRepository;
+
 	@Test
 	void 동일_period와_periodKey로_두번_저장하면_예외발생() {
 
@@ -25,16 +29,24 @@ class RankingSnapshotUniqueConstraintTest {
 		RankingPeriod period = RankingPeriod.SEMESTER;
 		String periodKey = "2099-1"; // 미래 값 사용 (충돌 방지)
 
-		List<RankingSnapshotService.SnapshotData> data = List.of(
-			new RankingSnapshotService.SnapshotData(1L, 1, 100)
-		);
-
 		// when
-		snapshotService.createSnapshot(period, periodKey, data);
+		snapshotRepository.saveAndFlush(RankingSnapshot.create(period, periodKey));
 
 		// then
 		assertThatThrownBy(() ->
-			snapshotService.createSnapshot(period, periodKey, data)
+			snapshotRepository.saveAndFlush(RankingSnapshot.create(period, periodKey))
 		).isInstanceOf(DataIntegrityViolationException.class);
 	}
+
+	@Test
+	void 동일_period와_periodKey로_다시_시작하면_기존_snapshot을_이어서_사용() {
+
+		RankingPeriod period = RankingPeriod.SEMESTER;
+		String periodKey = "2099-2";
+
+		RankingSnapshot first = snapshotService.startOrResume(period, periodKey);
+		RankingSnapshot resumed = snapshotService.startOrResume(period, periodKey);
+
+		assertThat(resumed.getId()).isEqualTo(first.getId());
+	}
 }
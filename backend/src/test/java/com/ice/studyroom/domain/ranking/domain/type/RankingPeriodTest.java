@@ -0,0 +1,39 @@
+package com.ice.studyroom.domain.ranking.domain.type;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingPeriodTest {
+
+	@Test
+	@DisplayName("기간 시작일은 스케줄러의 스냅샷 경계와 같다")
+	void 기간_시작일() {
+		LocalDate sunday = LocalDate.of(2026, 3, 8);
+
+		assertThat(RankingPeriod.WEEKLY.startOf(sunday)).isEqualTo(LocalDate.of(2026, 3, 2));
+		assertThat(RankingPeriod.MONTHLY.startOf(sunday)).isEqualTo(LocalDate.of(2026, 3, 1));
+		assertThat(RankingPeriod.SEMESTER.startOf(sunday)).isEqualTo(LocalDate.of(2025, 11, 1));
+		assertThat(RankingPeriod.SEMESTER.startOf(LocalDate.of(2026, 10, 31))).isEqualTo(LocalDate.of(2026, 7, 1));
+		assertThat(RankingPeriod.YEARLY.startOf(sunday)).isEqualTo(LocalDate.of(2026, 1, 1));
+	}
+
+	@Test
+	@DisplayName("발생일의 periodKey 는 그 기간이 끝난 뒤 스케줄러가 쓰는 키와 같다")
+	void 발생일의_periodKey() {
+		LocalDate wednesday = LocalDate.of(2026, 3, 4);
+
+		assertThat(RankingPeriod.WEEKLY.periodKeyOf(wednesday)).isEqualTo("2026-03-08");
+		assertThat(RankingPeriod.MONTHLY.periodKeyOf(wednesday)).isEqualTo("2026-03");
+		assertThat(RankingPeriod.YEARLY.periodKeyOf(wednesday)).isEqualTo("2026");
+
+		// 1학기: 11월 ~ 6월 (7월 1일에 끝나는 해-1), 2학기: 7월 ~ 10월 (11월 1일에 해-2)
+		assertThat(RankingPeriod.SEMESTER.periodKeyOf(LocalDate.of(2025, 11, 1))).isEqualTo("2026-1");
+		assertThat(RankingPeriod.SEMESTER.periodKeyOf(LocalDate.of(2026, 6, 30))).isEqualTo("2026-1");
+		assertThat(RankingPeriod.SEMESTER.periodKeyOf(LocalDate.of(2026, 7, 1))).isEqualTo("2026-2");
+		assertThat(RankingPeriod.SEMESTER.periodKeyOf(LocalDate.of(2026, 10, 31))).isEqualTo("2026-2");
+	}
+}
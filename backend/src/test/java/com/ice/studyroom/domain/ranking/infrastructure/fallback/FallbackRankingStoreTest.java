@@ -0,0 +1,385 @@
+package com.ice.studyroom.domain.ranking.infrastructure.fallback;
+
+import com.ice.studyroom.domain.ranking.domain.service.RankingEntry;
+import com.ice.studyroom.domain.ranking.domain.service.RankingScoreChange;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FallbackRankingStoreTest {
+
+	private static final RankingPeriod PERIOD = RankingPeriod.WEEKLY;
+
+	private static final int JOURNAL_MAX_SIZE = 1000;
+	private static final int REPLAY_MAX_ATTEMPTS = 3;
+	private static final int REFRESH_SIZE = 2;
+
+	private FlakyRankingStore redis;
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+	private SimpleMeterRegistry meterRegistry;
+	private FallbackRankingStore store;
+
+	@BeforeEach
+	void setUp() {
+		redis = new FlakyRankingStore();
+
+		CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+			.slidingWindowSize(4)
+			.minimumNumberOfCalls(4)
+			.waitDurationInOpenState(Duration.ofMillis(20))
+			.permittedNumberOfCallsInHalfOpenState(1)
+			.build();
+
+		circuitBreakerRegistry = CircuitBreakerRegistry.of(config);
+		meterRegistry = new SimpleMeterRegistry();
+		store = new FallbackRankingStore(redis, circuitBreakerRegistry, meterRegistry,
+			Clock.system(ZoneId.of("Asia/Seoul")), JOURNAL_MAX_SIZE, REPLAY_MAX_ATTEMPTS, REFRESH_SIZE);
+	}
+
+	@Test
+	@DisplayName("부하 중 Redis 가 내려가도 복구 후 재반영하면 점수가 유실되지 않는다")
+	void Redis_장애_중에도_점수_유실_없음() throws Exception {
+
+		// given
+		int members = 20;
+		int checkIns = 1000;
+		int score = 10;
+		AtomicInteger submitted = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// when - 300 번째 체크인에서 Redis 를 내리고, 700 번째에서 다시 올린다
+		for (int i = 0; i < checkIns; i++) {
+			long memberId = i % members + 1;
+			executor.submit(() -> {
+				int sequence = submitted.incrementAndGet();
+				if (sequence == 300) {
+					redis.down = true;
+				}
+				if (sequence == 700) {
+					redis.down = false;
+				}
+				store.increaseScoreForAllPeriods(memberId, score, PERIOD);
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(store.getJournalSize()).isPositive();
+		replayUntilEmpty();
+
+		// then - 모든 기간에 체크인 점수가 정확히 한 번씩 반영
+		int expected = checkIns / members * score;
+		for (RankingPeriod period : RankingPeriod.values()) {
+			for (long memberId = 1; memberId <= members; memberId++) {
+				assertThat(redis.getScore(period, memberId)).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Redis 장애 중에는 로컬 랭킹으로 순위를 조회한다")
+	void 장애중_로컬_랭킹_조회() {
+
+		// given - 정상 상태의 점수를 로컬 랭킹에 갱신 (상위 REFRESH_SIZE 명)
+		store.increaseScoreForAllPeriods(1L, 100, PERIOD);
+		store.increaseScoreForAllPeriods(2L, 50, PERIOD);
+		store.increaseScoreForAllPeriods(4L, 10, PERIOD);
+		store.refreshLocalIndexes();
+
+		// when
+		redis.down = true;
+		RankingScoreChange change = store.increaseScoreForAllPeriods(3L, 70, PERIOD);
+
+		// then
+		assertThat(change.previousRank()).isNull();
+		assertThat(change.currentRank()).isEqualTo(2);
+		assertThat(change.upperScore()).isEqualTo(100);
+		assertThat(store.getRank(PERIOD, 2L)).isEqualTo(3);
+		assertThat(store.getTopRankings(PERIOD, 2))
+			.extracting(RankingEntry::memberId)
+			.containsExactly(1L, 3L);
+		assertThat(store.getRank(PERIOD, 4L)).isNull();
+	}
+
+	@Test
+	@DisplayName("로컬 랭킹도 Redis 와 같이 동점자를 memberId 문자열 내림차순으로 잘라 상위 n 명만 반환한다")
+	void 로컬_상위N명은_Redis와_같은_동점_순서() {
+
+		// given - 장애 중 로컬에 반영된 점수
+		redis.down = true;
+		store.increaseScoreForAllPeriods(1L, 300, PERIOD);
+		store.increaseScoreForAllPeriods(10L, 100, PERIOD);
+		store.increaseScoreForAllPeriods(4L, 100, PERIOD);
+		store.increaseScoreForAllPeriods(9L, 100, PERIOD);
+
+		// then
+		assertThat(store.getTopRankings(PERIOD, 3))
+			.extracting(RankingEntry::memberId)
+			.containsExactly(1L, 9L, 4L);
+		assertThat(store.getRankingsPage(PERIOD, 3, 10))
+			.extracting(RankingEntry::memberId)
+			.containsExactly(10L);
+	}
+
+	@Test
+	@DisplayName("재반영 응답이 유실되어 다시 시도해도 한 번만 반영된다")
+	void 재반영은_멱등() {
+
+		// given
+		redis.down = true;
+		store.increaseScoreForAllPeriods(1L, 30, PERIOD);
+		redis.down = false;
+
+		// when - 첫 재반영은 Redis 에 반영된 뒤 응답만 실패
+		redis.failAfterReplay = true;
+		assertThat(store.replayJournal()).isZero();
+		assertThat(store.getJournalSize()).isEqualTo(1);
+
+		replayUntilEmpty();
+
+		// then
+		assertThat(redis.getScore(PERIOD, 1L)).isEqualTo(30);
+	}
+
+	@Test
+	@DisplayName("Redis 는 응답하지만 계속 실패하는 항목은 정해진 횟수 뒤 건너뛰고 뒤 항목을 반영한다")
+	void 반복_실패_항목은_건너뜀() {
+
+		// given
+		redis.down = true;
+		store.increaseScoreForAllPeriods(1L, 10, PERIOD);
+		store.increaseScoreForAllPeriods(2L, 20, PERIOD);
+		redis.down = false;
+		redis.poisonMemberId = 1L;
+		// 장애 중 기록된 실패는 지우고 서킷이 닫힌 상태에서 시작
+		circuitBreakerRegistry.circuitBreaker(FallbackRankingStore.REDIS_CIRCUIT).reset();
+
+		// when - 시도 횟수를 다 쓰기 전에는 맨 앞 항목에서 멈춘다
+		for (int attempt = 1; attempt < REPLAY_MAX_ATTEMPTS; attempt++) {
+			assertThat(store.replayJournal()).isZero();
+		}
+		assertThat(store.getJournalSize()).isEqualTo(2);
+
+		// then
+		assertThat(store.replayJournal()).isEqualTo(2);
+		assertThat(store.getJournalSize()).isZero();
+		assertThat(redis.getScore(PERIOD, 1L)).isNull();
+		assertThat(redis.getScore(PERIOD, 2L)).isEqualTo(20);
+		assertThat(meterRegistry.get("ranking.fallback.journal.dead_lettered").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Redis 연결 실패는 항목 문제가 아니므로 재시도 횟수에 포함하지 않는다")
+	void 연결_실패는_시도_횟수에_포함하지_않음() {
+
+		// given
+		redis.down = true;
+		store.increaseScoreForAllPeriods(1L, 10, PERIOD);
+
+		// when
+		for (int attempt = 0; attempt < REPLAY_MAX_ATTEMPTS * 2; attempt++) {
+			store.replayJournal();
+		}
+
+		// then
+		assertThat(store.getJournalSize()).isEqualTo(1);
+		assertThat(meterRegistry.get("ranking.fallback.journal.dead_lettered").counter().count()).isZero();
+	}
+
+	@Test
+	@DisplayName("journal 이 가득 차면 점수는 로컬에만 반영하고 버린 수를 기록한다")
+	void journal_상한_초과시_버림() {
+
+		// given
+		redis.down = true;
+
+		// when
+		for (int i = 0; i < JOURNAL_MAX_SIZE + 5; i++) {
+			store.increaseScoreForAllPeriods(1L, 1, PERIOD);
+		}
+
+		// then
+		assertThat(store.getJournalSize()).isEqualTo(JOURNAL_MAX_SIZE);
+		assertThat(meterRegistry.get("ranking.fallback.journal.dropped").counter().count()).isEqualTo(5);
+		assertThat(store.getTopRankings(PERIOD, 1))
+			.extracting(RankingEntry::score)
+			.containsExactly(JOURNAL_MAX_SIZE + 5);
+	}
+
+	// 서킷이 반열림으로 바뀔 때까지 기다리며 재반영
+	private void replayUntilEmpty() {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (store.getJournalSize() > 0 && System.currentTimeMillis() < deadline) {
+			store.replayJournal();
+			sleep(10);
+		}
+		assertThat(store.getJournalSize()).isZero();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 로컬 인덱스로 Redis 를 흉내내고, down 이면 연결 실패를 던지는 테스트용 저장소
+	 */
+	static class FlakyRankingStore implements ReplayableRankingStore {
+
+		volatile boolean down;
+		volatile boolean failAfterReplay;
+		volatile Long poisonMemberId;
+
+		private final Map<RankingPeriod, LocalRankingIndex> indexes = new EnumMap<>(RankingPeriod.class);
+		private final Set<String> replayed = ConcurrentHashMap.newKeySet();
+
+		FlakyRankingStore() {
+			for (RankingPeriod period : RankingPeriod.values()) {
+				indexes.put(period, new LocalRankingIndex());
+			}
+		}
+
+		private void checkConnection() {
+			if (down) {
+				throw new RedisConnectionFailureException("redis down");
+			}
+		}
+
+		@Override
+		public boolean replayIncrease(String journalId, Long memberId, int score, LocalDate occurredOn) {
+			checkConnection();
+			if (memberId.equals(poisonMemberId)) {
+				throw new RedisSystemException("script error", new IllegalStateException());
+			}
+			boolean applied = replayed.add(journalId);
+			if (applied) {
+				indexes.values().forEach(index -> index.increase(memberId, score));
+			}
+			if (failAfterReplay) {
+				failAfterReplay = false;
+				throw new RedisConnectionFailureException("response lost");
+			}
+			return applied;
+		}
+
+		@Override
+		public void increaseScore(RankingPeriod period, Long memberId, int score) {
+			checkConnection();
+			indexes.get(period).increase(memberId, score);
+		}
+
+		@Override
+		public synchronized RankingScoreChange increaseScoreForAllPeriods(Long memberId, int score,
+			RankingPeriod eventPeriod) {
+			checkConnection();
+			RankingScoreChange eventChange = null;
+			for (RankingPeriod period : RankingPeriod.values()) {
+				RankingScoreChange change = indexes.get(period).increase(memberId, score);
+				if (period == eventPeriod) {
+					eventChange = change;
+				}
+			}
+			return eventChange;
+		}
+
+		@Override
+		public Integer getScore(RankingPeriod period, Long memberId) {
+			checkConnection();
+			return indexes.get(period).getScore(memberId);
+		}
+
+		@Override
+		public Integer getUpperScore(RankingPeriod period, Long memberId) {
+			checkConnection();
+			return indexes.get(period).getUpperScore(memberId);
+		}
+
+		@Override
+		public Integer getRank(RankingPeriod period, Long memberId) {
+			checkConnection();
+			return indexes.get(period).getRank(memberId);
+		}
+
+		@Override
+		public Long getPosition(RankingPeriod period, Long memberId) {
+			checkConnection();
+			return indexes.get(period).getPosition(memberId);
+		}
+
+		@Override
+		public long countHigherScores(RankingPeriod period, int score) {
+			checkConnection();
+			return indexes.get(period).countHigherScores(score);
+		}
+
+		@Override
+		public long size(RankingPeriod period) {
+			checkConnection();
+			return indexes.get(period).size();
+		}
+
+		@Override
+		public List<RankingEntry> getAllRankings(RankingPeriod period) {
+			checkConnection();
+			return indexes.get(period).getAll();
+		}
+
+		@Override
+		public List<RankingEntry> getRankingsPage(RankingPeriod period, long offset, int limit) {
+			checkConnection();
+			return indexes.get(period).getPage(offset, limit);
+		}
+
+		@Override
+		public List<RankingEntry> getTopRankings(RankingPeriod period, int n) {
+			checkConnection();
+			return indexes.get(period).getTop(n);
+		}
+
+		@Override
+		public boolean rotate(RankingPeriod period, String periodKey) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<RankingEntry> getArchivedRankingsPage(RankingPeriod period, String periodKey, long offset,
+			int limit) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void expireArchive(RankingPeriod period, String periodKey, Duration ttl) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void clear(RankingPeriod period) {
+			indexes.get(period).clear();
+		}
+	}
+}
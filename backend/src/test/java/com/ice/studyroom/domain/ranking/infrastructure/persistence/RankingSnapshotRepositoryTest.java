@@ -0,0 +1,54 @@
+package com.ice.studyroom.domain.ranking.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ice.studyroom.domain.ranking.domain.entity.RankingSnapshot;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.domain.type.RankingSnapshotStatus;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class RankingSnapshotRepositoryTest {
+
+	@Autowired
+	private RankingSnapshotRepository snapshotRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("상태 / 체크포인트 컬럼 없이 저장된 기존 행은 COMPLETED, 체크포인트 0 으로 읽힘")
+	void 기존_행은_완료로_읽힘() {
+		jdbcTemplate.update("""
+			INSERT INTO ranking_snapshot (period, period_key, created_at, updated_at)
+			VALUES ('WEEKLY', '2025-03-03', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+			""");
+
+		RankingSnapshot snapshot =
+			snapshotRepository.findByPeriodAndPeriodKey(RankingPeriod.WEEKLY, "2025-03-03").orElseThrow();
+
+		assertThat(snapshot.getStatus()).isEqualTo(RankingSnapshotStatus.COMPLETED);
+		assertThat(snapshot.isCompleted()).isTrue();
+		assertThat(snapshot.getProcessedCount()).isZero();
+		assertThat(snapshot.getLastRank()).isZero();
+		assertThat(snapshot.getLastScore()).isNull();
+	}
+
+	@Test
+	@DisplayName("새로 만든 스냅샷은 기본값과 무관하게 IN_PROGRESS 로 저장")
+	void 새_스냅샷은_진행중() {
+		snapshotRepository.saveAndFlush(RankingSnapshot.create(RankingPeriod.WEEKLY, "2025-03-10"));
+
+		String status = jdbcTemplate.queryForObject(
+			"SELECT status FROM ranking_snapshot WHERE period_key = '2025-03-10'", String.class);
+
+		assertThat(status).isEqualTo(RankingSnapshotStatus.IN_PROGRESS.name());
+	}
+}
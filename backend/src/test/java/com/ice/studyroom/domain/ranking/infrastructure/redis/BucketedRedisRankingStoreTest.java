@@ -0,0 +1,154 @@
+package com.ice.studyroom.domain.ranking.infrastructure.redis;
+
+import com.ice.studyroom.domain.ranking.domain.entity.RankingConfig;
+import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
+import com.ice.studyroom.domain.ranking.infrastructure.persistence.RankingConfigRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BucketedRedisRankingStoreTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private RankingConfigRepository rankingConfigRepository;
+
+	private BucketedRedisRankingStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = createStore(60_000);
+	}
+
+	private BucketedRedisRankingStore createStore(long configCacheTtlMillis) {
+		return new BucketedRedisRankingStore(redisTemplate, rankingConfigRepository,
+			Clock.system(ZoneId.of("Asia/Seoul")), 10_000, 400, configCacheTtlMillis);
+	}
+
+	@Test
+	@DisplayName("주간 랭킹은 이번 주 월요일부터 오늘까지의 버킷을 합친다")
+	void 주간_버킷_범위() {
+
+		// 2026-10-14 수요일
+		assertThat(store.bucketKeys(RankingPeriod.WEEKLY, LocalDateTime.of(2026, 10, 14, 15, 0)))
+			.containsExactly("ranking:bucket:2026-10-12", "ranking:bucket:2026-10-13", "ranking:bucket:2026-10-14");
+	}
+
+	@Test
+	@DisplayName("자정 회전 시점의 1분 전은 지난 기간의 마지막 날이다")
+	void 자정_직전_기간() {
+
+		// RankingScheduler 의 주간 회전(2026-10-19 월요일 00:00) → 지난 주 (10-12 ~ 10-18, 일요일 버킷 전체 포함)
+		LocalDateTime rotatedAt = LocalDateTime.of(2026, 10, 19, 0, 0).minusMinutes(1);
+
+		assertThat(store.bucketKeys(RankingPeriod.WEEKLY, rotatedAt))
+			.hasSize(7)
+			.startsWith("ranking:bucket:2026-10-12")
+			.endsWith("ranking:bucket:2026-10-18");
+	}
+
+	@Test
+	@DisplayName("월 / 학기 / 연 기간은 스냅샷 주기와 같은 달력 경계에서 시작한다")
+	void 달력_기준_시작일() {
+
+		LocalDateTime at = LocalDateTime.of(2026, 3, 10, 9, 0);
+
+		assertThat(store.periodStart(RankingPeriod.MONTHLY, at)).isEqualTo(LocalDate.of(2026, 3, 1));
+		assertThat(store.periodStart(RankingPeriod.SEMESTER, at)).isEqualTo(LocalDate.of(2025, 11, 1));
+		assertThat(store.periodStart(RankingPeriod.SEMESTER, LocalDateTime.of(2026, 8, 1, 0, 0)))
+			.isEqualTo(LocalDate.of(2026, 7, 1));
+		assertThat(store.periodStart(RankingPeriod.YEARLY, at)).isEqualTo(LocalDate.of(2026, 1, 1));
+	}
+
+	@Test
+	@DisplayName("RankingConfig.startAt 이 달력 경계보다 늦으면 그 날부터 시작한다")
+	void 설정된_시작일_적용() {
+
+		RankingConfig config = mock(RankingConfig.class);
+		given(config.getStartAt()).willReturn(LocalDateTime.of(2026, 3, 2, 0, 0));
+		given(rankingConfigRepository.findByPeriod(RankingPeriod.SEMESTER)).willReturn(config);
+
+		assertThat(store.periodStart(RankingPeriod.SEMESTER, LocalDateTime.of(2026, 3, 10, 9, 0)))
+			.isEqualTo(LocalDate.of(2026, 3, 2));
+	}
+
+	@Test
+	@DisplayName("아직 오지 않은 RankingConfig.startAt 은 무시한다")
+	void 미래_시작일_무시() {
+
+		RankingConfig config = mock(RankingConfig.class);
+		given(config.getStartAt()).willReturn(LocalDateTime.of(2026, 3, 20, 0, 0));
+		given(rankingConfigRepository.findByPeriod(RankingPeriod.MONTHLY)).willReturn(config);
+
+		assertThat(store.periodStart(RankingPeriod.MONTHLY, LocalDateTime.of(2026, 3, 10, 9, 0)))
+			.isEqualTo(LocalDate.of(2026, 3, 1));
+	}
+
+	@Test
+	@DisplayName("RankingConfig 는 캐시 TTL 동안 다시 조회하지 않는다")
+	void 설정_캐시() {
+
+		RankingConfig config = mock(RankingConfig.class);
+		given(config.getStartAt()).willReturn(LocalDateTime.of(2026, 3, 2, 0, 0));
+		given(rankingConfigRepository.findByPeriod(RankingPeriod.SEMESTER)).willReturn(config);
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(store.periodStart(RankingPeriod.SEMESTER, LocalDateTime.of(2026, 3, 10, 9, i % 60)))
+				.isEqualTo(LocalDate.of(2026, 3, 2));
+		}
+
+		verify(rankingConfigRepository, times(1)).findByPeriod(RankingPeriod.SEMESTER);
+	}
+
+	@Test
+	@DisplayName("설정 변경 후 refreshRankingConfig 를 호출하면 바로 새 시작일을 읽는다")
+	void 설정_변경_반영() {
+
+		RankingConfig before = mock(RankingConfig.class);
+		given(before.getStartAt()).willReturn(LocalDateTime.of(2026, 3, 2, 0, 0));
+		RankingConfig after = mock(RankingConfig.class);
+		given(after.getStartAt()).willReturn(LocalDateTime.of(2026, 3, 5, 0, 0));
+		given(rankingConfigRepository.findByPeriod(RankingPeriod.SEMESTER)).willReturn(before, after);
+
+		LocalDateTime at = LocalDateTime.of(2026, 3, 10, 9, 0);
+		assertThat(store.periodStart(RankingPeriod.SEMESTER, at)).isEqualTo(LocalDate.of(2026, 3, 2));
+
+		store.refreshRankingConfig();
+
+		assertThat(store.periodStart(RankingPeriod.SEMESTER, at)).isEqualTo(LocalDate.of(2026, 3, 5));
+	}
+
+	@Test
+	@DisplayName("설정 재조회가 실패하면 마지막으로 읽은 설정을 계속 사용한다")
+	void 설정_조회_실패시_이전_설정() {
+
+		store = createStore(0);
+		RankingConfig config = mock(RankingConfig.class);
+		given(config.getStartAt()).willReturn(LocalDateTime.of(2026, 3, 2, 0, 0));
+		given(rankingConfigRepository.findByPeriod(RankingPeriod.SEMESTER))
+			.willReturn(config)
+			.willThrow(new IllegalStateException("DB down"));
+
+		LocalDateTime at = LocalDateTime.of(2026, 3, 10, 9, 0);
+		assertThat(store.periodStart(RankingPeriod.SEMESTER, at)).isEqualTo(LocalDate.of(2026, 3, 2));
+		assertThat(store.periodStart(RankingPeriod.SEMESTER, at)).isEqualTo(LocalDate.of(2026, 3, 2));
+	}
+}
@@ -0,0 +1,103 @@
+package com.ice.studyroom.domain.ranking.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import redis.embedded.RedisServer;
+
+/**
+ * 실제 Redis(embedded-redis) 위에서 살아 있는 서버끼리 같은 노드 번호를 빌리지 않는지 검증합니다.
+ */
+class EventIdNodeLeaseTest {
+
+	private static final int MAX_NODE_ID = 7;
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+
+	private StringRedisTemplate redisTemplate;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+	}
+
+	@Test
+	@DisplayName("서버마다 서로 다른 노드 번호를 빌리고, 번호가 모두 쓰이면 시작에 실패한다")
+	void 서로_다른_번호_임대() {
+		Set<Integer> nodeIds = new HashSet<>();
+		for (int i = 0; i <= MAX_NODE_ID; i++) {
+			nodeIds.add(new EventIdNodeLease(redisTemplate, 60_000).acquire(MAX_NODE_ID));
+		}
+
+		assertThat(nodeIds).hasSize(MAX_NODE_ID + 1);
+		assertThatThrownBy(() -> new EventIdNodeLease(redisTemplate, 60_000).acquire(MAX_NODE_ID))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("반납한 번호는 다른 서버가 다시 빌릴 수 있다")
+	void 반납한_번호_재사용() {
+		EventIdNodeLease first = new EventIdNodeLease(redisTemplate, 60_000);
+		int nodeId = first.acquire(0);
+
+		first.release();
+
+		assertThat(new EventIdNodeLease(redisTemplate, 60_000).acquire(0)).isEqualTo(nodeId);
+	}
+
+	@Test
+	@DisplayName("연장은 자신이 빌린 번호의 TTL 만 늘리고, 만료된 번호는 다시 선점한다")
+	void 임대_연장() {
+		EventIdNodeLease lease = new EventIdNodeLease(redisTemplate, 60_000);
+		int nodeId = lease.acquire(0);
+		String key = EventIdNodeLease.KEY_PREFIX + nodeId;
+
+		redisTemplate.delete(key);
+		lease.renew();
+
+		assertThat(redisTemplate.hasKey(key)).isTrue();
+		assertThat(redisTemplate.getExpire(key)).isPositive();
+		assertThatThrownBy(() -> new EventIdNodeLease(redisTemplate, 60_000).acquire(0))
+			.isInstanceOf(IllegalStateException.class);
+	}
+}
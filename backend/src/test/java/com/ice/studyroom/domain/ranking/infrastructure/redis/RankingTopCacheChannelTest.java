@@ -0,0 +1,69 @@
+package com.ice.studyroom.domain.ranking.infrastructure.redis;
+
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.ice.studyroom.domain.ranking.application.event.assembler.WeeklyRankingAssembler;
+import com.ice.studyroom.domain.ranking.application.event.dto.TopRankingsEvictedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class RankingTopCacheChannelTest {
+
+	private static final String TOPIC = "ranking:top-evict";
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+	@Mock
+	private WeeklyRankingAssembler weeklyRankingAssembler;
+
+	private RankingTopCacheChannel channel;
+
+	@BeforeEach
+	void setUp() {
+		channel = new RankingTopCacheChannel(redisTemplate, listenerContainer, weeklyRankingAssembler);
+	}
+
+	@Test
+	@DisplayName("다른 서버가 발행한 무효화는 이 서버의 캐시만 무효화하고 다시 발행하지 않음")
+	void 다른_서버_무효화_반영() {
+		channel.onMessage(new DefaultMessage(TOPIC.getBytes(), "other-node".getBytes(StandardCharsets.UTF_8)), null);
+
+		verify(weeklyRankingAssembler).evictLocalTopRankings();
+		verify(weeklyRankingAssembler, never()).evictTopRankings();
+	}
+
+	@Test
+	@DisplayName("자신이 발행한 무효화는 이미 로컬에 반영했으므로 무시")
+	void 자기_발행_메시지_무시() {
+		channel.publish(new TopRankingsEvictedEvent());
+		verify(redisTemplate).convertAndSend(TOPIC, RankingTopCacheChannel.NODE_ID);
+
+		channel.onMessage(new DefaultMessage(TOPIC.getBytes(),
+			RankingTopCacheChannel.NODE_ID.getBytes(StandardCharsets.UTF_8)), null);
+
+		verifyNoInteractions(weeklyRankingAssembler);
+	}
+
+	@Test
+	@DisplayName("Redis 장애로 발행하지 못해도 점수 반영 흐름으로 예외를 전파하지 않음")
+	void 발행_실패_무시() {
+		given(redisTemplate.convertAndSend(TOPIC, RankingTopCacheChannel.NODE_ID))
+			.willThrow(new RedisConnectionFailureException("down"));
+
+		channel.publish(new TopRankingsEvictedEvent());
+	}
+}
@@ -2,6 +2,8 @@ package com.ice.studyroom.domain.ranking.infrastructure.redis;
 
 import static org.assertj.core.api.Assertions.*;
 
+import com.ice.studyroom.domain.ranking.domain.service.RankingEntry;
+import com.ice.studyroom.domain.ranking.domain.service.RankingScoreChange;
 import com.ice.studyroom.domain.ranking.domain.type.RankingPeriod;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,7 +20,9 @@ class RedisRankingStoreTest {
 
 	@BeforeEach
 	void setUp() {
-		redisRankingStore.clear(PERIOD);
+		for (RankingPeriod period : RankingPeriod.values()) {
+			redisRankingStore.clear(period);
+		}
 	}
 
 	// 기본 순위 검증
@@ -185,4 +189,77 @@ class RedisRankingStoreTest {
 
 		assertThat(redisRankingStore.getUpperScore(PERIOD, 1L)).isNull();
 	}
+
+	@Test
+	void 전체기간_점수증가시_이전순위_현재순위_위점수를_함께반환() {
+
+		redisRankingStore.increaseScore(PERIOD, 1L, 300);
+		redisRankingStore.increaseScore(PERIOD, 2L, 200);
+		redisRankingStore.increaseScore(PERIOD, 3L, 100);
+
+		RankingScoreChange change = redisRankingStore.increaseScoreForAllPeriods(3L, 150, PERIOD);
+
+		assertThat(change.previousRank()).isEqualTo(3);
+		assertThat(change.currentRank()).isEqualTo(2);
+		assertThat(change.currentScore()).isEqualTo(250);
+		assertThat(change.upperScore()).isEqualTo(300);
+		assertThat(change.gapWithUpper()).isEqualTo(50);
+
+		// 이벤트 기간 외 다른 기간에도 반영
+		assertThat(redisRankingStore.getScore(RankingPeriod.MONTHLY, 3L)).isEqualTo(150);
+	}
+
+	@Test
+	void 랭킹에_없던_사용자는_이전순위_null() {
+
+		redisRankingStore.increaseScore(PERIOD, 1L, 100);
+
+		RankingScoreChange change = redisRankingStore.increaseScoreForAllPeriods(2L, 100, PERIOD);
+
+		assertThat(change.previousRank()).isNull();
+		assertThat(change.currentRank()).isEqualTo(1);
+		assertThat(change.upperScore()).isNull();
+	}
+
+	@Test
+	void 상위N명_조회시_경계_동점자는_memberId_문자열_내림차순으로_잘림() {
+
+		redisRankingStore.increaseScore(PERIOD, 1L, 300);
+		redisRankingStore.increaseScore(PERIOD, 2L, 200);
+		redisRankingStore.increaseScore(PERIOD, 10L, 100);
+		redisRankingStore.increaseScore(PERIOD, 4L, 100);
+		redisRankingStore.increaseScore(PERIOD, 5L, 50);
+
+		assertThat(redisRankingStore.getTopRankings(PERIOD, 3))
+			.extracting(RankingEntry::memberId)
+			.containsExactly(1L, 2L, 4L);
+
+		assertThat(redisRankingStore.getTopRankings(PERIOD, 2))
+			.extracting(RankingEntry::score)
+			.containsExactly(300, 200);
+	}
+
+	@Test
+	void 회전하면_보관키로_옮겨지고_새_점수는_새_키에_쌓인다() {
+
+		String periodKey = "test-" + System.nanoTime();
+		redisRankingStore.increaseScore(PERIOD, 1L, 100);
+		redisRankingStore.increaseScore(PERIOD, 2L, 50);
+
+		assertThat(redisRankingStore.rotate(PERIOD, periodKey)).isTrue();
+		redisRankingStore.increaseScore(PERIOD, 3L, 10);
+
+		assertThat(redisRankingStore.getArchivedRankingsPage(PERIOD, periodKey, 0, 10))
+			.extracting(RankingEntry::memberId)
+			.containsExactly(1L, 2L);
+		assertThat(redisRankingStore.getRankingsPage(PERIOD, 0, 10))
+			.extracting(RankingEntry::memberId)
+			.containsExactly(3L);
+
+		// 이미 회전된 기간을 다시 회전해도 새 랭킹은 옮겨지지 않는다
+		assertThat(redisRankingStore.rotate(PERIOD, periodKey)).isTrue();
+		assertThat(redisRankingStore.getScore(PERIOD, 3L)).isEqualTo(10);
+
+		redisRankingStore.expireArchive(PERIOD, periodKey, java.time.Duration.ofSeconds(1));
+	}
 }
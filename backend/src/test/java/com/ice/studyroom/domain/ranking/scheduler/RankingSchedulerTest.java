@@ -9,9 +9,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -78,4 +84,31 @@ class RankingSchedulerTest {
 				matches("\\d{4}-2")
 		);
 	}
+
+	@Test
+	void 주간_월간_연간_스냅샷은_기간이_끝난_자정에_실행되고_지난_기간을_저장한다() throws Exception {
+
+		// 일요일 23:59:59 의 체크인까지 지난 주에 포함되도록 월요일 00:00 에 실행
+		assertThat(nextRun("weeklySnapshot", LocalDateTime.of(2026, 10, 18, 23, 59, 59)))
+			.isEqualTo(LocalDateTime.of(2026, 10, 19, 0, 0));
+		assertThat(nextRun("monthlySnapshot", LocalDateTime.of(2026, 10, 31, 23, 59, 59)))
+			.isEqualTo(LocalDateTime.of(2026, 11, 1, 0, 0));
+		assertThat(nextRun("yearlySnapshot", LocalDateTime.of(2026, 12, 31, 23, 59, 59)))
+			.isEqualTo(LocalDateTime.of(2027, 1, 1, 0, 0));
+
+		LocalDate yesterday = LocalDate.now(ZoneId.of("Asia/Seoul")).minusDays(1);
+
+		scheduler.weeklySnapshot();
+		scheduler.monthlySnapshot();
+		scheduler.yearlySnapshot();
+
+		verify(snapshotJob).execute(RankingPeriod.WEEKLY, yesterday.toString());
+		verify(snapshotJob).execute(RankingPeriod.MONTHLY, YearMonth.from(yesterday).toString());
+		verify(snapshotJob).execute(RankingPeriod.YEARLY, String.valueOf(yesterday.getYear()));
+	}
+
+	private LocalDateTime nextRun(String method, LocalDateTime after) throws Exception {
+		Scheduled scheduled = RankingScheduler.class.getMethod(method).getAnnotation(Scheduled.class);
+		return CronExpression.parse(scheduled.cron()).next(after);
+	}
 }
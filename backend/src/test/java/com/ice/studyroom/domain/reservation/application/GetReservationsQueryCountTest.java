@@ -0,0 +1,211 @@
+package com.ice.studyroom.domain.reservation.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.ice.studyroom.domain.admin.domain.type.DayOfWeekStatus;
+import com.ice.studyroom.domain.admin.domain.type.RoomType;
+import com.ice.studyroom.domain.membership.domain.entity.Member;
+import com.ice.studyroom.domain.membership.domain.vo.Email;
+import com.ice.studyroom.domain.membership.domain.vo.EncodedPassword;
+import com.ice.studyroom.domain.membership.infrastructure.persistence.MemberRepository;
+import com.ice.studyroom.domain.penalty.application.PenaltyService;
+import com.ice.studyroom.domain.ranking.application.checkin.RankingCheckInApplicationService;
+import com.ice.studyroom.domain.reservation.application.email.ReservationEmailOutboxService;
+import com.ice.studyroom.domain.reservation.domain.entity.Reservation;
+import com.ice.studyroom.domain.reservation.domain.service.ReservationValidator;
+import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
+import com.ice.studyroom.domain.reservation.infrastructure.persistence.ReservationRepository;
+import com.ice.studyroom.domain.reservation.infrastructure.persistence.ScheduleRepository;
+import com.ice.studyroom.domain.reservation.infrastructure.redis.ScheduleSlotInventory;
+import com.ice.studyroom.domain.reservation.presentation.dto.response.GetReservationsResponse;
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+import com.ice.studyroom.domain.schedule.domain.service.ScheduleCanceller;
+import com.ice.studyroom.global.security.service.TokenService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 내 예약 조회가 예약 건수와 무관하게 고정된 쿼리 수로 끝나는지 Hibernate 통계로 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(ReservationService.class)
+class GetReservationsQueryCountTest {
+
+	private static final String AUTH_HEADER = "Bearer owner-token";
+	private static final int GROUP_RESERVATION_COUNT = 30;
+	private static final int INDIVIDUAL_RESERVATION_COUNT = 30;
+	private static final int PARTICIPANTS_PER_GROUP = 3;
+
+	// 회원 조회 + 예약 페이지 조회 + 단체 참여자 일괄 조회
+	private static final long MAX_QUERY_COUNT = 3;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private ScheduleRepository scheduleRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockitoBean
+	private TokenService tokenService;
+	@MockitoBean
+	private ReservationConcurrencyService reservationConcurrencyService;
+	@MockitoBean
+	private ReservationCompensationService reservationCompensationService;
+	@MockitoBean
+	private OptimisticRetryExecutor optimisticRetryExecutor;
+	@MockitoBean
+	private ScheduleSlotInventory scheduleSlotInventory;
+	@MockitoBean
+	private RankingCheckInApplicationService rankingCheckInApplicationService;
+	@MockitoBean
+	private ReservationValidator reservationValidator;
+	@MockitoBean
+	private ScheduleCanceller scheduleCanceller;
+	@MockitoBean
+	private PenaltyService penaltyService;
+	@MockitoBean
+	private ReservationEmailOutboxService reservationEmailOutboxService;
+	@MockitoBean
+	private Clock clock;
+
+	private Member owner;
+
+	@BeforeEach
+	void setUp() {
+		owner = memberRepository.save(createMember(0));
+		List<Member> others = new ArrayList<>();
+		for (int i = 1; i < PARTICIPANTS_PER_GROUP; i++) {
+			others.add(memberRepository.save(createMember(i)));
+		}
+
+		LocalDate baseDate = LocalDate.of(2025, 3, 2);
+		for (int day = 0; day < GROUP_RESERVATION_COUNT; day++) {
+			Schedule groupSchedule = scheduleRepository.save(createSchedule(RoomType.GROUP, baseDate.plusDays(day)));
+			reservationRepository.save(Reservation.from(List.of(groupSchedule), true, owner));
+			for (Member other : others) {
+				reservationRepository.save(Reservation.from(List.of(groupSchedule), false, other));
+			}
+		}
+		for (int day = 0; day < INDIVIDUAL_RESERVATION_COUNT; day++) {
+			Schedule individualSchedule = scheduleRepository.save(
+				createSchedule(RoomType.INDIVIDUAL, baseDate.plusDays(GROUP_RESERVATION_COUNT + day)));
+			reservationRepository.save(Reservation.from(List.of(individualSchedule), true, owner));
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+
+		when(tokenService.extractEmailFromAccessToken(AUTH_HEADER)).thenReturn(owner.getEmail().getValue());
+	}
+
+	@Test
+	@DisplayName("예약이 많아도 쿼리 수는 고정 - 단체 예약 참여자 포함")
+	void 내_예약_조회_쿼리_수_상한() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		List<GetReservationsResponse> responses = reservationService.getReservations(AUTH_HEADER, null, null, 0, 100);
+
+		assertThat(responses).hasSize(GROUP_RESERVATION_COUNT + INDIVIDUAL_RESERVATION_COUNT);
+		assertThat(responses)
+			.filteredOn(response -> response.participants() != null)
+			.hasSize(GROUP_RESERVATION_COUNT)
+			.allSatisfy(response -> assertThat(response.participants()).hasSize(PARTICIPANTS_PER_GROUP));
+		assertThat(responses)
+			.filteredOn(response -> response.participants() == null)
+			.hasSize(INDIVIDUAL_RESERVATION_COUNT);
+
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_QUERY_COUNT);
+	}
+
+	@Test
+	@DisplayName("기간 필터와 페이지 크기 적용 - 예약 날짜 내림차순")
+	void 기간_필터와_페이지_적용() {
+		LocalDate from = LocalDate.of(2025, 3, 2);
+		LocalDate to = from.plusDays(9);
+
+		List<GetReservationsResponse> firstPage = reservationService.getReservations(AUTH_HEADER, from, to, 0, 4);
+		List<GetReservationsResponse> lastPage = reservationService.getReservations(AUTH_HEADER, from, to, 2, 4);
+
+		assertThat(firstPage).hasSize(4);
+		assertThat(firstPage.get(0).reservation().getScheduleDate()).isEqualTo(to);
+		assertThat(lastPage).hasSize(2);
+		assertThat(lastPage.get(1).reservation().getScheduleDate()).isEqualTo(from);
+	}
+
+	@Test
+	@DisplayName("조건이 없으면 기존처럼 전체 예약을 저장 순서대로 반환")
+	void 조건_없으면_전체_조회() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		List<GetReservationsResponse> responses = reservationService.getReservations(AUTH_HEADER, null, null, null, null);
+
+		assertThat(responses).hasSize(GROUP_RESERVATION_COUNT + INDIVIDUAL_RESERVATION_COUNT);
+		assertThat(responses).extracting(response -> response.reservation().getId()).isSorted();
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_QUERY_COUNT);
+	}
+
+	@Test
+	@DisplayName("페이지 조건만 주면 기본 크기 20 으로 예약 날짜 내림차순 조회")
+	void 페이지_기본_크기() {
+		List<GetReservationsResponse> responses = reservationService.getReservations(AUTH_HEADER, null, null, 0, null);
+
+		assertThat(responses).hasSize(20);
+		assertThat(responses.get(0).reservation().getScheduleDate())
+			.isEqualTo(LocalDate.of(2025, 3, 2).plusDays(GROUP_RESERVATION_COUNT + INDIVIDUAL_RESERVATION_COUNT - 1));
+	}
+
+	private Member createMember(int index) {
+		return Member.create(Email.of("test" + index + "@hufs.ac.kr"), EncodedPassword.of("encoded-test-password"),
+			"테스트사용자" + index, "2024000" + (index + 1));
+	}
+
+	private Schedule createSchedule(RoomType roomType, LocalDate scheduleDate) {
+		return Schedule.builder()
+			.roomType(roomType)
+			.scheduleDate(scheduleDate)
+			.roomNumber(roomType == RoomType.GROUP ? "305-1" : "409-1")
+			.roomTimeSlotId(1L)
+			.startTime(LocalTime.of(9, 0))
+			.endTime(LocalTime.of(10, 0))
+			.currentRes(0)
+			.capacity(roomType == RoomType.GROUP ? 6 : 1)
+			.minRes(roomType == RoomType.GROUP ? 3 : 1)
+			.status(ScheduleSlotStatus.AVAILABLE)
+			.dayOfWeek(DayOfWeekStatus.MONDAY)
+			.build();
+	}
+}
@@ -31,9 +31,11 @@ import com.ice.studyroom.domain.membership.domain.vo.Email;
 import com.ice.studyroom.domain.membership.infrastructure.persistence.MemberRepository;
 import com.ice.studyroom.domain.reservation.domain.entity.Reservation;
 import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+import com.ice.studyroom.domain.schedule.domain.exception.schedule.ReservationCapacityExceededException;
 import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
 import com.ice.studyroom.domain.reservation.infrastructure.persistence.ReservationRepository;
 import com.ice.studyroom.domain.reservation.infrastructure.persistence.ScheduleRepository;
+import com.ice.studyroom.domain.reservation.infrastructure.redis.ScheduleSlotInventory;
 import com.ice.studyroom.domain.reservation.presentation.dto.request.CreateReservationRequest;
 import com.ice.studyroom.global.exception.BusinessException;
 
@@ -48,6 +50,8 @@ class IndividualReservationTest {
 	@Mock
 	private ReservationCompensationService reservationCompensationService;
 	@Mock
+	private ScheduleSlotInventory scheduleSlotInventory;
+	@Mock
 	private ReservationValidator reservationValidator;
 	@Mock
 	private ReservationRepository reservationRepository;
@@ -474,6 +478,104 @@ class IndividualReservationTest {
 		verify(reservationRepository, never()).save(any());
 	}
 
+	/**
+	 * 📌 테스트명: Redis_잔여좌석_없으면_DB_락_진입_없이_실패
+	 *
+	 * ✅ 목적:
+	 *   - Redis 좌석 재고 선별에서 탈락한 요청은 비관적 락 구간에 진입하지 않는지 검증한다.
+	 *
+	 * ✅ 기대 결과:
+	 *   - ReservationCapacityExceededException 발생
+	 *   - processIndividualReservationWithLock, reservationRepository.save() 미호출
+	 */
+	@Test
+	@DisplayName("Redis 잔여 좌석이 없으면 DB 락 진입 없이 실패")
+	void Redis_잔여좌석_없으면_DB_락_진입_없이_실패() {
+		// given
+		CreateReservationRequest request = new CreateReservationRequest(
+			new Long[]{firstScheduleId},
+			new String[]{}
+		);
+
+		예약자_패널티_설정(false);
+
+		doThrow(new ReservationCapacityExceededException("예약 가능한 자리가 없습니다. 스케줄 ID: [1]"))
+			.when(scheduleSlotInventory).acquire(List.of(firstScheduleId));
+
+		// when & then
+		assertThrows(ReservationCapacityExceededException.class, () ->
+			reservationService.createIndividualReservation(token, request)
+		);
+
+		verify(reservationConcurrencyService, never()).processIndividualReservationWithLock(anyList());
+		verify(reservationRepository, never()).save(any());
+	}
+
+	/**
+	 * 📌 테스트명: DB_락_구간_실패시_Redis_좌석_복구
+	 *
+	 * ✅ 목적:
+	 *   - Redis 선별은 통과했지만 DB 검증에서 실패한 경우 차감한 좌석을 되돌리는지 검증한다.
+	 *
+	 * ✅ 기대 결과:
+	 *   - 예외가 그대로 전파되고 scheduleSlotInventory.release() 가 호출됨
+	 */
+	@Test
+	@DisplayName("DB 락 구간에서 실패하면 Redis 좌석을 복구")
+	void DB_락_구간_실패시_Redis_좌석_복구() {
+		// given
+		CreateReservationRequest request = new CreateReservationRequest(
+			new Long[]{firstScheduleId},
+			new String[]{}
+		);
+
+		예약자_패널티_설정(false);
+
+		given(scheduleSlotInventory.acquire(List.of(firstScheduleId))).willReturn(true);
+		given(reservationConcurrencyService.processIndividualReservationWithLock(anyList()))
+			.willThrow(new BusinessException(StatusCode.FORBIDDEN, "해당 방은 단체예약 전용입니다."));
+
+		// when & then
+		assertThrows(BusinessException.class, () ->
+			reservationService.createIndividualReservation(token, request)
+		);
+
+		verify(scheduleSlotInventory).acquire(List.of(firstScheduleId));
+		verify(scheduleSlotInventory).release(List.of(firstScheduleId));
+	}
+
+	/**
+	 * 📌 테스트명: Redis_차감_없이_진행한_경우_실패해도_좌석_복구하지_않음
+	 *
+	 * ✅ 목적:
+	 *   - Redis 장애로 차감 없이 DB 락 경로로 진행한 요청이 실패했을 때 좌석을 늘리지 않는지 검증한다.
+	 *
+	 * ✅ 기대 결과:
+	 *   - 예외가 그대로 전파되고 scheduleSlotInventory.release() 는 호출되지 않음
+	 */
+	@Test
+	@DisplayName("Redis 차감 없이 진행한 경우 DB 락 구간에서 실패해도 좌석을 복구하지 않음")
+	void Redis_차감_없이_진행한_경우_실패해도_좌석_복구하지_않음() {
+		// given
+		CreateReservationRequest request = new CreateReservationRequest(
+			new Long[]{firstScheduleId},
+			new String[]{}
+		);
+
+		예약자_패널티_설정(false);
+
+		given(scheduleSlotInventory.acquire(List.of(firstScheduleId))).willReturn(false);
+		given(reservationConcurrencyService.processIndividualReservationWithLock(anyList()))
+			.willThrow(new BusinessException(StatusCode.FORBIDDEN, "해당 방은 단체예약 전용입니다."));
+
+		// when & then
+		assertThrows(BusinessException.class, () ->
+			reservationService.createIndividualReservation(token, request)
+		);
+
+		verify(scheduleSlotInventory, never()).release(anyList());
+	}
+
 	void 시간_고정_셋업(int hour, int minute) {
 		LocalDateTime fixedNow = LocalDateTime.of(2025, 3, 22, hour, minute);
 		lenient().when(clock.instant()).thenReturn(fixedNow.atZone(ZoneId.systemDefault()).toInstant());
@@ -0,0 +1,59 @@
+package com.ice.studyroom.domain.reservation.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.ice.studyroom.domain.reservation.domain.exception.reservation.ReservationConcurrencyException;
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+
+class OptimisticRetryExecutorTest {
+
+	private final OptimisticRetryExecutor executor = new OptimisticRetryExecutor(3, 1, 5);
+
+	@Test
+	@DisplayName("version 충돌 후 재시도에서 성공하면 결과를 반환")
+	void 충돌_후_재시도_성공() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		String result = executor.execute(() -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new ObjectOptimisticLockingFailureException(Schedule.class, 1L);
+			}
+			return "Success";
+		});
+
+		assertThat(result).isEqualTo("Success");
+		assertThat(attempts.get()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수를 넘기면 ReservationConcurrencyException 발생")
+	void 재시도_초과시_예외() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatThrownBy(() -> executor.execute(() -> {
+			attempts.incrementAndGet();
+			throw new ObjectOptimisticLockingFailureException(Schedule.class, 1L);
+		})).isInstanceOf(ReservationConcurrencyException.class);
+
+		assertThat(attempts.get()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("version 충돌이 아닌 예외는 재시도하지 않음")
+	void 비즈니스_예외는_재시도하지_않음() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatThrownBy(() -> executor.execute(() -> {
+			attempts.incrementAndGet();
+			throw new IllegalStateException("정원 초과");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(attempts.get()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,193 @@
+package com.ice.studyroom.domain.reservation.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.ice.studyroom.domain.admin.domain.type.DayOfWeekStatus;
+import com.ice.studyroom.domain.admin.domain.type.RoomType;
+import com.ice.studyroom.domain.reservation.application.OptimisticRetryExecutor;
+import com.ice.studyroom.domain.reservation.application.ReservationConcurrencyService;
+import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
+import com.ice.studyroom.domain.reservation.infrastructure.persistence.ScheduleRepository;
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+import com.ice.studyroom.global.security.jwt.JwtTokenProvider;
+import com.ice.studyroom.global.security.service.TokenService;
+
+/**
+ * PESSIMISTIC 전략 경로(조건부 UPDATE 한 문장)와 낙관적 락(version + 재시도) 경로의 처리량 / p99 지연을 비교하는 부하 하네스.
+ * PESSIMISTIC 전략의 개인 예약은 SELECT ... FOR UPDATE 대신 조건부 UPDATE 로 좌석을 점유하므로 그 경로를 측정한다.
+ * - 낮은 경합: 스레드마다 서로 다른 스케줄을 예약
+ * - 높은 경합: 모든 스레드가 하나의 스케줄을 예약 (용량 = 스레드 수 / 2)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ConcurrencyStrategyLoadTest {
+
+	private static final Logger log = LoggerFactory.getLogger(ConcurrencyStrategyLoadTest.class);
+
+	private static final int THREAD_COUNT = 32;
+
+	@MockitoBean
+	private TokenService tokenService;
+
+	@MockitoBean
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private ReservationConcurrencyService reservationConcurrencyService;
+
+	@Autowired
+	private OptimisticRetryExecutor optimisticRetryExecutor;
+
+	@Autowired
+	private ScheduleRepository scheduleRepository;
+
+	@Test
+	@DisplayName("낮은 경합 - 조건부 UPDATE vs 낙관적 락 처리량 비교")
+	void 낮은_경합_전략_비교() throws InterruptedException {
+		LoadResult conditionalUpdate = runLowContention(
+			reservationConcurrencyService::processIndividualReservationWithLock);
+		LoadResult optimistic = runLowContention(ids -> optimisticRetryExecutor.execute(
+			() -> reservationConcurrencyService.processIndividualReservationOptimistically(ids)));
+
+		conditionalUpdate.log("CONDITIONAL_UPDATE / 낮은 경합");
+		optimistic.log("OPTIMISTIC / 낮은 경합");
+
+		assertThat(conditionalUpdate.requestCount()).isEqualTo(THREAD_COUNT);
+		assertThat(optimistic.requestCount()).isEqualTo(THREAD_COUNT);
+		assertThat(conditionalUpdate.successCount()).isEqualTo(THREAD_COUNT);
+		assertThat(optimistic.successCount()).isEqualTo(THREAD_COUNT);
+	}
+
+	@Test
+	@DisplayName("높은 경합 - 조건부 UPDATE vs 낙관적 락 처리량 비교, 오버부킹 없음")
+	void 높은_경합_전략_비교() throws InterruptedException {
+		int capacity = THREAD_COUNT / 2;
+
+		Schedule conditionalUpdateTarget = scheduleRepository.saveAndFlush(createTestSchedule(capacity));
+		LoadResult conditionalUpdate = runLoad(i -> List.of(conditionalUpdateTarget.getId()),
+			reservationConcurrencyService::processIndividualReservationWithLock);
+
+		Schedule optimisticTarget = scheduleRepository.saveAndFlush(createTestSchedule(capacity));
+		LoadResult optimistic = runLoad(i -> List.of(optimisticTarget.getId()),
+			ids -> optimisticRetryExecutor.execute(
+				() -> reservationConcurrencyService.processIndividualReservationOptimistically(ids)));
+
+		conditionalUpdate.log("CONDITIONAL_UPDATE / 높은 경합");
+		optimistic.log("OPTIMISTIC / 높은 경합");
+
+		assertThat(conditionalUpdate.requestCount()).isEqualTo(THREAD_COUNT);
+		assertThat(optimistic.requestCount()).isEqualTo(THREAD_COUNT);
+		// 조건부 UPDATE 는 충돌 재시도가 없으므로 정원만큼 정확히 성공해야 한다
+		assertThat(scheduleRepository.findById(conditionalUpdateTarget.getId()).get().getCurrentRes())
+			.isEqualTo(conditionalUpdate.successCount())
+			.isEqualTo(capacity);
+		assertThat(scheduleRepository.findById(optimisticTarget.getId()).get().getCurrentRes())
+			.isEqualTo(optimistic.successCount())
+			.isLessThanOrEqualTo(capacity);
+	}
+
+	private LoadResult runLowContention(Function<List<Long>, List<Schedule>> reservation)
+		throws InterruptedException {
+		List<Long> scheduleIds = new ArrayList<>();
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			scheduleIds.add(scheduleRepository.saveAndFlush(createTestSchedule(1)).getId());
+		}
+		return runLoad(i -> List.of(scheduleIds.get(i)), reservation);
+	}
+
+	private LoadResult runLoad(Function<Integer, List<Long>> targetOf,
+		Function<List<Long>, List<Schedule>> reservation) throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+
+		AtomicInteger successCount = new AtomicInteger();
+		List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			final int index = i;
+			executorService.submit(() -> {
+				try {
+					startLatch.await();
+					long start = System.nanoTime();
+					try {
+						reservation.apply(targetOf.apply(index));
+						successCount.incrementAndGet();
+					} catch (Exception ignored) {
+						// 정원 초과 / 재시도 초과는 실패로 집계
+					} finally {
+						latencies.add(System.nanoTime() - start);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					endLatch.countDown();
+				}
+			});
+		}
+
+		long wallStart = System.nanoTime();
+		startLatch.countDown();
+		assertThat(endLatch.await(30, TimeUnit.SECONDS)).isTrue();
+		long wallNanos = System.nanoTime() - wallStart;
+		executorService.shutdown();
+
+		return new LoadResult(successCount.get(), new ArrayList<>(latencies), wallNanos);
+	}
+
+	private Schedule createTestSchedule(int capacity) {
+		return Schedule.builder()
+			.roomType(RoomType.INDIVIDUAL)
+			.scheduleDate(LocalDate.now().plusDays(1))
+			.roomNumber("101")
+			.roomTimeSlotId(1L)
+			.startTime(LocalTime.of(9, 0))
+			.endTime(LocalTime.of(10, 0))
+			.currentRes(0)
+			.capacity(capacity)
+			.minRes(1)
+			.status(ScheduleSlotStatus.AVAILABLE)
+			.dayOfWeek(DayOfWeekStatus.MONDAY)
+			.build();
+	}
+
+	private record LoadResult(int successCount, List<Long> latencyNanos, long wallNanos) {
+
+		int requestCount() {
+			return latencyNanos.size();
+		}
+
+		void log(String label) {
+			List<Long> sorted = latencyNanos.stream().sorted().toList();
+			long p99 = sorted.isEmpty() ? 0 : sorted.get(Math.max((int)Math.ceil(sorted.size() * 0.99) - 1, 0));
+			double throughput = latencyNanos.size() / (wallNanos / 1_000_000_000.0);
+
+			ConcurrencyStrategyLoadTest.log.info("[{}] 성공: {} / 요청: {}, 처리량: {} req/s, p99 지연: {} ms", label,
+				successCount, latencyNanos.size(), String.format("%.1f", throughput),
+				String.format("%.2f", p99 / 1_000_000.0));
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.ice.studyroom.domain.reservation.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ice.studyroom.domain.admin.domain.type.DayOfWeekStatus;
+import com.ice.studyroom.domain.admin.domain.type.RoomType;
+import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ScheduleRepositoryTest {
+
+	private static final LocalDateTime OLD_UPDATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+	@Autowired
+	private ScheduleRepository scheduleRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("좌석 점유 UPDATE 는 좌석 수 / 상태 / version 과 함께 updatedAt 을 갱신")
+	void 좌석_점유시_updatedAt_갱신() {
+		Schedule schedule = saveWithOldUpdatedAt(1, 0);
+
+		int updatedCount = scheduleRepository.increaseCurrentResIfAvailable(List.of(schedule.getId()));
+
+		Schedule updated = scheduleRepository.findById(schedule.getId()).orElseThrow();
+		assertThat(updatedCount).isEqualTo(1);
+		assertThat(updated.getCurrentRes()).isEqualTo(1);
+		assertThat(updated.getStatus()).isEqualTo(ScheduleSlotStatus.RESERVED);
+		assertThat(updated.getVersion()).isEqualTo(schedule.getVersion() + 1);
+		assertThat(updated.getUpdatedAt()).isAfter(OLD_UPDATED_AT);
+	}
+
+	@Test
+	@DisplayName("좌석 반납 UPDATE 후 같은 영속성 컨텍스트에서 다시 읽어도 갱신된 값이 보임")
+	void 좌석_반납후_영속성_컨텍스트_비움() {
+		Schedule schedule = saveWithOldUpdatedAt(1, 1);
+		// 반납 전에 엔티티를 영속성 컨텍스트에 올려 둔다
+		scheduleRepository.findById(schedule.getId()).orElseThrow();
+
+		int updatedCount = scheduleRepository.decreaseCurrentRes(schedule.getId());
+
+		Schedule updated = scheduleRepository.findById(schedule.getId()).orElseThrow();
+		assertThat(updatedCount).isEqualTo(1);
+		assertThat(updated.getCurrentRes()).isZero();
+		assertThat(updated.getStatus()).isEqualTo(ScheduleSlotStatus.AVAILABLE);
+		assertThat(updated.getUpdatedAt()).isAfter(OLD_UPDATED_AT);
+	}
+
+	private Schedule saveWithOldUpdatedAt(int capacity, int currentRes) {
+		Schedule schedule = scheduleRepository.saveAndFlush(Schedule.builder()
+			.roomType(RoomType.INDIVIDUAL)
+			.scheduleDate(LocalDate.now().plusDays(1))
+			.roomNumber("101")
+			.roomTimeSlotId(1L)
+			.startTime(LocalTime.of(9, 0))
+			.endTime(LocalTime.of(10, 0))
+			.currentRes(currentRes)
+			.capacity(capacity)
+			.minRes(1)
+			.status(currentRes >= capacity ? ScheduleSlotStatus.RESERVED : ScheduleSlotStatus.AVAILABLE)
+			.dayOfWeek(DayOfWeekStatus.MONDAY)
+			.build());
+		jdbcTemplate.update("UPDATE schedule SET updated_at = ? WHERE id = ?", OLD_UPDATED_AT, schedule.getId());
+		return schedule;
+	}
+}
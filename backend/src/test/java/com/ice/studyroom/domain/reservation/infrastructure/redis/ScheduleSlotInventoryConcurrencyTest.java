@@ -0,0 +1,168 @@
+package com.ice.studyroom.domain.reservation.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ice.studyroom.domain.reservation.infrastructure.persistence.ScheduleRepository;
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+import com.ice.studyroom.domain.schedule.domain.exception.schedule.ReservationCapacityExceededException;
+
+import redis.embedded.RedisServer;
+
+/**
+ * 실제 Redis(embedded-redis) 위에서 좌석 선별 스크립트가 정원의 10배 동시 요청에도 초과 입장을 허용하지 않는지 검증합니다.
+ */
+class ScheduleSlotInventoryConcurrencyTest {
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+
+	private StringRedisTemplate redisTemplate;
+	private ScheduleRepository scheduleRepository;
+	private ScheduleSlotInventory scheduleSlotInventory;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		scheduleRepository = mock(ScheduleRepository.class);
+		scheduleSlotInventory = new ScheduleSlotInventory(redisTemplate, scheduleRepository, true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+	}
+
+	@Test
+	@DisplayName("정원 10명 스케줄에 100명이 동시에 요청하면 정확히 10명만 선별을 통과")
+	void 정원의_10배_동시_요청() throws InterruptedException {
+		given(scheduleRepository.findAllByIdIn(List.of(1L))).willReturn(List.of(schedule(1L, 10, 0)));
+
+		ConcurrentResult result = acquireConcurrently(100, List.of(1L));
+
+		assertThat(result.acquired()).isEqualTo(10);
+		assertThat(result.rejected()).isEqualTo(90);
+		assertThat(redisTemplate.opsForValue().get("schedule:inventory:1")).isEqualTo("0");
+	}
+
+	@Test
+	@DisplayName("연속 2시간 예약은 두 슬롯 중 잔여 좌석이 적은 쪽만큼만 통과하고, 탈락한 요청은 어느 슬롯도 차감하지 않음")
+	void 연속_슬롯_동시_요청() throws InterruptedException {
+		given(scheduleRepository.findAllByIdIn(List.of(1L, 2L)))
+			.willReturn(List.of(schedule(1L, 10, 0), schedule(2L, 10, 5)));
+
+		ConcurrentResult result = acquireConcurrently(100, List.of(1L, 2L));
+
+		assertThat(result.acquired()).isEqualTo(5);
+		assertThat(result.rejected()).isEqualTo(95);
+		assertThat(redisTemplate.opsForValue().get("schedule:inventory:1")).isEqualTo("5");
+		assertThat(redisTemplate.opsForValue().get("schedule:inventory:2")).isEqualTo("0");
+	}
+
+	@Test
+	@DisplayName("선별 통과 후 DB 단계에서 실패한 요청이 좌석을 복구하면 복구된 만큼만 추가로 통과")
+	void 실패_복구와_동시_요청() throws InterruptedException {
+		given(scheduleRepository.findAllByIdIn(List.of(1L))).willReturn(List.of(schedule(1L, 10, 0)));
+
+		ConcurrentResult first = acquireConcurrently(100, List.of(1L));
+		for (int i = 0; i < 3; i++) {
+			scheduleSlotInventory.release(List.of(1L));
+		}
+		ConcurrentResult second = acquireConcurrently(100, List.of(1L));
+
+		assertThat(first.acquired() + second.acquired()).isEqualTo(13);
+		assertThat(redisTemplate.opsForValue().get("schedule:inventory:1")).isEqualTo("0");
+	}
+
+	@Test
+	@DisplayName("Redis 장애로 차감하지 못하면 false 를 반환해 호출 측이 복구하지 않도록 함")
+	void Redis_장애시_차감하지_않음() {
+		StringRedisTemplate brokenTemplate = new StringRedisTemplate(
+			new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 1)));
+		ReflectionTestUtils.setField(scheduleSlotInventory, "redisTemplate", brokenTemplate);
+
+		assertThat(scheduleSlotInventory.acquire(List.of(1L))).isFalse();
+	}
+
+	private ConcurrentResult acquireConcurrently(int threadCount, List<Long> scheduleIds)
+		throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(32);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch endLatch = new CountDownLatch(threadCount);
+		AtomicInteger acquired = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				try {
+					startLatch.await();
+					if (scheduleSlotInventory.acquire(scheduleIds)) {
+						acquired.incrementAndGet();
+					}
+				} catch (ReservationCapacityExceededException e) {
+					rejected.incrementAndGet();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					endLatch.countDown();
+				}
+			});
+		}
+
+		startLatch.countDown();
+		assertThat(endLatch.await(30, TimeUnit.SECONDS)).isTrue();
+		executorService.shutdown();
+		return new ConcurrentResult(acquired.get(), rejected.get());
+	}
+
+	private Schedule schedule(Long id, int capacity, int currentRes) {
+		return Schedule.builder()
+			.id(id)
+			.capacity(capacity)
+			.currentRes(currentRes)
+			.build();
+	}
+
+	private record ConcurrentResult(int acquired, int rejected) {
+	}
+}
@@ -0,0 +1,174 @@
+package com.ice.studyroom.domain.reservation.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ice.studyroom.domain.admin.domain.type.DayOfWeekStatus;
+import com.ice.studyroom.domain.admin.domain.type.RoomType;
+import com.ice.studyroom.domain.membership.domain.service.MemberDomainService;
+import com.ice.studyroom.domain.reservation.application.email.ReservationEmailComposer;
+import com.ice.studyroom.domain.reservation.application.email.ReservationEmailOutboxService;
+import com.ice.studyroom.domain.reservation.domain.entity.ReservationEmailOutbox;
+import com.ice.studyroom.domain.reservation.domain.type.EmailOutboxStatus;
+import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
+import com.ice.studyroom.domain.reservation.infrastructure.persistence.ReservationEmailOutboxRepository;
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+import com.ice.studyroom.global.dto.request.EmailRequest;
+import com.ice.studyroom.global.service.EmailService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * outbox 적재 → 선점 → 묶음 발송 → 결과 기록 흐름을 H2 위에서 검증합니다.
+ * 선점 / 결과 기록이 REQUIRES_NEW 로 동작하므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@DataJpaTest(properties = "reservation.email.outbox.max-attempts=2")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReservationEmailOutboxService.class, ReservationEmailComposer.class, ReservationEmailOutboxRelay.class,
+	ReservationEmailOutboxRelayTest.Config.class})
+class ReservationEmailOutboxRelayTest {
+
+	private static final String OWNER = "owner@hufs.ac.kr";
+	private static final Set<String> GROUP_MEMBERS = Set.of(OWNER, "p1@hufs.ac.kr", "p2@hufs.ac.kr");
+
+	@Autowired
+	private ReservationEmailOutboxService outboxService;
+
+	@Autowired
+	private ReservationEmailOutboxRelay relay;
+
+	@Autowired
+	private ReservationEmailOutboxRepository outboxRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@MockitoBean
+	private EmailService emailService;
+
+	@MockitoBean
+	private MemberDomainService memberDomainService;
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		Clock clock() {
+			return Clock.systemDefaultZone();
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		outboxRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("단체 예약 확정 메일은 수신자별 outbox 로 적재되고 한 번의 묶음 발송으로 처리")
+	void 단체_예약_메일_묶음_발송() {
+		given(emailService.sendEmails(anyList())).willReturn(Map.of());
+		double sentBefore = meterRegistry.counter("reservation.email.outbox.sent").count();
+
+		outboxService.enqueue(RoomType.GROUP, OWNER, GROUP_MEMBERS, List.of(createSchedule()));
+		relay.relay();
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<EmailRequest>> captor = ArgumentCaptor.forClass(List.class);
+		verify(emailService, times(1)).sendEmails(captor.capture());
+		assertThat(captor.getValue()).extracting(EmailRequest::getTo).containsExactlyInAnyOrderElementsOf(GROUP_MEMBERS);
+		verify(memberDomainService, times(1)).getMembersByEmail(anyList());
+
+		assertThat(outboxRepository.findAll()).extracting(ReservationEmailOutbox::getStatus)
+			.containsOnly(EmailOutboxStatus.SENT);
+		assertThat(meterRegistry.counter("reservation.email.outbox.sent").count() - sentBefore).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("발송 실패한 메일만 backoff 이후 재시도, 최대 횟수 초과 시 FAILED")
+	void 실패한_메일만_재시도() {
+		given(emailService.sendEmails(anyList())).willAnswer(invocation -> {
+			List<EmailRequest> requests = invocation.getArgument(0);
+			return requests.stream()
+				.filter(request -> request.getTo().equals("p1@hufs.ac.kr"))
+				.collect(Collectors.toMap(request -> request, request -> new IllegalStateException("smtp")));
+		});
+		double retryBefore = meterRegistry.counter("reservation.email.outbox.retry").count();
+
+		outboxService.enqueue(RoomType.GROUP, OWNER, GROUP_MEMBERS, List.of(createSchedule()));
+		relay.relay();
+
+		ReservationEmailOutbox failed = outboxRepository.findAll().stream()
+			.filter(outbox -> outbox.getRecipientEmail().equals("p1@hufs.ac.kr"))
+			.findFirst().orElseThrow();
+		assertThat(failed.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+		assertThat(failed.getAttempts()).isEqualTo(1);
+		assertThat(failed.getLastError()).isEqualTo("smtp");
+		assertThat(meterRegistry.counter("reservation.email.outbox.retry").count() - retryBefore).isEqualTo(1);
+
+		// backoff 이전에는 다시 선점되지 않는다
+		relay.relay();
+		verify(emailService, times(1)).sendEmails(anyList());
+
+		// 두 번째 실패에서 최대 시도 횟수(2) 도달
+		failed.markFailed("smtp", failed.getNextAttemptAt().minusDays(1), Duration.ZERO, 2);
+		outboxRepository.save(failed);
+		assertThat(outboxRepository.findById(failed.getId()).orElseThrow().getStatus())
+			.isEqualTo(EmailOutboxStatus.FAILED);
+	}
+
+	@Test
+	@DisplayName("개인 예약은 예약자에게만 적재")
+	void 개인_예약은_예약자에게만() {
+		outboxService.enqueue(RoomType.INDIVIDUAL, OWNER, Set.of(), List.of(createSchedule()));
+
+		assertThat(outboxRepository.findAll()).extracting(ReservationEmailOutbox::getRecipientEmail)
+			.containsExactly(OWNER);
+	}
+
+	private Schedule createSchedule() {
+		return Schedule.builder()
+			.id(1L)
+			.roomType(RoomType.GROUP)
+			.scheduleDate(LocalDate.of(2025, 3, 3))
+			.roomNumber("305-1")
+			.roomTimeSlotId(1L)
+			.startTime(LocalTime.of(9, 0))
+			.endTime(LocalTime.of(10, 0))
+			.currentRes(3)
+			.capacity(6)
+			.minRes(3)
+			.status(ScheduleSlotStatus.AVAILABLE)
+			.dayOfWeek(DayOfWeekStatus.MONDAY)
+			.build();
+	}
+}
@@ -0,0 +1,155 @@
+package com.ice.studyroom.domain.schedule.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
+import com.ice.studyroom.domain.schedule.application.dto.ScheduleSlotDelta;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleSlotStreamServiceTest {
+
+	private static final int QUEUE_CAPACITY = 3;
+
+	@Mock
+	private TodayScheduleBoard todayScheduleBoard;
+
+	private ThreadPoolTaskExecutor executor;
+	private ScheduleSlotStreamService streamService;
+
+	@BeforeEach
+	void setUp() {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(2);
+		executor.initialize();
+		streamService = new ScheduleSlotStreamService(todayScheduleBoard, executor, 60_000L, 10, QUEUE_CAPACITY);
+		given(todayScheduleBoard.getBoard()).willReturn(new TodayScheduleBoard.Board(List.of(), "etag"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("느린 연결의 전송이 막혀 있어도 다른 연결에는 변경분이 전달되고 broadcast 호출은 막히지 않음")
+	void 느린_연결이_다른_연결을_막지_않음() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		BlockingEmitter slow = new BlockingEmitter(release);
+		RecordingEmitter fast = new RecordingEmitter(2);
+		streamService.register(slow);
+		streamService.register(fast);
+
+		long start = System.nanoTime();
+		streamService.broadcast(List.of(delta(1L)));
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// snapshot + slot-delta
+		assertThat(fast.received.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(elapsedMillis).isLessThan(1_000);
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("연결별 큐가 가득 차면 해당 연결만 종료하고 구독에서 제거")
+	void 큐가_가득_찬_느린_연결_종료() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		BlockingEmitter slow = new BlockingEmitter(release);
+		RecordingEmitter fast = new RecordingEmitter(0);
+		streamService.register(slow);
+		streamService.register(fast);
+		// snapshot 전송에서 막힐 때까지 대기
+		assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+		for (long id = 1; id <= QUEUE_CAPACITY + 1; id++) {
+			streamService.broadcast(List.of(delta(id)));
+			awaitEvents(fast, (int)id + 1);
+		}
+
+		assertThat(streamService.connectionCount()).isEqualTo(1);
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("한 연결의 이벤트는 보낸 순서대로 전달")
+	void 연결별_전송_순서_유지() throws InterruptedException {
+		RecordingEmitter emitter = new RecordingEmitter(QUEUE_CAPACITY);
+		streamService.register(emitter);
+
+		for (int i = 0; i < QUEUE_CAPACITY - 1; i++) {
+			streamService.heartbeat();
+		}
+
+		assertThat(emitter.received.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(emitter.events).hasSize(QUEUE_CAPACITY);
+		assertThat(emitter.events.get(0).build().iterator().next().getData().toString())
+			.contains("event:" + ScheduleSlotStreamService.SNAPSHOT_EVENT);
+	}
+
+	private void awaitEvents(RecordingEmitter emitter, int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (emitter.events.size() < count && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(emitter.events).hasSize(count);
+	}
+
+	private ScheduleSlotDelta delta(Long scheduleId) {
+		return new ScheduleSlotDelta(scheduleId, LocalDate.of(2025, 3, 3), 0, ScheduleSlotStatus.AVAILABLE, true, 1L,
+			LocalDateTime.of(2025, 3, 3, 9, 0));
+	}
+
+	private static class RecordingEmitter extends SseEmitter {
+
+		private final List<SseEventBuilder> events = new CopyOnWriteArrayList<>();
+		private final CountDownLatch received;
+
+		RecordingEmitter(int expectedEvents) {
+			this.received = new CountDownLatch(expectedEvents);
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			events.add(builder);
+			received.countDown();
+		}
+	}
+
+	private static class BlockingEmitter extends SseEmitter {
+
+		private final CountDownLatch release;
+		private final CountDownLatch sending = new CountDownLatch(1);
+
+		BlockingEmitter(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			sending.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
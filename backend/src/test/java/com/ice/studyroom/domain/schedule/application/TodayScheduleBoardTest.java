@@ -0,0 +1,110 @@
+package com.ice.studyroom.domain.schedule.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ice.studyroom.domain.admin.domain.type.DayOfWeekStatus;
+import com.ice.studyroom.domain.admin.domain.type.RoomType;
+import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
+import com.ice.studyroom.domain.reservation.infrastructure.persistence.ScheduleRepository;
+import com.ice.studyroom.domain.schedule.application.dto.ScheduleSlotDelta;
+import com.ice.studyroom.domain.schedule.domain.entity.Schedule;
+
+@ExtendWith(MockitoExtension.class)
+class TodayScheduleBoardTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 3, 3);
+
+	@Mock
+	private ScheduleRepository scheduleRepository;
+
+	private TodayScheduleBoard todayScheduleBoard;
+
+	@BeforeEach
+	void setUp() {
+		Clock clock = Clock.fixed(TODAY.atStartOfDay(ZoneId.of("Asia/Seoul")).toInstant(), ZoneId.of("Asia/Seoul"));
+		todayScheduleBoard = new TodayScheduleBoard(scheduleRepository, clock);
+
+		given(scheduleRepository.findByScheduleDate(TODAY))
+			.willReturn(List.of(createSchedule(1L, 0, 0), createSchedule(2L, 0, 0)));
+		todayScheduleBoard.rebuild();
+	}
+
+	@Test
+	@DisplayName("재구성 이후 조회는 스냅샷만 읽는다")
+	void 조회시_DB_접근_없음() {
+		TodayScheduleBoard.Board board = todayScheduleBoard.getBoard();
+		todayScheduleBoard.getBoard();
+
+		assertThat(board.schedules()).extracting("id").containsExactly(1L, 2L);
+		verify(scheduleRepository, times(1)).findByScheduleDate(TODAY);
+	}
+
+	@Test
+	@DisplayName("좌석 변경분은 해당 스케줄만 패치하고 ETag 를 바꾼다")
+	void 변경된_스케줄만_패치() {
+		String previousEtag = todayScheduleBoard.getBoard().etag();
+
+		todayScheduleBoard.apply(List.of(ScheduleSlotDelta.from(createSchedule(1L, 1, 1))));
+
+		TodayScheduleBoard.Board board = todayScheduleBoard.getBoard();
+		assertThat(board.etag()).isNotEqualTo(previousEtag);
+		assertThat(board.schedules().get(0).currentRes()).isEqualTo(1);
+		assertThat(board.schedules().get(0).available()).isFalse();
+		assertThat(board.schedules().get(0).currentResLessThanCapacity()).isFalse();
+		assertThat(board.schedules().get(1).currentRes()).isZero();
+		assertThat(board.schedules().get(1).currentResLessThanCapacity()).isTrue();
+	}
+
+	@Test
+	@DisplayName("version 이 더 낮은 늦은 패치는 무시")
+	void 오래된_패치_무시() {
+		todayScheduleBoard.apply(List.of(ScheduleSlotDelta.from(createSchedule(1L, 1, 2))));
+		String etag = todayScheduleBoard.getBoard().etag();
+		todayScheduleBoard.apply(List.of(ScheduleSlotDelta.from(createSchedule(1L, 0, 1))));
+
+		assertThat(todayScheduleBoard.getBoard().etag()).isEqualTo(etag);
+		assertThat(todayScheduleBoard.getBoard().schedules().get(0).currentRes()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("내용이 같으면 재구성 후에도 ETag 가 유지된다")
+	void 재구성_후_ETag_유지() {
+		String etag = todayScheduleBoard.getBoard().etag();
+
+		todayScheduleBoard.rebuild();
+
+		assertThat(todayScheduleBoard.getBoard().etag()).isEqualTo(etag);
+	}
+
+	private Schedule createSchedule(Long id, int currentRes, long version) {
+		return Schedule.builder()
+			.id(id)
+			.roomType(RoomType.INDIVIDUAL)
+			.scheduleDate(TODAY)
+			.roomNumber("409-1")
+			.roomTimeSlotId(id)
+			.startTime(LocalTime.of(9, 0))
+			.endTime(LocalTime.of(10, 0))
+			.currentRes(currentRes)
+			.capacity(1)
+			.minRes(1)
+			.status(currentRes >= 1 ? ScheduleSlotStatus.RESERVED : ScheduleSlotStatus.AVAILABLE)
+			.dayOfWeek(DayOfWeekStatus.MONDAY)
+			.version(version)
+			.build();
+	}
+}
@@ -0,0 +1,72 @@
+package com.ice.studyroom.domain.schedule.domain.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.ice.studyroom.domain.reservation.domain.exception.reservation.ReservationScheduleNotFoundException;
+import com.ice.studyroom.domain.reservation.infrastructure.kafka.VacancyNotificationProducer;
+import com.ice.studyroom.domain.reservation.infrastructure.persistence.ScheduleRepository;
+import com.ice.studyroom.domain.schedule.domain.event.ScheduleSeatReleasedEvent;
+import com.ice.studyroom.domain.schedule.domain.event.ScheduleSlotChangedEvent;
+import com.ice.studyroom.domain.schedule.domain.exception.schedule.CancellationNotAllowedException;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleCancellerTest {
+
+	@InjectMocks
+	private ScheduleCanceller scheduleCanceller;
+	@Mock
+	private ScheduleRepository scheduleRepository;
+	@Mock
+	private VacancyNotificationProducer vacancyNotificationProducer;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	@DisplayName("연속 2시간 예약 취소 시 두 스케줄 모두 조건부 UPDATE 로 좌석 반납")
+	void 두_스케줄_모두_반납() {
+		given(scheduleRepository.decreaseCurrentRes(anyLong())).willReturn(1);
+
+		scheduleCanceller.cancelAssociatedSchedules(1L, 100L, Optional.of(101L));
+
+		verify(scheduleRepository).decreaseCurrentRes(100L);
+		verify(scheduleRepository).decreaseCurrentRes(101L);
+		verify(scheduleRepository, never()).findById(anyLong());
+		verify(eventPublisher).publishEvent(ScheduleSeatReleasedEvent.of(100L));
+		verify(eventPublisher).publishEvent(ScheduleSeatReleasedEvent.of(101L));
+		verify(eventPublisher).publishEvent(ScheduleSlotChangedEvent.of(100L));
+		verify(eventPublisher).publishEvent(ScheduleSlotChangedEvent.of(101L));
+	}
+
+	@Test
+	@DisplayName("갱신된 행이 없고 스케줄도 없으면 ReservationScheduleNotFoundException")
+	void 존재하지_않는_스케줄() {
+		given(scheduleRepository.decreaseCurrentRes(100L)).willReturn(0);
+		given(scheduleRepository.existsById(100L)).willReturn(false);
+
+		assertThatThrownBy(() -> scheduleCanceller.cancelAssociatedSchedules(1L, 100L, Optional.empty()))
+			.isInstanceOf(ReservationScheduleNotFoundException.class);
+
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@DisplayName("갱신된 행이 없고 스케줄은 존재하면 취소할 예약이 없는 것으로 판단")
+	void 반납할_좌석_없음() {
+		given(scheduleRepository.decreaseCurrentRes(100L)).willReturn(0);
+		given(scheduleRepository.existsById(100L)).willReturn(true);
+
+		assertThatThrownBy(() -> scheduleCanceller.cancelAssociatedSchedules(1L, 100L, Optional.empty()))
+			.isInstanceOf(CancellationNotAllowedException.class);
+	}
+}
@@ -0,0 +1,79 @@
+package com.ice.studyroom.domain.schedule.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ice.studyroom.domain.reservation.domain.type.ScheduleSlotStatus;
+import com.ice.studyroom.domain.schedule.application.ScheduleSlotStreamService;
+import com.ice.studyroom.domain.schedule.application.TodayScheduleBoard;
+import com.ice.studyroom.domain.schedule.application.dto.ScheduleSlotDelta;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleSlotDeltaChannelTest {
+
+	private static final String TOPIC = "schedule:slot-delta";
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+	@Mock
+	private TodayScheduleBoard todayScheduleBoard;
+	@Mock
+	private ScheduleSlotStreamService scheduleSlotStreamService;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private ScheduleSlotDeltaChannel channel;
+
+	private final List<ScheduleSlotDelta> deltas = List.of(new ScheduleSlotDelta(
+		1L, LocalDate.of(2025, 3, 3), 1, ScheduleSlotStatus.RESERVED, false, 3L, LocalDateTime.of(2025, 3, 3, 9, 0)));
+
+	@BeforeEach
+	void setUp() {
+		channel = new ScheduleSlotDeltaChannel(redisTemplate, listenerContainer, objectMapper, todayScheduleBoard,
+			scheduleSlotStreamService);
+	}
+
+	@Test
+	@DisplayName("다른 서버가 발행한 변경분은 현황판과 SSE 구독자에 반영")
+	void 다른_서버_변경분_반영() throws Exception {
+		String payload = objectMapper.writeValueAsString(
+			new ScheduleSlotDeltaChannel.DeltaMessage("other-node", deltas));
+
+		channel.onMessage(new DefaultMessage(TOPIC.getBytes(), payload.getBytes(StandardCharsets.UTF_8)), null);
+
+		verify(todayScheduleBoard).apply(deltas);
+		verify(scheduleSlotStreamService).broadcast(deltas);
+	}
+
+	@Test
+	@DisplayName("자신이 발행한 변경분은 이미 로컬에 반영했으므로 무시")
+	void 자기_발행_메시지_무시() {
+		ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+		channel.publish(deltas);
+		verify(redisTemplate).convertAndSend(eq(TOPIC), payload.capture());
+
+		channel.onMessage(new DefaultMessage(TOPIC.getBytes(), payload.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+		verifyNoInteractions(todayScheduleBoard, scheduleSlotStreamService);
+		assertThat(payload.getValue()).contains("\"scheduleId\":1");
+	}
+}
@@ -0,0 +1,66 @@
+package com.ice.studyroom.domain.texttosql.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class EmbeddingCacheTest {
+
+	@Test
+	@DisplayName("대소문자와 공백만 다른 질문은 같은 키로 정규화된다")
+	void 텍스트_정규화() {
+
+		assertThat(EmbeddingCache.normalize("  오늘 예약한   Member 목록\n"))
+			.isEqualTo(EmbeddingCache.normalize("오늘 예약한 member 목록"));
+	}
+
+	@Test
+	@DisplayName("TTL 이 지나면 캐시된 임베딩을 반환하지 않는다")
+	void TTL_만료() {
+
+		Clock clock = mock(Clock.class);
+		when(clock.millis()).thenReturn(1_000L);
+		EmbeddingCache cache = new EmbeddingCache(clock, 500, 100);
+		cache.put("예약", new float[] {1f, 2f});
+
+		assertThat(cache.get("예약")).containsExactly(1f, 2f);
+
+		when(clock.millis()).thenReturn(1_500L);
+		assertThat(cache.get("예약")).isNull();
+	}
+
+	@Test
+	@DisplayName("반환된 배열을 바꿔도 캐시된 값은 바뀌지 않는다")
+	void 복사본_반환() {
+
+		EmbeddingCache cache = new EmbeddingCache(Clock.fixed(Instant.EPOCH, ZoneId.of("UTC")), 60_000, 100);
+		cache.put("예약", new float[] {1f, 2f});
+
+		cache.get("예약")[0] = 99f;
+
+		assertThat(cache.get("예약")).containsExactly(1f, 2f);
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 가장 오래 조회하지 않은 텍스트만 지운다")
+	void 최대_크기() {
+
+		EmbeddingCache cache = new EmbeddingCache(Clock.fixed(Instant.EPOCH, ZoneId.of("UTC")), 60_000, 2);
+		cache.put("a", new float[] {1f});
+		cache.put("b", new float[] {2f});
+		cache.get("a");
+
+		cache.put("c", new float[] {3f});
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("a")).containsExactly(1f);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("c")).containsExactly(3f);
+	}
+}
@@ -0,0 +1,94 @@
+package com.ice.studyroom.domain.texttosql.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class QueryCacheServiceTest {
+
+	private static final String INDEX_KEY = "text2sql-index:keys";
+	private static final long NOW = 1_000_000L;
+
+	private RedisTemplate<String, String> redisTemplate;
+	private ValueOperations<String, String> valueOperations;
+	private ZSetOperations<String, String> zSetOperations;
+
+	private QueryCacheService service;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		zSetOperations = mock(ZSetOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+		Clock clock = mock(Clock.class);
+		when(clock.millis()).thenReturn(NOW);
+
+		service = new QueryCacheService(redisTemplate, new ObjectMapper(), clock);
+	}
+
+	@Test
+	@DisplayName("저장한 키를 만료 시각과 함께 목록에 기록하고, 만료된 키는 목록에서 정리한다")
+	void 저장시_목록_기록() {
+
+		service.put("오늘  예약 수", new TextToSqlService.QueryResult("SELECT 1", List.of(Map.of("c", 1)), 10L, 1));
+
+		verify(valueOperations).set(eq("text2sql:오늘 예약 수"), anyString(), eq(Duration.ofMinutes(30)));
+		verify(zSetOperations).add(INDEX_KEY, "text2sql:오늘 예약 수", NOW + Duration.ofMinutes(30).toMillis());
+		verify(zSetOperations).removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, NOW);
+	}
+
+	@Test
+	@DisplayName("전체 삭제는 키 목록을 500개씩 나눠 UNLINK 하고 KEYS 를 사용하지 않는다")
+	void 전체_삭제_청크() {
+
+		Set<String> first = keys(0, 500);
+		Set<String> second = keys(500, 700);
+		when(zSetOperations.range(INDEX_KEY, 0, 499)).thenReturn(first, second, Set.of());
+
+		service.evictAll();
+
+		verify(redisTemplate).unlink(first);
+		verify(redisTemplate).unlink(second);
+		verify(zSetOperations, times(2)).remove(eq(INDEX_KEY), any(Object[].class));
+		verify(redisTemplate, never()).keys(anyString());
+	}
+
+	@Test
+	@DisplayName("통계는 목록에서 만료되지 않은 키 수만 센다")
+	void 통계_조회() {
+
+		when(zSetOperations.count(INDEX_KEY, NOW, Double.POSITIVE_INFINITY)).thenReturn(42L);
+
+		QueryCacheService.CacheStats stats = service.getStats();
+
+		assertThat(stats.cachedQueries()).isEqualTo(42);
+		verify(redisTemplate, never()).keys(anyString());
+	}
+
+	private Set<String> keys(int from, int to) {
+		return IntStream.range(from, to)
+			.mapToObj(i -> "text2sql:question-" + i)
+			.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+}
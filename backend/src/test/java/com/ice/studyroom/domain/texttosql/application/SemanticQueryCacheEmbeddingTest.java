@@ -0,0 +1,84 @@
+package com.ice.studyroom.domain.texttosql.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 실제 임베딩 모델(all-MiniLM-L6-v2)과 운영 임계값으로 한국어 질문 쌍의 재사용 여부를 확인합니다.
+ * 모델을 내려받을 수 없는 환경(네트워크 차단)에서는 건너뜁니다.
+ */
+class SemanticQueryCacheEmbeddingTest {
+
+	private static final double THRESHOLD = 0.93;
+	private static final String SQL = "SELECT 1";
+
+	private static LocalEmbeddingService embeddingService;
+	private static boolean modelLoaded;
+
+	private SemanticQueryCache cache;
+
+	@BeforeAll
+	static void loadModel() {
+		embeddingService = new LocalEmbeddingService(new EmbeddingCache(Clock.systemUTC(), 3600000L, 1000), 1, 60000L);
+		try {
+			embeddingService.initialize();
+			modelLoaded = true;
+		} catch (RuntimeException e) {
+			modelLoaded = false;
+		}
+	}
+
+	@AfterAll
+	static void closeModel() {
+		if (modelLoaded) {
+			embeddingService.cleanup();
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		assumeTrue(modelLoaded, "임베딩 모델을 불러올 수 없어 건너뜀");
+		cache = new SemanticQueryCache(Clock.systemUTC(), new SimpleMeterRegistry(), true, THRESHOLD, 60_000, 100);
+	}
+
+	@ParameterizedTest
+	@DisplayName("조사 / 요청 표현 / 서술어만 다른 질문은 SQL 을 재사용한다")
+	@CsvSource({
+		"오늘 예약 수 알려줘, 오늘 예약 수는?",
+		"오늘 예약 수, 오늘 예약 몇 개야",
+		"이번 주 노쇼 회원 보여줘, 이번 주에 노쇼 회원 좀 알려줘",
+		"회의실 예약 현황, 회의실의 예약 현황을 보여주세요"
+	})
+	void 같은_질문_재사용(String cached, String question) {
+
+		cache.put(cached, embeddingService.embed(cached), SQL);
+
+		assertThat(cache.findSimilar(question, embeddingService.embed(question))).contains(SQL);
+	}
+
+	@ParameterizedTest
+	@DisplayName("기간 / 대상 / 방 / 회원 / 상태가 다른 질문은 SQL 을 재사용하지 않는다")
+	@CsvSource({
+		"이번 주 예약 수, 이번 달 예약 수",
+		"오늘 예약 수, 오늘 취소 수",
+		"세미나실 예약 현황, 회의실 예약 현황",
+		"김철수 예약 내역, 이영희 예약 내역",
+		"완료된 예약 목록, 취소된 예약 목록"
+	})
+	void 다른_질문_미사용(String cached, String question) {
+
+		cache.put(cached, embeddingService.embed(cached), SQL);
+
+		assertThat(cache.findSimilar(question, embeddingService.embed(question))).isEmpty();
+	}
+}
@@ -0,0 +1,140 @@
+package com.ice.studyroom.domain.texttosql.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SemanticQueryCacheTest {
+
+	private static final String SQL = "SELECT COUNT(*) FROM reservation WHERE schedule_date = CURDATE() LIMIT 100";
+
+	private Clock clock;
+	private SemanticQueryCache cache;
+
+	@BeforeEach
+	void setUp() {
+		clock = mock(Clock.class);
+		when(clock.millis()).thenReturn(1_000L);
+		cache = new SemanticQueryCache(clock, new SimpleMeterRegistry(), true, 0.9, 60_000, 2);
+	}
+
+	@Test
+	@DisplayName("유사도가 임계값 이상인 질문은 저장된 SQL 을 재사용한다")
+	void 유사_질문_재사용() {
+
+		cache.put("오늘 예약 수 알려줘", new float[] {1f, 0.1f, 0f}, SQL);
+
+		assertThat(cache.findSimilar("오늘 예약 수는 좀 보여줘", new float[] {2f, 0.3f, 0f})).contains(SQL);
+	}
+
+	@Test
+	@DisplayName("유사도가 임계값보다 낮으면 재사용하지 않는다")
+	void 임계값_미만() {
+
+		cache.put("오늘 예약 수", new float[] {1f, 0f, 0f}, SQL);
+
+		assertThat(cache.findSimilar("오늘 예약 수", new float[] {1f, 1f, 0f})).isEmpty();
+	}
+
+	@Test
+	@DisplayName("숫자나 상대 날짜 표현이 다르면 유사도가 높아도 재사용하지 않는다")
+	void 조건_다르면_미사용() {
+
+		cache.put("오늘 예약 수", new float[] {1f, 0f, 0f}, SQL);
+		cache.put("3월 예약 수", new float[] {0f, 1f, 0f}, "SELECT 3");
+
+		assertThat(cache.findSimilar("어제 예약 수", new float[] {1f, 0f, 0f})).isEmpty();
+		assertThat(cache.findSimilar("4월 예약 수", new float[] {0f, 1f, 0f})).isEmpty();
+	}
+
+	@Test
+	@DisplayName("기간 / 대상 / 이름 단어가 하나라도 다르면 유사도가 같아도 재사용하지 않는다")
+	void 단어_다르면_미사용() {
+
+		float[] embedding = {1f, 0f, 0f};
+		cache.put("이번 주 예약 수", embedding, SQL);
+
+		assertThat(cache.findSimilar("이번 달 예약 수", embedding)).isEmpty();
+		assertThat(cache.findSimilar("이번 주 취소 수", embedding)).isEmpty();
+		assertThat(cache.findSimilar("이번 주 세미나실 예약 수", embedding)).isEmpty();
+		assertThat(cache.findSimilar("이번 주에 예약 수를 알려줘", embedding)).contains(SQL);
+	}
+
+	@Test
+	@DisplayName("조건이 같고 표현만 다른 질문은 유사도로 재사용하고, 기간이 다르면 재사용하지 않는다")
+	void 표현만_다른_질문_재사용() {
+
+		cache.put("오늘 예약 수", new float[] {1f, 0.1f, 0f}, SQL);
+		cache.put("이번 주 예약 수", new float[] {0f, 1f, 0.1f}, "SELECT 7");
+
+		assertThat(cache.findSimilar("오늘 예약 몇 개야", new float[] {1f, 0.2f, 0f})).contains(SQL);
+		assertThat(cache.findSimilar("오늘 예약 몇 건 있어?", new float[] {1f, 0.2f, 0f})).contains(SQL);
+		assertThat(cache.findSimilar("이번 주 예약 몇 개야", new float[] {0f, 1f, 0.2f})).contains("SELECT 7");
+		assertThat(cache.findSimilar("이번 달 예약 몇 개야", new float[] {0f, 1f, 0.2f})).isEmpty();
+	}
+
+	@Test
+	@DisplayName("조사 / 요청 표현 / 서술어를 빼고 동의어를 모은 조건 단어만 비교한다")
+	void 조건_단어_추출() {
+
+		assertThat(SemanticQueryCache.conditionsOf("오늘 예약 수")).isEqualTo("#count,예약,오늘");
+		assertThat(SemanticQueryCache.conditionsOf("오늘 예약 몇 개야"))
+			.isEqualTo(SemanticQueryCache.conditionsOf("오늘 예약 수는 몇 건이야?"))
+			.isEqualTo(SemanticQueryCache.conditionsOf("오늘 예약 개수 알려줘"));
+		assertThat(SemanticQueryCache.conditionsOf("이번 주에 회의실을 예약한 학생 좀 보여줘"))
+			.isEqualTo(SemanticQueryCache.conditionsOf("회의실 이번 주 예약한 회원은?"));
+		assertThat(SemanticQueryCache.conditionsOf("김철수 예약 내역"))
+			.isNotEqualTo(SemanticQueryCache.conditionsOf("이영희 예약 내역"));
+		assertThat(SemanticQueryCache.conditionsOf("완료된 예약 목록"))
+			.isNotEqualTo(SemanticQueryCache.conditionsOf("취소된 예약 목록"));
+		assertThat(SemanticQueryCache.conditionsOf("오늘 예약 목록"))
+			.isNotEqualTo(SemanticQueryCache.conditionsOf("오늘 예약 수"));
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 가장 오래 쓰지 않은 질문만 지운다")
+	void 오래된_질문만_제거() {
+
+		cache.put("오늘 예약 수", new float[] {1f, 0f, 0f}, SQL);
+		cache.put("오늘 취소 수", new float[] {0f, 1f, 0f}, "SELECT 1");
+		assertThat(cache.findSimilar("오늘 예약 수 알려줘", new float[] {1f, 0f, 0f})).contains(SQL);
+
+		cache.put("오늘 노쇼 수", new float[] {0f, 0f, 1f}, "SELECT 2");
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.findSimilar("오늘 예약 수 알려줘", new float[] {1f, 0f, 0f})).contains(SQL);
+		assertThat(cache.findSimilar("오늘 취소 수 알려줘", new float[] {0f, 1f, 0f})).isEmpty();
+	}
+
+	@Test
+	@DisplayName("꺼져 있으면 저장하지도 재사용하지도 않는다")
+	void 비활성화() {
+
+		SemanticQueryCache disabled = new SemanticQueryCache(clock, new SimpleMeterRegistry(), false, 0.9, 60_000, 2);
+		disabled.put("오늘 예약 수", new float[] {1f, 0f, 0f}, SQL);
+
+		assertThat(disabled.isEnabled()).isFalse();
+		assertThat(disabled.size()).isZero();
+		assertThat(disabled.findSimilar("오늘 예약 수", new float[] {1f, 0f, 0f})).isEmpty();
+	}
+
+	@Test
+	@DisplayName("TTL 이 지났거나 실행에 실패해 지운 SQL 은 재사용하지 않는다")
+	void 만료_및_삭제() {
+
+		cache.put("오늘 예약 수", new float[] {1f, 0f, 0f}, SQL);
+		cache.put("오늘 취소 수", new float[] {0f, 1f, 0f}, "SELECT 1");
+
+		cache.evictSql(SQL);
+		assertThat(cache.findSimilar("오늘 예약 수 알려줘", new float[] {1f, 0f, 0f})).isEmpty();
+
+		when(clock.millis()).thenReturn(61_000L);
+		assertThat(cache.findSimilar("오늘 취소 수 알려줘", new float[] {0f, 1f, 0f})).isEmpty();
+	}
+}
@@ -0,0 +1,88 @@
+package com.ice.studyroom.domain.texttosql.application;
+
+import com.ice.studyroom.domain.texttosql.domain.entity.TableMetadata;
+import com.ice.studyroom.domain.texttosql.infrastructure.redis.RedisVectorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+class TableVectorIndexTest {
+
+	private RedisVectorRepository redisVectorRepository;
+
+	@BeforeEach
+	void setUp() {
+		redisVectorRepository = mock(RedisVectorRepository.class);
+		when(redisVectorRepository.getVersion()).thenReturn(1L);
+		when(redisVectorRepository.findAll()).thenReturn(List.of(
+			table("reservation", new float[] {3f, 0f, 0f}, List.of("member")),
+			table("member", new float[] {0f, 2f, 0f}, List.of("penalty")),
+			table("penalty", new float[] {1f, 1f, 0f}, null)
+		));
+	}
+
+	@Test
+	@DisplayName("코사인 유사도가 높은 순으로 topK 개의 테이블과 관련 테이블을 반환한다")
+	void 유사도_TopK() {
+
+		TableVectorIndex index = new TableVectorIndex(redisVectorRepository, 60_000);
+
+		// 크기가 달라도 방향만 비교한다
+		List<TableVectorIndex.TableMatch> matches = index.search(new float[] {10f, 1f, 0f}, 2);
+
+		assertThat(matches).extracting(TableVectorIndex.TableMatch::tableName)
+			.containsExactly("reservation", "penalty");
+		assertThat(matches.get(0).similarity()).isCloseTo(10 / Math.sqrt(101), within(1e-6));
+		assertThat(matches.get(0).relatedTables()).containsExactly("member");
+		assertThat(matches.get(1).relatedTables()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("버전이 그대로면 다시 적재하지 않고, 버전이 바뀌면 다시 적재한다")
+	void 버전_변경시_재적재() {
+
+		TableVectorIndex index = new TableVectorIndex(redisVectorRepository, 0);
+
+		index.search(new float[] {1f, 0f, 0f}, 1);
+		index.search(new float[] {1f, 0f, 0f}, 1);
+		verify(redisVectorRepository, times(1)).findAll();
+
+		when(redisVectorRepository.getVersion()).thenReturn(2L);
+		when(redisVectorRepository.findAll()).thenReturn(List.of(
+			table("schedule", new float[] {1f, 0f, 0f}, List.of())
+		));
+
+		List<TableVectorIndex.TableMatch> matches = index.search(new float[] {1f, 0f, 0f}, 1);
+
+		assertThat(matches).extracting(TableVectorIndex.TableMatch::tableName).containsExactly("schedule");
+		verify(redisVectorRepository, times(2)).findAll();
+	}
+
+	@Test
+	@DisplayName("버전 확인이 실패하면 이미 적재한 인덱스로 검색한다")
+	void 버전_확인_실패() {
+
+		TableVectorIndex index = new TableVectorIndex(redisVectorRepository, 0);
+		index.search(new float[] {1f, 0f, 0f}, 1);
+
+		when(redisVectorRepository.getVersion()).thenThrow(new RuntimeException("redis down"));
+
+		List<TableVectorIndex.TableMatch> matches = index.search(new float[] {0f, 1f, 0f}, 1);
+
+		assertThat(matches).extracting(TableVectorIndex.TableMatch::tableName).containsExactly("member");
+	}
+
+	private TableMetadata table(String tableName, float[] embedding, List<String> relatedTables) {
+		return TableMetadata.builder()
+			.tableName(tableName)
+			.embedding(embedding)
+			.relatedTables(relatedTables)
+			.build();
+	}
+}
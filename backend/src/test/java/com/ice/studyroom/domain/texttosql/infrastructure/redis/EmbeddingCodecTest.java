@@ -0,0 +1,67 @@
+package com.ice.studyroom.domain.texttosql.infrastructure.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class EmbeddingCodecTest {
+
+	private static final int DIMENSION = 384;
+
+	@Test
+	@DisplayName("FLOAT32 형식은 값을 그대로 복원한다")
+	void FLOAT32_복원() {
+
+		float[] embedding = randomEmbedding();
+
+		byte[] encoded = EmbeddingCodec.encode(embedding, EmbeddingCodec.Format.FLOAT32);
+
+		assertThat(encoded).hasSize(1 + DIMENSION * Float.BYTES);
+		assertThat(EmbeddingCodec.isLegacy(encoded)).isFalse();
+		assertThat(EmbeddingCodec.decode(encoded)).containsExactly(embedding);
+	}
+
+	@Test
+	@DisplayName("INT8 형식은 차원당 1바이트로 저장하고 스케일 오차 이내로 복원한다")
+	void INT8_복원() {
+
+		float[] embedding = randomEmbedding();
+		float maxAbs = 0f;
+		for (float value : embedding) {
+			maxAbs = Math.max(maxAbs, Math.abs(value));
+		}
+
+		byte[] encoded = EmbeddingCodec.encode(embedding, EmbeddingCodec.Format.INT8);
+		float[] decoded = EmbeddingCodec.decode(encoded);
+
+		assertThat(encoded).hasSize(1 + Float.BYTES + DIMENSION);
+		assertThat(decoded).hasSize(DIMENSION);
+		for (int i = 0; i < DIMENSION; i++) {
+			assertThat(decoded[i]).isCloseTo(embedding[i], within(maxAbs / 127f / 2 + 1e-6f));
+		}
+	}
+
+	@Test
+	@DisplayName("이전 형식(쉼표로 구분한 10진수 문자열)도 읽을 수 있다")
+	void 이전_형식_읽기() {
+
+		byte[] legacy = "0.5,-0.25,1.0E-4".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(EmbeddingCodec.isLegacy(legacy)).isTrue();
+		assertThat(EmbeddingCodec.decode(legacy)).containsExactly(0.5f, -0.25f, 1.0E-4f);
+	}
+
+	private float[] randomEmbedding() {
+		Random random = new Random(42);
+		float[] embedding = new float[DIMENSION];
+		for (int i = 0; i < DIMENSION; i++) {
+			embedding[i] = (float)random.nextGaussian() * 0.1f;
+		}
+		return embedding;
+	}
+}
@@ -0,0 +1,244 @@
+package com.ice.studyroom.domain.texttosql.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ice.studyroom.domain.texttosql.domain.entity.TableMetadata;
+
+import redis.embedded.RedisServer;
+
+/**
+ * 실제 Redis(embedded-redis) 위에서 table:* 키 목록(table-metadata:keys) 관리와
+ * 키 공간 크기와 무관한 전체 조회를 검증합니다. 100만 개 키를 쓰는 측정은 @Tag("large") 로 ./gradlew largeTest 에서만 실행합니다.
+ */
+class RedisVectorRepositoryTest {
+
+	private static final String INDEX_KEY = "table-metadata:keys";
+	private static final String VERSION_KEY = "table-metadata:version";
+	private static final byte[] VALUE = "1".getBytes(StandardCharsets.UTF_8);
+	private static final int MEASURE_RUNS = 20;
+	private static final long MAX_LATENCY_RATIO = 5;
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+
+	private RedisTemplate<String, Object> redisTemplate;
+	private RedisVectorRepository repository;
+
+	@BeforeAll
+	static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+	}
+
+	@AfterAll
+	static void stopRedis() throws IOException {
+		connectionFactory.destroy();
+		redisServer.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		// 운영 설정(RedisConfig)과 같은 직렬화
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+
+		RedisTemplate<String, byte[]> byteArrayRedisTemplate = new RedisTemplate<>();
+		byteArrayRedisTemplate.setConnectionFactory(connectionFactory);
+		byteArrayRedisTemplate.setKeySerializer(new StringRedisSerializer());
+		byteArrayRedisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		byteArrayRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		byteArrayRedisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+		byteArrayRedisTemplate.afterPropertiesSet();
+
+		repository = new RedisVectorRepository(redisTemplate, byteArrayRedisTemplate, new ObjectMapper(),
+			EmbeddingCodec.Format.FLOAT32);
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.getConnection().serverCommands().flushAll();
+	}
+
+	@Test
+	@DisplayName("저장하면 Hash / 키 목록 / 버전이 함께 바뀐다")
+	void 저장() {
+
+		repository.save(metadata("reservation"));
+		repository.save(metadata("member"));
+
+		assertThat(repository.findAll()).extracting(TableMetadata::getTableName)
+			.containsExactlyInAnyOrder("reservation", "member");
+		assertThat(repository.findByTableName("reservation")).get()
+			.extracting(TableMetadata::getEmbedding).isEqualTo(new float[] {0.1f, 0.2f, 0.3f});
+		assertThat(redisTemplate.opsForSet().members(INDEX_KEY))
+			.containsExactlyInAnyOrder("table:reservation", "table:member");
+		assertThat(repository.count()).isEqualTo(2);
+		assertThat(repository.getVersion()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("키 목록이 없던 때 저장된 table:* 키만 SCAN 으로 찾아 목록에 추가한다")
+	void 키_목록_재구성() {
+
+		repository.save(metadata("reservation"));
+		// 키 목록 도입 전에 저장된 Hash
+		redisTemplate.opsForHash().putAll("table:member", Map.of("tableName", "member"));
+		redisTemplate.opsForValue().set("member:1", "unrelated");
+		redisTemplate.opsForValue().set("table-metadata:other", "unrelated");
+
+		assertThat(repository.rebuildKeyIndex()).isEqualTo(1);
+		assertThat(repository.rebuildKeyIndex()).isZero();
+		assertThat(redisTemplate.opsForSet().members(INDEX_KEY))
+			.containsExactlyInAnyOrder("table:reservation", "table:member");
+	}
+
+	@Test
+	@DisplayName("외부에서 지워진 Hash 는 전체 조회 때 키 목록에서도 지운다")
+	void 지워진_키_정리() {
+
+		repository.save(metadata("reservation"));
+		repository.save(metadata("member"));
+		redisTemplate.delete("table:member");
+
+		assertThat(repository.findAll()).extracting(TableMetadata::getTableName).containsExactly("reservation");
+		assertThat(redisTemplate.opsForSet().members(INDEX_KEY)).containsExactly("table:reservation");
+		assertThat(repository.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("전체 삭제는 목록에 있는 Hash 와 키 목록만 지우고 버전을 올린다")
+	void 전체_삭제() {
+
+		repository.save(metadata("reservation"));
+		repository.save(metadata("member"));
+		redisTemplate.opsForValue().set("member:1", "unrelated");
+
+		repository.deleteAll();
+
+		assertThat(redisTemplate.hasKey("table:reservation")).isFalse();
+		assertThat(redisTemplate.hasKey("table:member")).isFalse();
+		assertThat(redisTemplate.hasKey(INDEX_KEY)).isFalse();
+		assertThat(redisTemplate.opsForValue().get("member:1")).isEqualTo("unrelated");
+		assertThat(repository.findAll()).isEmpty();
+		assertThat(repository.getVersion()).isEqualTo(3);
+
+		// 지울 키가 없으면 버전을 올리지 않는다
+		repository.deleteAll();
+		assertThat(redisTemplate.opsForValue().get(VERSION_KEY)).isEqualTo("3");
+	}
+
+	@Test
+	@DisplayName("전체 조회 / 개수 / 전체 삭제는 KEYS 나 SCAN 으로 키 공간을 훑지 않는다")
+	void 키_공간_미순회() {
+
+		populateUnrelatedKeys(10_000);
+		for (int i = 0; i < 20; i++) {
+			repository.save(metadata("table_" + i));
+		}
+		connectionFactory.getConnection().serverCommands().resetConfigStats();
+
+		assertThat(repository.findAll()).hasSize(20);
+		assertThat(repository.count()).isEqualTo(20);
+		repository.deleteAll();
+
+		Properties commandStats = connectionFactory.getConnection().serverCommands().info("commandstats");
+		assertThat(commandStats).containsKey("cmdstat_smembers");
+		assertThat(commandStats).doesNotContainKeys("cmdstat_keys", "cmdstat_scan");
+	}
+
+	@Test
+	@Tag("large")
+	@DisplayName("관련 없는 키가 100만 개 있어도 전체 조회 / 개수 / 전체 삭제 시간은 빈 Redis 와 비슷하다")
+	void 큰_키_공간에서_전체_조회() {
+
+		long[] empty = measureTableOperations();
+		populateUnrelatedKeys(1_000_000);
+		long[] large = measureTableOperations();
+
+		// 키 공간을 훑으면 100만 개 키에 비례해 수백 배 느려진다
+		for (int i = 0; i < empty.length; i++) {
+			assertThat(large[i]).isLessThan(empty[i] * MAX_LATENCY_RATIO);
+		}
+	}
+
+	// findAll / count / deleteAll 의 최소 소요 시간 (나노초)
+	private long[] measureTableOperations() {
+		long[] best = {Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE};
+		for (int run = 0; run < MEASURE_RUNS; run++) {
+			for (int i = 0; i < 20; i++) {
+				repository.save(metadata("table_" + i));
+			}
+
+			long start = System.nanoTime();
+			assertThat(repository.findAll()).hasSize(20);
+			best[0] = Math.min(best[0], System.nanoTime() - start);
+
+			start = System.nanoTime();
+			assertThat(repository.count()).isEqualTo(20);
+			best[1] = Math.min(best[1], System.nanoTime() - start);
+
+			start = System.nanoTime();
+			repository.deleteAll();
+			best[2] = Math.min(best[2], System.nanoTime() - start);
+		}
+		return best;
+	}
+
+	private void populateUnrelatedKeys(int count) {
+		long before = connectionFactory.getConnection().serverCommands().dbSize();
+		int batchSize = 10_000;
+		for (int from = 0; from < count; from += batchSize) {
+			int start = from;
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				for (int i = start; i < start + batchSize; i++) {
+					connection.stringCommands().set(("reservation:" + i).getBytes(StandardCharsets.UTF_8), VALUE);
+				}
+				return null;
+			});
+		}
+		assertThat(connectionFactory.getConnection().serverCommands().dbSize()).isEqualTo(before + count);
+	}
+
+	private static TableMetadata metadata(String tableName) {
+		return TableMetadata.builder()
+			.tableName(tableName)
+			.description(tableName + " 테이블")
+			.keywords(tableName)
+			.columns(List.of("id"))
+			.relatedTables(List.of())
+			.embedding(new float[] {0.1f, 0.2f, 0.3f})
+			.build();
+	}
+}
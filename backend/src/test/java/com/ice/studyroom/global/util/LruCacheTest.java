@@ -0,0 +1,63 @@
+package com.ice.studyroom.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 가장 오래 쓰지 않은 항목만 지운다")
+	void 가장_오래_쓰지_않은_항목_제거() {
+
+		LruCache<String, Integer> cache = new LruCache<>(2);
+		cache.put("a", 1);
+		cache.put("b", 2);
+
+		// 조회한 a 는 최근 항목이 되므로 b 가 지워진다
+		assertThat(cache.get("a")).isEqualTo(1);
+		cache.put("c", 3);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("a")).isEqualTo(1);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("c")).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("이미 있는 키를 다시 넣으면 다른 항목을 지우지 않는다")
+	void 같은_키_갱신() {
+
+		LruCache<String, Integer> cache = new LruCache<>(2);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("a", 10);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("a")).isEqualTo(10);
+		assertThat(cache.get("b")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("조건에 맞는 항목만 지운다")
+	void 조건부_제거() {
+
+		LruCache<String, Integer> cache = new LruCache<>(10);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+
+		cache.removeIf((key, value) -> value % 2 == 1);
+
+		assertThat(cache.values()).containsExactly(2);
+	}
+
+	@Test
+	@DisplayName("최대 크기는 1 이상이어야 한다")
+	void 최대_크기_검증() {
+
+		assertThatThrownBy(() -> new LruCache<>(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+}